@@ -0,0 +1,179 @@
+package uk.gov.laa.ccms.caab.builders;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import java.math.BigDecimal;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import uk.gov.laa.ccms.caab.AbstractIntegrationTest;
+import uk.gov.laa.ccms.caab.mapper.context.EbsApplicationMappingContext;
+import uk.gov.laa.ccms.data.model.AwardTypeLookupDetail;
+import uk.gov.laa.ccms.data.model.CaseDetail;
+import uk.gov.laa.ccms.data.model.CategoryOfLaw;
+import uk.gov.laa.ccms.data.model.CommonLookupDetail;
+import uk.gov.laa.ccms.data.model.CommonLookupValueDetail;
+import uk.gov.laa.ccms.data.model.ContactDetail;
+import uk.gov.laa.ccms.data.model.OfficeDetail;
+import uk.gov.laa.ccms.data.model.OutcomeDetail;
+import uk.gov.laa.ccms.data.model.OutcomeResultLookupDetail;
+import uk.gov.laa.ccms.data.model.PriorAuthority;
+import uk.gov.laa.ccms.data.model.PriorAuthorityAttribute;
+import uk.gov.laa.ccms.data.model.PriorAuthorityDetail;
+import uk.gov.laa.ccms.data.model.PriorAuthorityTypeDetail;
+import uk.gov.laa.ccms.data.model.PriorAuthorityTypeDetails;
+import uk.gov.laa.ccms.data.model.Proceeding;
+import uk.gov.laa.ccms.data.model.ProceedingDetail;
+import uk.gov.laa.ccms.data.model.ProviderDetail;
+import uk.gov.laa.ccms.data.model.ProviderDetails;
+import uk.gov.laa.ccms.data.model.ScopeLimitation;
+import uk.gov.laa.ccms.data.model.ScopeLimitationDetail;
+import uk.gov.laa.ccms.data.model.ScopeLimitationDetails;
+import uk.gov.laa.ccms.data.model.StageEndLookupDetail;
+import uk.gov.laa.ccms.data.model.SubmittedApplicationDetails;
+
+/**
+ * Every EBS API response is delayed, so that the time taken to build the context shows how many
+ * lookups were waited on one after another.
+ *
+ * <p>A new context is started for each test, so that no lookup is served from the reference data
+ * cache.
+ */
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
+public class EbsApplicationMappingContextBuilderIntegrationTest extends AbstractIntegrationTest {
+
+  private static final Duration DELAY = Duration.ofMillis(400);
+
+  @RegisterExtension
+  protected static WireMockExtension wiremock =
+      WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+  @DynamicPropertySource
+  public static void properties(final DynamicPropertyRegistry registry) {
+    registry.add("laa.ccms.ebs-api.port", wiremock::getPort);
+  }
+
+  @Autowired private EbsApplicationMappingContextBuilder ebsApplicationMappingContextBuilder;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @BeforeEach
+  void stubLookups() throws JsonProcessingException {
+    stubDelayed(
+        get(urlPathEqualTo("/providers/1")),
+        new ProviderDetail()
+            .id(1)
+            .addOfficesItem(
+                new OfficeDetail()
+                    .id(10)
+                    .addFeeEarnersItem(new ContactDetail().id(100))
+                    .addFeeEarnersItem(new ContactDetail().id(101))));
+    stubDelayed(
+        get(urlPathEqualTo("/lookup/common")),
+        new CommonLookupDetail()
+            .addContentItem(new CommonLookupValueDetail().code("code").description("description")));
+    stubDelayed(get(urlPathMatching("/proceedings/[^/]+")), new ProceedingDetail().code("PR"));
+    stubDelayed(
+        get(urlPathEqualTo("/scope-limitations")),
+        new ScopeLimitationDetails()
+            .addContentItem(new ScopeLimitationDetail().costLimitation(BigDecimal.TEN)));
+    stubDelayed(get(urlPathEqualTo("/lookup/outcome-results")), new OutcomeResultLookupDetail());
+    stubDelayed(get(urlPathEqualTo("/lookup/stage-ends")), new StageEndLookupDetail());
+    stubDelayed(get(urlPathEqualTo("/lookup/award-types")), new AwardTypeLookupDetail());
+    stubDelayed(
+        get(urlPathEqualTo("/prior-authority-types")),
+        new PriorAuthorityTypeDetails()
+            .addContentItem(
+                new PriorAuthorityTypeDetail()
+                    .code("PA")
+                    .addPriorAuthoritiesItem(
+                        new PriorAuthorityDetail().code("ATTR").dataType("LOV").lovCode("LOV"))));
+  }
+
+  @Test
+  @DisplayName("Independent lookups are made together, so only the longest chain is waited on")
+  public void buildApplicationMappingContext_waitsOnlyForLongestChain() {
+    final CaseDetail ebsCase = buildCaseDetail();
+
+    final long start = System.nanoTime();
+    final EbsApplicationMappingContext context =
+        ebsApplicationMappingContextBuilder.buildApplicationMappingContext(ebsCase);
+    final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    // The longest chain is the prior authority type, then the value of its LOV attribute. Made one
+    // after another, the 18 lookups would take at least 18 delays.
+    assertTrue(elapsed.compareTo(DELAY.multipliedBy(2)) >= 0, "Took less than the longest chain");
+    assertTrue(
+        elapsed.compareTo(DELAY.multipliedBy(4)) < 0,
+        "Took %dms, lookups were waited on one after another".formatted(elapsed.toMillis()));
+
+    assertEquals(1, context.getAmendmentProceedingsInEbs().size());
+    assertEquals(1, context.getProceedings().size());
+    assertEquals(BigDecimal.TEN, context.getProceedings().getFirst().getProceedingCostLimitation());
+    assertEquals(1, context.getPriorAuthorities().size());
+    assertEquals(
+        "description",
+        context.getPriorAuthorities().getFirst().getItems().getFirst().getValue().getDescription());
+    wiremock.verify(4, getRequestedFor(urlPathEqualTo("/scope-limitations")));
+  }
+
+  private void stubDelayed(final MappingBuilder request, final Object response)
+      throws JsonProcessingException {
+    wiremock.stubFor(
+        request.willReturn(
+            okJson(objectMapper.writeValueAsString(response))
+                .withFixedDelay((int) DELAY.toMillis())));
+  }
+
+  private static CaseDetail buildCaseDetail() {
+    return new CaseDetail()
+        .caseReferenceNumber("300000001")
+        .certificateType("SUBDP")
+        .applicationDetails(
+            new SubmittedApplicationDetails()
+                .applicationAmendmentType("SUB")
+                .categoryOfLaw(new CategoryOfLaw().categoryOfLawCode("FAM"))
+                .providerDetails(
+                    new ProviderDetails()
+                        .providerFirmId("1")
+                        .providerOfficeId("10")
+                        .feeEarnerContactId("100")
+                        .supervisorContactId("101"))
+                .addProceedingsItem(buildProceeding("DRAFT", "PR1"))
+                .addProceedingsItem(buildProceeding("GRANTED", "PR2")))
+        .addPriorAuthoritiesItem(
+            new PriorAuthority()
+                .priorAuthorityType("PA")
+                .addDetailsItem(new PriorAuthorityAttribute().name("ATTR").value("VAL")));
+  }
+
+  private static Proceeding buildProceeding(final String status, final String proceedingType) {
+    return new Proceeding()
+        .status(status)
+        .proceedingType(proceedingType)
+        .matterType("MAT")
+        .levelOfService("LOS")
+        .clientInvolvementType("CI")
+        .addScopeLimitationsItem(new ScopeLimitation().scopeLimitation(proceedingType + "-SL1"))
+        .addScopeLimitationsItem(new ScopeLimitation().scopeLimitation(proceedingType + "-SL2"))
+        .outcome(new OutcomeDetail().courtCode("COURT").result("RES").stageEnd("SE"));
+  }
+}
@@ -0,0 +1,109 @@
+package uk.gov.laa.ccms.caab.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.serverError;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import uk.gov.laa.ccms.caab.AbstractIntegrationTest;
+import uk.gov.laa.ccms.data.model.UserDetail;
+
+/** Each test starts with a new context, so that every test starts with a closed circuit. */
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
+public class ApiClientResilienceIntegrationTest extends AbstractIntegrationTest {
+
+  private static final String USER_URL = "/users/1";
+
+  @RegisterExtension
+  protected static WireMockExtension wiremock =
+      WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+  @DynamicPropertySource
+  public static void properties(final DynamicPropertyRegistry registry) {
+    registry.add("laa.ccms.ebs-api.port", wiremock::getPort);
+    registry.add("laa.ccms.ebs-api.connection.response-timeout", () -> "200ms");
+    registry.add("laa.ccms.ebs-api.resilience.max-retries", () -> "2");
+    registry.add("laa.ccms.ebs-api.resilience.retry-backoff", () -> "10ms");
+    registry.add("laa.ccms.ebs-api.resilience.retry-max-backoff", () -> "20ms");
+    registry.add("laa.ccms.ebs-api.resilience.failure-threshold", () -> "3");
+    registry.add("laa.ccms.ebs-api.resilience.open-duration", () -> "1m");
+  }
+
+  @Autowired private EbsApiClient ebsApiClient;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("A read that fails with a connection reset is retried")
+  public void getUser_connectionReset_retried() throws Exception {
+    final UserDetail userDetail = new UserDetail().userId(1).loginId("login");
+    wiremock.stubFor(
+        get(USER_URL)
+            .inScenario("flaky")
+            .whenScenarioStateIs(STARTED)
+            .willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER))
+            .willSetStateTo("recovered"));
+    wiremock.stubFor(
+        get(USER_URL)
+            .inScenario("flaky")
+            .whenScenarioStateIs("recovered")
+            .willReturn(okJson(objectMapper.writeValueAsString(userDetail))));
+
+    final UserDetail result = ebsApiClient.getUser(1).block();
+
+    assertEquals(userDetail.getLoginId(), result.getLoginId());
+    wiremock.verify(2, getRequestedFor(urlEqualTo(USER_URL)));
+  }
+
+  @Test
+  @DisplayName("Slow responses open the circuit, after which calls fail without reaching the API")
+  public void getUser_slowResponses_openCircuit() {
+    wiremock.stubFor(get(USER_URL).willReturn(okJson("{}").withFixedDelay(1000)));
+
+    assertThrows(EbsApiClientException.class, () -> ebsApiClient.getUser(1).block());
+    wiremock.verify(3, getRequestedFor(urlEqualTo(USER_URL)));
+
+    final long start = System.nanoTime();
+    final Exception e = assertThrows(Exception.class, () -> ebsApiClient.getUser(1).block());
+    final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    assertInstanceOf(EbsApiClientException.class, e);
+    assertTrue(((EbsApiClientException) e).hasHttpStatus(HttpStatus.SERVICE_UNAVAILABLE));
+    assertInstanceOf(ApiCallRejectedException.class, e.getCause());
+    assertTrue(elapsed.compareTo(Duration.ofMillis(200)) < 0, "Rejected call took " + elapsed);
+    wiremock.verify(3, getRequestedFor(urlEqualTo(USER_URL)));
+  }
+
+  @Test
+  @DisplayName("A read that fails with a 500 is not retried and does not open the circuit")
+  public void getUser_serverError_notRetried() {
+    wiremock.stubFor(get(USER_URL).willReturn(serverError()));
+
+    for (int i = 0; i < 5; i++) {
+      assertThrows(EbsApiClientException.class, () -> ebsApiClient.getUser(1).block());
+    }
+
+    wiremock.verify(5, getRequestedFor(urlEqualTo(USER_URL)));
+  }
+}
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.AfterAll;
@@ -197,6 +198,40 @@ public class S3ClientIntegrationTest extends AbstractIntegrationTest {
     assertTrue(documentUrl.get().contains("X-Amz-Expires"));
   }
 
+  @Test
+  public void testGetDocumentUrls_success() {
+    s3Template.upload(BUCKET_NAME, "integration-test-file-1.pdf", InputStream.nullInputStream());
+    s3Template.upload(BUCKET_NAME, "integration-test-file-2.pdf", InputStream.nullInputStream());
+    s3Template.upload(
+        BUCKET_NAME, "draft/integration-test-file-3.pdf", InputStream.nullInputStream());
+
+    Map<String, String> documentUrls =
+        s3ApiClient.getDocumentUrls(
+            List.of("integration-test-file-1", "integration-test-file-2", "missing-file"));
+    Map<String, String> draftDocumentUrls =
+        s3ApiClient.getDraftDocumentUrls(List.of("integration-test-file-3"));
+
+    assertEquals(
+        Set.of("integration-test-file-1", "integration-test-file-2"), documentUrls.keySet());
+    assertTrue(documentUrls.get("integration-test-file-1").contains("integration-test-file-1.pdf"));
+    assertTrue(documentUrls.get("integration-test-file-2").contains("X-Amz-Signature"));
+    assertTrue(
+        draftDocumentUrls.get("integration-test-file-3").contains("integration-test-file-3.pdf"));
+  }
+
+  @Test
+  public void testGetDocumentUrl_documentReplaced_returnsUrlForNewDocument() {
+    s3ApiClient.uploadDocument("integration-test-file-1", "ZG9jdW1lbnQ=", "pdf");
+    assertTrue(
+        s3ApiClient.getDocumentUrl("integration-test-file-1").orElseThrow().contains(".pdf"));
+
+    s3ApiClient.removeDocument("integration-test-file-1.pdf");
+    s3ApiClient.uploadDocument("integration-test-file-1", "ZG9jdW1lbnQ=", "docx");
+
+    assertTrue(
+        s3ApiClient.getDocumentUrl("integration-test-file-1").orElseThrow().contains(".docx"));
+  }
+
   @Test
   public void testUploadDocument_success() throws IOException {
     String documentName = "integration-test-file-1";
@@ -0,0 +1,56 @@
+package uk.gov.laa.ccms.caab.service;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import uk.gov.laa.ccms.caab.AbstractIntegrationTest;
+import uk.gov.laa.ccms.caab.model.AddressResultRowDisplay;
+import uk.gov.laa.ccms.caab.model.ResultsDisplay;
+
+/** Searches addresses against the Ordinance Survey stubs the local environment runs on. */
+public class AddressServiceIntegrationTest extends AbstractIntegrationTest {
+
+  private static final String POSTCODE_SEARCH_PATH = "/search/places/v1/postcode";
+
+  @RegisterExtension
+  protected static WireMockExtension wiremock =
+      WireMockExtension.newInstance()
+          .options(wireMockConfig().dynamicPort().usingFilesUnderDirectory("wiremock"))
+          .build();
+
+  @DynamicPropertySource
+  public static void properties(final DynamicPropertyRegistry registry) {
+    registry.add("os.api.url", () -> "http://localhost:" + wiremock.getPort());
+    registry.add("os.api.key", () -> "TEST_KEY");
+  }
+
+  @Autowired private AddressService addressService;
+
+  @Test
+  @DisplayName("Searching a postcode again, in another case or spacing, does not call OS again")
+  public void getAddresses_repeatSearch_callsOrdinanceSurveyOnce() {
+    final ResultsDisplay<AddressResultRowDisplay> first = addressService.getAddresses("SW1H 9AJ");
+    final ResultsDisplay<AddressResultRowDisplay> second = addressService.getAddresses("sw1h9aj");
+    final ResultsDisplay<AddressResultRowDisplay> third = addressService.getAddresses(" Sw1H 9aJ");
+
+    assertFalse(first.getContent().isEmpty());
+    assertEquals(first.getContent(), second.getContent());
+    assertEquals(first.getContent(), third.getContent());
+    wiremock.verify(
+        1,
+        getRequestedFor(urlPathEqualTo(POSTCODE_SEARCH_PATH))
+            .withQueryParam("postcode", equalTo("SW1H 9AJ")));
+    wiremock.verify(1, getRequestedFor(urlPathEqualTo(POSTCODE_SEARCH_PATH)));
+  }
+}
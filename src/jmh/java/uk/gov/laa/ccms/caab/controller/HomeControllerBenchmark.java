@@ -0,0 +1,117 @@
+package uk.gov.laa.ccms.caab.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.caab.service.NotificationService;
+import uk.gov.laa.ccms.caab.service.UserService;
+import uk.gov.laa.ccms.data.model.NotificationSummary;
+import uk.gov.laa.ccms.data.model.UserDetail;
+
+/**
+ * Benchmarks serving a burst of home page requests, each waiting on an upstream notification
+ * summary with a fixed latency, when handlers run on a fixed pool of platform worker threads and
+ * when they run on virtual threads ({@code spring.threads.virtual.enabled}).
+ *
+ * <p>With a fixed pool, no more requests than there are workers can be waiting at once; with
+ * virtual threads a blocked handler releases its carrier thread, so every request can be waiting
+ * at once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HomeControllerBenchmark {
+
+  private static final int REQUESTS = 200;
+
+  private static final int WORKERS = 10;
+
+  private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(50);
+
+  private static final UserDetail USER =
+      new UserDetail().userId(1).loginId("testLoginId").functions(List.of("NOT"));
+
+  @Param({"platform", "virtual"})
+  private String threads;
+
+  private ExecutorService executor;
+
+  private MockMvc mockMvc;
+
+  /** Build the controller, with upstream services that answer after a fixed latency. */
+  @Setup
+  public void setUp() {
+    final NotificationService notificationService = mock(NotificationService.class);
+    when(notificationService.getNotificationsSummary(any()))
+        .thenAnswer(
+            invocation ->
+                Mono.just(
+                        new NotificationSummary()
+                            .notifications(1)
+                            .standardActions(1)
+                            .overdueActions(0))
+                    .delayElement(UPSTREAM_LATENCY));
+
+    final UserService userService = mock(UserService.class);
+    when(userService.refreshUserByLoginId(any())).thenReturn(Mono.just(USER));
+
+    mockMvc = standaloneSetup(new HomeController(notificationService, userService)).build();
+    executor =
+        "virtual".equals(threads)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(WORKERS);
+  }
+
+  /** Stop the worker threads. */
+  @TearDown
+  public void tearDown() {
+    executor.close();
+  }
+
+  @Benchmark
+  public int serveRequests() throws Exception {
+    final List<Future<Integer>> responses = new ArrayList<>();
+    for (int i = 0; i < REQUESTS; i++) {
+      responses.add(
+          executor.submit(
+              () ->
+                  mockMvc
+                      .perform(get("/home").flashAttr("user", USER))
+                      .andReturn()
+                      .getResponse()
+                      .getStatus()));
+    }
+    int served = 0;
+    for (final Future<Integer> response : responses) {
+      served += response.get() == 200 ? 1 : 0;
+    }
+    return served;
+  }
+}
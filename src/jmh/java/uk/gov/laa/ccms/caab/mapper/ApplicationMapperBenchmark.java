@@ -0,0 +1,208 @@
+package uk.gov.laa.ccms.caab.mapper;
+
+import static uk.gov.laa.ccms.caab.constants.ApplicationConstants.APP_TYPE_EMERGENCY;
+import static uk.gov.laa.ccms.caab.constants.ApplicationConstants.STATUS_DRAFT;
+import static uk.gov.laa.ccms.caab.util.EbsModelUtils.buildPriorAuthorityDetail;
+import static uk.gov.laa.ccms.caab.util.EbsModelUtils.buildPriorAuthorityTypeDetail;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.laa.ccms.caab.mapper.context.EbsApplicationMappingContext;
+import uk.gov.laa.ccms.caab.mapper.context.EbsPriorAuthorityMappingContext;
+import uk.gov.laa.ccms.caab.mapper.context.EbsProceedingMappingContext;
+import uk.gov.laa.ccms.caab.mapper.context.SoaApplicationMappingContext;
+import uk.gov.laa.ccms.caab.mapper.context.SoaPriorAuthorityMappingContext;
+import uk.gov.laa.ccms.caab.mapper.context.SoaProceedingMappingContext;
+import uk.gov.laa.ccms.caab.model.ApplicationDetail;
+import uk.gov.laa.ccms.caab.util.EbsModelUtils;
+import uk.gov.laa.ccms.caab.util.SoaModelUtils;
+import uk.gov.laa.ccms.data.model.CommonLookupValueDetail;
+import uk.gov.laa.ccms.data.model.ContactDetail;
+import uk.gov.laa.ccms.data.model.OfficeDetail;
+import uk.gov.laa.ccms.data.model.OutcomeResultLookupValueDetail;
+import uk.gov.laa.ccms.data.model.ProceedingDetail;
+import uk.gov.laa.ccms.data.model.ProviderDetail;
+import uk.gov.laa.ccms.data.model.StageEndLookupValueDetail;
+
+/**
+ * Benchmarks mapping a case, as read from EBS or the SOA gateway, to an application - the work done
+ * each time a case is opened. The case has a realistic number of proceedings, each with its own
+ * scope limitations and lookups.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApplicationMapperBenchmark {
+
+  @Param({"2", "10"})
+  private int proceedings;
+
+  private final EbsApplicationMapper ebsApplicationMapper = new EbsApplicationMapperImpl();
+
+  private final SoaApplicationMapper soaApplicationMapper = new SoaApplicationMapperImpl();
+
+  private EbsApplicationMappingContext ebsContext;
+
+  private SoaApplicationMappingContext soaContext;
+
+  /** Build the mapping contexts for a case with the configured number of proceedings. */
+  @Setup
+  public void setUp() {
+    final uk.gov.laa.ccms.data.model.CaseDetail ebsCase =
+        EbsModelUtils.buildCaseDetail(APP_TYPE_EMERGENCY);
+    final List<EbsProceedingMappingContext> ebsProceedings = new ArrayList<>();
+    ebsCase.getApplicationDetails().getProceedings().clear();
+    for (int i = 0; i < proceedings; i++) {
+      final uk.gov.laa.ccms.data.model.Proceeding proceeding =
+          EbsModelUtils.buildProceedingDetail(STATUS_DRAFT).proceedingCaseId("P_" + i);
+      ebsCase.getApplicationDetails().addProceedingsItem(proceeding);
+      ebsProceedings.add(ebsProceedingContext(proceeding));
+    }
+    ebsContext =
+        EbsApplicationMappingContext.builder()
+            .ebsCaseDetail(ebsCase)
+            .applicationType(lookup("ECF"))
+            .amendmentProceedingsInEbs(ebsProceedings)
+            .caseWithOnlyDraftProceedings(Boolean.TRUE)
+            .certificate(lookup("EMER"))
+            .currentProviderBilledAmount(BigDecimal.ONE)
+            .devolvedPowers(Pair.of(true, LocalDate.now()))
+            .feeEarnerContact(new ContactDetail().id(100).name("A Fee Earner"))
+            .supervisorContact(new ContactDetail().id(101).name("A Supervisor"))
+            .meansAssessment(ebsCase.getApplicationDetails().getMeansAssessments().getFirst())
+            .meritsAssessment(ebsCase.getApplicationDetails().getMeritsAssessments().getFirst())
+            .priorAuthorities(
+                List.of(
+                    EbsPriorAuthorityMappingContext.builder()
+                        .ebsPriorAuthority(ebsCase.getPriorAuthorities().getFirst())
+                        .priorAuthorityTypeLookup(buildPriorAuthorityTypeDetail("dataType"))
+                        .items(
+                            List.of(Pair.of(buildPriorAuthorityDetail("dataType"), lookup("PA"))))
+                        .build()))
+            .proceedings(ebsProceedings)
+            .providerDetail(new ProviderDetail().id(1).name("A Provider"))
+            .providerOffice(new OfficeDetail().id(1000).name("An Office"))
+            .build();
+
+    final uk.gov.laa.ccms.soa.gateway.model.CaseDetail soaCase =
+        SoaModelUtils.buildCaseDetail(APP_TYPE_EMERGENCY);
+    final List<SoaProceedingMappingContext> soaProceedings = new ArrayList<>();
+    soaCase.getApplicationDetails().getProceedings().clear();
+    for (int i = 0; i < proceedings; i++) {
+      final uk.gov.laa.ccms.soa.gateway.model.ProceedingDetail proceeding =
+          SoaModelUtils.buildProceedingDetail(STATUS_DRAFT).proceedingCaseId("P_" + i);
+      soaCase.getApplicationDetails().addProceedingsItem(proceeding);
+      soaProceedings.add(soaProceedingContext(proceeding));
+    }
+    soaContext =
+        SoaApplicationMappingContext.builder()
+            .soaCaseDetail(soaCase)
+            .applicationType(lookup("ECF"))
+            .amendmentProceedingsInEbs(soaProceedings)
+            .caseWithOnlyDraftProceedings(Boolean.TRUE)
+            .certificate(lookup("EMER"))
+            .currentProviderBilledAmount(BigDecimal.ONE)
+            .devolvedPowers(Pair.of(true, new Date()))
+            .feeEarnerContact(new ContactDetail().id(100).name("A Fee Earner"))
+            .supervisorContact(new ContactDetail().id(101).name("A Supervisor"))
+            .meansAssessment(soaCase.getApplicationDetails().getMeansAssessments().getFirst())
+            .meritsAssessment(soaCase.getApplicationDetails().getMeritsAssessments().getFirst())
+            .priorAuthorities(
+                List.of(
+                    SoaPriorAuthorityMappingContext.builder()
+                        .soaPriorAuthority(soaCase.getPriorAuthorities().getFirst())
+                        .priorAuthorityTypeLookup(buildPriorAuthorityTypeDetail("dataType"))
+                        .items(
+                            List.of(Pair.of(buildPriorAuthorityDetail("dataType"), lookup("PA"))))
+                        .build()))
+            .proceedings(soaProceedings)
+            .providerDetail(new ProviderDetail().id(1).name("A Provider"))
+            .providerOffice(new OfficeDetail().id(1000).name("An Office"))
+            .build();
+  }
+
+  @Benchmark
+  public ApplicationDetail ebsToApplicationDetail() {
+    return ebsApplicationMapper.toApplicationDetail(ebsContext);
+  }
+
+  @Benchmark
+  public ApplicationDetail soaToApplicationDetail() {
+    return soaApplicationMapper.toApplicationDetail(soaContext);
+  }
+
+  private static CommonLookupValueDetail lookup(final String code) {
+    return new CommonLookupValueDetail().code(code).description(code + " description");
+  }
+
+  private static EbsProceedingMappingContext ebsProceedingContext(
+      final uk.gov.laa.ccms.data.model.Proceeding proceeding) {
+    return EbsProceedingMappingContext.builder()
+        .ebsProceeding(proceeding)
+        .clientInvolvement(lookup("A"))
+        .proceedingCostLimitation(BigDecimal.TEN)
+        .proceedingStatusLookup(lookup(STATUS_DRAFT))
+        .levelOfService(lookup("FR"))
+        .proceedingLookup(proceedingLookup())
+        .scopeLimitations(
+            proceeding.getScopeLimitations().stream()
+                .map(scopeLimitation -> Pair.of(scopeLimitation, lookup("CV118")))
+                .toList())
+        .outcomeResultLookup(outcomeResultLookup())
+        .courtLookup(lookup("CRT"))
+        .stageEndLookup(stageEndLookup())
+        .matterType(lookup("MAT"))
+        .build();
+  }
+
+  private static SoaProceedingMappingContext soaProceedingContext(
+      final uk.gov.laa.ccms.soa.gateway.model.ProceedingDetail proceeding) {
+    return SoaProceedingMappingContext.builder()
+        .soaProceeding(proceeding)
+        .clientInvolvement(lookup("A"))
+        .proceedingCostLimitation(BigDecimal.TEN)
+        .proceedingStatusLookup(lookup(STATUS_DRAFT))
+        .levelOfService(lookup("FR"))
+        .proceedingLookup(proceedingLookup())
+        .scopeLimitations(
+            proceeding.getScopeLimitations().stream()
+                .map(scopeLimitation -> Pair.of(scopeLimitation, lookup("CV118")))
+                .toList())
+        .outcomeResultLookup(outcomeResultLookup())
+        .courtLookup(lookup("CRT"))
+        .stageEndLookup(stageEndLookup())
+        .matterType(lookup("MAT"))
+        .build();
+  }
+
+  private static ProceedingDetail proceedingLookup() {
+    return new ProceedingDetail().code("DA001").name("Non-molestation order").larScope("FAM");
+  }
+
+  private static OutcomeResultLookupValueDetail outcomeResultLookup() {
+    return new OutcomeResultLookupValueDetail().outcomeResult("OR").outcomeResultDescription("Won");
+  }
+
+  private static StageEndLookupValueDetail stageEndLookup() {
+    return new StageEndLookupValueDetail().stageEnd("SE").description("Final hearing");
+  }
+}
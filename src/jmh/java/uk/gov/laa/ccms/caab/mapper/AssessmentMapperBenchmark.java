@@ -0,0 +1,108 @@
+package uk.gov.laa.ccms.caab.mapper;
+
+import static uk.gov.laa.ccms.caab.util.CaabModelUtils.buildApplicationDetail;
+import static uk.gov.laa.ccms.caab.util.CaabModelUtils.buildOpponent;
+import static uk.gov.laa.ccms.caab.util.CaabModelUtils.buildProceeding;
+import static uk.gov.laa.ccms.caab.util.EbsModelUtils.buildUserDetail;
+import static uk.gov.laa.ccms.caab.util.SoaModelUtils.buildClientDetail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
+import uk.gov.laa.ccms.caab.mapper.context.AssessmentMappingContext;
+import uk.gov.laa.ccms.caab.mapper.context.AssessmentOpponentMappingContext;
+import uk.gov.laa.ccms.caab.model.ApplicationDetail;
+import uk.gov.laa.ccms.caab.opa.session.OpaSessionJson;
+import uk.gov.laa.ccms.data.model.CommonLookupValueDetail;
+
+/**
+ * Benchmarks pre-populating an assessment from an application, and converting it to and from the
+ * OPA session the connector works on - the work done each time an assessment is started or
+ * resumed.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssessmentMapperBenchmark {
+
+  @Param({"2", "10"})
+  private int proceedings;
+
+  private final AssessmentMapper assessmentMapper = new AssessmentMapperImpl();
+
+  private final OpaSessionMapper opaSessionMapper = new OpaSessionMapper();
+
+  private AssessmentMappingContext context;
+
+  private AssessmentDetail assessment;
+
+  private OpaSessionJson session;
+
+  /** Build an application with the configured number of proceedings and two opponents. */
+  @Setup
+  public void setUp() {
+    final Date date = new Date();
+    final ApplicationDetail application = buildApplicationDetail(300000123, true, date);
+    application.setProceedings(new ArrayList<>());
+    for (int i = 0; i < proceedings; i++) {
+      application.addProceedingsItem(buildProceeding(date, BigDecimal.TEN).id(i));
+    }
+    final List<AssessmentOpponentMappingContext> opponents = new ArrayList<>();
+    application.setOpponents(new ArrayList<>());
+    for (int i = 0; i < 2; i++) {
+      application.addOpponentsItem(buildOpponent(date).id(i));
+      opponents.add(
+          AssessmentOpponentMappingContext.builder()
+              .opponent(application.getOpponents().get(i))
+              .titleCommonLookupValue(new CommonLookupValueDetail().code("MR").description("Mr"))
+              .build());
+    }
+
+    context =
+        AssessmentMappingContext.builder()
+            .application(application)
+            .user(buildUserDetail())
+            .client(buildClientDetail())
+            .opponentContext(opponents)
+            .build();
+
+    assessment = prepopulate();
+    session = opaSessionMapper.toOpaSession(assessment, "testUser");
+  }
+
+  @Benchmark
+  public AssessmentDetail prepopulate() {
+    final AssessmentDetail prepopulated = new AssessmentDetail();
+    assessmentMapper.toAssessmentDetail(prepopulated, context);
+    return prepopulated;
+  }
+
+  @Benchmark
+  public OpaSessionJson toOpaSession() {
+    return opaSessionMapper.toOpaSession(assessment, "testUser");
+  }
+
+  @Benchmark
+  public AssessmentDetail mergeOpaSession() {
+    final AssessmentDetail merged = new AssessmentDetail();
+    opaSessionMapper.mergeInto(merged, session);
+    return merged;
+  }
+}
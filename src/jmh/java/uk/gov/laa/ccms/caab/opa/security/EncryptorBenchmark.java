@@ -0,0 +1,78 @@
+package uk.gov.laa.ccms.caab.opa.security;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks encrypting and decrypting OPA context tokens, alone and with 8 and 32 threads sharing
+ * one encryptor, as every assessment request does - to show the ciphers are not contended.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EncryptorBenchmark {
+
+  private static final String CONTEXT_TOKEN =
+      "{\"caseId\":\"300000123\",\"userId\":\"testUser\",\"providerId\":\"26517\","
+          + "\"assessmentType\":\"meritsAssessment\",\"timestamp\":1767225600000}";
+
+  private Encryptor encryptor;
+
+  private String encrypted;
+
+  /** Build the shared encryptor and a token to decrypt. */
+  @Setup
+  public void setUp() {
+    encryptor = new Encryptor("password");
+    encrypted = encryptor.encrypt(CONTEXT_TOKEN);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String encrypt1Thread() {
+    return encryptor.encrypt(CONTEXT_TOKEN);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String encrypt8Threads() {
+    return encryptor.encrypt(CONTEXT_TOKEN);
+  }
+
+  @Benchmark
+  @Threads(32)
+  public String encrypt32Threads() {
+    return encryptor.encrypt(CONTEXT_TOKEN);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String decrypt1Thread() {
+    return encryptor.decrypt(encrypted);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String decrypt8Threads() {
+    return encryptor.decrypt(encrypted);
+  }
+
+  @Benchmark
+  @Threads(32)
+  public String decrypt32Threads() {
+    return encryptor.decrypt(encrypted);
+  }
+}
@@ -0,0 +1,102 @@
+package uk.gov.laa.ccms.caab.service;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentAttributeDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityTypeDetail;
+import uk.gov.laa.ccms.caab.bean.billing.StatementOfAccountDisplay;
+import uk.gov.laa.ccms.caab.model.ApplicationDetail;
+
+/**
+ * Benchmarks rendering the billing summary report. The bill is given no saved version, so that
+ * every report is rendered rather than served from the service's cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BillingSummaryPdfBenchmark {
+
+  @Param({"20", "200"})
+  private int billLines;
+
+  private BillingSummaryPdfService service;
+
+  private AssessmentDetail bill;
+
+  /** Build the service, with its warmed-up renderers, and a bill of the configured size. */
+  @Setup
+  public void setUp() {
+    final ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+    resolver.setPrefix("templates/");
+    resolver.setSuffix(".html");
+    resolver.setTemplateMode(TemplateMode.HTML);
+    final SpringTemplateEngine engine = new SpringTemplateEngine();
+    engine.setTemplateResolver(resolver);
+    service = new BillingSummaryPdfService(engine);
+    service.warmUpRenderers();
+
+    final AssessmentEntityTypeDetail lines =
+        new AssessmentEntityTypeDetail().name("PROFIT_COST_BILL_LINE");
+    for (int i = 0; i < billLines; i++) {
+      lines.addEntitiesItem(
+          new AssessmentEntityDetail()
+              .name("line-" + i)
+              .addAttributesItem(attr("PROFIT_COST_DATE", "%02d-01-2026".formatted(i % 28 + 1)))
+              .addAttributesItem(attr("PROFIT_COST_COST_TYPE", "Profit cost"))
+              .addAttributesItem(attr("PROFIT_COST_CATEGORY_OF_WORK", "Preparation"))
+              .addAttributesItem(attr("PROFIT_COST_ACTIVITY", "Drafting document " + i))
+              .addAttributesItem(attr("PROFIT_COST_TIME", "01:30"))
+              .addAttributesItem(attr("PROFIT_COST_RATE", "50.00"))
+              .addAttributesItem(attr("PROFIT_COST_NET_CLAIM_INC_UPLFT", "75.00"))
+              .addAttributesItem(attr("PROFIT_COST_VAT", "15.00"))
+              .addAttributesItem(attr("PROFIT_COST_TOTAL_CLAIM", "90.00"))
+              .addAttributesItem(attr("PROFIT_COST_FEE_EARNER", "A Solicitor")));
+    }
+    bill =
+        new AssessmentDetail()
+            .id(1L)
+            .addEntityTypesItem(
+                new AssessmentEntityTypeDetail()
+                    .name("global")
+                    .addEntitiesItem(
+                        new AssessmentEntityDetail()
+                            .name("300000123")
+                            .addAttributesItem(attr("BILL_TYPE", "Profit costs"))
+                            .addAttributesItem(attr("BILL_SUBMITTED_TOTAL_AMT", "15000.00"))
+                            .addAttributesItem(attr("BILL_SUBMITTED_TOTAL_VAT", "3000.00"))))
+            .addEntityTypesItem(lines);
+  }
+
+  @Benchmark
+  public byte[] generateBillSummary() {
+    return service.generateBillSummary(
+        new ApplicationDetail().caseReferenceNumber("300000123"),
+        "Test Firm",
+        bill,
+        new StatementOfAccountDisplay(),
+        BigDecimal.ZERO);
+  }
+
+  private static AssessmentAttributeDetail attr(final String name, final String value) {
+    return new AssessmentAttributeDetail().name(name).value(value);
+  }
+}
@@ -0,0 +1,230 @@
+package uk.gov.laa.ccms.caab.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+import static uk.gov.laa.ccms.caab.constants.ApplicationConstants.STATUS_DRAFT;
+import static uk.gov.laa.ccms.caab.constants.ApplicationConstants.STATUS_UNSUBMITTED_ACTUAL_VALUE;
+import static uk.gov.laa.ccms.caab.util.EbsModelUtils.buildUserDetail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.caab.bean.CaseSearchCriteria;
+import uk.gov.laa.ccms.caab.client.CaabApiClient;
+import uk.gov.laa.ccms.caab.client.EbsApiClient;
+import uk.gov.laa.ccms.caab.constants.SearchConstants;
+import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
+import uk.gov.laa.ccms.caab.exception.TooManyResultsException;
+import uk.gov.laa.ccms.caab.mapper.SoaApplicationMapper;
+import uk.gov.laa.ccms.caab.model.ApplicationDetails;
+import uk.gov.laa.ccms.caab.model.BaseApplicationDetail;
+import uk.gov.laa.ccms.data.model.CaseDetails;
+import uk.gov.laa.ccms.data.model.CaseSummary;
+import uk.gov.laa.ccms.data.model.UserDetail;
+
+/**
+ * Benchmarks the combined EBS case and TDS application search, against a copy of the search as it
+ * was before the two were made concurrently and merged through a map.
+ *
+ * <p>The searches return as many results as {@code search.max-results.cases} allows (100), and ten
+ * times that, half of the TDS applications being duplicates of EBS cases. With no upstream latency
+ * the benchmark measures the merge; with latency it shows the searches overlapping.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CaseSearchBenchmark {
+
+  @Param({"100", "1000"})
+  private int results;
+
+  @Param({"0", "20"})
+  private long latencyMillis;
+
+  @Mock private EbsApiClient ebsApiClient;
+
+  @Mock private CaabApiClient caabApiClient;
+
+  @Mock private SoaApplicationMapper soaApplicationMapper;
+
+  @Mock private SearchConstants searchConstants;
+
+  @InjectMocks private ApplicationService applicationService;
+
+  private AutoCloseable mocks;
+
+  private final UserDetail user = buildUserDetail();
+
+  private final CaseSearchCriteria criteria = new CaseSearchCriteria();
+
+  /** Build the search results, and upstream clients that answer with them. */
+  @Setup
+  public void setUp() {
+    mocks = MockitoAnnotations.openMocks(this);
+
+    final CaseDetails ebsCases = new CaseDetails().totalElements(results / 2).size(results / 2);
+    final List<BaseApplicationDetail> tdsApplications = new ArrayList<>(results / 2);
+    for (int i = 0; i < results / 2; i++) {
+      ebsCases.addContentItem(new CaseSummary().caseReferenceNumber("EBS-%06d".formatted(i)));
+      tdsApplications.add(
+          new BaseApplicationDetail()
+              .caseReferenceNumber("%s-%06d".formatted(i % 2 == 0 ? "EBS" : "TDS", i))
+              .amendment(i % 4 == 0));
+    }
+
+    when(searchConstants.getMaxSearchResultsCases()).thenReturn(results);
+    when(soaApplicationMapper.toBaseApplication(any()))
+        .thenAnswer(
+            invocation ->
+                new BaseApplicationDetail()
+                    .caseReferenceNumber(
+                        invocation.<CaseSummary>getArgument(0).getCaseReferenceNumber()));
+    when(ebsApiClient.getCases(any(), anyInt(), anyInt(), anyInt()))
+        .thenAnswer(invocation -> afterLatency(ebsCases));
+    // A fresh list each time, as the search as it was before removes duplicates from it.
+    when(caabApiClient.getApplications(any(), any(), any(), any()))
+        .thenAnswer(
+            invocation ->
+                afterLatency(
+                    new ApplicationDetails()
+                        .totalElements(tdsApplications.size())
+                        .content(new ArrayList<>(tdsApplications))));
+  }
+
+  /** Release the mocks. */
+  @TearDown
+  public void tearDown() throws Exception {
+    mocks.close();
+  }
+
+  @Benchmark
+  public List<BaseApplicationDetail> concurrentSearchMapMerge() {
+    return applicationService.getCases(criteria, user);
+  }
+
+  @Benchmark
+  public List<BaseApplicationDetail> serialSearchNestedMerge() {
+    return serialGetCases(criteria, user);
+  }
+
+  private <T> Mono<T> afterLatency(final T result) {
+    return latencyMillis > 0
+        ? Mono.just(result).delayElement(Duration.ofMillis(latencyMillis))
+        : Mono.just(result);
+  }
+
+  /**
+   * The combined search as it was before: the TDS search made once the EBS search has returned,
+   * and the TDS applications rescanned for every EBS case.
+   */
+  private List<BaseApplicationDetail> serialGetCases(
+      final CaseSearchCriteria caseSearchCriteria, final UserDetail user) {
+    final List<BaseApplicationDetail> searchResults = new ArrayList<>();
+
+    if (!STATUS_UNSUBMITTED_ACTUAL_VALUE.equals(caseSearchCriteria.getStatus())) {
+      final CaseDetails caseDetails =
+          Optional.ofNullable(
+                  ebsApiClient
+                      .getCases(
+                          caseSearchCriteria,
+                          user.getProvider().getId(),
+                          0,
+                          searchConstants.getMaxSearchResultsCases())
+                      .block())
+              .orElseThrow(() -> new CaabApplicationException("Failed to retrieve EBS Cases"));
+
+      if (caseDetails.getTotalElements() > searchConstants.getMaxSearchResultsCases()) {
+        throw new TooManyResultsException(
+            "Case Search returned %s results".formatted(caseDetails.getTotalElements()));
+      }
+
+      searchResults.addAll(
+          caseDetails.getContent().stream().map(soaApplicationMapper::toBaseApplication).toList());
+    }
+
+    final String caseStatus = caseSearchCriteria.getStatus();
+    caseSearchCriteria.setStatus(null);
+
+    final List<BaseApplicationDetail> tdsApplications =
+        Optional.ofNullable(
+                caabApiClient
+                    .getApplications(
+                        caseSearchCriteria,
+                        user.getProvider().getId(),
+                        0,
+                        searchConstants.getMaxSearchResultsCases())
+                    .block())
+            .orElseThrow(() -> new CaabApplicationException("Failed to query for applications"))
+            .getContent();
+
+    caseSearchCriteria.setStatus(caseStatus);
+
+    searchResults.stream()
+        .filter(
+            ebsCase ->
+                tdsApplications.stream()
+                    .anyMatch(
+                        tdsApplication ->
+                            tdsApplication
+                                .getCaseReferenceNumber()
+                                .equals(ebsCase.getCaseReferenceNumber())))
+        .forEach(
+            ebsCase -> {
+              final Optional<BaseApplicationDetail> matchingTds =
+                  tdsApplications.stream()
+                      .filter(
+                          tdsApplication ->
+                              tdsApplication
+                                  .getCaseReferenceNumber()
+                                  .equals(ebsCase.getCaseReferenceNumber()))
+                      .findFirst();
+
+              if (matchingTds.isPresent()
+                  && Boolean.TRUE.equals(matchingTds.get().getAmendment())) {
+                ebsCase.setAmendment(true);
+              }
+
+              tdsApplications.removeIf(
+                  app -> app.getCaseReferenceNumber().equals(ebsCase.getCaseReferenceNumber()));
+            });
+
+    if (caseSearchCriteria.getStatus() != null
+        && !STATUS_UNSUBMITTED_ACTUAL_VALUE.equals(caseSearchCriteria.getStatus())
+        && !STATUS_DRAFT.equals(caseSearchCriteria.getStatus())) {
+      tdsApplications.clear();
+    }
+
+    searchResults.addAll(tdsApplications);
+
+    if (searchResults.size() > searchConstants.getMaxSearchResultsCases()) {
+      throw new TooManyResultsException(
+          "Case Search returned %s results".formatted(searchResults.size()));
+    }
+
+    searchResults.sort(Comparator.comparing(BaseApplicationDetail::getCaseReferenceNumber));
+    return searchResults;
+  }
+}
@@ -0,0 +1,119 @@
+package uk.gov.laa.ccms.caab.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentAttributeDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityTypeDetail;
+
+/**
+ * Benchmarks reading every line of a bill through the assessment lookups, as the bill summary
+ * pages and report do: finding the entity type, then each line's attributes by name, then
+ * formatting their values.
+ *
+ * <p>The bill holds 2,000 attributes: 150 lines of 13 attributes, and 50 more on the global
+ * entity. The indexed read includes building the {@link IndexedAssessment}, as each request does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssessmentUtilBenchmark {
+
+  private static final String LINE_ENTITY_TYPE = "PROFIT_COST_BILL_LINE";
+
+  private static final String[] LINE_ATTRIBUTES = {
+    "PROFIT_COST_DATE",
+    "PROFIT_COST_COST_TYPE",
+    "PROFIT_COST_CATEGORY_OF_WORK",
+    "PROFIT_COST_ACTIVITY",
+    "PROFIT_COST_TIME",
+    "PROFIT_COST_ITEM",
+    "PROFIT_COST_RATE",
+    "PROFIT_COST_UPLIFT",
+    "PROFIT_COST_NET_CLAIM_INC_UPLFT",
+    "PROFIT_COST_VAT",
+    "PROFIT_COST_TOTAL_CLAIM",
+    "PROFIT_COST_FEE_EARNER",
+    "PROFIT_COST_PRIOR_AUTH"
+  };
+
+  private AssessmentDetail bill;
+
+  /** Build the bill. */
+  @Setup
+  public void setUp() {
+    final AssessmentEntityDetail global = new AssessmentEntityDetail().name("300000001");
+    for (int i = 0; i < 50; i++) {
+      global.addAttributesItem(attr("BILL_QUESTION_" + i, "TEXT", "Answer " + i));
+    }
+
+    final AssessmentEntityTypeDetail lines =
+        new AssessmentEntityTypeDetail().name(LINE_ENTITY_TYPE);
+    for (int i = 0; i < 150; i++) {
+      final String date = "2026-01-%02d".formatted(i % 28 + 1);
+      lines.addEntitiesItem(
+          new AssessmentEntityDetail()
+              .name("line-" + i)
+              .addAttributesItem(attr("PROFIT_COST_DATE", "DATE", date))
+              .addAttributesItem(attr("PROFIT_COST_COST_TYPE", "TEXT", "Profit cost"))
+              .addAttributesItem(attr("PROFIT_COST_CATEGORY_OF_WORK", "TEXT", "Preparation"))
+              .addAttributesItem(attr("PROFIT_COST_ACTIVITY", "TEXT", "Drafting document " + i))
+              .addAttributesItem(attr("PROFIT_COST_TIME", "TEXT", "01:30"))
+              .addAttributesItem(attr("PROFIT_COST_ITEM", "NUMBER", "1"))
+              .addAttributesItem(attr("PROFIT_COST_RATE", "CURRENCY", "50"))
+              .addAttributesItem(attr("PROFIT_COST_UPLIFT", "CURRENCY", "0"))
+              .addAttributesItem(attr("PROFIT_COST_NET_CLAIM_INC_UPLFT", "CURRENCY", "75"))
+              .addAttributesItem(attr("PROFIT_COST_VAT", "CURRENCY", "15"))
+              .addAttributesItem(attr("PROFIT_COST_TOTAL_CLAIM", "CURRENCY", "90"))
+              .addAttributesItem(attr("PROFIT_COST_FEE_EARNER", "TEXT", "A Solicitor"))
+              .addAttributesItem(attr("PROFIT_COST_PRIOR_AUTH", "TEXT", "")));
+    }
+    bill =
+        new AssessmentDetail()
+            .addEntityTypesItem(
+                new AssessmentEntityTypeDetail().name("global").addEntitiesItem(global))
+            .addEntityTypesItem(lines);
+  }
+
+  @Benchmark
+  public void readBillLines(final Blackhole blackhole) {
+    for (final AssessmentEntityDetail line :
+        AssessmentUtil.getAssessmentEntitiesForEntityType(bill, LINE_ENTITY_TYPE)) {
+      for (final String attribute : LINE_ATTRIBUTES) {
+        blackhole.consume(
+            AssessmentUtil.getFormattedAttributeValue(
+                AssessmentUtil.getAssessmentAttribute(line, attribute)));
+      }
+    }
+  }
+
+  @Benchmark
+  public void readBillLinesIndexed(final Blackhole blackhole) {
+    final IndexedAssessment indexed = IndexedAssessment.of(bill);
+    for (final AssessmentEntityDetail line : indexed.getEntities(LINE_ENTITY_TYPE)) {
+      for (final String attribute : LINE_ATTRIBUTES) {
+        blackhole.consume(
+            AssessmentUtil.getFormattedAttributeValue(indexed.getAttribute(line, attribute)));
+      }
+    }
+  }
+
+  private static AssessmentAttributeDetail attr(
+      final String name, final String type, final String value) {
+    return new AssessmentAttributeDetail().name(name).type(type).value(value);
+  }
+}
@@ -0,0 +1,184 @@
+package uk.gov.laa.ccms.caab.util;
+
+import static uk.gov.laa.ccms.caab.util.CaabModelUtils.buildBaseApplication;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
+import uk.gov.laa.ccms.caab.model.BaseApplicationDetail;
+
+/**
+ * Benchmarks paging through case search results, sorted by a top-level and by a nested property,
+ * as the search results page does. The results are copied for each page, since sorting is in place.
+ *
+ * <p>Each sort is measured with {@link PaginationUtil} and with a copy of the reflective sort it
+ * replaced, which looked up and invoked each getter on every comparison.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaginationUtilBenchmark {
+
+  @Param({"100", "1000"})
+  private int results;
+
+  private final Pageable byCaseReference =
+      PageRequest.of(2, 10, Sort.by(Sort.Order.desc("caseReferenceNumber")));
+
+  private final Pageable byStatus = PageRequest.of(2, 10, Sort.by("status.displayValue"));
+
+  private List<BaseApplicationDetail> searchResults;
+
+  /** Build the search results, in an order unlike either sort. */
+  @Setup
+  public void setUp() {
+    searchResults = new ArrayList<>(results);
+    for (int i = 0; i < results; i++) {
+      searchResults.add(buildBaseApplication(300000000 + (i * 7919) % results));
+    }
+  }
+
+  @Benchmark
+  public Page<BaseApplicationDetail> sortByTopLevelProperty() {
+    return PaginationUtil.paginateList(byCaseReference, new ArrayList<>(searchResults));
+  }
+
+  @Benchmark
+  public Page<BaseApplicationDetail> sortByNestedProperty() {
+    return PaginationUtil.paginateList(byStatus, new ArrayList<>(searchResults));
+  }
+
+  @Benchmark
+  public Page<BaseApplicationDetail> sortByTopLevelPropertyReflective() {
+    return reflectivePaginateList(byCaseReference, new ArrayList<>(searchResults));
+  }
+
+  @Benchmark
+  public Page<BaseApplicationDetail> sortByNestedPropertyReflective() {
+    return reflectivePaginateList(byStatus, new ArrayList<>(searchResults));
+  }
+
+  /** {@link PaginationUtil#paginateList} as it was, before its getters were resolved once. */
+  private static <T> Page<T> reflectivePaginateList(final Pageable pageable, final List<T> list) {
+    final int start = (int) pageable.getOffset();
+    final int end = Math.min(start + pageable.getPageSize(), list.size());
+
+    if (!pageable.getSort().isSorted() || list.isEmpty()) {
+      return new PageImpl<>(list.subList(start, end), pageable, list.size());
+    }
+
+    final List<Sort.Order> nestedOrders = new ArrayList<>();
+    final List<Sort.Order> topLevelOrders = new ArrayList<>();
+    for (final Sort.Order order : pageable.getSort()) {
+      if (order.getProperty().contains(".")) {
+        nestedOrders.add(order);
+      } else {
+        topLevelOrders.add(order);
+      }
+    }
+
+    if (!topLevelOrders.isEmpty()) {
+      list.sort(reflectiveTopLevelComparator(list.getFirst().getClass(), topLevelOrders));
+    }
+    if (!nestedOrders.isEmpty()) {
+      list.sort(reflectiveNestedComparator(nestedOrders));
+    }
+
+    return new PageImpl<>(new ArrayList<>(list.subList(start, end)), pageable, list.size());
+  }
+
+  private static <T> Comparator<T> reflectiveTopLevelComparator(
+      final Class<?> clazz, final List<Sort.Order> topLevelOrders) {
+    return (o1, o2) -> {
+      for (final Sort.Order order : topLevelOrders) {
+        final String property = order.getProperty();
+        final String methodName =
+            "get" + property.substring(0, 1).toUpperCase() + property.substring(1);
+
+        try {
+          final Method method = clazz.getDeclaredMethod(methodName);
+          final Object val1 = method.invoke(o1);
+          final Object val2 = method.invoke(o2);
+
+          if (val1 == null && val2 == null) {
+            continue;
+          } else if (val1 == null) {
+            return order.isAscending() ? -1 : 1;
+          } else if (val2 == null) {
+            return order.isAscending() ? 1 : -1;
+          }
+
+          if (val1 instanceof Comparable && val2 instanceof Comparable) {
+            @SuppressWarnings("unchecked")
+            final Comparable<Object> comparableVal1 = (Comparable<Object>) val1;
+            return order.isAscending()
+                ? comparableVal1.compareTo(val2)
+                : comparableVal1.compareTo(val2) * -1;
+          }
+        } catch (final Exception e) {
+          throw new CaabApplicationException("Error sorting comparator for top-level properties");
+        }
+      }
+      return 0;
+    };
+  }
+
+  private static <T> Comparator<T> reflectiveNestedComparator(final List<Sort.Order> nestedOrders) {
+    return (o1, o2) -> {
+      for (final Sort.Order order : nestedOrders) {
+        final String[] nestedPropertyParts = order.getProperty().split("\\.");
+        Object val1 = o1;
+        Object val2 = o2;
+
+        for (final String propertyPart : nestedPropertyParts) {
+          try {
+            final String methodName =
+                "get" + propertyPart.substring(0, 1).toUpperCase() + propertyPart.substring(1);
+            final Method method = val1.getClass().getDeclaredMethod(methodName);
+            val1 = method.invoke(val1);
+            val2 = method.invoke(val2);
+
+            if (val1 == null) {
+              return order.isAscending() ? -1 : 1;
+            } else if (val2 == null) {
+              return order.isAscending() ? 1 : -1;
+            }
+          } catch (final Exception e) {
+            throw new CaabApplicationException("Error sorting comparator for nested properties");
+          }
+        }
+
+        if (val1 instanceof Comparable && val2 instanceof Comparable) {
+          @SuppressWarnings("unchecked")
+          final Comparable<Object> comparableVal1 = (Comparable<Object>) val1;
+          return order.isAscending()
+              ? comparableVal1.compareTo(val2)
+              : comparableVal1.compareTo(val2) * -1;
+        }
+      }
+      return 0;
+    };
+  }
+}
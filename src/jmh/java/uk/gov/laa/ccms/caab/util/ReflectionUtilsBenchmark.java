@@ -0,0 +1,42 @@
+package uk.gov.laa.ccms.caab.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.laa.ccms.caab.bean.ClientFormDataBasicDetails;
+
+/**
+ * Benchmarks clearing the blank fields of a submitted client details form, as is done before each
+ * client search or update.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReflectionUtilsBenchmark {
+
+  @Benchmark
+  public ClientFormDataBasicDetails nullifyStrings() {
+    final ClientFormDataBasicDetails basicDetails = new ClientFormDataBasicDetails();
+    basicDetails.setTitle("MR");
+    basicDetails.setFirstName("John");
+    basicDetails.setMiddleNames(" ");
+    basicDetails.setSurname("Smith");
+    basicDetails.setSurnameAtBirth("");
+    basicDetails.setDateOfBirth("1/1/1980");
+    basicDetails.setNationalInsuranceNumber("  ");
+    basicDetails.setHomeOfficeNumber("");
+    basicDetails.setGender("MALE");
+    ReflectionUtils.nullifyStrings(basicDetails);
+    return basicDetails;
+  }
+}
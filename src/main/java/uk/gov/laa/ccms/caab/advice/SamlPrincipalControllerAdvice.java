@@ -41,22 +41,21 @@ public class SamlPrincipalControllerAdvice {
 
       String loginId = saml2Authentication.getName();
 
-      UserDetail user = new UserDetail();
-      user.setLoginId(loginId);
-
-      // When the home page is requested, user details must be retrieved from the database to
-      // ensure the correct provider is displayed, as it can be updated outside the control of
-      // this service (via legacy PUI or EBS). See https://dsdmoj.atlassian.net/browse/CCMSPUI-949.
-      if (session.getAttribute("user") != null
-          && !requestIsForController(request, HomeController.class)) {
-        user = (UserDetail) session.getAttribute("user");
-
-        if (!user.getLoginId().equals(loginId)) {
-          user = userService.getUser(user.getUserId()).block();
-        }
-
-      } else {
+      // When the home page is requested, user details must be retrieved again to ensure the
+      // correct provider is displayed, as it can be updated outside the control of this service
+      // (via legacy PUI or EBS). See https://dsdmoj.atlassian.net/browse/CCMSPUI-949. The
+      // HomeController does that itself, alongside its other lookups, so a session user for the
+      // same login stands until then.
+      UserDetail sessionUser = (UserDetail) session.getAttribute("user");
+      UserDetail user;
+      if (sessionUser == null) {
+        user = userService.getUserByLoginId(loginId).block();
+      } else if (sessionUser.getLoginId().equals(loginId)) {
+        user = sessionUser;
+      } else if (requestIsForController(request, HomeController.class)) {
         user = userService.getUserByLoginId(loginId).block();
+      } else {
+        user = userService.getUser(sessionUser.getUserId()).block();
       }
 
       model.addAttribute("user", user);
@@ -73,6 +73,9 @@ public abstract class FileUploadValidator extends AbstractValidator {
 
   private static final Tika tika = new Tika();
 
+  /** The number of bytes from the start of a file that are read to detect its type. */
+  private static final int MAGIC_BYTES_LENGTH = 64 * 1024;
+
   /**
    * Validate generic file upload details such as file data, extension, type, description and size.
    *
@@ -165,16 +168,12 @@ public abstract class FileUploadValidator extends AbstractValidator {
    * @param errors the Errors object to store validation errors.
    */
   private void validateFileSize(FileUploadFormData fileUploadFormData, Errors errors) {
-    try {
-      // Check the file size is within limits
-      final int fileSize = fileUploadFormData.getFile().getBytes().length;
-      final long maxSize = DataSize.parse(maxFileSize).toBytes();
+    // The size is known from the multipart request, so the content need not be read to find it.
+    final long fileSize = fileUploadFormData.getFile().getSize();
+    final long maxSize = DataSize.parse(maxFileSize).toBytes();
 
-      if (fileSize > maxSize) {
-        rejectFileSize(errors);
-      }
-    } catch (IOException ioe) {
-      throw new CaabApplicationException("Failed to read file data", ioe);
+    if (fileSize > maxSize) {
+      rejectFileSize(errors);
     }
   }
 
@@ -232,14 +231,15 @@ public abstract class FileUploadValidator extends AbstractValidator {
   }
 
   /**
-   * Checks whether the file content matches the file type.
+   * Checks whether the file content matches the file type. Only the start of the file is read,
+   * which is all that the detector looks at.
    *
    * @param fileUploadFormData the file upload form data object.
    * @return true if the file content matches the file type, false otherwise.
    */
   protected boolean isValidMagicBytes(FileUploadFormData fileUploadFormData) {
     try (InputStream inputStream = fileUploadFormData.getFile().getInputStream()) {
-      String detectedMime = tika.detect(inputStream);
+      String detectedMime = tika.detect(inputStream.readNBytes(MAGIC_BYTES_LENGTH));
 
       return validMimeTypes.stream().anyMatch(type -> type.equalsIgnoreCase(detectedMime));
     } catch (IOException e) {
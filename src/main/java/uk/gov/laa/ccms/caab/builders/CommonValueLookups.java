@@ -0,0 +1,84 @@
+package uk.gov.laa.ccms.caab.builders;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.caab.service.LookupService;
+import uk.gov.laa.ccms.data.model.CommonLookupValueDetail;
+
+/**
+ * The common values looked up while building one mapping context. Each type of common value is
+ * fetched once, in full, however many of its codes are looked up - so a case with many proceedings
+ * costs one lookup per type rather than one per proceeding, scope limitation or attribute.
+ *
+ * <p>A type with more values than are returned at once is only fetched in part. A code not among
+ * the values fetched for such a type is looked up on its own.
+ *
+ * <p>A new instance should be used for each mapping context, so that nothing is held beyond it.
+ */
+final class CommonValueLookups {
+
+  private final LookupService lookupService;
+
+  private final Map<String, Mono<TypeValues>> valuesByType = new ConcurrentHashMap<>();
+
+  CommonValueLookups(final LookupService lookupService) {
+    this.lookupService = lookupService;
+  }
+
+  /**
+   * Look up a common value by type and code.
+   *
+   * @param type the type of common value.
+   * @param code the code of the common value.
+   * @return a Mono containing the common value, or an empty Optional if the type has no such code.
+   *     The Mono is empty if the common values of the type could not be retrieved at all.
+   */
+  Mono<Optional<CommonLookupValueDetail>> get(final String type, final String code) {
+    if (type == null) {
+      return Mono.just(Optional.empty());
+    }
+    return valuesByType
+        .computeIfAbsent(type, this::getValues)
+        .flatMap(
+            values -> {
+              final CommonLookupValueDetail value = values.valuesByCode().get(code);
+              return value != null || values.complete() || code == null
+                  ? Mono.just(Optional.ofNullable(value))
+                  : lookupService.getCommonValue(type, code);
+            });
+  }
+
+  private Mono<TypeValues> getValues(final String type) {
+    return lookupService
+        .getCommonValues(type)
+        .map(
+            commonLookupDetail -> {
+              final List<CommonLookupValueDetail> content =
+                  Optional.ofNullable(commonLookupDetail.getContent()).orElse(List.of());
+              final Integer totalElements = commonLookupDetail.getTotalElements();
+              return new TypeValues(
+                  content.stream()
+                      .filter(commonLookupValueDetail -> commonLookupValueDetail.getCode() != null)
+                      .collect(
+                          Collectors.toMap(
+                              CommonLookupValueDetail::getCode,
+                              Function.identity(),
+                              (first, second) -> first)),
+                  totalElements == null || totalElements <= content.size());
+            })
+        .cache();
+  }
+
+  /**
+   * The values fetched for one type of common value.
+   *
+   * @param valuesByCode the values fetched, by code.
+   * @param complete whether every value of the type was fetched.
+   */
+  private record TypeValues(Map<String, CommonLookupValueDetail> valuesByCode, boolean complete) {}
+}
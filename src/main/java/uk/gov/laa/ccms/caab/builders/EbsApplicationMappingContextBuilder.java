@@ -29,9 +29,10 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuple3;
 import reactor.util.function.Tuple5;
 import uk.gov.laa.ccms.caab.client.EbsApiClient;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
@@ -47,12 +48,10 @@ import uk.gov.laa.ccms.data.model.AwardTypeLookupDetail;
 import uk.gov.laa.ccms.data.model.AwardTypeLookupValueDetail;
 import uk.gov.laa.ccms.data.model.CaseDetail;
 import uk.gov.laa.ccms.data.model.CategoryOfLaw;
-import uk.gov.laa.ccms.data.model.CommonLookupDetail;
 import uk.gov.laa.ccms.data.model.CommonLookupValueDetail;
 import uk.gov.laa.ccms.data.model.ContactDetail;
 import uk.gov.laa.ccms.data.model.CostLimitation;
 import uk.gov.laa.ccms.data.model.OfficeDetail;
-import uk.gov.laa.ccms.data.model.OutcomeResultLookupDetail;
 import uk.gov.laa.ccms.data.model.OutcomeResultLookupValueDetail;
 import uk.gov.laa.ccms.data.model.PriorAuthority;
 import uk.gov.laa.ccms.data.model.PriorAuthorityAttribute;
@@ -64,7 +63,6 @@ import uk.gov.laa.ccms.data.model.ProviderDetail;
 import uk.gov.laa.ccms.data.model.ProviderDetails;
 import uk.gov.laa.ccms.data.model.ScopeLimitation;
 import uk.gov.laa.ccms.data.model.ScopeLimitationDetail;
-import uk.gov.laa.ccms.data.model.StageEndLookupDetail;
 import uk.gov.laa.ccms.data.model.StageEndLookupValueDetail;
 import uk.gov.laa.ccms.data.model.SubmittedApplicationDetails;
 
@@ -84,21 +82,31 @@ import uk.gov.laa.ccms.data.model.SubmittedApplicationDetails;
  */
 @Service
 @RequiredArgsConstructor
+@EnableConfigurationProperties(MappingContextProperties.class)
 public class EbsApplicationMappingContextBuilder {
 
   private final ProviderService providerService;
   private final LookupService lookupService;
   private final EbsApiClient ebsApiClient;
+  private final MappingContextProperties properties;
 
   /**
    * Before a CaseDetail can be mapped to a CAAB ApplicationDetail further lookup data and
    * calculations need to be performed. This method builds a wrapper object to hold all the required
    * data for the mapping.
    *
+   * <p>Every lookup is started at once, joining only where one needs the result of another, so that
+   * building the context takes as long as the longest chain of dependent lookups rather than the
+   * sum of them all.
+   *
    * @param ebsCase - the EBS CaseDetail.
-   * @return a Mono containing an ApplicationMappingContext for the CaseDetail.
+   * @return an ApplicationMappingContext for the CaseDetail.
    */
   public EbsApplicationMappingContext buildApplicationMappingContext(final CaseDetail ebsCase) {
+    return applicationMappingContext(ebsCase).block();
+  }
+
+  private Mono<EbsApplicationMappingContext> applicationMappingContext(final CaseDetail ebsCase) {
     final SubmittedApplicationDetails ebsApplicationDetails = ebsCase.getApplicationDetails();
 
     final ProviderDetails ebsProvider = ebsApplicationDetails.getProviderDetails();
@@ -112,53 +120,145 @@ public class EbsApplicationMappingContextBuilder {
                         STATUS_DRAFT.equalsIgnoreCase(proceedingDetail.getStatus()));
 
     // Retrieve the full provider details
-    final ProviderDetail providerDetail =
-        Optional.ofNullable(
-                providerService
-                    .getProvider(Integer.parseInt(ebsProvider.getProviderFirmId()))
-                    .block())
-            .orElseThrow(
-                () ->
-                    new CaabApplicationException(
-                        "Failed to query lookup data for Application mapping"));
+    final Mono<ProviderDetail> providerDetailMono =
+        providerService
+            .getProvider(Integer.parseInt(ebsProvider.getProviderFirmId()))
+            .switchIfEmpty(
+                Mono.error(
+                    () ->
+                        new CaabApplicationException(
+                            "Failed to query lookup data for Application mapping")));
 
-    // Lookup the certificate display value
-    final CommonLookupValueDetail certificateLookup =
+    // Lookup the certificate display value. Cached, as the application type falls back to it.
+    final Mono<Optional<CommonLookupValueDetail>> certificateLookupMono =
         ebsCase.getCertificateType() != null
             ? lookupService
                 .getCommonValue(COMMON_VALUE_APPLICATION_TYPE, ebsCase.getCertificateType())
                 .map(
                     commonLookupValueDetail ->
-                        commonLookupValueDetail.orElse(
-                            new CommonLookupValueDetail()
-                                .code(ebsCase.getCertificateType())
-                                .description(ebsCase.getCertificateType())))
-                .blockOptional()
-                .orElseThrow(
-                    () ->
-                        new CaabApplicationException(
-                            "Failed to retrieve applicationtype with code: %s"
-                                .formatted(ebsCase.getCertificateType())))
-            : null;
+                        Optional.of(
+                            commonLookupValueDetail.orElse(
+                                new CommonLookupValueDetail()
+                                    .code(ebsCase.getCertificateType())
+                                    .description(ebsCase.getCertificateType()))))
+                .switchIfEmpty(
+                    Mono.error(
+                        () ->
+                            new CaabApplicationException(
+                                "Failed to retrieve applicationtype with code: %s"
+                                    .formatted(ebsCase.getCertificateType()))))
+                .cache()
+            : Mono.just(Optional.empty());
 
     // Lookup the application type display value - this should be based on the
     // application/amendment type (if it has one), or the certificate type.
-    final CommonLookupValueDetail applicationTypeLookup =
+    final Mono<Optional<CommonLookupValueDetail>> applicationTypeLookupMono =
         ebsApplicationDetails.getApplicationAmendmentType() != null
-            ? lookupService
-                .getCommonValue(
-                    COMMON_VALUE_APPLICATION_TYPE,
-                    ebsApplicationDetails.getApplicationAmendmentType())
-                .mapNotNull(
-                    commonLookupValueDetail -> commonLookupValueDetail.orElse(certificateLookup))
-                .blockOptional()
-                .orElseThrow(
-                    () ->
-                        new CaabApplicationException(
-                            "Failed to retrieve applicationtype with code: %s"
-                                .formatted(ebsApplicationDetails.getApplicationAmendmentType())))
-            : certificateLookup;
+            ? Mono.zip(
+                    lookupService.getCommonValue(
+                        COMMON_VALUE_APPLICATION_TYPE,
+                        ebsApplicationDetails.getApplicationAmendmentType()),
+                    certificateLookupMono)
+                .mapNotNull(lookups -> lookups.getT1().or(lookups::getT2).orElse(null))
+                .map(Optional::of)
+                .switchIfEmpty(
+                    Mono.error(
+                        () ->
+                            new CaabApplicationException(
+                                "Failed to retrieve applicationtype with code: %s"
+                                    .formatted(
+                                        ebsApplicationDetails.getApplicationAmendmentType()))))
+            : certificateLookupMono;
+
+    // Build a ProceedingMappingContext for every proceeding, to hold the necessary lookup data.
+    // Cached, as both the proceeding lists and the case outcome are built from them.
+    final Mono<List<EbsProceedingMappingContext>> proceedingContextsMono =
+        Flux.fromIterable(
+                Optional.ofNullable(ebsApplicationDetails.getProceedings())
+                    .orElse(Collections.emptyList()))
+            .flatMapSequential(
+                proceedingDetail -> buildProceedingMappingContext(proceedingDetail, ebsCase),
+                properties.getMaxConcurrentLookups())
+            .collectList()
+            .cache();
+
+    /*
+     * Split the proceeding list based on status. Amendment proceedings are those at DRAFT,
+     * unless every proceeding in the case is.
+     */
+    final Mono<List<EbsProceedingMappingContext>> amendmentProceedingsMono =
+        proceedingContextsMono.map(
+            proceedingContexts ->
+                proceedingContexts.stream()
+                    .filter(
+                        proceedingContext ->
+                            !caseWithOnlyDraftProceedings
+                                && isDraft(proceedingContext.getEbsProceeding()))
+                    .toList());
+
+    final Mono<List<EbsProceedingMappingContext>> proceedingsMono =
+        proceedingContextsMono.map(
+            proceedingContexts ->
+                proceedingContexts.stream()
+                    .filter(
+                        proceedingContext ->
+                            caseWithOnlyDraftProceedings
+                                || !isDraft(proceedingContext.getEbsProceeding()))
+                    .toList());
 
+    // Build a mapping context for each Prior Authority in the application
+    final Mono<List<EbsPriorAuthorityMappingContext>> priorAuthoritiesMono =
+        Flux.fromIterable(
+                Optional.ofNullable(ebsCase.getPriorAuthorities()).orElse(Collections.emptyList()))
+            .flatMapSequential(
+                this::buildPriorAuthorityMappingContext, properties.getMaxConcurrentLookups())
+            .collectList();
+
+    // Build a mapping context for the case outcome
+    final Mono<EbsCaseOutcomeMappingContext> caseOutcomeMono =
+        buildCaseOutcomeMappingContext(
+            ebsCase,
+            Mono.zip(amendmentProceedingsMono, proceedingsMono)
+                .map(
+                    proceedingLists ->
+                        Stream.concat(
+                                proceedingLists.getT1().stream(), proceedingLists.getT2().stream())
+                            .toList()));
+
+    return Mono.zip(
+            providerDetailMono,
+            certificateLookupMono,
+            applicationTypeLookupMono,
+            Mono.zip(amendmentProceedingsMono, proceedingsMono),
+            priorAuthoritiesMono,
+            caseOutcomeMono)
+        .map(
+            lookups ->
+                addProviderContext(
+                        EbsApplicationMappingContext.builder(), lookups.getT1(), ebsProvider)
+                    .ebsCaseDetail(ebsCase)
+                    .certificate(lookups.getT2().orElse(null))
+                    .applicationType(lookups.getT3().orElse(null))
+                    .caseWithOnlyDraftProceedings(caseWithOnlyDraftProceedings)
+                    .devolvedPowers(getDevolvedPowersInfo(ebsApplicationDetails))
+                    .amendmentProceedingsInEbs(lookups.getT4().getT1())
+                    .proceedings(lookups.getT4().getT2())
+                    .meansAssessment(
+                        getMostRecentAssessment(ebsApplicationDetails.getMeansAssessments()))
+                    .meritsAssessment(
+                        getMostRecentAssessment(ebsApplicationDetails.getMeritsAssessments()))
+                    .priorAuthorities(lookups.getT5())
+                    .caseOutcome(lookups.getT6())
+                    .currentProviderBilledAmount(
+                        calculateCurrentProviderBilledAmount(
+                            ebsApplicationDetails.getCategoryOfLaw()))
+                    .build());
+  }
+
+  private EbsApplicationMappingContext.EbsApplicationMappingContextBuilder addProviderContext(
+      final EbsApplicationMappingContext.EbsApplicationMappingContextBuilder contextBuilder,
+      final ProviderDetail providerDetail,
+      final ProviderDetails ebsProvider) {
     // Find the correct provider office.
     final OfficeDetail providerOffice =
         providerDetail.getOffices().stream()
@@ -188,20 +288,28 @@ public class EbsApplicationMappingContextBuilder {
             ? feeEarnerById.get(Integer.valueOf(ebsProvider.getFeeEarnerContactId()))
             : null;
 
+    return contextBuilder
+        .providerDetail(providerDetail)
+        .providerOffice(providerOffice)
+        .supervisorContact(supervisorContact)
+        .feeEarnerContact(feeEarnerContact);
+  }
+
+  private Pair<Boolean, LocalDate> getDevolvedPowersInfo(
+      final SubmittedApplicationDetails ebsApplicationDetails) {
     // Set the DevolvedPowers for the Application based on the ApplicationAmendmentType.
     boolean isDevolvedPowers =
         APP_TYPE_EMERGENCY_DEVOLVED_POWERS.equalsIgnoreCase(
                 ebsApplicationDetails.getApplicationAmendmentType())
             || APP_TYPE_SUBSTANTIVE_DEVOLVED_POWERS.equalsIgnoreCase(
                 ebsApplicationDetails.getApplicationAmendmentType());
-    Pair<Boolean, LocalDate> devolvedPowersInfo =
-        Pair.of(
-            isDevolvedPowers,
-            isDevolvedPowers ? ebsApplicationDetails.getDevolvedPowersDate() : null);
+    return Pair.of(
+        isDevolvedPowers, isDevolvedPowers ? ebsApplicationDetails.getDevolvedPowersDate() : null);
+  }
 
+  private BigDecimal calculateCurrentProviderBilledAmount(final CategoryOfLaw categoryOfLaw) {
     // Calculate the CurrentProviderBilledAmount for the Application's Costs.
     BigDecimal currentProviderBilledAmount = BigDecimal.ZERO;
-    CategoryOfLaw categoryOfLaw = ebsApplicationDetails.getCategoryOfLaw();
     if (categoryOfLaw.getCostLimitations() != null && categoryOfLaw.getTotalPaidToDate() != null) {
       // Add the total amount billed across all cost entries.
       final BigDecimal totalProviderAmount =
@@ -212,86 +320,11 @@ public class EbsApplicationMappingContextBuilder {
       currentProviderBilledAmount =
           categoryOfLaw.getTotalPaidToDate().subtract(totalProviderAmount);
     }
+    return currentProviderBilledAmount;
+  }
 
-    // Find the most recent Assessments
-    final AssessmentResult meansAssessment =
-        getMostRecentAssessment(ebsApplicationDetails.getMeansAssessments());
-
-    final AssessmentResult meritsAssessment =
-        getMostRecentAssessment(ebsApplicationDetails.getMeritsAssessments());
-
-    /*
-     * Split the proceeding list based on status, and build a ProceedingMappingContext
-     * for each to hold the necessary lookup data.
-     */
-    final List<EbsProceedingMappingContext> amendmentProceedingsInEbs =
-        ebsApplicationDetails.getProceedings() != null
-            ? ebsApplicationDetails.getProceedings().stream()
-                .filter(
-                    proceedingDetail ->
-                        !caseWithOnlyDraftProceedings
-                            && STATUS_DRAFT.equalsIgnoreCase(proceedingDetail.getStatus()))
-                .map(
-                    proceedingDetail ->
-                        Optional.ofNullable(
-                                buildProceedingMappingContext(proceedingDetail, ebsCase))
-                            .orElseThrow(
-                                () ->
-                                    new CaabApplicationException(
-                                        "Failed to build mapping context")))
-                .toList()
-            : Collections.emptyList();
-
-    final List<EbsProceedingMappingContext> proceedings =
-        ebsApplicationDetails.getProceedings() != null
-            ? ebsApplicationDetails.getProceedings().stream()
-                .filter(
-                    proceedingDetail ->
-                        caseWithOnlyDraftProceedings
-                            || !STATUS_DRAFT.equalsIgnoreCase(proceedingDetail.getStatus()))
-                .map(
-                    proceedingDetail ->
-                        Optional.ofNullable(
-                                buildProceedingMappingContext(proceedingDetail, ebsCase))
-                            .orElseThrow(
-                                () ->
-                                    new CaabApplicationException(
-                                        "Failed to build mapping context")))
-                .toList()
-            : Collections.emptyList();
-
-    // Build a mapping context for each Prior Authority in the application
-    List<EbsPriorAuthorityMappingContext> priorAuthorities =
-        ebsCase.getPriorAuthorities() != null
-            ? ebsCase.getPriorAuthorities().stream()
-                .map(this::buildPriorAuthorityMappingContext)
-                .toList()
-            : Collections.emptyList();
-
-    // Build a mapping context for the case outcome
-    EbsCaseOutcomeMappingContext caseOutcomeMappingContext =
-        buildCaseOutcomeMappingContext(
-            ebsCase,
-            Stream.concat(amendmentProceedingsInEbs.stream(), proceedings.stream()).toList());
-
-    return EbsApplicationMappingContext.builder()
-        .ebsCaseDetail(ebsCase)
-        .applicationType(applicationTypeLookup)
-        .certificate(certificateLookup)
-        .providerDetail(providerDetail)
-        .providerOffice(providerOffice)
-        .supervisorContact(supervisorContact)
-        .feeEarnerContact(feeEarnerContact)
-        .caseWithOnlyDraftProceedings(caseWithOnlyDraftProceedings)
-        .devolvedPowers(devolvedPowersInfo)
-        .amendmentProceedingsInEbs(amendmentProceedingsInEbs)
-        .proceedings(proceedings)
-        .meansAssessment(meansAssessment)
-        .meritsAssessment(meritsAssessment)
-        .priorAuthorities(priorAuthorities)
-        .caseOutcome(caseOutcomeMappingContext)
-        .currentProviderBilledAmount(currentProviderBilledAmount)
-        .build();
+  private static boolean isDraft(final Proceeding proceeding) {
+    return STATUS_DRAFT.equalsIgnoreCase(proceeding.getStatus());
   }
 
   private AssessmentResult getMostRecentAssessment(final List<AssessmentResult> assessmentResults) {
@@ -304,221 +337,256 @@ public class EbsApplicationMappingContextBuilder {
         : null;
   }
 
-  protected EbsProceedingMappingContext buildProceedingMappingContext(
+  protected Mono<EbsProceedingMappingContext> buildProceedingMappingContext(
       final Proceeding ebsProceeding, final CaseDetail ebsCase) {
 
-    Tuple5<
-            ProceedingDetail,
-            Optional<CommonLookupValueDetail>,
-            Optional<CommonLookupValueDetail>,
-            Optional<CommonLookupValueDetail>,
-            Optional<CommonLookupValueDetail>>
-        lookupTuple =
-            Optional.ofNullable(
-                    Mono.zip(
-                            ebsApiClient.getProceeding(ebsProceeding.getProceedingType()),
-                            lookupService.getCommonValue(
-                                COMMON_VALUE_PROCEEDING_STATUS, ebsProceeding.getStatus()),
-                            lookupService.getCommonValue(
-                                COMMON_VALUE_MATTER_TYPES, ebsProceeding.getMatterType()),
-                            lookupService.getCommonValue(
-                                COMMON_VALUE_LEVEL_OF_SERVICE, ebsProceeding.getLevelOfService()),
-                            lookupService.getCommonValue(
-                                COMMON_VALUE_CLIENT_INVOLVEMENT_TYPES,
-                                ebsProceeding.getClientInvolvementType()))
-                        .block())
-                .orElseThrow(
-                    () ->
-                        new CaabApplicationException(
-                            "Failed to retrieve lookup data for ProceedingDetail"));
+    final Mono<
+            Tuple5<
+                ProceedingDetail,
+                Optional<CommonLookupValueDetail>,
+                Optional<CommonLookupValueDetail>,
+                Optional<CommonLookupValueDetail>,
+                Optional<CommonLookupValueDetail>>>
+        lookupTupleMono =
+            Mono.zip(
+                    ebsApiClient.getProceeding(ebsProceeding.getProceedingType()),
+                    lookupService.getCommonValue(
+                        COMMON_VALUE_PROCEEDING_STATUS, ebsProceeding.getStatus()),
+                    lookupService.getCommonValue(
+                        COMMON_VALUE_MATTER_TYPES, ebsProceeding.getMatterType()),
+                    lookupService.getCommonValue(
+                        COMMON_VALUE_LEVEL_OF_SERVICE, ebsProceeding.getLevelOfService()),
+                    lookupService.getCommonValue(
+                        COMMON_VALUE_CLIENT_INVOLVEMENT_TYPES,
+                        ebsProceeding.getClientInvolvementType()))
+                .switchIfEmpty(
+                    Mono.error(
+                        () ->
+                            new CaabApplicationException(
+                                "Failed to retrieve lookup data for ProceedingDetail")));
 
     // Calculate the overall cost limitation for this proceeding
-    BigDecimal proceedingCostLimitation =
+    final Mono<BigDecimal> proceedingCostLimitationMono =
         this.calculateProceedingCostLimitation(ebsProceeding, ebsCase);
 
     // Build a List of pairs of Scope Limitation and associated lookup
-    List<Pair<ScopeLimitation, CommonLookupValueDetail>> scopeLimitations =
-        ebsProceeding.getScopeLimitations().stream()
-            .map(
+    final Mono<List<Pair<ScopeLimitation, CommonLookupValueDetail>>> scopeLimitationsMono =
+        Flux.fromIterable(ebsProceeding.getScopeLimitations())
+            .flatMapSequential(
                 scopeLimitation ->
-                    Pair.of(
-                        scopeLimitation,
-                        lookupService
-                            .getCommonValue(
-                                COMMON_VALUE_SCOPE_LIMITATIONS,
-                                scopeLimitation.getScopeLimitation())
-                            .map(
-                                commonLookupValueDetail ->
+                    lookupService
+                        .getCommonValue(
+                            COMMON_VALUE_SCOPE_LIMITATIONS, scopeLimitation.getScopeLimitation())
+                        .defaultIfEmpty(Optional.empty())
+                        .map(
+                            commonLookupValueDetail ->
+                                Pair.of(
+                                    scopeLimitation,
                                     commonLookupValueDetail.orElse(
                                         new CommonLookupValueDetail()
                                             .code(scopeLimitation.getScopeLimitation())
-                                            .description(scopeLimitation.getScopeLimitation())))
-                            .block()))
-            .toList();
-
-    final ProceedingDetail proceedingLookup = lookupTuple.getT1();
-
-    final CommonLookupValueDetail proceedingStatusLookup =
-        lookupTuple
-            .getT2()
-            .orElse(
-                new CommonLookupValueDetail()
-                    .code(ebsProceeding.getStatus())
-                    .description(ebsProceeding.getStatus()));
-
-    final CommonLookupValueDetail matterTypeLookup =
-        lookupTuple
-            .getT3()
-            .orElse(
-                new CommonLookupValueDetail()
-                    .code(ebsProceeding.getMatterType())
-                    .description(ebsProceeding.getMatterType()));
-
-    final CommonLookupValueDetail levelOfServiceLookup =
-        lookupTuple
-            .getT4()
-            .orElse(
-                new CommonLookupValueDetail()
-                    .code(ebsProceeding.getLevelOfService())
-                    .description(ebsProceeding.getLevelOfService()));
-
-    final CommonLookupValueDetail clientInvolvementLookup =
-        lookupTuple
-            .getT5()
-            .orElse(
-                new CommonLookupValueDetail()
-                    .code(ebsProceeding.getClientInvolvementType())
-                    .description(ebsProceeding.getClientInvolvementType()));
-
-    EbsProceedingMappingContext.EbsProceedingMappingContextBuilder contextBuilder =
-        EbsProceedingMappingContext.builder()
-            .ebsProceeding(ebsProceeding)
-            .proceedingLookup(proceedingLookup)
-            .proceedingStatusLookup(proceedingStatusLookup)
-            .proceedingCostLimitation(proceedingCostLimitation)
-            .matterType(matterTypeLookup)
-            .levelOfService(levelOfServiceLookup)
-            .clientInvolvement(clientInvolvementLookup)
-            .scopeLimitations(scopeLimitations);
-
-    this.addProceedingOutcomeContext(contextBuilder, ebsProceeding);
-
-    return contextBuilder.build();
+                                            .description(scopeLimitation.getScopeLimitation())))),
+                properties.getMaxConcurrentLookups())
+            .collectList();
+
+    // Lookup the outcome data alongside the rest, rather than once they have all returned.
+    final Mono<EbsProceedingMappingContext.EbsProceedingMappingContextBuilder>
+        contextBuilderMono =
+            this.addProceedingOutcomeContext(
+                EbsProceedingMappingContext.builder().ebsProceeding(ebsProceeding), ebsProceeding);
+
+    return Mono.zip(
+            lookupTupleMono,
+            proceedingCostLimitationMono,
+            scopeLimitationsMono,
+            contextBuilderMono)
+        .map(
+            results -> {
+              final Tuple5<
+                      ProceedingDetail,
+                      Optional<CommonLookupValueDetail>,
+                      Optional<CommonLookupValueDetail>,
+                      Optional<CommonLookupValueDetail>,
+                      Optional<CommonLookupValueDetail>>
+                  lookupTuple = results.getT1();
+
+              final ProceedingDetail proceedingLookup = lookupTuple.getT1();
+
+              final CommonLookupValueDetail proceedingStatusLookup =
+                  lookupTuple
+                      .getT2()
+                      .orElse(
+                          new CommonLookupValueDetail()
+                              .code(ebsProceeding.getStatus())
+                              .description(ebsProceeding.getStatus()));
+
+              final CommonLookupValueDetail matterTypeLookup =
+                  lookupTuple
+                      .getT3()
+                      .orElse(
+                          new CommonLookupValueDetail()
+                              .code(ebsProceeding.getMatterType())
+                              .description(ebsProceeding.getMatterType()));
+
+              final CommonLookupValueDetail levelOfServiceLookup =
+                  lookupTuple
+                      .getT4()
+                      .orElse(
+                          new CommonLookupValueDetail()
+                              .code(ebsProceeding.getLevelOfService())
+                              .description(ebsProceeding.getLevelOfService()));
+
+              final CommonLookupValueDetail clientInvolvementLookup =
+                  lookupTuple
+                      .getT5()
+                      .orElse(
+                          new CommonLookupValueDetail()
+                              .code(ebsProceeding.getClientInvolvementType())
+                              .description(ebsProceeding.getClientInvolvementType()));
+
+              return results
+                  .getT4()
+                  .proceedingLookup(proceedingLookup)
+                  .proceedingStatusLookup(proceedingStatusLookup)
+                  .proceedingCostLimitation(results.getT2())
+                  .matterType(matterTypeLookup)
+                  .levelOfService(levelOfServiceLookup)
+                  .clientInvolvement(clientInvolvementLookup)
+                  .scopeLimitations(results.getT3())
+                  .build();
+            });
   }
 
-  protected BigDecimal calculateProceedingCostLimitation(
+  protected Mono<BigDecimal> calculateProceedingCostLimitation(
       final Proceeding proceeding, final CaseDetail ebsCase) {
-    BigDecimal maxCostLimitation = BigDecimal.ZERO;
-    if (ebsCase.getApplicationDetails().getCategoryOfLaw() != null
-        && proceeding.getMatterType() != null
-        && proceeding.getProceedingType() != null
-        && proceeding.getLevelOfService() != null
-        && proceeding.getScopeLimitations() != null
-        && !proceeding.getScopeLimitations().isEmpty()) {
-
-      final String applicationType = ebsCase.getApplicationDetails().getApplicationAmendmentType();
-      boolean isEmergency =
-          APP_TYPE_EMERGENCY.equalsIgnoreCase(applicationType)
-              || APP_TYPE_EMERGENCY_DEVOLVED_POWERS.equalsIgnoreCase(applicationType);
-
-      // Build the scope limitation search criteria.
-      // Only include the emergency flag in the criteria if the app type is classified as emergency.
-      ScopeLimitationDetail searchCriteria =
-          new ScopeLimitationDetail()
-              .categoryOfLaw(
-                  ebsCase.getApplicationDetails().getCategoryOfLaw().getCategoryOfLawCode())
-              .matterType(proceeding.getMatterType())
-              .proceedingCode(proceeding.getProceedingType())
-              .levelOfService(proceeding.getLevelOfService())
-              .emergency(isEmergency ? Boolean.TRUE : null);
-
-      for (ScopeLimitation limitation : proceeding.getScopeLimitations()) {
-        searchCriteria.setScopeLimitations(limitation.getScopeLimitation());
-        BigDecimal costLimitation =
-            lookupService
-                .getScopeLimitationDetails(searchCriteria)
-                .map(
-                    scopeLimitationDetails ->
-                        scopeLimitationDetails.getContent() != null
-                            ? scopeLimitationDetails.getContent().stream()
-                                .findFirst()
-                                .map(
-                                    scopeLimitationDetail ->
-                                        isEmergency
-                                            ? scopeLimitationDetail.getEmergencyCostLimitation()
-                                            : scopeLimitationDetail.getCostLimitation())
-                                .orElse(BigDecimal.ZERO)
-                            : BigDecimal.ZERO)
-                .block();
-
-        maxCostLimitation = maxCostLimitation.max(costLimitation);
-      }
+    if (ebsCase.getApplicationDetails().getCategoryOfLaw() == null
+        || proceeding.getMatterType() == null
+        || proceeding.getProceedingType() == null
+        || proceeding.getLevelOfService() == null
+        || proceeding.getScopeLimitations() == null
+        || proceeding.getScopeLimitations().isEmpty()) {
+      return Mono.just(BigDecimal.ZERO);
     }
 
-    return maxCostLimitation;
+    final String applicationType = ebsCase.getApplicationDetails().getApplicationAmendmentType();
+    boolean isEmergency =
+        APP_TYPE_EMERGENCY.equalsIgnoreCase(applicationType)
+            || APP_TYPE_EMERGENCY_DEVOLVED_POWERS.equalsIgnoreCase(applicationType);
+
+    // Lookup the cost limitation of each scope limitation, and take the greatest.
+    return Flux.fromIterable(proceeding.getScopeLimitations())
+        .flatMap(
+            limitation ->
+                lookupService
+                    .getScopeLimitationDetails(
+                        buildScopeLimitationCriteria(ebsCase, proceeding, limitation, isEmergency))
+                    .map(
+                        scopeLimitationDetails ->
+                            scopeLimitationDetails.getContent() != null
+                                ? scopeLimitationDetails.getContent().stream()
+                                    .findFirst()
+                                    .map(
+                                        scopeLimitationDetail ->
+                                            isEmergency
+                                                ? scopeLimitationDetail.getEmergencyCostLimitation()
+                                                : scopeLimitationDetail.getCostLimitation())
+                                    .orElse(BigDecimal.ZERO)
+                                : BigDecimal.ZERO),
+            properties.getMaxConcurrentLookups())
+        .reduce(BigDecimal.ZERO, BigDecimal::max);
+  }
+
+  private ScopeLimitationDetail buildScopeLimitationCriteria(
+      final CaseDetail ebsCase,
+      final Proceeding proceeding,
+      final ScopeLimitation limitation,
+      final boolean isEmergency) {
+    // Build the scope limitation search criteria, a new one for each lookup in flight.
+    // Only include the emergency flag in the criteria if the app type is classified as emergency.
+    return new ScopeLimitationDetail()
+        .categoryOfLaw(ebsCase.getApplicationDetails().getCategoryOfLaw().getCategoryOfLawCode())
+        .matterType(proceeding.getMatterType())
+        .proceedingCode(proceeding.getProceedingType())
+        .levelOfService(proceeding.getLevelOfService())
+        .emergency(isEmergency ? Boolean.TRUE : null)
+        .scopeLimitations(limitation.getScopeLimitation());
   }
 
-  protected void addProceedingOutcomeContext(
-      final EbsProceedingMappingContext.EbsProceedingMappingContextBuilder contextBuilder,
-      final Proceeding ebsProceeding) {
+  protected Mono<EbsProceedingMappingContext.EbsProceedingMappingContextBuilder>
+      addProceedingOutcomeContext(
+          final EbsProceedingMappingContext.EbsProceedingMappingContextBuilder contextBuilder,
+          final Proceeding ebsProceeding) {
 
     if (ebsProceeding.getOutcome() == null) {
-      return; // Nothing to add
+      return Mono.just(contextBuilder); // Nothing to add
     }
 
     // Lookup extra data relating to the ProceedingDetail Outcome
-    final Tuple3<CommonLookupDetail, OutcomeResultLookupDetail, StageEndLookupDetail>
-        combinedOutcomeResults =
-            Optional.ofNullable(
-                    Mono.zip(
-                            lookupService.getCourts(ebsProceeding.getOutcome().getCourtCode()),
-                            lookupService.getOutcomeResults(
-                                ebsProceeding.getProceedingType(),
-                                ebsProceeding.getOutcome().getResult()),
-                            lookupService.getStageEnds(
-                                ebsProceeding.getProceedingType(),
-                                ebsProceeding.getOutcome().getStageEnd()))
-                        .block())
-                .orElseThrow(() -> new CaabApplicationException("Failed to query lookup data"));
+    return Mono.zip(
+            lookupService.getCourts(ebsProceeding.getOutcome().getCourtCode()),
+            lookupService.getOutcomeResults(
+                ebsProceeding.getProceedingType(), ebsProceeding.getOutcome().getResult()),
+            lookupService.getStageEnds(
+                ebsProceeding.getProceedingType(), ebsProceeding.getOutcome().getStageEnd()))
+        .switchIfEmpty(
+            Mono.error(() -> new CaabApplicationException("Failed to query lookup data")))
+        .map(
+            combinedOutcomeResults -> {
+              /*
+               * Only use the looked up Court data if we got a single match.
+               * Otherwise, default to the court code for display.
+               */
+              final CommonLookupValueDetail courtLookup =
+                  combinedOutcomeResults.getT1().getContent().size() == 1
+                      ? combinedOutcomeResults.getT1().getContent().getFirst()
+                      : new CommonLookupValueDetail()
+                          .code(ebsProceeding.getOutcome().getCourtCode())
+                          .description(ebsProceeding.getOutcome().getCourtCode());
+
+              // Use the outcome result display data, if we have it.
+              final OutcomeResultLookupValueDetail outcomeResultLookup =
+                  combinedOutcomeResults.getT2().getContent().isEmpty()
+                      ? null
+                      : combinedOutcomeResults.getT2().getContent().getFirst();
+
+              // Lookup the stage end display value.
+              final StageEndLookupValueDetail stageEndLookup =
+                  combinedOutcomeResults.getT3().getContent().isEmpty()
+                      ? null
+                      : combinedOutcomeResults.getT3().getContent().getFirst();
+
+              // Update the builder with outcome-related lookup data
+              return contextBuilder
+                  .courtLookup(courtLookup)
+                  .outcomeResultLookup(outcomeResultLookup)
+                  .stageEndLookup(stageEndLookup);
+            });
+  }
 
-    /*
-     * Only use the looked up Court data if we got a single match.
-     * Otherwise, default to the court code for display.
-     */
-    final CommonLookupValueDetail courtLookup =
-        combinedOutcomeResults.getT1().getContent().size() == 1
-            ? combinedOutcomeResults.getT1().getContent().getFirst()
-            : new CommonLookupValueDetail()
-                .code(ebsProceeding.getOutcome().getCourtCode())
-                .description(ebsProceeding.getOutcome().getCourtCode());
-
-    // Use the outcome result display data, if we have it.
-    final OutcomeResultLookupValueDetail outcomeResultLookup =
-        combinedOutcomeResults.getT2().getContent().isEmpty()
-            ? null
-            : combinedOutcomeResults.getT2().getContent().getFirst();
-
-    // Lookup the stage end display value.
-    final StageEndLookupValueDetail stageEndLookup =
-        combinedOutcomeResults.getT3().getContent().isEmpty()
-            ? null
-            : combinedOutcomeResults.getT3().getContent().getFirst();
-
-    // Update the builder with outcome-related lookup data
-    contextBuilder
-        .courtLookup(courtLookup)
-        .outcomeResultLookup(outcomeResultLookup)
-        .stageEndLookup(stageEndLookup);
+  protected Mono<EbsCaseOutcomeMappingContext> buildCaseOutcomeMappingContext(
+      final CaseDetail ebsCase,
+      final Mono<List<EbsProceedingMappingContext>> proceedingMappingContextsMono) {
+    // Look up all Award Types, while the proceeding mapping contexts are still being built.
+    final Mono<List<AwardTypeLookupValueDetail>> awardTypesMono =
+        lookupService
+            .getAwardTypes()
+            .mapNotNull(AwardTypeLookupDetail::getContent)
+            .switchIfEmpty(
+                Mono.error(() -> new CaabApplicationException("Failed to retrieve AwardTypes")));
+
+    return Mono.zip(awardTypesMono, proceedingMappingContextsMono)
+        .map(
+            lookups ->
+                buildCaseOutcomeMappingContext(ebsCase, lookups.getT1(), lookups.getT2()));
   }
 
-  protected EbsCaseOutcomeMappingContext buildCaseOutcomeMappingContext(
-      final CaseDetail ebsCase, final List<EbsProceedingMappingContext> proceedingMappingContexts) {
-    // Look up all Award Types and map by their code
+  private EbsCaseOutcomeMappingContext buildCaseOutcomeMappingContext(
+      final CaseDetail ebsCase,
+      final List<AwardTypeLookupValueDetail> awardTypeLookups,
+      final List<EbsProceedingMappingContext> proceedingMappingContexts) {
+    // Map all Award Types by their code
     Map<String, AwardTypeLookupValueDetail> awardTypes =
-        Optional.ofNullable(lookupService.getAwardTypes().block())
-            .map(AwardTypeLookupDetail::getContent)
-            .orElseThrow(() -> new CaabApplicationException("Failed to retrieve AwardTypes"))
-            .stream()
+        awardTypeLookups.stream()
             .collect(Collectors.toMap(AwardTypeLookupValueDetail::getCode, Function.identity()));
 
     // Split the ebs Awards into separate lists based on their award type.
@@ -576,80 +644,83 @@ public class EbsApplicationMappingContextBuilder {
    * @return a PriorAuthorityMappingContext containing all data to support mapping to a CAAB
    *     PriorAuthorityDetail.
    */
-  protected EbsPriorAuthorityMappingContext buildPriorAuthorityMappingContext(
+  protected Mono<EbsPriorAuthorityMappingContext> buildPriorAuthorityMappingContext(
       final PriorAuthority ebsPriorAuthority) {
 
     // Find the correct PriorAuthorityType lookup
-    PriorAuthorityTypeDetail priorAuthorityType =
-        lookupService
-            .getPriorAuthorityType(ebsPriorAuthority.getPriorAuthorityType())
-            .map(
-                priorAuthorityTypeDetail ->
-                    priorAuthorityTypeDetail.orElse(
-                        new PriorAuthorityTypeDetail()
-                            .code(ebsPriorAuthority.getPriorAuthorityType())
-                            .description(ebsPriorAuthority.getPriorAuthorityType())))
-            .blockOptional()
-            .orElseThrow(
+    return lookupService
+        .getPriorAuthorityType(ebsPriorAuthority.getPriorAuthorityType())
+        .map(
+            priorAuthorityTypeDetail ->
+                priorAuthorityTypeDetail.orElse(
+                    new PriorAuthorityTypeDetail()
+                        .code(ebsPriorAuthority.getPriorAuthorityType())
+                        .description(ebsPriorAuthority.getPriorAuthorityType())))
+        .switchIfEmpty(
+            Mono.error(
                 () ->
                     new CaabApplicationException(
                         "Failed to find PriorAuthorityType with code: %s"
-                            .formatted(ebsPriorAuthority.getPriorAuthorityType())));
-
-    // Build a Map of PriorAuthorityDetail keyed on code
-    Map<String, PriorAuthorityDetail> priorAuthDetailMap =
-        priorAuthorityType.getPriorAuthorities().stream()
-            .collect(Collectors.toMap(PriorAuthorityDetail::getCode, Function.identity()));
-
-    // Build a List of priorAuthorityDetails paired with the common lookup for display info.
-    List<Pair<PriorAuthorityDetail, CommonLookupValueDetail>> priorAuthorityDetails =
-        ebsPriorAuthority.getDetails().stream()
-            .map(
-                priorAuthorityAttribute -> {
-                  PriorAuthorityDetail priorAuthorityDetail =
-                      priorAuthDetailMap.get(priorAuthorityAttribute.getName());
-                  return Pair.of(
-                      priorAuthorityDetail,
-                      getPriorAuthLookup(priorAuthorityDetail, priorAuthorityAttribute));
-                })
-            .toList();
-
-    return EbsPriorAuthorityMappingContext.builder()
-        .ebsPriorAuthority(ebsPriorAuthority)
-        .priorAuthorityTypeLookup(priorAuthorityType)
-        .items(priorAuthorityDetails)
-        .build();
+                            .formatted(ebsPriorAuthority.getPriorAuthorityType()))))
+        .flatMap(
+            priorAuthorityType -> {
+              // Build a Map of PriorAuthorityDetail keyed on code
+              Map<String, PriorAuthorityDetail> priorAuthDetailMap =
+                  priorAuthorityType.getPriorAuthorities().stream()
+                      .collect(
+                          Collectors.toMap(PriorAuthorityDetail::getCode, Function.identity()));
+
+              // Build a List of priorAuthorityDetails paired with the common lookup for display
+              // info.
+              return Flux.fromIterable(ebsPriorAuthority.getDetails())
+                  .flatMapSequential(
+                      priorAuthorityAttribute -> {
+                        PriorAuthorityDetail priorAuthorityDetail =
+                            priorAuthDetailMap.get(priorAuthorityAttribute.getName());
+                        return getPriorAuthLookup(priorAuthorityDetail, priorAuthorityAttribute)
+                            .map(lookup -> Pair.of(priorAuthorityDetail, lookup));
+                      },
+                      properties.getMaxConcurrentLookups())
+                  .collectList()
+                  .map(
+                      priorAuthorityDetails ->
+                          EbsPriorAuthorityMappingContext.builder()
+                              .ebsPriorAuthority(ebsPriorAuthority)
+                              .priorAuthorityTypeLookup(priorAuthorityType)
+                              .items(priorAuthorityDetails)
+                              .build());
+            });
   }
 
-  private CommonLookupValueDetail getPriorAuthLookup(
+  private Mono<CommonLookupValueDetail> getPriorAuthLookup(
       final PriorAuthorityDetail priorAuthorityDetail,
       final PriorAuthorityAttribute priorAuthorityAttribute) {
-    String description;
 
     // If this attribute is of type LOV, lookup the corresponding LOV record to get the
     // display value.
     if (priorAuthorityDetail != null
         && REFERENCE_DATA_ITEM_TYPE_LOV.equals(priorAuthorityDetail.getDataType())) {
-      description =
-          lookupService
-              .getCommonValue(priorAuthorityDetail.getLovCode(), priorAuthorityAttribute.getValue())
-              .map(
-                  commonLookupValueDetail ->
-                      commonLookupValueDetail
-                          .map(CommonLookupValueDetail::getDescription)
-                          .orElse(priorAuthorityAttribute.getValue()))
-              .blockOptional()
-              .orElseThrow(
+      return lookupService
+          .getCommonValue(priorAuthorityDetail.getLovCode(), priorAuthorityAttribute.getValue())
+          .map(
+              commonLookupValueDetail ->
+                  new CommonLookupValueDetail()
+                      .code(priorAuthorityAttribute.getValue())
+                      .description(
+                          commonLookupValueDetail
+                              .map(CommonLookupValueDetail::getDescription)
+                              .orElse(priorAuthorityAttribute.getValue())))
+          .switchIfEmpty(
+              Mono.error(
                   () ->
                       new CaabApplicationException(
                           "Failed to find common value with code: %s"
-                              .formatted(priorAuthorityAttribute.getValue())));
-    } else {
-      description = priorAuthorityAttribute.getValue();
+                              .formatted(priorAuthorityAttribute.getValue()))));
     }
 
-    return new CommonLookupValueDetail()
-        .code(priorAuthorityAttribute.getValue())
-        .description(description);
+    return Mono.just(
+        new CommonLookupValueDetail()
+            .code(priorAuthorityAttribute.getValue())
+            .description(priorAuthorityAttribute.getValue()));
   }
 }
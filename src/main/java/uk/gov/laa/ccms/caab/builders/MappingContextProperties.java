@@ -0,0 +1,31 @@
+package uk.gov.laa.ccms.caab.builders;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for building the mapping contexts that hold the lookup data needed to
+ * map an EBS or SOA case to a CAAB application.
+ *
+ * <p>The lookups for a case's proceedings and prior authorities are made together, and so are the
+ * lookups for any one of them, each up to {@code maxConcurrentLookups} at a time. A case can
+ * therefore have roughly the square of that many lookups in flight at once, which should stay well
+ * within the EBS API bulkhead.
+ */
+@Getter
+@ConfigurationProperties(prefix = "laa.ccms.mapping-context")
+public class MappingContextProperties {
+
+  /** The most proceedings or prior authorities, or lookups for any one of them, made at once. */
+  private final int maxConcurrentLookups;
+
+  /**
+   * Construct the mapping context properties.
+   *
+   * @param maxConcurrentLookups the most proceedings, prior authorities or lookups made at once.
+   */
+  public MappingContextProperties(@DefaultValue("2") final int maxConcurrentLookups) {
+    this.maxConcurrentLookups = maxConcurrentLookups;
+  }
+}
@@ -28,9 +28,10 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuple3;
 import reactor.util.function.Tuple5;
 import uk.gov.laa.ccms.caab.client.EbsApiClient;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
@@ -42,18 +43,15 @@ import uk.gov.laa.ccms.caab.service.LookupService;
 import uk.gov.laa.ccms.caab.service.ProviderService;
 import uk.gov.laa.ccms.data.model.AwardTypeLookupDetail;
 import uk.gov.laa.ccms.data.model.AwardTypeLookupValueDetail;
-import uk.gov.laa.ccms.data.model.CommonLookupDetail;
 import uk.gov.laa.ccms.data.model.CommonLookupValueDetail;
 import uk.gov.laa.ccms.data.model.ContactDetail;
 import uk.gov.laa.ccms.data.model.OfficeDetail;
-import uk.gov.laa.ccms.data.model.OutcomeResultLookupDetail;
 import uk.gov.laa.ccms.data.model.OutcomeResultLookupValueDetail;
 import uk.gov.laa.ccms.data.model.PriorAuthorityDetail;
 import uk.gov.laa.ccms.data.model.PriorAuthorityTypeDetail;
 import uk.gov.laa.ccms.data.model.ProceedingDetail;
 import uk.gov.laa.ccms.data.model.ProviderDetail;
 import uk.gov.laa.ccms.data.model.ScopeLimitationDetail;
-import uk.gov.laa.ccms.data.model.StageEndLookupDetail;
 import uk.gov.laa.ccms.data.model.StageEndLookupValueDetail;
 import uk.gov.laa.ccms.soa.gateway.model.AssessmentResult;
 import uk.gov.laa.ccms.soa.gateway.model.Award;
@@ -81,26 +79,38 @@ import uk.gov.laa.ccms.soa.gateway.model.SubmittedApplicationDetails;
  */
 @Service
 @RequiredArgsConstructor
+@EnableConfigurationProperties(MappingContextProperties.class)
 public class SoaApplicationMappingContextBuilder {
 
   private final ProviderService providerService;
   private final LookupService lookupService;
   private final EbsApiClient ebsApiClient;
+  private final MappingContextProperties properties;
 
   /**
    * Before a CaseDetail can be mapped to a CAAB ApplicationDetail further lookup data and
    * calculations need to be performed. This method builds a wrapper object to hold all the required
    * data for the mapping.
    *
+   * <p>Every lookup is started at once, joining only where one needs the result of another, and
+   * each type of common value is fetched once for the whole case. Building the context therefore
+   * takes as long as the longest chain of dependent lookups rather than the sum of them all.
+   *
    * @param soaCase - the SOA CaseDetail.
-   * @return a Mono containing an ApplicationMappingContext for the CaseDetail.
+   * @return an ApplicationMappingContext for the CaseDetail.
    */
   public SoaApplicationMappingContext buildApplicationMappingContext(final CaseDetail soaCase) {
+    return applicationMappingContext(soaCase).block();
+  }
+
+  private Mono<SoaApplicationMappingContext> applicationMappingContext(final CaseDetail soaCase) {
     final SubmittedApplicationDetails soaApplicationDetails = soaCase.getApplicationDetails();
 
     final uk.gov.laa.ccms.soa.gateway.model.ProviderDetail soaProvider =
         soaApplicationDetails.getProviderDetails();
 
+    final CommonValueLookups commonValues = new CommonValueLookups(lookupService);
+
     // Determine whether all the proceedings in the soaCase are at status DRAFT
     final boolean caseWithOnlyDraftProceedings =
         soaApplicationDetails.getProceedings() != null
@@ -110,53 +120,146 @@ public class SoaApplicationMappingContextBuilder {
                         STATUS_DRAFT.equalsIgnoreCase(proceedingDetail.getStatus()));
 
     // Retrieve the full provider details
-    final ProviderDetail providerDetail =
-        Optional.ofNullable(
-                providerService
-                    .getProvider(Integer.parseInt(soaProvider.getProviderFirmId()))
-                    .block())
-            .orElseThrow(
-                () ->
-                    new CaabApplicationException(
-                        "Failed to query lookup data for Application mapping"));
+    final Mono<ProviderDetail> providerDetailMono =
+        providerService
+            .getProvider(Integer.parseInt(soaProvider.getProviderFirmId()))
+            .switchIfEmpty(
+                Mono.error(
+                    () ->
+                        new CaabApplicationException(
+                            "Failed to query lookup data for Application mapping")));
 
     // Lookup the certificate display value
-    final CommonLookupValueDetail certificateLookup =
+    final Mono<Optional<CommonLookupValueDetail>> certificateLookupMono =
         soaCase.getCertificateType() != null
-            ? lookupService
-                .getCommonValue(COMMON_VALUE_APPLICATION_TYPE, soaCase.getCertificateType())
+            ? commonValues
+                .get(COMMON_VALUE_APPLICATION_TYPE, soaCase.getCertificateType())
                 .map(
                     commonLookupValueDetail ->
-                        commonLookupValueDetail.orElse(
-                            new CommonLookupValueDetail()
-                                .code(soaCase.getCertificateType())
-                                .description(soaCase.getCertificateType())))
-                .blockOptional()
-                .orElseThrow(
-                    () ->
-                        new CaabApplicationException(
-                            "Failed to retrieve applicationtype with code: %s"
-                                .formatted(soaCase.getCertificateType())))
-            : null;
+                        Optional.of(
+                            commonLookupValueDetail.orElse(
+                                new CommonLookupValueDetail()
+                                    .code(soaCase.getCertificateType())
+                                    .description(soaCase.getCertificateType()))))
+                .switchIfEmpty(
+                    Mono.error(
+                        () ->
+                            new CaabApplicationException(
+                                "Failed to retrieve applicationtype with code: %s"
+                                    .formatted(soaCase.getCertificateType()))))
+            : Mono.just(Optional.empty());
 
     // Lookup the application type display value - this should be based on the
     // application/amendment type (if it has one), or the certificate type.
-    final CommonLookupValueDetail applicationTypeLookup =
+    final Mono<Optional<CommonLookupValueDetail>> applicationTypeLookupMono =
         soaApplicationDetails.getApplicationAmendmentType() != null
-            ? lookupService
-                .getCommonValue(
-                    COMMON_VALUE_APPLICATION_TYPE,
-                    soaApplicationDetails.getApplicationAmendmentType())
-                .mapNotNull(
-                    commonLookupValueDetail -> commonLookupValueDetail.orElse(certificateLookup))
-                .blockOptional()
-                .orElseThrow(
-                    () ->
-                        new CaabApplicationException(
-                            "Failed to retrieve applicationtype with code: %s"
-                                .formatted(soaApplicationDetails.getApplicationAmendmentType())))
-            : certificateLookup;
+            ? Mono.zip(
+                    commonValues.get(
+                        COMMON_VALUE_APPLICATION_TYPE,
+                        soaApplicationDetails.getApplicationAmendmentType()),
+                    certificateLookupMono)
+                .mapNotNull(lookups -> lookups.getT1().or(lookups::getT2).orElse(null))
+                .map(Optional::of)
+                .switchIfEmpty(
+                    Mono.error(
+                        () ->
+                            new CaabApplicationException(
+                                "Failed to retrieve applicationtype with code: %s"
+                                    .formatted(
+                                        soaApplicationDetails.getApplicationAmendmentType()))))
+            : certificateLookupMono;
+
+    // Build a ProceedingMappingContext for every proceeding, to hold the necessary lookup data.
+    // Cached, as both the proceeding lists and the case outcome are built from them.
+    final Mono<List<SoaProceedingMappingContext>> proceedingContextsMono =
+        Flux.fromIterable(
+                Optional.ofNullable(soaApplicationDetails.getProceedings())
+                    .orElse(Collections.emptyList()))
+            .flatMapSequential(
+                proceedingDetail ->
+                    buildProceedingMappingContext(proceedingDetail, soaCase, commonValues),
+                properties.getMaxConcurrentLookups())
+            .collectList()
+            .cache();
+
+    /*
+     * Split the proceeding list based on status. Amendment proceedings are those at DRAFT,
+     * unless every proceeding in the case is.
+     */
+    final Mono<List<SoaProceedingMappingContext>> amendmentProceedingsMono =
+        proceedingContextsMono.map(
+            proceedingContexts ->
+                proceedingContexts.stream()
+                    .filter(
+                        proceedingContext ->
+                            !caseWithOnlyDraftProceedings
+                                && isDraft(proceedingContext.getSoaProceeding()))
+                    .toList());
+
+    final Mono<List<SoaProceedingMappingContext>> proceedingsMono =
+        proceedingContextsMono.map(
+            proceedingContexts ->
+                proceedingContexts.stream()
+                    .filter(
+                        proceedingContext ->
+                            caseWithOnlyDraftProceedings
+                                || !isDraft(proceedingContext.getSoaProceeding()))
+                    .toList());
+
+    // Build a mapping context for each Prior Authority in the application
+    final Mono<List<SoaPriorAuthorityMappingContext>> priorAuthoritiesMono =
+        Flux.fromIterable(
+                Optional.ofNullable(soaCase.getPriorAuthorities()).orElse(Collections.emptyList()))
+            .flatMapSequential(
+                priorAuthority -> buildPriorAuthorityMappingContext(priorAuthority, commonValues),
+                properties.getMaxConcurrentLookups())
+            .collectList();
 
+    // Build a mapping context for the case outcome
+    final Mono<SoaCaseOutcomeMappingContext> caseOutcomeMono =
+        buildCaseOutcomeMappingContext(
+            soaCase,
+            Mono.zip(amendmentProceedingsMono, proceedingsMono)
+                .map(
+                    proceedingLists ->
+                        Stream.concat(
+                                proceedingLists.getT1().stream(), proceedingLists.getT2().stream())
+                            .toList()));
+
+    return Mono.zip(
+            providerDetailMono,
+            certificateLookupMono,
+            applicationTypeLookupMono,
+            Mono.zip(amendmentProceedingsMono, proceedingsMono),
+            priorAuthoritiesMono,
+            caseOutcomeMono)
+        .map(
+            lookups ->
+                addProviderContext(
+                        SoaApplicationMappingContext.builder(), lookups.getT1(), soaProvider)
+                    .soaCaseDetail(soaCase)
+                    .certificate(lookups.getT2().orElse(null))
+                    .applicationType(lookups.getT3().orElse(null))
+                    .caseWithOnlyDraftProceedings(caseWithOnlyDraftProceedings)
+                    .devolvedPowers(getDevolvedPowersInfo(soaApplicationDetails))
+                    .amendmentProceedingsInEbs(lookups.getT4().getT1())
+                    .proceedings(lookups.getT4().getT2())
+                    .meansAssessment(
+                        getMostRecentAssessment(soaApplicationDetails.getMeansAssessments()))
+                    .meritsAssessment(
+                        getMostRecentAssessment(soaApplicationDetails.getMeritsAssessments()))
+                    .priorAuthorities(lookups.getT5())
+                    .caseOutcome(lookups.getT6())
+                    .currentProviderBilledAmount(
+                        calculateCurrentProviderBilledAmount(
+                            soaApplicationDetails.getCategoryOfLaw()))
+                    .build());
+  }
+
+  private SoaApplicationMappingContext.SoaApplicationMappingContextBuilder addProviderContext(
+      final SoaApplicationMappingContext.SoaApplicationMappingContextBuilder contextBuilder,
+      final ProviderDetail providerDetail,
+      final uk.gov.laa.ccms.soa.gateway.model.ProviderDetail soaProvider) {
     // Find the correct provider office.
     final OfficeDetail providerOffice =
         providerDetail.getOffices().stream()
@@ -182,20 +285,28 @@ public class SoaApplicationMappingContextBuilder {
     final ContactDetail feeEarnerContact =
         feeEarnerById.get(Integer.valueOf(soaProvider.getFeeEarnerContactId()));
 
+    return contextBuilder
+        .providerDetail(providerDetail)
+        .providerOffice(providerOffice)
+        .supervisorContact(supervisorContact)
+        .feeEarnerContact(feeEarnerContact);
+  }
+
+  private Pair<Boolean, Date> getDevolvedPowersInfo(
+      final SubmittedApplicationDetails soaApplicationDetails) {
     // Set the DevolvedPowers for the Application based on the ApplicationAmendmentType.
     boolean isDevolvedPowers =
         APP_TYPE_EMERGENCY_DEVOLVED_POWERS.equalsIgnoreCase(
                 soaApplicationDetails.getApplicationAmendmentType())
             || APP_TYPE_SUBSTANTIVE_DEVOLVED_POWERS.equalsIgnoreCase(
                 soaApplicationDetails.getApplicationAmendmentType());
-    Pair<Boolean, Date> devolvedPowersInfo =
-        Pair.of(
-            isDevolvedPowers,
-            isDevolvedPowers ? soaApplicationDetails.getDevolvedPowersDate() : null);
+    return Pair.of(
+        isDevolvedPowers, isDevolvedPowers ? soaApplicationDetails.getDevolvedPowersDate() : null);
+  }
 
+  private BigDecimal calculateCurrentProviderBilledAmount(final CategoryOfLaw categoryOfLaw) {
     // Calculate the CurrentProviderBilledAmount for the Application's Costs.
     BigDecimal currentProviderBilledAmount = BigDecimal.ZERO;
-    CategoryOfLaw categoryOfLaw = soaApplicationDetails.getCategoryOfLaw();
     if (categoryOfLaw.getCostLimitations() != null && categoryOfLaw.getTotalPaidToDate() != null) {
       // Add the total amount billed across all cost entries.
       final BigDecimal totalProviderAmount =
@@ -206,86 +317,12 @@ public class SoaApplicationMappingContextBuilder {
       currentProviderBilledAmount =
           categoryOfLaw.getTotalPaidToDate().subtract(totalProviderAmount);
     }
+    return currentProviderBilledAmount;
+  }
 
-    // Find the most recent Assessments
-    final AssessmentResult meansAssessment =
-        getMostRecentAssessment(soaApplicationDetails.getMeansAssessments());
-
-    final AssessmentResult meritsAssessment =
-        getMostRecentAssessment(soaApplicationDetails.getMeritsAssessments());
-
-    /*
-     * Split the proceeding list based on status, and build a ProceedingMappingContext
-     * for each to hold the necessary lookup data.
-     */
-    final List<SoaProceedingMappingContext> amendmentProceedingsInEbs =
-        soaApplicationDetails.getProceedings() != null
-            ? soaApplicationDetails.getProceedings().stream()
-                .filter(
-                    proceedingDetail ->
-                        !caseWithOnlyDraftProceedings
-                            && STATUS_DRAFT.equalsIgnoreCase(proceedingDetail.getStatus()))
-                .map(
-                    proceedingDetail ->
-                        Optional.ofNullable(
-                                buildProceedingMappingContext(proceedingDetail, soaCase))
-                            .orElseThrow(
-                                () ->
-                                    new CaabApplicationException(
-                                        "Failed to build mapping context")))
-                .toList()
-            : Collections.emptyList();
-
-    final List<SoaProceedingMappingContext> proceedings =
-        soaApplicationDetails.getProceedings() != null
-            ? soaApplicationDetails.getProceedings().stream()
-                .filter(
-                    proceedingDetail ->
-                        caseWithOnlyDraftProceedings
-                            || !STATUS_DRAFT.equalsIgnoreCase(proceedingDetail.getStatus()))
-                .map(
-                    proceedingDetail ->
-                        Optional.ofNullable(
-                                buildProceedingMappingContext(proceedingDetail, soaCase))
-                            .orElseThrow(
-                                () ->
-                                    new CaabApplicationException(
-                                        "Failed to build mapping context")))
-                .toList()
-            : Collections.emptyList();
-
-    // Build a mapping context for each Prior Authority in the application
-    List<SoaPriorAuthorityMappingContext> priorAuthorities =
-        soaCase.getPriorAuthorities() != null
-            ? soaCase.getPriorAuthorities().stream()
-                .map(this::buildPriorAuthorityMappingContext)
-                .toList()
-            : Collections.emptyList();
-
-    // Build a mapping context for the case outcome
-    SoaCaseOutcomeMappingContext caseOutcomeMappingContext =
-        buildCaseOutcomeMappingContext(
-            soaCase,
-            Stream.concat(amendmentProceedingsInEbs.stream(), proceedings.stream()).toList());
-
-    return SoaApplicationMappingContext.builder()
-        .soaCaseDetail(soaCase)
-        .applicationType(applicationTypeLookup)
-        .certificate(certificateLookup)
-        .providerDetail(providerDetail)
-        .providerOffice(providerOffice)
-        .supervisorContact(supervisorContact)
-        .feeEarnerContact(feeEarnerContact)
-        .caseWithOnlyDraftProceedings(caseWithOnlyDraftProceedings)
-        .devolvedPowers(devolvedPowersInfo)
-        .amendmentProceedingsInEbs(amendmentProceedingsInEbs)
-        .proceedings(proceedings)
-        .meansAssessment(meansAssessment)
-        .meritsAssessment(meritsAssessment)
-        .priorAuthorities(priorAuthorities)
-        .caseOutcome(caseOutcomeMappingContext)
-        .currentProviderBilledAmount(currentProviderBilledAmount)
-        .build();
+  private static boolean isDraft(
+      final uk.gov.laa.ccms.soa.gateway.model.ProceedingDetail soaProceeding) {
+    return STATUS_DRAFT.equalsIgnoreCase(soaProceeding.getStatus());
   }
 
   private AssessmentResult getMostRecentAssessment(final List<AssessmentResult> assessmentResults) {
@@ -298,223 +335,256 @@ public class SoaApplicationMappingContextBuilder {
         : null;
   }
 
-  protected SoaProceedingMappingContext buildProceedingMappingContext(
+  protected Mono<SoaProceedingMappingContext> buildProceedingMappingContext(
       final uk.gov.laa.ccms.soa.gateway.model.ProceedingDetail soaProceeding,
-      final CaseDetail soaCase) {
-
-    Tuple5<
-            ProceedingDetail,
-            Optional<CommonLookupValueDetail>,
-            Optional<CommonLookupValueDetail>,
-            Optional<CommonLookupValueDetail>,
-            Optional<CommonLookupValueDetail>>
-        lookupTuple =
-            Optional.ofNullable(
-                    Mono.zip(
-                            ebsApiClient.getProceeding(soaProceeding.getProceedingType()),
-                            lookupService.getCommonValue(
-                                COMMON_VALUE_PROCEEDING_STATUS, soaProceeding.getStatus()),
-                            lookupService.getCommonValue(
-                                COMMON_VALUE_MATTER_TYPES, soaProceeding.getMatterType()),
-                            lookupService.getCommonValue(
-                                COMMON_VALUE_LEVEL_OF_SERVICE, soaProceeding.getLevelOfService()),
-                            lookupService.getCommonValue(
-                                COMMON_VALUE_CLIENT_INVOLVEMENT_TYPES,
-                                soaProceeding.getClientInvolvementType()))
-                        .block())
-                .orElseThrow(
-                    () ->
-                        new CaabApplicationException(
-                            "Failed to retrieve lookup data for ProceedingDetail"));
+      final CaseDetail soaCase,
+      final CommonValueLookups commonValues) {
+
+    final Mono<
+            Tuple5<
+                ProceedingDetail,
+                Optional<CommonLookupValueDetail>,
+                Optional<CommonLookupValueDetail>,
+                Optional<CommonLookupValueDetail>,
+                Optional<CommonLookupValueDetail>>>
+        lookupTupleMono =
+            Mono.zip(
+                    ebsApiClient.getProceeding(soaProceeding.getProceedingType()),
+                    commonValues.get(COMMON_VALUE_PROCEEDING_STATUS, soaProceeding.getStatus()),
+                    commonValues.get(COMMON_VALUE_MATTER_TYPES, soaProceeding.getMatterType()),
+                    commonValues.get(
+                        COMMON_VALUE_LEVEL_OF_SERVICE, soaProceeding.getLevelOfService()),
+                    commonValues.get(
+                        COMMON_VALUE_CLIENT_INVOLVEMENT_TYPES,
+                        soaProceeding.getClientInvolvementType()))
+                .switchIfEmpty(
+                    Mono.error(
+                        () ->
+                            new CaabApplicationException(
+                                "Failed to retrieve lookup data for ProceedingDetail")));
 
     // Calculate the overall cost limitation for this proceeding
-    BigDecimal proceedingCostLimitation =
+    final Mono<BigDecimal> proceedingCostLimitationMono =
         this.calculateProceedingCostLimitation(soaProceeding, soaCase);
 
     // Build a List of pairs of Scope Limitation and associated lookup
-    List<Pair<ScopeLimitation, CommonLookupValueDetail>> scopeLimitations =
-        soaProceeding.getScopeLimitations().stream()
-            .map(
+    final Mono<List<Pair<ScopeLimitation, CommonLookupValueDetail>>> scopeLimitationsMono =
+        Flux.fromIterable(soaProceeding.getScopeLimitations())
+            .flatMapSequential(
                 scopeLimitation ->
-                    Pair.of(
-                        scopeLimitation,
-                        lookupService
-                            .getCommonValue(
-                                COMMON_VALUE_SCOPE_LIMITATIONS,
-                                scopeLimitation.getScopeLimitation())
-                            .map(
-                                commonLookupValueDetail ->
+                    commonValues
+                        .get(COMMON_VALUE_SCOPE_LIMITATIONS, scopeLimitation.getScopeLimitation())
+                        .defaultIfEmpty(Optional.empty())
+                        .map(
+                            commonLookupValueDetail ->
+                                Pair.of(
+                                    scopeLimitation,
                                     commonLookupValueDetail.orElse(
                                         new CommonLookupValueDetail()
                                             .code(scopeLimitation.getScopeLimitation())
-                                            .description(scopeLimitation.getScopeLimitation())))
-                            .block()))
-            .toList();
-
-    final ProceedingDetail proceedingLookup = lookupTuple.getT1();
-
-    final CommonLookupValueDetail proceedingStatusLookup =
-        lookupTuple
-            .getT2()
-            .orElse(
-                new CommonLookupValueDetail()
-                    .code(soaProceeding.getStatus())
-                    .description(soaProceeding.getStatus()));
-
-    final CommonLookupValueDetail matterTypeLookup =
-        lookupTuple
-            .getT3()
-            .orElse(
-                new CommonLookupValueDetail()
-                    .code(soaProceeding.getMatterType())
-                    .description(soaProceeding.getMatterType()));
-
-    final CommonLookupValueDetail levelOfServiceLookup =
-        lookupTuple
-            .getT4()
-            .orElse(
-                new CommonLookupValueDetail()
-                    .code(soaProceeding.getLevelOfService())
-                    .description(soaProceeding.getLevelOfService()));
-
-    final CommonLookupValueDetail clientInvolvementLookup =
-        lookupTuple
-            .getT5()
-            .orElse(
-                new CommonLookupValueDetail()
-                    .code(soaProceeding.getClientInvolvementType())
-                    .description(soaProceeding.getClientInvolvementType()));
-
-    SoaProceedingMappingContext.SoaProceedingMappingContextBuilder contextBuilder =
-        SoaProceedingMappingContext.builder()
-            .soaProceeding(soaProceeding)
-            .proceedingLookup(proceedingLookup)
-            .proceedingStatusLookup(proceedingStatusLookup)
-            .proceedingCostLimitation(proceedingCostLimitation)
-            .matterType(matterTypeLookup)
-            .levelOfService(levelOfServiceLookup)
-            .clientInvolvement(clientInvolvementLookup)
-            .scopeLimitations(scopeLimitations);
-
-    this.addProceedingOutcomeContext(contextBuilder, soaProceeding);
-
-    return contextBuilder.build();
+                                            .description(scopeLimitation.getScopeLimitation())))),
+                properties.getMaxConcurrentLookups())
+            .collectList();
+
+    // Lookup the outcome data alongside the rest, rather than once they have all returned.
+    final Mono<SoaProceedingMappingContext.SoaProceedingMappingContextBuilder>
+        contextBuilderMono =
+            this.addProceedingOutcomeContext(
+                SoaProceedingMappingContext.builder().soaProceeding(soaProceeding), soaProceeding);
+
+    return Mono.zip(
+            lookupTupleMono,
+            proceedingCostLimitationMono,
+            scopeLimitationsMono,
+            contextBuilderMono)
+        .map(
+            results -> {
+              final Tuple5<
+                      ProceedingDetail,
+                      Optional<CommonLookupValueDetail>,
+                      Optional<CommonLookupValueDetail>,
+                      Optional<CommonLookupValueDetail>,
+                      Optional<CommonLookupValueDetail>>
+                  lookupTuple = results.getT1();
+
+              final ProceedingDetail proceedingLookup = lookupTuple.getT1();
+
+              final CommonLookupValueDetail proceedingStatusLookup =
+                  lookupTuple
+                      .getT2()
+                      .orElse(
+                          new CommonLookupValueDetail()
+                              .code(soaProceeding.getStatus())
+                              .description(soaProceeding.getStatus()));
+
+              final CommonLookupValueDetail matterTypeLookup =
+                  lookupTuple
+                      .getT3()
+                      .orElse(
+                          new CommonLookupValueDetail()
+                              .code(soaProceeding.getMatterType())
+                              .description(soaProceeding.getMatterType()));
+
+              final CommonLookupValueDetail levelOfServiceLookup =
+                  lookupTuple
+                      .getT4()
+                      .orElse(
+                          new CommonLookupValueDetail()
+                              .code(soaProceeding.getLevelOfService())
+                              .description(soaProceeding.getLevelOfService()));
+
+              final CommonLookupValueDetail clientInvolvementLookup =
+                  lookupTuple
+                      .getT5()
+                      .orElse(
+                          new CommonLookupValueDetail()
+                              .code(soaProceeding.getClientInvolvementType())
+                              .description(soaProceeding.getClientInvolvementType()));
+
+              return results
+                  .getT4()
+                  .proceedingLookup(proceedingLookup)
+                  .proceedingStatusLookup(proceedingStatusLookup)
+                  .proceedingCostLimitation(results.getT2())
+                  .matterType(matterTypeLookup)
+                  .levelOfService(levelOfServiceLookup)
+                  .clientInvolvement(clientInvolvementLookup)
+                  .scopeLimitations(results.getT3())
+                  .build();
+            });
   }
 
-  protected BigDecimal calculateProceedingCostLimitation(
+  protected Mono<BigDecimal> calculateProceedingCostLimitation(
       final uk.gov.laa.ccms.soa.gateway.model.ProceedingDetail proceeding,
       final CaseDetail soaCase) {
-    BigDecimal maxCostLimitation = BigDecimal.ZERO;
-    if (soaCase.getApplicationDetails().getCategoryOfLaw() != null
-        && proceeding.getMatterType() != null
-        && proceeding.getProceedingType() != null
-        && proceeding.getLevelOfService() != null
-        && proceeding.getScopeLimitations() != null
-        && !proceeding.getScopeLimitations().isEmpty()) {
-
-      final String applicationType = soaCase.getApplicationDetails().getApplicationAmendmentType();
-      boolean isEmergency =
-          APP_TYPE_EMERGENCY.equalsIgnoreCase(applicationType)
-              || APP_TYPE_EMERGENCY_DEVOLVED_POWERS.equalsIgnoreCase(applicationType);
-
-      // Build the scope limitation search criteria.
-      // Only include the emergency flag in the criteria if the app type is classified as emergency.
-      ScopeLimitationDetail searchCriteria =
-          new ScopeLimitationDetail()
-              .categoryOfLaw(
-                  soaCase.getApplicationDetails().getCategoryOfLaw().getCategoryOfLawCode())
-              .matterType(proceeding.getMatterType())
-              .proceedingCode(proceeding.getProceedingType())
-              .levelOfService(proceeding.getLevelOfService())
-              .emergency(isEmergency ? Boolean.TRUE : null);
-
-      for (ScopeLimitation limitation : proceeding.getScopeLimitations()) {
-        searchCriteria.setScopeLimitations(limitation.getScopeLimitation());
-        BigDecimal costLimitation =
-            lookupService
-                .getScopeLimitationDetails(searchCriteria)
-                .map(
-                    scopeLimitationDetails ->
-                        scopeLimitationDetails.getContent() != null
-                            ? scopeLimitationDetails.getContent().stream()
-                                .findFirst()
-                                .map(
-                                    scopeLimitationDetail ->
-                                        isEmergency
-                                            ? scopeLimitationDetail.getEmergencyCostLimitation()
-                                            : scopeLimitationDetail.getCostLimitation())
-                                .orElse(BigDecimal.ZERO)
-                            : BigDecimal.ZERO)
-                .block();
-
-        maxCostLimitation = maxCostLimitation.max(costLimitation);
-      }
+    if (soaCase.getApplicationDetails().getCategoryOfLaw() == null
+        || proceeding.getMatterType() == null
+        || proceeding.getProceedingType() == null
+        || proceeding.getLevelOfService() == null
+        || proceeding.getScopeLimitations() == null
+        || proceeding.getScopeLimitations().isEmpty()) {
+      return Mono.just(BigDecimal.ZERO);
     }
 
-    return maxCostLimitation;
+    final String applicationType = soaCase.getApplicationDetails().getApplicationAmendmentType();
+    boolean isEmergency =
+        APP_TYPE_EMERGENCY.equalsIgnoreCase(applicationType)
+            || APP_TYPE_EMERGENCY_DEVOLVED_POWERS.equalsIgnoreCase(applicationType);
+
+    // Lookup the cost limitation of each scope limitation, and take the greatest.
+    return Flux.fromIterable(proceeding.getScopeLimitations())
+        .flatMap(
+            limitation ->
+                lookupService
+                    .getScopeLimitationDetails(
+                        buildScopeLimitationCriteria(soaCase, proceeding, limitation, isEmergency))
+                    .map(
+                        scopeLimitationDetails ->
+                            scopeLimitationDetails.getContent() != null
+                                ? scopeLimitationDetails.getContent().stream()
+                                    .findFirst()
+                                    .map(
+                                        scopeLimitationDetail ->
+                                            isEmergency
+                                                ? scopeLimitationDetail.getEmergencyCostLimitation()
+                                                : scopeLimitationDetail.getCostLimitation())
+                                    .orElse(BigDecimal.ZERO)
+                                : BigDecimal.ZERO),
+            properties.getMaxConcurrentLookups())
+        .reduce(BigDecimal.ZERO, BigDecimal::max);
   }
 
-  protected void addProceedingOutcomeContext(
-      final SoaProceedingMappingContext.SoaProceedingMappingContextBuilder contextBuilder,
-      final uk.gov.laa.ccms.soa.gateway.model.ProceedingDetail soaProceeding) {
+  private ScopeLimitationDetail buildScopeLimitationCriteria(
+      final CaseDetail soaCase,
+      final uk.gov.laa.ccms.soa.gateway.model.ProceedingDetail proceeding,
+      final ScopeLimitation limitation,
+      final boolean isEmergency) {
+    // Build the scope limitation search criteria, a new one for each lookup in flight.
+    // Only include the emergency flag in the criteria if the app type is classified as emergency.
+    return new ScopeLimitationDetail()
+        .categoryOfLaw(soaCase.getApplicationDetails().getCategoryOfLaw().getCategoryOfLawCode())
+        .matterType(proceeding.getMatterType())
+        .proceedingCode(proceeding.getProceedingType())
+        .levelOfService(proceeding.getLevelOfService())
+        .emergency(isEmergency ? Boolean.TRUE : null)
+        .scopeLimitations(limitation.getScopeLimitation());
+  }
+
+  protected Mono<SoaProceedingMappingContext.SoaProceedingMappingContextBuilder>
+      addProceedingOutcomeContext(
+          final SoaProceedingMappingContext.SoaProceedingMappingContextBuilder contextBuilder,
+          final uk.gov.laa.ccms.soa.gateway.model.ProceedingDetail soaProceeding) {
 
     if (soaProceeding.getOutcome() == null) {
-      return; // Nothing to add
+      return Mono.just(contextBuilder); // Nothing to add
     }
 
     // Lookup extra data relating to the ProceedingDetail Outcome
-    final Tuple3<CommonLookupDetail, OutcomeResultLookupDetail, StageEndLookupDetail>
-        combinedOutcomeResults =
-            Optional.ofNullable(
-                    Mono.zip(
-                            lookupService.getCourts(soaProceeding.getOutcome().getCourtCode()),
-                            lookupService.getOutcomeResults(
-                                soaProceeding.getProceedingType(),
-                                soaProceeding.getOutcome().getResult()),
-                            lookupService.getStageEnds(
-                                soaProceeding.getProceedingType(),
-                                soaProceeding.getOutcome().getStageEnd()))
-                        .block())
-                .orElseThrow(() -> new CaabApplicationException("Failed to query lookup data"));
+    return Mono.zip(
+            lookupService.getCourts(soaProceeding.getOutcome().getCourtCode()),
+            lookupService.getOutcomeResults(
+                soaProceeding.getProceedingType(), soaProceeding.getOutcome().getResult()),
+            lookupService.getStageEnds(
+                soaProceeding.getProceedingType(), soaProceeding.getOutcome().getStageEnd()))
+        .switchIfEmpty(
+            Mono.error(() -> new CaabApplicationException("Failed to query lookup data")))
+        .map(
+            combinedOutcomeResults -> {
+              /*
+               * Only use the looked up Court data if we got a single match.
+               * Otherwise, default to the court code for display.
+               */
+              final CommonLookupValueDetail courtLookup =
+                  combinedOutcomeResults.getT1().getContent().size() == 1
+                      ? combinedOutcomeResults.getT1().getContent().getFirst()
+                      : new CommonLookupValueDetail()
+                          .code(soaProceeding.getOutcome().getCourtCode())
+                          .description(soaProceeding.getOutcome().getCourtCode());
+
+              // Use the outcome result display data, if we have it.
+              final OutcomeResultLookupValueDetail outcomeResultLookup =
+                  combinedOutcomeResults.getT2().getContent().isEmpty()
+                      ? null
+                      : combinedOutcomeResults.getT2().getContent().getFirst();
+
+              // Lookup the stage end display value.
+              final StageEndLookupValueDetail stageEndLookup =
+                  combinedOutcomeResults.getT3().getContent().isEmpty()
+                      ? null
+                      : combinedOutcomeResults.getT3().getContent().getFirst();
+
+              // Update the builder with outcome-related lookup data
+              return contextBuilder
+                  .courtLookup(courtLookup)
+                  .outcomeResultLookup(outcomeResultLookup)
+                  .stageEndLookup(stageEndLookup);
+            });
+  }
 
-    /*
-     * Only use the looked up Court data if we got a single match.
-     * Otherwise, default to the court code for display.
-     */
-    final CommonLookupValueDetail courtLookup =
-        combinedOutcomeResults.getT1().getContent().size() == 1
-            ? combinedOutcomeResults.getT1().getContent().getFirst()
-            : new CommonLookupValueDetail()
-                .code(soaProceeding.getOutcome().getCourtCode())
-                .description(soaProceeding.getOutcome().getCourtCode());
-
-    // Use the outcome result display data, if we have it.
-    final OutcomeResultLookupValueDetail outcomeResultLookup =
-        combinedOutcomeResults.getT2().getContent().isEmpty()
-            ? null
-            : combinedOutcomeResults.getT2().getContent().getFirst();
-
-    // Lookup the stage end display value.
-    final StageEndLookupValueDetail stageEndLookup =
-        combinedOutcomeResults.getT3().getContent().isEmpty()
-            ? null
-            : combinedOutcomeResults.getT3().getContent().getFirst();
-
-    // Update the builder with outcome-related lookup data
-    contextBuilder
-        .courtLookup(courtLookup)
-        .outcomeResultLookup(outcomeResultLookup)
-        .stageEndLookup(stageEndLookup);
+  protected Mono<SoaCaseOutcomeMappingContext> buildCaseOutcomeMappingContext(
+      final CaseDetail soaCase,
+      final Mono<List<SoaProceedingMappingContext>> proceedingMappingContextsMono) {
+    // Look up all Award Types, while the proceeding mapping contexts are still being built.
+    final Mono<List<AwardTypeLookupValueDetail>> awardTypesMono =
+        lookupService
+            .getAwardTypes()
+            .mapNotNull(AwardTypeLookupDetail::getContent)
+            .switchIfEmpty(
+                Mono.error(() -> new CaabApplicationException("Failed to retrieve AwardTypes")));
+
+    return Mono.zip(awardTypesMono, proceedingMappingContextsMono)
+        .map(
+            lookups ->
+                buildCaseOutcomeMappingContext(soaCase, lookups.getT1(), lookups.getT2()));
   }
 
-  protected SoaCaseOutcomeMappingContext buildCaseOutcomeMappingContext(
-      final CaseDetail soaCase, final List<SoaProceedingMappingContext> proceedingMappingContexts) {
-    // Look up all Award Types and map by their code
+  private SoaCaseOutcomeMappingContext buildCaseOutcomeMappingContext(
+      final CaseDetail soaCase,
+      final List<AwardTypeLookupValueDetail> awardTypeLookups,
+      final List<SoaProceedingMappingContext> proceedingMappingContexts) {
+    // Map all Award Types by their code
     Map<String, AwardTypeLookupValueDetail> awardTypes =
-        Optional.ofNullable(lookupService.getAwardTypes().block())
-            .map(AwardTypeLookupDetail::getContent)
-            .orElseThrow(() -> new CaabApplicationException("Failed to retrieve AwardTypes"))
-            .stream()
+        awardTypeLookups.stream()
             .collect(Collectors.toMap(AwardTypeLookupValueDetail::getCode, Function.identity()));
 
     // Split the soa Awards into separate lists based on their award type.
@@ -569,83 +639,89 @@ public class SoaApplicationMappingContextBuilder {
    * Build a mapping context to hold a SOA PriorAuthorityDetail and associated lookup data.
    *
    * @param soaPriorAuthority - the PriorAuthorityDetail to map.
+   * @param commonValues - the common values looked up for the case.
    * @return a PriorAuthorityMappingContext containing all data to support mapping to a CAAB
    *     PriorAuthorityDetail.
    */
-  protected SoaPriorAuthorityMappingContext buildPriorAuthorityMappingContext(
-      final PriorAuthority soaPriorAuthority) {
+  protected Mono<SoaPriorAuthorityMappingContext> buildPriorAuthorityMappingContext(
+      final PriorAuthority soaPriorAuthority, final CommonValueLookups commonValues) {
 
     // Find the correct PriorAuthorityType lookup
-    PriorAuthorityTypeDetail priorAuthorityType =
-        lookupService
-            .getPriorAuthorityType(soaPriorAuthority.getPriorAuthorityType())
-            .map(
-                priorAuthorityTypeDetail ->
-                    priorAuthorityTypeDetail.orElse(
-                        new PriorAuthorityTypeDetail()
-                            .code(soaPriorAuthority.getPriorAuthorityType())
-                            .description(soaPriorAuthority.getPriorAuthorityType())))
-            .blockOptional()
-            .orElseThrow(
+    return lookupService
+        .getPriorAuthorityType(soaPriorAuthority.getPriorAuthorityType())
+        .map(
+            priorAuthorityTypeDetail ->
+                priorAuthorityTypeDetail.orElse(
+                    new PriorAuthorityTypeDetail()
+                        .code(soaPriorAuthority.getPriorAuthorityType())
+                        .description(soaPriorAuthority.getPriorAuthorityType())))
+        .switchIfEmpty(
+            Mono.error(
                 () ->
                     new CaabApplicationException(
                         "Failed to find PriorAuthorityType with code: %s"
-                            .formatted(soaPriorAuthority.getPriorAuthorityType())));
-
-    // Build a Map of PriorAuthorityDetail keyed on code
-    Map<String, PriorAuthorityDetail> priorAuthDetailMap =
-        priorAuthorityType.getPriorAuthorities().stream()
-            .collect(Collectors.toMap(PriorAuthorityDetail::getCode, Function.identity()));
-
-    // Build a List of priorAuthorityDetails paired with the common lookup for display info.
-    List<Pair<PriorAuthorityDetail, CommonLookupValueDetail>> priorAuthorityDetails =
-        soaPriorAuthority.getDetails().stream()
-            .map(
-                priorAuthorityAttribute -> {
-                  PriorAuthorityDetail priorAuthorityDetail =
-                      priorAuthDetailMap.get(priorAuthorityAttribute.getName());
-                  return Pair.of(
-                      priorAuthorityDetail,
-                      getPriorAuthLookup(priorAuthorityDetail, priorAuthorityAttribute));
-                })
-            .toList();
-
-    return SoaPriorAuthorityMappingContext.builder()
-        .soaPriorAuthority(soaPriorAuthority)
-        .priorAuthorityTypeLookup(priorAuthorityType)
-        .items(priorAuthorityDetails)
-        .build();
+                            .formatted(soaPriorAuthority.getPriorAuthorityType()))))
+        .flatMap(
+            priorAuthorityType -> {
+              // Build a Map of PriorAuthorityDetail keyed on code
+              Map<String, PriorAuthorityDetail> priorAuthDetailMap =
+                  priorAuthorityType.getPriorAuthorities().stream()
+                      .collect(
+                          Collectors.toMap(PriorAuthorityDetail::getCode, Function.identity()));
+
+              // Build a List of priorAuthorityDetails paired with the common lookup for display
+              // info.
+              return Flux.fromIterable(soaPriorAuthority.getDetails())
+                  .flatMapSequential(
+                      priorAuthorityAttribute -> {
+                        PriorAuthorityDetail priorAuthorityDetail =
+                            priorAuthDetailMap.get(priorAuthorityAttribute.getName());
+                        return getPriorAuthLookup(
+                                priorAuthorityDetail, priorAuthorityAttribute, commonValues)
+                            .map(lookup -> Pair.of(priorAuthorityDetail, lookup));
+                      },
+                      properties.getMaxConcurrentLookups())
+                  .collectList()
+                  .map(
+                      priorAuthorityDetails ->
+                          SoaPriorAuthorityMappingContext.builder()
+                              .soaPriorAuthority(soaPriorAuthority)
+                              .priorAuthorityTypeLookup(priorAuthorityType)
+                              .items(priorAuthorityDetails)
+                              .build());
+            });
   }
 
-  private CommonLookupValueDetail getPriorAuthLookup(
+  private Mono<CommonLookupValueDetail> getPriorAuthLookup(
       final PriorAuthorityDetail priorAuthorityDetail,
-      final PriorAuthorityAttribute priorAuthorityAttribute) {
-    String description;
+      final PriorAuthorityAttribute priorAuthorityAttribute,
+      final CommonValueLookups commonValues) {
 
     // If this attribute is of type LOV, lookup the corresponding LOV record to get the
     // display value.
     if (priorAuthorityDetail != null
         && REFERENCE_DATA_ITEM_TYPE_LOV.equals(priorAuthorityDetail.getDataType())) {
-      description =
-          lookupService
-              .getCommonValue(priorAuthorityDetail.getLovCode(), priorAuthorityAttribute.getValue())
-              .map(
-                  commonLookupValueDetail ->
-                      commonLookupValueDetail
-                          .map(CommonLookupValueDetail::getDescription)
-                          .orElse(priorAuthorityAttribute.getValue()))
-              .blockOptional()
-              .orElseThrow(
+      return commonValues
+          .get(priorAuthorityDetail.getLovCode(), priorAuthorityAttribute.getValue())
+          .map(
+              commonLookupValueDetail ->
+                  new CommonLookupValueDetail()
+                      .code(priorAuthorityAttribute.getValue())
+                      .description(
+                          commonLookupValueDetail
+                              .map(CommonLookupValueDetail::getDescription)
+                              .orElse(priorAuthorityAttribute.getValue())))
+          .switchIfEmpty(
+              Mono.error(
                   () ->
                       new CaabApplicationException(
                           "Failed to find common value with code: %s"
-                              .formatted(priorAuthorityAttribute.getValue())));
-    } else {
-      description = priorAuthorityAttribute.getValue();
+                              .formatted(priorAuthorityAttribute.getValue()))));
     }
 
-    return new CommonLookupValueDetail()
-        .code(priorAuthorityAttribute.getValue())
-        .description(description);
+    return Mono.just(
+        new CommonLookupValueDetail()
+            .code(priorAuthorityAttribute.getValue())
+            .description(priorAuthorityAttribute.getValue()));
   }
 }
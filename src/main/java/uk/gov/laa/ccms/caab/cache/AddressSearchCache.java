@@ -0,0 +1,80 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Locale;
+import java.util.function.Function;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.caab.util.IndexedAddresses;
+
+/**
+ * Cache of Ordinance Survey address search results by postcode, so that searching the same
+ * postcode again - after a validation error, or from another address flow - does not go back to
+ * the Ordinance Survey API.
+ *
+ * <p>Postcodes are matched ignoring case and spaces. Concurrent searches of the same postcode share
+ * one fetch. A failed or empty fetch is not cached.
+ *
+ * @see AddressSearchCacheProperties
+ */
+@Component
+@EnableConfigurationProperties(AddressSearchCacheProperties.class)
+public class AddressSearchCache {
+
+  private static final String CACHE_NAME = "addressSearch";
+
+  private final AsyncCache<String, IndexedAddresses> cache;
+
+  /**
+   * Construct the address search cache.
+   *
+   * @param properties the size and expiry settings for the cache.
+   * @param meterRegistry the registry to publish the hit, miss and size metrics to.
+   */
+  public AddressSearchCache(
+      final AddressSearchCacheProperties properties, final MeterRegistry meterRegistry) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTimeToLive())
+            .recordStats()
+            .buildAsync();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+  }
+
+  /**
+   * Retrieve the addresses for a postcode, fetching them if they are not held.
+   *
+   * @param postcode the postcode searched for.
+   * @param fetch fetches the addresses for a postcode.
+   * @return a Mono containing the addresses, or empty if there are none.
+   */
+  public Mono<IndexedAddresses> get(
+      final String postcode, final Function<String, Mono<IndexedAddresses>> fetch) {
+    if (postcode == null) {
+      return fetch.apply(null);
+    }
+    // Cancellation is not passed on to the fetch, which other searches may be sharing.
+    return Mono.fromFuture(
+        () -> cache.get(normalise(postcode), (key, executor) -> fetch.apply(postcode).toFuture()),
+        true);
+  }
+
+  /**
+   * Retrieve the addresses for a postcode if they are held, without fetching them.
+   *
+   * @param postcode the postcode searched for.
+   * @return the addresses, or null if they are not held.
+   */
+  public IndexedAddresses getIfPresent(final String postcode) {
+    return postcode == null ? null : cache.synchronous().getIfPresent(normalise(postcode));
+  }
+
+  private static String normalise(final String postcode) {
+    return postcode.replaceAll("\\s", "").toUpperCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,37 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the cache of Ordinance Survey address search results, looked up by
+ * postcode whenever an address is searched for.
+ *
+ * <p>Addresses rarely change, so the time to live mainly bounds how long a postcode that is no
+ * longer searched for holds its place in the cache.
+ */
+@Getter
+@ConfigurationProperties(prefix = "laa.ccms.address-search-cache")
+public class AddressSearchCacheProperties {
+
+  /** The maximum number of postcodes whose addresses are held. */
+  private final long maximumSize;
+
+  /** How long the addresses for a postcode are held after they are looked up. */
+  private final Duration timeToLive;
+
+  /**
+   * Construct the address search cache properties.
+   *
+   * @param maximumSize the maximum number of postcodes whose addresses are held.
+   * @param timeToLive how long the addresses for a postcode are held after they are looked up.
+   */
+  public AddressSearchCacheProperties(
+      @DefaultValue("1000") final long maximumSize,
+      @DefaultValue("1h") final Duration timeToLive) {
+    this.maximumSize = maximumSize;
+    this.timeToLive = timeToLive;
+  }
+}
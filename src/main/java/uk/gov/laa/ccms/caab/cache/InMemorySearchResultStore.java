@@ -0,0 +1,130 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import uk.gov.laa.ccms.caab.util.PaginationUtil;
+
+/**
+ * Search result store holding search results in memory, on this node only.
+ *
+ * <p>Used in tests and locally, and wherever no shared store is registered. Each stored search
+ * keeps its results in their original order and, once a page has been requested in a particular
+ * order, a copy sorted in that order, so paging and re-sorting only ever cost a sub-list.
+ *
+ * <p>The store is bounded by the total number of results held, and a search is discarded once it
+ * has not been read for a while.
+ *
+ * @see SearchResultStoreProperties
+ */
+public class InMemorySearchResultStore implements SearchResultStore {
+
+  private static final String CACHE_NAME = "searchResults";
+
+  private final Cache<SearchKey, SearchResults> cache;
+
+  /**
+   * Construct the in-memory search result store.
+   *
+   * @param properties the size and expiry settings for the store.
+   * @param meterRegistry the registry to publish the hit, miss and size metrics to.
+   */
+  public InMemorySearchResultStore(
+      final SearchResultStoreProperties properties, final MeterRegistry meterRegistry) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(properties.getMaximumResults())
+            .weigher((SearchKey key, SearchResults value) -> value.results().size())
+            .expireAfterAccess(properties.getTimeToIdle())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    Gauge.builder("caab.search.results.held", this, InMemorySearchResultStore::getResultsHeld)
+        .description("The number of individual search results held across every stored search")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public <T> void put(
+      final String owner, final String search, final Object criteria, final List<T> results) {
+    cache.put(new SearchKey(owner, search, criteria), new SearchResults(List.copyOf(results)));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Optional<List<T>> get(final String owner, final String search, final Object criteria) {
+    return Optional.ofNullable(cache.getIfPresent(new SearchKey(owner, search, criteria)))
+        .map(searchResults -> (List<T>) searchResults.results());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Optional<Page<T>> getPage(
+      final String owner, final String search, final Object criteria, final Pageable pageable) {
+    return Optional.ofNullable(cache.getIfPresent(new SearchKey(owner, search, criteria)))
+        .map(
+            searchResults -> {
+              final List<T> results = (List<T>) searchResults.sortedBy(pageable.getSort());
+              final int start = (int) Math.min(pageable.getOffset(), results.size());
+              final int end = Math.min(start + pageable.getPageSize(), results.size());
+              return new PageImpl<>(results.subList(start, end), pageable, results.size());
+            });
+  }
+
+  @Override
+  public void invalidate(final String owner, final String search) {
+    cache
+        .asMap()
+        .keySet()
+        .removeIf(key -> key.owner().equals(owner) && key.search().equals(search));
+  }
+
+  private long getResultsHeld() {
+    // Apply any pending writes so that the size reflects every stored search.
+    cache.cleanUp();
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
+  /**
+   * Identifies a stored search. The criteria are held as their string form, taken when the search
+   * is stored or read, so that later changes to the criteria object cannot alter a stored key.
+   */
+  private record SearchKey(String owner, String search, String criteria) {
+
+    SearchKey(final String owner, final String search, final Object criteria) {
+      this(owner, search, String.valueOf(criteria));
+    }
+  }
+
+  /** The results of a stored search, with a sorted copy for each order they have been read in. */
+  private record SearchResults(List<?> results, Map<Sort, List<?>> sorted) {
+
+    SearchResults(final List<?> results) {
+      this(results, new ConcurrentHashMap<>());
+    }
+
+    List<?> sortedBy(final Sort sort) {
+      if (sort.isUnsorted()) {
+        return results;
+      }
+      return sorted.computeIfAbsent(
+          sort,
+          order -> {
+            final List<?> sortedResults = new ArrayList<>(results);
+            PaginationUtil.sortList(order, sortedResults);
+            return List.copyOf(sortedResults);
+          });
+    }
+  }
+}
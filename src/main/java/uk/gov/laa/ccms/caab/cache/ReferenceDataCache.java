@@ -0,0 +1,163 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache for the static reference data served by the EBS lookup endpoints (common values,
+ * countries, categories of law, relationships and so on).
+ *
+ * <p>Each entry holds the result of one lookup for one set of query parameters. Entries are
+ * bounded by count, expire after a fixed time, and are refreshed in the background once they reach
+ * the refresh age so that a frequently used lookup never makes a request wait on the EBS API after
+ * it has first been loaded. Concurrent requests for an entry that is still loading share the same
+ * upstream call. Failed and empty lookups are never cached.
+ *
+ * @see ReferenceDataCacheProperties
+ * @see ReferenceDataCacheEndpoint
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ReferenceDataCacheProperties.class)
+public class ReferenceDataCache {
+
+  private static final String CACHE_NAME = "referenceData";
+
+  private final boolean enabled;
+
+  private final AsyncLoadingCache<ReferenceDataKey, Object> cache;
+
+  /**
+   * Construct the reference data cache.
+   *
+   * @param properties the size, expiry and refresh settings for the cache.
+   * @param meterRegistry the registry to publish the cache hit, miss and eviction metrics to.
+   */
+  public ReferenceDataCache(
+      final ReferenceDataCacheProperties properties, final MeterRegistry meterRegistry) {
+    this.enabled = properties.isEnabled();
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTimeToLive())
+            .refreshAfterWrite(properties.getRefreshAfter())
+            .recordStats()
+            .buildAsync((key, executor) -> key.loader().get().toFuture());
+    CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    log.info("Reference data cache: {}", enabled ? "enabled" : "disabled");
+  }
+
+  /**
+   * Retrieve a lookup result, calling the supplied loader only if the result for this lookup and
+   * parameter set is not already cached.
+   *
+   * <p>The returned Mono is lazy: nothing is read from or written to the cache until it is
+   * subscribed to. Cancelling the subscription does not cancel a load that other subscribers may be
+   * waiting on.
+   *
+   * @param lookup the name of the lookup, used to group entries for invalidation.
+   * @param loader supplies the Mono that fetches the lookup result from the upstream API.
+   * @param params the query parameters that identify this lookup result. May contain nulls.
+   * @param <T> the type of the lookup result.
+   * @return a Mono emitting the cached or freshly loaded lookup result.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Mono<T> get(
+      final String lookup, final Supplier<Mono<T>> loader, final Object... params) {
+    if (!enabled) {
+      return loader.get();
+    }
+
+    final ReferenceDataKey key =
+        new ReferenceDataKey(
+            lookup, Arrays.asList(params), (Supplier<Mono<?>>) (Supplier<?>) loader);
+    return Mono.fromFuture(() -> (CompletableFuture<T>) cache.get(key), true);
+  }
+
+  /** Remove every entry from the cache. */
+  public void invalidateAll() {
+    log.info("Invalidating all reference data");
+    cache.synchronous().invalidateAll();
+  }
+
+  /**
+   * Remove every entry for the named lookup from the cache, whatever its parameters.
+   *
+   * @param lookup the name of the lookup to invalidate.
+   * @return the number of entries removed.
+   */
+  public int invalidate(final String lookup) {
+    final List<ReferenceDataKey> keys =
+        cache.synchronous().asMap().keySet().stream()
+            .filter(key -> key.lookup().equals(lookup))
+            .toList();
+    cache.synchronous().invalidateAll(keys);
+    log.info("Invalidated {} reference data entries for lookup '{}'", keys.size(), lookup);
+    return keys.size();
+  }
+
+  /**
+   * Summarise the current state of the cache.
+   *
+   * @return the cache size, per-lookup entry counts and hit/miss statistics.
+   */
+  public Map<String, Object> getSummary() {
+    final CacheStats stats = cache.synchronous().stats();
+    final Map<String, Long> entries = new LinkedHashMap<>();
+    cache.synchronous().asMap().keySet().forEach(key -> entries.merge(key.lookup(), 1L, Long::sum));
+
+    final Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("enabled", enabled);
+    summary.put("size", cache.synchronous().estimatedSize());
+    summary.put("entries", entries);
+    summary.put("hitCount", stats.hitCount());
+    summary.put("missCount", stats.missCount());
+    summary.put("hitRate", stats.hitRate());
+    summary.put("loadFailureCount", stats.loadFailureCount());
+    summary.put("evictionCount", stats.evictionCount());
+    return summary;
+  }
+
+  /**
+   * Identifies a cached lookup result by lookup name and parameters. The loader is carried with the
+   * key so that the cache can refresh the entry in the background, but it plays no part in
+   * equality: two requests for the same lookup and parameters always share an entry.
+   */
+  private record ReferenceDataKey(String lookup, List<Object> params, Supplier<Mono<?>> loader) {
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ReferenceDataKey other)) {
+        return false;
+      }
+      return lookup.equals(other.lookup) && params.equals(other.params);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(lookup, params);
+    }
+
+    @Override
+    public String toString() {
+      return lookup + params;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint for inspecting and invalidating the {@link ReferenceDataCache}, for use when
+ * reference data has been changed in EBS and must be picked up before the cached entries expire.
+ *
+ * <p>The endpoint is exposed over JMX only (when {@code spring.jmx.enabled} is set), not over
+ * HTTP: the web actuator paths are open to every signed-in provider user, who must not be able to
+ * clear the cache.
+ *
+ * <ul>
+ *   <li>{@code summary} - summarise the cache contents and hit rate.
+ *   <li>{@code invalidateAll} - invalidate every cached lookup.
+ *   <li>{@code invalidate(lookup)} - invalidate a single lookup, e.g. {@code commonValues}.
+ * </ul>
+ */
+@Component
+@Endpoint(id = "referencedata")
+@RequiredArgsConstructor
+public class ReferenceDataCacheEndpoint {
+
+  private final ReferenceDataCache referenceDataCache;
+
+  /**
+   * Summarise the reference data cache.
+   *
+   * @return the cache size, per-lookup entry counts and hit/miss statistics.
+   */
+  @ReadOperation
+  public Map<String, Object> summary() {
+    return referenceDataCache.getSummary();
+  }
+
+  /** Invalidate every cached lookup. */
+  @DeleteOperation
+  public void invalidateAll() {
+    referenceDataCache.invalidateAll();
+  }
+
+  /**
+   * Invalidate every cached result for a single lookup.
+   *
+   * @param lookup the name of the lookup to invalidate.
+   * @return the number of entries removed.
+   */
+  @DeleteOperation
+  public Map<String, Object> invalidate(@Selector final String lookup) {
+    return Map.of("lookup", lookup, "invalidated", referenceDataCache.invalidate(lookup));
+  }
+}
@@ -0,0 +1,50 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the reference data cache that sits in front of the EBS lookup
+ * endpoints.
+ *
+ * <p>Entries are refreshed in the background once they are older than {@code refreshAfter}, and
+ * dropped entirely once they are older than {@code timeToLive}, so a lookup that stops being used
+ * eventually leaves the cache rather than being refreshed forever.
+ */
+@Getter
+@ConfigurationProperties(prefix = "laa.ccms.reference-data-cache")
+public class ReferenceDataCacheProperties {
+
+  /** Whether lookups are cached at all. When disabled every lookup goes to the EBS API. */
+  private final boolean enabled;
+
+  /** The maximum number of lookup results (one per lookup and parameter set) held at once. */
+  private final long maximumSize;
+
+  /** How long a lookup result may be served for before it must be fetched again. */
+  private final Duration timeToLive;
+
+  /** How old a lookup result may be before the next read triggers a background refresh. */
+  private final Duration refreshAfter;
+
+  /**
+   * Construct the reference data cache properties.
+   *
+   * @param enabled whether lookups are cached.
+   * @param maximumSize the maximum number of cached lookup results.
+   * @param timeToLive how long a cached lookup result may be served for.
+   * @param refreshAfter how old a cached lookup result may be before it is refreshed.
+   */
+  public ReferenceDataCacheProperties(
+      @DefaultValue("true") final boolean enabled,
+      @DefaultValue("2000") final long maximumSize,
+      @DefaultValue("12h") final Duration timeToLive,
+      @DefaultValue("1h") final Duration refreshAfter) {
+    this.enabled = enabled;
+    this.maximumSize = maximumSize;
+    this.timeToLive = timeToLive;
+    this.refreshAfter = refreshAfter;
+  }
+}
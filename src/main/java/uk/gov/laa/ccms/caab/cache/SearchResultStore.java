@@ -0,0 +1,66 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Server-side store for search results, so that paging through the results of a search neither
+ * repeats the search nor keeps the full result list in the user's HTTP session.
+ *
+ * <p>Results are stored per user, per search (e.g. case search, counsel search) and per set of
+ * search criteria. The criteria are captured as they were when the search was run, so a later
+ * change to the criteria is a different search. A search that has been discarded must be run
+ * again.
+ *
+ * <p>For the results of a search to be found whichever node serves the next page, the store must
+ * be shared between nodes. An implementation registered as a bean replaces the {@link
+ * InMemorySearchResultStore}, which holds results on one node only.
+ */
+public interface SearchResultStore {
+
+  /**
+   * Store the results of a search, replacing any results already stored for the same search.
+   *
+   * @param owner the login id of the user who ran the search.
+   * @param search the name of the search, e.g. {@code caseSearchResults}.
+   * @param criteria the criteria the search was run with.
+   * @param results the search results, in the order they should be displayed by default.
+   * @param <T> the type of the search results.
+   */
+  <T> void put(String owner, String search, Object criteria, List<T> results);
+
+  /**
+   * Retrieve the full results of a search.
+   *
+   * @param owner the login id of the user who ran the search.
+   * @param search the name of the search.
+   * @param criteria the criteria the search was run with.
+   * @param <T> the type of the search results.
+   * @return the search results in their original order, or empty if the search has not been run
+   *     or has been discarded.
+   */
+  <T> Optional<List<T>> get(String owner, String search, Object criteria);
+
+  /**
+   * Retrieve a single page of the results of a search.
+   *
+   * @param owner the login id of the user who ran the search.
+   * @param search the name of the search.
+   * @param criteria the criteria the search was run with.
+   * @param pageable the page to retrieve, and the order to sort the results in, if any.
+   * @param <T> the type of the search results.
+   * @return the page of search results, or empty if the search has not been run or has been
+   *     discarded.
+   */
+  <T> Optional<Page<T>> getPage(String owner, String search, Object criteria, Pageable pageable);
+
+  /**
+   * Discard every stored search of the given name for a user.
+   *
+   * @param owner the login id of the user who ran the search.
+   * @param search the name of the search.
+   */
+  void invalidate(String owner, String search);
+}
@@ -0,0 +1,37 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the store that holds each user's search results between the search
+ * being run and the results being paged through.
+ *
+ * <p>The store is bounded by the total number of results held across all searches, so a few very
+ * large result sets cannot crowd out many small ones unnoticed.
+ */
+@Getter
+@ConfigurationProperties(prefix = "laa.ccms.search-result-store")
+public class SearchResultStoreProperties {
+
+  /** The maximum number of individual results held across every stored search. */
+  private final long maximumResults;
+
+  /** How long a search may go unread before its results are discarded. */
+  private final Duration timeToIdle;
+
+  /**
+   * Construct the search result store properties.
+   *
+   * @param maximumResults the maximum number of results held across every stored search.
+   * @param timeToIdle how long a search may go unread before it is discarded.
+   */
+  public SearchResultStoreProperties(
+      @DefaultValue("100000") final long maximumResults,
+      @DefaultValue("60m") final Duration timeToIdle) {
+    this.maximumResults = maximumResults;
+    this.timeToIdle = timeToIdle;
+  }
+}
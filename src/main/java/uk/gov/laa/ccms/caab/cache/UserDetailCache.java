@@ -0,0 +1,94 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.data.model.UserDetail;
+
+/**
+ * Short-lived cache of user details by login id, so that the user looked up for every page is not
+ * fetched from the EBS API on every page.
+ *
+ * <p>Concurrent lookups of the same user share one fetch. A failed or empty fetch is not cached.
+ * Anything that changes a user through this service must {@link #invalidate(String)} them.
+ *
+ * <p>The cache is held by each node, so a user changed outside this service - their provider
+ * switched in another tab, say - may be served stale by any node until it expires. A page that must
+ * show the user as they are now should {@link #refresh(String, Function)} them instead.
+ *
+ * @see UserDetailCacheProperties
+ */
+@Component
+@EnableConfigurationProperties(UserDetailCacheProperties.class)
+public class UserDetailCache {
+
+  private static final String CACHE_NAME = "userDetails";
+
+  private final AsyncCache<String, UserDetail> cache;
+
+  /**
+   * Construct the user detail cache.
+   *
+   * @param properties the size and expiry settings for the cache.
+   * @param meterRegistry the registry to publish the hit, miss and size metrics to.
+   */
+  public UserDetailCache(
+      final UserDetailCacheProperties properties, final MeterRegistry meterRegistry) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTimeToLive())
+            .recordStats()
+            .buildAsync();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+  }
+
+  /**
+   * Retrieve a user's details, fetching them if they are not held.
+   *
+   * @param loginId the login id of the user.
+   * @param fetch fetches the user's details for a login id.
+   * @return a Mono containing the user's details, or empty if there is no such user.
+   */
+  public Mono<UserDetail> get(
+      final String loginId, final Function<String, Mono<UserDetail>> fetch) {
+    // Cancellation is not passed on to the fetch, which other lookups of the user may be sharing.
+    return Mono.fromFuture(
+        () -> cache.get(loginId, (key, executor) -> fetch.apply(key).toFuture()), true);
+  }
+
+  /**
+   * Fetch a user's details afresh, whether or not they are held, and hold the result in place of
+   * anything held - including any fetch still in flight, which might return details from before a
+   * change. Lookups made while the fresh fetch is in flight share it.
+   *
+   * @param loginId the login id of the user.
+   * @param fetch fetches the user's details for a login id.
+   * @return a Mono containing the user's details, or empty if there is no such user.
+   */
+  public Mono<UserDetail> refresh(
+      final String loginId, final Function<String, Mono<UserDetail>> fetch) {
+    return Mono.fromFuture(
+        () -> {
+          final CompletableFuture<UserDetail> future = fetch.apply(loginId).toFuture();
+          cache.put(loginId, future);
+          return future;
+        },
+        true);
+  }
+
+  /**
+   * Discard a user's details, so that they are fetched afresh on next use.
+   *
+   * @param loginId the login id of the user.
+   */
+  public void invalidate(final String loginId) {
+    cache.synchronous().invalidate(loginId);
+  }
+}
@@ -0,0 +1,37 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the cache of user details, looked up by login id on every page.
+ *
+ * <p>A user's provider can be changed outside this service (via legacy PUI or EBS), so the time to
+ * live bounds how long such a change can take to show. Changes made through this service evict the
+ * user straight away.
+ */
+@Getter
+@ConfigurationProperties(prefix = "laa.ccms.user-detail-cache")
+public class UserDetailCacheProperties {
+
+  /** The maximum number of users held. */
+  private final long maximumSize;
+
+  /** How long a user's details are held after they are looked up. */
+  private final Duration timeToLive;
+
+  /**
+   * Construct the user detail cache properties.
+   *
+   * @param maximumSize the maximum number of users held.
+   * @param timeToLive how long a user's details are held after they are looked up.
+   */
+  public UserDetailCacheProperties(
+      @DefaultValue("5000") final long maximumSize,
+      @DefaultValue("30s") final Duration timeToLive) {
+    this.maximumSize = maximumSize;
+    this.timeToLive = timeToLive;
+  }
+}
@@ -8,7 +8,13 @@ import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
-/** Provides error-handling capabilities for the API client interactions. */
+/**
+ * Provides error-handling capabilities for the API client interactions.
+ *
+ * <p>A call rejected by the API's circuit breaker or bulkhead before it was made is raised as the
+ * client's own exception, with a {@code 503 Service Unavailable} status, so that it is handled
+ * wherever a failed call to that API is.
+ */
 @Slf4j
 public abstract class AbstractApiClientErrorHandler {
 
@@ -40,8 +46,7 @@ public abstract class AbstractApiClientErrorHandler {
    */
   public <T> Mono<T> handleApiCreateError(final Throwable e, final String resourceType) {
     final String message = "Failed to create %s".formatted(resourceType);
-    log.error("{}{}", message, responseBody(e), e);
-    return Mono.error(createException(message, e));
+    return Mono.error(exception(message, e));
   }
 
   /**
@@ -61,8 +66,7 @@ public abstract class AbstractApiClientErrorHandler {
       final String resourceId) {
     final String message =
         "Failed to delete %s with %s: %s".formatted(resourceType, resourceIdType, resourceId);
-    log.error("{}{}", message, responseBody(e), e);
-    return Mono.error(createException(message, e));
+    return Mono.error(exception(message, e));
   }
 
   /**
@@ -102,8 +106,7 @@ public abstract class AbstractApiClientErrorHandler {
       final String resourceId) {
     final String message =
         "Failed to update %s with %s: %s".formatted(resourceType, resourceIdType, resourceId);
-    log.error("{}{}", message, responseBody(e), e);
-    return Mono.error(createException(message, e));
+    return Mono.error(exception(message, e));
   }
 
   /**
@@ -143,13 +146,12 @@ public abstract class AbstractApiClientErrorHandler {
       final String resourceType,
       final String resourceIdType,
       final String resourceId) {
-    if (e instanceof ApiClientException) {
+    if (e instanceof ApiClientException && !(e instanceof ApiCallRejectedException)) {
       return Mono.error(e);
     }
     final String message =
         "Failed to retrieve %s with %s: %s".formatted(resourceType, resourceIdType, resourceId);
-    log.error("{}{}", message, responseBody(e), e);
-    return Mono.error(createException(message, e));
+    return Mono.error(exception(message, e));
   }
 
   /**
@@ -166,7 +168,7 @@ public abstract class AbstractApiClientErrorHandler {
       final String resourceType,
       final MultiValueMap<String, String> queryParams) {
 
-    if (e instanceof ApiClientException) {
+    if (e instanceof ApiClientException && !(e instanceof ApiCallRejectedException)) {
       return Mono.error(e);
     }
 
@@ -190,10 +192,25 @@ public abstract class AbstractApiClientErrorHandler {
       messageBuilder.append(" with parameters: ").append(paramsString);
     }
 
-    final String message = messageBuilder.toString();
-    log.error("{}{}", message, responseBody(e), e);
+    return Mono.error(exception(messageBuilder.toString(), e));
+  }
 
-    return Mono.error(createException(message, e));
+  /**
+   * Log a failed API operation, and create the exception to raise for it.
+   *
+   * @param message the detail message for the exception.
+   * @param e the exception thrown during the API operation.
+   * @return the exception to raise, with a 503 status if the call was rejected before it was made.
+   */
+  private RuntimeException exception(final String message, final Throwable e) {
+    if (e instanceof ApiCallRejectedException) {
+      log.warn("{} - {}", message, e.getMessage());
+      final RuntimeException exception = createException(message, HttpStatus.SERVICE_UNAVAILABLE);
+      exception.initCause(e);
+      return exception;
+    }
+    log.error("{}{}", message, responseBody(e), e);
+    return createException(message, e);
   }
 
   /**
@@ -0,0 +1,110 @@
+package uk.gov.laa.ccms.caab.client;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Limits the number of calls in flight to one API.
+ *
+ * <p>A call made while {@code maxConcurrentCalls} are already in flight waits, without holding a
+ * thread, for up to {@code maxWait} for one of them to finish. Waiting calls are let through in the
+ * order they were made. A call still waiting once {@code maxWait} has passed is rejected.
+ */
+class ApiBulkhead {
+
+  private final int maxConcurrentCalls;
+
+  private final Duration maxWait;
+
+  private final Queue<Waiter> waiting = new ArrayDeque<>();
+
+  private int inFlight;
+
+  /**
+   * Construct a bulkhead.
+   *
+   * @param maxConcurrentCalls the maximum number of calls in flight at once.
+   * @param maxWait how long a call may wait for another to finish before it is rejected.
+   */
+  ApiBulkhead(final int maxConcurrentCalls, final Duration maxWait) {
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.maxWait = maxWait;
+  }
+
+  /**
+   * Ask to make a call, waiting if too many are already in flight. A call that is let through must
+   * be followed by exactly one call to {@link #release()} once it has finished.
+   *
+   * @return a Mono emitting true once the call may be made, or false if it should be rejected.
+   */
+  Mono<Boolean> acquire() {
+    final Mono<Boolean> permit =
+        Mono.create(
+            sink -> {
+              synchronized (this) {
+                if (inFlight < maxConcurrentCalls) {
+                  inFlight++;
+                } else if (maxWait.isPositive()) {
+                  final Waiter waiter = new Waiter(sink);
+                  waiting.add(waiter);
+                  sink.onCancel(() -> abandon(waiter));
+                  return;
+                } else {
+                  sink.success(false);
+                  return;
+                }
+              }
+              sink.success(true);
+            });
+    return maxWait.isPositive() ? permit.timeout(maxWait, Mono.just(false)) : permit;
+  }
+
+  /** Record that a call let through has finished, letting the longest waiting call through. */
+  void release() {
+    final Waiter next;
+    synchronized (this) {
+      next = waiting.poll();
+      if (next == null) {
+        inFlight--;
+        return;
+      }
+      // The finished call's permit is handed straight to the waiting call.
+      next.granted = true;
+    }
+    next.sink.success(true);
+  }
+
+  /**
+   * The number of further calls that may be made before calls have to wait.
+   *
+   * @return the number of calls.
+   */
+  synchronized int availablePermits() {
+    return maxConcurrentCalls - inFlight;
+  }
+
+  private void abandon(final Waiter waiter) {
+    final boolean granted;
+    synchronized (this) {
+      granted = !waiting.remove(waiter) && waiter.granted;
+    }
+    if (granted) {
+      // The wait ran out just as the call was let through, so pass its permit on.
+      release();
+    }
+  }
+
+  private static final class Waiter {
+
+    private final MonoSink<Boolean> sink;
+
+    private boolean granted;
+
+    private Waiter(final MonoSink<Boolean> sink) {
+      this.sink = sink;
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package uk.gov.laa.ccms.caab.client;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception raised in place of calling an API, when the call is rejected because the API's circuit
+ * breaker is open or too many calls to it are already in flight.
+ */
+public class ApiCallRejectedException extends ApiClientException {
+
+  /**
+   * Constructs a new exception with the specified detail message.
+   *
+   * @param message the detail message
+   */
+  public ApiCallRejectedException(String message) {
+    super(message, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+}
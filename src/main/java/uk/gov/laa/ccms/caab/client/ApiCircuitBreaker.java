@@ -0,0 +1,102 @@
+package uk.gov.laa.ccms.caab.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Tracks the health of one API and decides whether calls to it should be attempted.
+ *
+ * <p>The breaker starts {@link State#CLOSED}, letting every call through. Once {@code
+ * failureThreshold} calls in a row have failed it becomes {@link State#OPEN} and rejects every
+ * call until {@code openDuration} has passed. It then lets a single trial call through while
+ * {@link State#HALF_OPEN}: if that call succeeds the breaker closes again, and if it fails the
+ * breaker reopens.
+ */
+class ApiCircuitBreaker {
+
+  /** The states of the circuit breaker. */
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+
+  private final Duration openDuration;
+
+  private final Clock clock;
+
+  private State state = State.CLOSED;
+
+  private int consecutiveFailures;
+
+  private Instant openedAt;
+
+  private boolean trialCallInFlight;
+
+  /**
+   * Construct a circuit breaker.
+   *
+   * @param failureThreshold how many failed calls in a row open the breaker.
+   * @param openDuration how long the breaker stays open before a trial call is let through.
+   * @param clock the clock used to time how long the breaker has been open.
+   */
+  ApiCircuitBreaker(final int failureThreshold, final Duration openDuration, final Clock clock) {
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+    this.clock = clock;
+  }
+
+  /**
+   * Ask whether a call may be attempted. A call that is allowed must be followed by a call to
+   * {@link #onSuccess()}, {@link #onFailure()} or {@link #onIgnored()} once its outcome is known.
+   *
+   * @return true if the call may be attempted, false if it should be rejected.
+   */
+  synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+      state = State.HALF_OPEN;
+    }
+    if (state == State.HALF_OPEN) {
+      if (trialCallInFlight) {
+        return false;
+      }
+      trialCallInFlight = true;
+      return true;
+    }
+    return state == State.CLOSED;
+  }
+
+  /** Record that a call succeeded, closing the breaker. */
+  synchronized void onSuccess() {
+    consecutiveFailures = 0;
+    trialCallInFlight = false;
+    state = State.CLOSED;
+  }
+
+  /** Record that a call failed, opening the breaker if too many calls in a row have failed. */
+  synchronized void onFailure() {
+    trialCallInFlight = false;
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+      state = State.OPEN;
+      openedAt = clock.instant();
+    }
+  }
+
+  /** Record that a call ended without telling us anything about the API, e.g. it was cancelled. */
+  synchronized void onIgnored() {
+    trialCallInFlight = false;
+  }
+
+  /**
+   * The current state of the breaker.
+   *
+   * @return the state.
+   */
+  synchronized State getState() {
+    return state;
+  }
+}
@@ -1,19 +1,27 @@
 package uk.gov.laa.ccms.caab.client;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import uk.gov.laa.ccms.caab.bean.CaseSearchCriteria;
 import uk.gov.laa.ccms.caab.model.AddressDetail;
 import uk.gov.laa.ccms.caab.model.ApplicationDetail;
@@ -37,6 +45,7 @@ import uk.gov.laa.ccms.caab.model.PaymentOnAccountDetails;
 import uk.gov.laa.ccms.caab.model.PriorAuthorityDetail;
 import uk.gov.laa.ccms.caab.model.ProceedingDetail;
 import uk.gov.laa.ccms.caab.model.ScopeLimitationDetail;
+import uk.gov.laa.ccms.caab.util.Base64JsonFieldWriter;
 
 /** Client responsible for interactions with the CAAB API. */
 @Service
@@ -63,6 +72,9 @@ public class CaabApiClient {
   public static final String RESOURCE_TYPE_BILL = "bill";
   public static final String RESOURCE_TYPE_PAYMENTS_ON_ACCOUNT = "payments on account";
 
+  /** The field of an evidence document holding its Base64 encoded content. */
+  private static final String FILE_DATA = "fileData";
+
   /**
    * Creates an application using the CAAB API.
    *
@@ -856,6 +868,44 @@ public class CaabApiClient {
             e -> caabApiClientErrorHandler.handleApiCreateError(e, RESOURCE_TYPE_EVIDENCE));
   }
 
+  /**
+   * Asynchronously creates an evidence document, encoding its content into the request body as it
+   * is sent rather than holding an encoded copy of it in memory. The content is read on a
+   * bounded elastic thread while the request is written, and the rest of the document is
+   * serialised by the WebClient's own JSON encoder.
+   *
+   * @param data The evidence document information. Any file data it holds is not sent.
+   * @param content The content of the evidence document.
+   * @param loginId The login ID of the user performing the operation.
+   * @return A Mono wrapping the id of the newly created evidence document.
+   */
+  public Mono<String> createEvidenceDocument(
+      final EvidenceDocumentDetail data, final InputStreamSource content, final String loginId) {
+    return caabApiWebClient
+        .post()
+        .uri("/evidence")
+        .header("Caab-User-Login-Id", loginId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(
+            (request, context) -> {
+              final Base64JsonFieldWriter writer =
+                  new Base64JsonFieldWriter(context.messageWriters());
+              return BodyInserters.fromOutputStream(
+                      outputStream -> {
+                        try (InputStream inputStream = content.getInputStream()) {
+                          writer.write(data, FILE_DATA, inputStream, outputStream);
+                        } catch (IOException e) {
+                          throw new UncheckedIOException(e);
+                        }
+                      },
+                      Schedulers.boundedElastic()::schedule)
+                  .insert(request, context);
+            })
+        .exchangeToMono(CaabApiClient::getIdResponse)
+        .onErrorResume(
+            e -> caabApiClientErrorHandler.handleApiCreateError(e, RESOURCE_TYPE_EVIDENCE));
+  }
+
   /**
    * Updates an existing evidence document with the provided data.
    *
@@ -950,6 +1000,30 @@ public class CaabApiClient {
                     String.valueOf(evidenceDocumentId)));
   }
 
+  /**
+   * Fetches a single evidence document by id as the raw JSON response body, so that it can be read
+   * as it arrives rather than being bound in memory. The call is never shared with other reads of
+   * the same document made while handling the current request.
+   *
+   * @param evidenceDocumentId The id of the evidence document to be retrieved.
+   * @return A {@code Flux<DataBuffer>} of the JSON evidence document, including its content.
+   */
+  public Flux<DataBuffer> getEvidenceDocumentBody(final Integer evidenceDocumentId) {
+    return caabApiWebClient
+        .get()
+        .uri("/evidence/{evidence-document-id}", evidenceDocumentId)
+        .attribute(DeduplicatingExchangeFilterFunction.STREAMED, true)
+        .retrieve()
+        .bodyToFlux(DataBuffer.class)
+        .onErrorResume(
+            e ->
+                caabApiClientErrorHandler.handleApiRetrieveError(
+                    e,
+                    RESOURCE_TYPE_EVIDENCE,
+                    "evidence document id",
+                    String.valueOf(evidenceDocumentId)));
+  }
+
   /**
    * Deletes a specific evidence document.
    *
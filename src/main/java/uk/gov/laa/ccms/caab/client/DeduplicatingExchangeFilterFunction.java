@@ -0,0 +1,85 @@
+package uk.gov.laa.ccms.caab.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.caab.client.RequestScopedResponseCache.CachedResponse;
+
+/**
+ * WebClient filter which collapses identical GET requests made while handling a single HTTP
+ * request into one upstream call.
+ *
+ * <p>GET responses are keyed on method and full URI (including query parameters) and held in the
+ * {@link RequestScopedResponseCache} for the current request, so a resource that is read more than
+ * once - in parallel or one after another - is only fetched once. Only 2xx responses are held for
+ * later reads; any other response is only shared with the reads already waiting on it.
+ *
+ * <p>Any method other than GET is passed straight through and discards every held response, so a
+ * read made after a write always sees the written state. Outside of an HTTP request every call is
+ * passed straight through, as is any request carrying the {@link #STREAMED} attribute, whose body
+ * is meant to be read as it arrives rather than held in memory.
+ *
+ * <p>The cache is looked up in the Reactor Context of the call, so that it is found whichever
+ * thread the call is subscribed to on.
+ */
+@RequiredArgsConstructor
+public class DeduplicatingExchangeFilterFunction implements ExchangeFilterFunction {
+
+  /** Request attribute marking a call whose response body is streamed, and so never shared. */
+  public static final String STREAMED =
+      DeduplicatingExchangeFilterFunction.class.getName() + ".STREAMED";
+
+  private final ExchangeStrategies exchangeStrategies;
+
+  @Override
+  public Mono<ClientResponse> filter(final ClientRequest request, final ExchangeFunction next) {
+    return Mono.deferContextual(
+        context -> {
+          final RequestScopedResponseCache responseCache =
+              RequestScopedResponseCache.current(context);
+          if (responseCache == null || request.attribute(STREAMED).isPresent()) {
+            return next.exchange(request);
+          }
+          return deduplicate(request, next, responseCache);
+        });
+  }
+
+  private Mono<ClientResponse> deduplicate(
+      final ClientRequest request,
+      final ExchangeFunction next,
+      final RequestScopedResponseCache responseCache) {
+    if (!HttpMethod.GET.equals(request.method())) {
+      responseCache.invalidate();
+      return next.exchange(request).doFinally(signal -> responseCache.invalidate());
+    }
+
+    final String key = "%s %s".formatted(request.method().name(), request.url());
+    return responseCache
+        .get(key, () -> next.exchange(request).flatMap(this::buffer))
+        .map(this::replay);
+  }
+
+  private Mono<CachedResponse> buffer(final ClientResponse response) {
+    return response
+        .bodyToMono(byte[].class)
+        .defaultIfEmpty(new byte[0])
+        .map(
+            body ->
+                new CachedResponse(
+                    response.statusCode(), response.headers().asHttpHeaders(), body));
+  }
+
+  private ClientResponse replay(final CachedResponse cachedResponse) {
+    return ClientResponse.create(cachedResponse.statusCode(), exchangeStrategies)
+        .headers(headers -> headers.addAll(cachedResponse.headers()))
+        .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(cachedResponse.body())))
+        .build();
+  }
+}
@@ -0,0 +1,142 @@
+package uk.gov.laa.ccms.caab.client;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebClient filter which times every upstream API call, so that a slow page can be traced to the
+ * API and endpoint that makes it slow.
+ *
+ * <p>Each call is recorded to the {@code caab.api.requests} timer, with a percentile histogram,
+ * tagged with the API name, the method, the URI template and the response status. A call which
+ * gets no response is tagged {@code IO_ERROR} if it could not be made, {@code CLIENT_ERROR} if it
+ * failed some other way, or {@code CANCELLED} if the caller stopped waiting. The time is to the
+ * response's status and headers; reading the body is left to the caller.
+ *
+ * <p>A call made while handling an HTTP request is also counted against the request's {@link
+ * UpstreamCallTracker}, and is recorded within the request's observation, so that the trace of the
+ * request is attached to the timer as an exemplar. Both are looked up in the Reactor Context of the
+ * call, so that they are found whichever thread the call is subscribed to on.
+ */
+public class MeteredExchangeFilterFunction implements ExchangeFilterFunction {
+
+  /** The timer every upstream call is recorded to. */
+  public static final String METRIC_NAME = "caab.api.requests";
+
+  private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+
+  /** The scheme and host of an absolute URI template. */
+  private static final Pattern SCHEME_AND_HOST = Pattern.compile("^[a-z][a-z0-9+.-]*://[^/]*");
+
+  /** A path segment holding an identifier, rather than naming a resource. */
+  private static final Pattern IDENTIFIER_SEGMENT = Pattern.compile("/[^/]*\\d[^/]*");
+
+  private final String apiName;
+
+  private final MeterRegistry meterRegistry;
+
+  private final ObservationRegistry observationRegistry;
+
+  private final Clock clock;
+
+  /**
+   * Construct the filter for one API.
+   *
+   * @param apiName the name of the API, used to tag the metrics.
+   * @param meterRegistry the registry to publish the metrics to.
+   * @param observationRegistry the registry holding the observation of the current HTTP request.
+   */
+  public MeteredExchangeFilterFunction(
+      final String apiName,
+      final MeterRegistry meterRegistry,
+      final ObservationRegistry observationRegistry) {
+    this.apiName = apiName;
+    this.meterRegistry = meterRegistry;
+    this.observationRegistry = observationRegistry;
+    this.clock = meterRegistry.config().clock();
+  }
+
+  @Override
+  public Mono<ClientResponse> filter(final ClientRequest request, final ExchangeFunction next) {
+    // Deferred, so that each attempt of a retried call is timed on its own.
+    return Mono.deferContextual(
+        context -> {
+          final UpstreamCallTracker tracker = UpstreamCallTracker.current(context);
+          final Observation parentObservation =
+              context.getOrDefault(
+                  ObservationThreadLocalAccessor.KEY, observationRegistry.getCurrentObservation());
+          final long start = clock.monotonicTime();
+          if (tracker != null) {
+            tracker.callStarted(start);
+          }
+          final AtomicReference<String> status = new AtomicReference<>("CANCELLED");
+          return next.exchange(request)
+              .doOnNext(response -> status.set(String.valueOf(response.statusCode().value())))
+              .doOnError(
+                  e ->
+                      status.set(
+                          e instanceof WebClientRequestException ? "IO_ERROR" : "CLIENT_ERROR"))
+              .doFinally(
+                  signal -> {
+                    final long end = clock.monotonicTime();
+                    if (tracker != null) {
+                      tracker.callFinished(end);
+                    }
+                    record(request, status.get(), end - start, parentObservation);
+                  });
+        });
+  }
+
+  private void record(
+      final ClientRequest request,
+      final String status,
+      final long nanos,
+      final Observation parentObservation) {
+    final Timer timer =
+        Timer.builder(METRIC_NAME)
+            .description("Upstream API calls, by API, endpoint and response status")
+            .tag("api", apiName)
+            .tag("method", request.method().name())
+            .tag("uri", uriTemplate(request))
+            .tag("status", status)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+
+    if (parentObservation == null) {
+      timer.record(nanos, TimeUnit.NANOSECONDS);
+      return;
+    }
+    try (Observation.Scope scope = parentObservation.openScope()) {
+      timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * The template the request's URI was built from or, for a URI built some other way, its path with
+   * any segment holding a digit - an id or case reference - replaced by {@code {id}}. Either way
+   * the scheme, host and query are left out, so the tag takes a bounded number of values.
+   */
+  static String uriTemplate(final ClientRequest request) {
+    return request
+        .attribute(URI_TEMPLATE_ATTRIBUTE)
+        .map(
+            template ->
+                SCHEME_AND_HOST.matcher(template.toString().split("\\?", 2)[0]).replaceFirst(""))
+        .orElseGet(
+            () -> IDENTIFIER_SEGMENT.matcher(request.url().getRawPath()).replaceAll("/{id}"));
+  }
+}
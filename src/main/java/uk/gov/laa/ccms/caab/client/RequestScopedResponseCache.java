@@ -0,0 +1,118 @@
+package uk.gov.laa.ccms.caab.client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Holds the upstream API responses read while handling a single HTTP request, so that identical
+ * reads made during that request share one upstream call.
+ *
+ * <p>An instance is bound to each incoming request as a request attribute by {@link
+ * uk.gov.laa.ccms.caab.config.RequestScopedResponseCacheFilter} and discarded with the request.
+ * Calls are often subscribed to on a thread other than the one handling the request, so the cache
+ * is also carried in the Reactor {@link reactor.util.context.Context} under {@link #ATTRIBUTE},
+ * captured there from the request by {@link RequestScopedResponseCacheAccessor}.
+ *
+ * @see DeduplicatingExchangeFilterFunction
+ */
+public class RequestScopedResponseCache {
+
+  /** The request attribute and Context key the cache for the current request is stored under. */
+  public static final String ATTRIBUTE = RequestScopedResponseCache.class.getName();
+
+  private final Map<String, Mono<CachedResponse>> responses = new ConcurrentHashMap<>();
+
+  private final AtomicInteger savedCalls = new AtomicInteger();
+
+  /**
+   * Get the cache bound to the HTTP request being handled on the current thread.
+   *
+   * @return the cache for the current request, or null if there is no current request.
+   */
+  public static RequestScopedResponseCache current() {
+    final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    return requestAttributes != null
+        ? (RequestScopedResponseCache)
+            requestAttributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+        : null;
+  }
+
+  /**
+   * Get the cache carried in the given Reactor Context or, failing that, bound to the HTTP request
+   * being handled on the current thread.
+   *
+   * @param context the Context of the call being made.
+   * @return the cache for the current request, or null if there is no current request.
+   */
+  public static RequestScopedResponseCache current(final ContextView context) {
+    return context.hasKey(ATTRIBUTE) ? context.get(ATTRIBUTE) : current();
+  }
+
+  /**
+   * Get the shared response for the given call, creating it with the supplied loader if this is the
+   * first time the call has been made during the request. The first subscriber triggers the
+   * upstream call; later subscribers replay its response. A failed call, or one answered with
+   * anything other than a 2xx response, is removed once its outcome is known, so that the next
+   * caller makes it again.
+   *
+   * @param key identifies the call, e.g. method and full URI.
+   * @param loader supplies the Mono that makes the upstream call and buffers its response.
+   * @return a Mono emitting the shared response.
+   */
+  public Mono<CachedResponse> get(final String key, final Supplier<Mono<CachedResponse>> loader) {
+    final Mono<CachedResponse> existing = responses.get(key);
+    if (existing != null) {
+      savedCalls.incrementAndGet();
+      return existing;
+    }
+
+    final Mono<CachedResponse> shared =
+        loader
+            .get()
+            .doOnNext(
+                response -> {
+                  if (!response.statusCode().is2xxSuccessful()) {
+                    responses.remove(key);
+                  }
+                })
+            .doOnError(e -> responses.remove(key))
+            .cache();
+    final Mono<CachedResponse> winner = responses.putIfAbsent(key, shared);
+    if (winner != null) {
+      savedCalls.incrementAndGet();
+      return winner;
+    }
+    return shared;
+  }
+
+  /** Discard every held response, e.g. because the request has changed upstream state. */
+  public void invalidate() {
+    responses.clear();
+  }
+
+  /**
+   * Get the number of upstream calls avoided during the request so far.
+   *
+   * @return the number of calls that were served from a response already held for the request.
+   */
+  public int getSavedCalls() {
+    return savedCalls.get();
+  }
+
+  /**
+   * A fully buffered upstream response which can be replayed to any number of subscribers.
+   *
+   * @param statusCode the response status.
+   * @param headers the response headers.
+   * @param body the response body, empty if there was none.
+   */
+  public record CachedResponse(HttpStatusCode statusCode, HttpHeaders headers, byte[] body) {}
+}
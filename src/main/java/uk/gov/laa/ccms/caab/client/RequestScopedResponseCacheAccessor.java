@@ -0,0 +1,36 @@
+package uk.gov.laa.ccms.caab.client;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Captures the {@link RequestScopedResponseCache} of the HTTP request being handled into the
+ * Reactor Context of each call subscribed to while handling it, so that the cache is still found
+ * once the call has moved to a thread of the HTTP client.
+ *
+ * <p>Registered with the context propagation library through {@code META-INF/services}, and applied
+ * by Reactor's automatic context propagation. The cache is only ever read back from the Context, so
+ * nothing is restored onto other threads.
+ */
+public class RequestScopedResponseCacheAccessor
+    implements ThreadLocalAccessor<RequestScopedResponseCache> {
+
+  @Override
+  public Object key() {
+    return RequestScopedResponseCache.ATTRIBUTE;
+  }
+
+  @Override
+  public RequestScopedResponseCache getValue() {
+    return RequestScopedResponseCache.current();
+  }
+
+  @Override
+  public void setValue(final RequestScopedResponseCache value) {
+    // Read from the Context by DeduplicatingExchangeFilterFunction, never from the thread.
+  }
+
+  @Override
+  public void setValue() {
+    // Nothing is restored onto the thread, so there is nothing to clear.
+  }
+}
@@ -0,0 +1,223 @@
+package uk.gov.laa.ccms.caab.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import uk.gov.laa.ccms.caab.client.ApiCircuitBreaker.State;
+import uk.gov.laa.ccms.caab.config.ApiResilienceProperties;
+
+/**
+ * WebClient filter which stops a slow or failing API from tying up the threads that call it.
+ *
+ * <p>Every call passes through three stages:
+ *
+ * <ul>
+ *   <li>A circuit breaker, which rejects calls straight away once the API has failed too many
+ *       times in a row, until it has had time to recover.
+ *   <li>A bulkhead, which holds calls back once too many are already in flight to the API, and
+ *       rejects any held back for too long. A call is in flight until its response body has been
+ *       read, as the connection it uses is not free for another call until then.
+ *   <li>For GET requests only, bounded retries with exponential backoff and jitter.
+ * </ul>
+ *
+ * <p>Only transient failures - a connection or timeout error, or a 502, 503 or 504 response -
+ * count towards the circuit breaker or are retried; any other response is the API working as
+ * intended. A rejected call fails with an {@link ApiCallRejectedException}, which the client's
+ * error handler raises as the client's own exception with a {@code 503 Service Unavailable}
+ * status, so that callers handle it as they would any other failed call to the API.
+ *
+ * <p>Circuit breaker state, bulkhead capacity, rejections and retries are published to Micrometer
+ * under {@code caab.api}, tagged with the API name.
+ */
+@Slf4j
+public class ResilientExchangeFilterFunction implements ExchangeFilterFunction {
+
+  private static final Set<HttpStatusCode> TRANSIENT_STATUSES =
+      Set.of(HttpStatus.BAD_GATEWAY, HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.GATEWAY_TIMEOUT);
+
+  private final String apiName;
+
+  private final ApiCircuitBreaker circuitBreaker;
+
+  private final ApiBulkhead bulkhead;
+
+  private final Retry retry;
+
+  private final Counter circuitOpenRejections;
+
+  private final Counter bulkheadFullRejections;
+
+  /**
+   * Construct the filter for one API.
+   *
+   * @param apiName the name of the API, used in log messages and to tag metrics.
+   * @param properties the retry, circuit breaker and bulkhead settings for the API.
+   * @param maxConcurrentCalls the maximum number of calls that may be in flight to the API at once.
+   * @param meterRegistry the registry to publish the metrics to.
+   */
+  public ResilientExchangeFilterFunction(
+      final String apiName,
+      final ApiResilienceProperties properties,
+      final int maxConcurrentCalls,
+      final MeterRegistry meterRegistry) {
+    this(apiName, properties, maxConcurrentCalls, meterRegistry, Clock.systemUTC());
+  }
+
+  ResilientExchangeFilterFunction(
+      final String apiName,
+      final ApiResilienceProperties properties,
+      final int maxConcurrentCalls,
+      final MeterRegistry meterRegistry,
+      final Clock clock) {
+    this.apiName = apiName;
+    this.circuitBreaker =
+        new ApiCircuitBreaker(
+            properties.getFailureThreshold(), properties.getOpenDuration(), clock);
+    this.bulkhead = new ApiBulkhead(maxConcurrentCalls, properties.getMaxWaitDuration());
+
+    final Counter retries =
+        Counter.builder("caab.api.calls.retried")
+            .description("Calls to an API retried after a transient failure")
+            .tag("api", apiName)
+            .register(meterRegistry);
+    this.retry =
+        Retry.backoff(properties.getMaxRetries(), properties.getRetryBackoff())
+            .maxBackoff(properties.getRetryMaxBackoff())
+            .jitter(properties.getRetryJitter())
+            .filter(this::isRetryable)
+            .doBeforeRetry(
+                signal -> {
+                  retries.increment();
+                  log.warn(
+                      "Retrying call to {} after failure: {}",
+                      apiName,
+                      signal.failure().getMessage());
+                })
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
+    this.circuitOpenRejections = rejectionCounter(meterRegistry, "circuit_open");
+    this.bulkheadFullRejections = rejectionCounter(meterRegistry, "bulkhead_full");
+    for (final State state : State.values()) {
+      Gauge.builder(
+              "caab.api.circuit.breaker.state",
+              circuitBreaker,
+              breaker -> breaker.getState() == state ? 1 : 0)
+          .description("Whether an API's circuit breaker is in the given state")
+          .tag("api", apiName)
+          .tag("state", state.name().toLowerCase(Locale.ROOT))
+          .register(meterRegistry);
+    }
+    Gauge.builder("caab.api.bulkhead.available", bulkhead, ApiBulkhead::availablePermits)
+        .description("Further calls that may be made to an API before calls are held back")
+        .tag("api", apiName)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<ClientResponse> filter(final ClientRequest request, final ExchangeFunction next) {
+    final boolean idempotent = HttpMethod.GET.equals(request.method());
+    final Mono<ClientResponse> call = Mono.defer(() -> attempt(request, next, idempotent));
+    return idempotent ? call.retryWhen(retry) : call;
+  }
+
+  private Mono<ClientResponse> attempt(
+      final ClientRequest request, final ExchangeFunction next, final boolean idempotent) {
+    if (!circuitBreaker.tryAcquirePermission()) {
+      circuitOpenRejections.increment();
+      return Mono.error(
+          new ApiCallRejectedException("Circuit breaker for %s is open".formatted(apiName)));
+    }
+    return bulkhead
+        .acquire()
+        .flatMap(
+            acquired -> {
+              if (!acquired) {
+                circuitBreaker.onIgnored();
+                bulkheadFullRejections.increment();
+                return Mono.error(
+                    new ApiCallRejectedException(
+                        "Too many calls in flight to %s".formatted(apiName)));
+              }
+              return exchange(request, next, idempotent);
+            })
+        .doOnCancel(circuitBreaker::onIgnored);
+  }
+
+  private Mono<ClientResponse> exchange(
+      final ClientRequest request, final ExchangeFunction next, final boolean idempotent) {
+    final AtomicBoolean released = new AtomicBoolean();
+    final Runnable release =
+        () -> {
+          if (released.compareAndSet(false, true)) {
+            bulkhead.release();
+          }
+        };
+
+    return next.exchange(request)
+        .doOnNext(
+            response -> {
+              if (TRANSIENT_STATUSES.contains(response.statusCode())) {
+                circuitBreaker.onFailure();
+              } else {
+                circuitBreaker.onSuccess();
+              }
+            })
+        .doOnError(
+            e -> {
+              if (e instanceof WebClientRequestException) {
+                circuitBreaker.onFailure();
+              } else {
+                circuitBreaker.onIgnored();
+              }
+            })
+        .doOnCancel(release)
+        .doOnError(e -> release.run())
+        .doOnSuccess(
+            response -> {
+              if (response == null) {
+                release.run();
+              }
+            })
+        // The call stays in flight until its response body has been read or discarded.
+        .map(
+            response ->
+                response.mutate().body(body -> body.doFinally(signal -> release.run())).build())
+        .flatMap(
+            response ->
+                idempotent && TRANSIENT_STATUSES.contains(response.statusCode())
+                    ? response
+                        .createException()
+                        .flatMap(exception -> Mono.<ClientResponse>error(exception))
+                    : Mono.just(response));
+  }
+
+  private boolean isRetryable(final Throwable e) {
+    return e instanceof WebClientRequestException
+        || (e instanceof WebClientResponseException responseException
+            && TRANSIENT_STATUSES.contains(responseException.getStatusCode()));
+  }
+
+  private Counter rejectionCounter(final MeterRegistry meterRegistry, final String reason) {
+    return Counter.builder("caab.api.calls.rejected")
+        .description("Calls to an API rejected without being attempted")
+        .tag("api", apiName)
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+}
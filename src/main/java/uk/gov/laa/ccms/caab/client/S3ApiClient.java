@@ -2,27 +2,39 @@ package uk.gov.laa.ccms.caab.client;
 
 import static uk.gov.laa.ccms.caab.util.FileUtil.getFilename;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.awspring.cloud.s3.S3Resource;
 import io.awspring.cloud.s3.S3Template;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
 import uk.gov.laa.ccms.caab.config.S3DocumentBucketProperties;
 
@@ -43,6 +55,47 @@ public class S3ApiClient {
 
   private static final String DRAFT_PREFIX = "draft/";
 
+  /** How long before a signed URL expires that it stops being handed out from the cache. */
+  private static final Duration URL_EXPIRY_MARGIN = Duration.ofMinutes(2);
+
+  /** The most document URLs looked up in S3 at once when resolving several together. */
+  private static final int MAX_CONCURRENT_URL_LOOKUPS = 8;
+
+  private static final int MAX_CACHED_URLS = 10_000;
+
+  /**
+   * Signed URLs by the document ID they were looked up with (including any draft prefix). An entry
+   * is dropped shortly before the URL it holds expires, and whenever a document that it could
+   * refer to is uploaded or removed. Documents that were not found are not cached.
+   */
+  private final Cache<String, String> documentUrlCache =
+      Caffeine.newBuilder()
+          .maximumSize(MAX_CACHED_URLS)
+          .expireAfter(Expiry.creating((String id, String url) -> getUrlCacheDuration()))
+          .build();
+
+  /** How long a document found in S3 is assumed to still be there without checking again. */
+  private static final Duration DOCUMENT_INDEX_TTL = Duration.ofHours(1);
+
+  private static final int MAX_INDEXED_DOCUMENTS = 10_000;
+
+  /**
+   * The names of the S3 objects known to hold documents, by the document ID they are looked up
+   * with (including any draft prefix, which distinguishes draft documents from final ones).
+   * Entries are added when a document is uploaded or found in S3, and dropped when a document that
+   * they could refer to is uploaded or removed.
+   */
+  private final Cache<String, String> documentIndex =
+      Caffeine.newBuilder()
+          .maximumSize(MAX_INDEXED_DOCUMENTS)
+          .expireAfterWrite(DOCUMENT_INDEX_TTL)
+          .build();
+
+  private final Counter listingsAvoided =
+      Counter.builder("caab.s3.document.listings.avoided")
+          .description("Lookups of a document in S3 answered without listing the bucket")
+          .register(Metrics.globalRegistry);
+
   /**
    * Retrieve the content of a document from S3.
    *
@@ -79,6 +132,7 @@ public class S3ApiClient {
    * @param documentIds the set of IDs of the documents to remove.
    */
   public void removeDocuments(Set<String> documentIds) {
+    documentIds.forEach(this::evictDocument);
     DeleteObjectsRequest deleteObjectsRequest =
         DeleteObjectsRequest.builder()
             .bucket(documentBucketProperties.getName())
@@ -113,6 +167,7 @@ public class S3ApiClient {
    * @param documentId the ID of the document to remove.
    */
   public void removeDocument(String documentId) {
+    evictDocument(documentId);
     try {
       s3Template.deleteObject(documentBucketProperties.getName(), documentId);
     } catch (NoSuchKeyException e) {
@@ -139,16 +194,124 @@ public class S3ApiClient {
    * @return an Optional String containing the signed S3 URL of the document.
    */
   public Optional<String> getDocumentUrl(String documentId) {
-    return s3Template.listObjects(documentBucketProperties.getName(), documentId).stream()
-        .findFirst()
-        .map(S3Resource::getFilename)
-        .map(
-            filename ->
-                s3Template.createSignedGetURL(
-                    documentBucketProperties.getName(),
-                    filename,
-                    Duration.ofMinutes(documentBucketProperties.getUrlDuration())))
-        .map(URL::toString);
+    final String cachedUrl = documentUrlCache.getIfPresent(documentId);
+    if (cachedUrl != null) {
+      return Optional.of(cachedUrl);
+    }
+
+    String objectName = documentIndex.getIfPresent(documentId);
+    if (objectName != null) {
+      listingsAvoided.increment();
+    } else {
+      objectName =
+          s3Template.listObjects(documentBucketProperties.getName(), documentId).stream()
+              .findFirst()
+              .map(S3Resource::getFilename)
+              .orElse(null);
+      if (objectName == null) {
+        return Optional.empty();
+      }
+      documentIndex.put(documentId, objectName);
+    }
+
+    final String documentUrl =
+        s3Template
+            .createSignedGetURL(
+                documentBucketProperties.getName(),
+                objectName,
+                Duration.ofMinutes(documentBucketProperties.getUrlDuration()))
+            .toString();
+    documentUrlCache.put(documentId, documentUrl);
+    return Optional.of(documentUrl);
+  }
+
+  /**
+   * Check whether a draft document is held in S3.
+   *
+   * @param documentId The document identifier.
+   * @return true if the draft document is in S3, false otherwise.
+   */
+  public boolean draftDocumentExists(String documentId) {
+    return documentExists(getDraftId(documentId));
+  }
+
+  /**
+   * Check whether a document is held in S3. A document that has recently been uploaded, found or
+   * linked to is assumed to still be there, without a call to S3. Otherwise the bucket is listed
+   * for the first object named after the document.
+   *
+   * @param documentId The document identifier.
+   * @return true if the document is in S3, false otherwise.
+   */
+  public boolean documentExists(String documentId) {
+    if (documentIndex.getIfPresent(documentId) != null
+        || documentUrlCache.getIfPresent(documentId) != null) {
+      listingsAvoided.increment();
+      return true;
+    }
+
+    String objectName = null;
+    try {
+      objectName =
+          s3Client
+              .listObjectsV2(
+                  ListObjectsV2Request.builder()
+                      .bucket(documentBucketProperties.getName())
+                      .prefix(documentId)
+                      .maxKeys(1)
+                      .build())
+              .contents()
+              .stream()
+              .findFirst()
+              .map(S3Object::key)
+              .orElse(null);
+    } catch (SdkException e) {
+      errorHandler.handleS3ApiError(e);
+    }
+
+    if (objectName == null) {
+      return false;
+    }
+    documentIndex.put(documentId, objectName);
+    return true;
+  }
+
+  /**
+   * Generate signed S3 URLs for a set of draft documents.
+   *
+   * @param documentIds The draft document identifiers.
+   * @return a map of document ID / signed URL pairs, with no entry for a document that was not
+   *     found.
+   */
+  public Map<String, String> getDraftDocumentUrls(Collection<String> documentIds) {
+    final Map<String, String> draftIds =
+        documentIds.stream()
+            .distinct()
+            .collect(Collectors.toMap(this::getDraftId, Function.identity()));
+    return getDocumentUrls(draftIds.keySet()).entrySet().stream()
+        .collect(Collectors.toMap(entry -> draftIds.get(entry.getKey()), Map.Entry::getValue));
+  }
+
+  /**
+   * Generate signed S3 URLs for a set of documents. URLs that have been generated recently are
+   * reused, and the remaining documents are looked up in S3 in parallel. Each URL is signed
+   * locally, without a further call to S3.
+   *
+   * @param documentIds The document identifiers.
+   * @return a map of document ID / signed URL pairs, with no entry for a document that was not
+   *     found.
+   */
+  public Map<String, String> getDocumentUrls(Collection<String> documentIds) {
+    return Flux.fromIterable(Set.copyOf(documentIds))
+        .flatMap(
+            documentId ->
+                Mono.fromCallable(() -> getDocumentUrl(documentId))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(Mono::justOrEmpty)
+                    .map(url -> Map.entry(documentId, url)),
+            MAX_CONCURRENT_URL_LOOKUPS)
+        .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+        .block();
   }
 
   /**
@@ -188,7 +351,32 @@ public class S3ApiClient {
     if (isDraft) {
       filename = getDraftId(filename);
     }
+    evictDocument(filename);
     s3Template.upload(documentBucketProperties.getName(), filename, contentInputStream);
+    documentIndex.put(isDraft ? getDraftId(documentId) : documentId, filename);
+  }
+
+  /**
+   * Drop any cached URL or index entry that could refer to the given S3 object, i.e. any that was
+   * looked up with an ID that the object's name starts with.
+   *
+   * @param objectName the name of the S3 object.
+   */
+  private void evictDocument(String objectName) {
+    documentUrlCache.asMap().keySet().removeIf(objectName::startsWith);
+    documentIndex.asMap().keySet().removeIf(objectName::startsWith);
+  }
+
+  /**
+   * How long a signed URL is cached: its lifetime, less a margin so that a URL is never handed out
+   * just before it expires.
+   *
+   * @return the duration, which is zero if URLs are too short-lived to cache.
+   */
+  private Duration getUrlCacheDuration() {
+    final Duration cacheDuration =
+        Duration.ofMinutes(documentBucketProperties.getUrlDuration()).minus(URL_EXPIRY_MARGIN);
+    return cacheDuration.isNegative() ? Duration.ZERO : cacheDuration;
   }
 
   /**
@@ -0,0 +1,101 @@
+package uk.gov.laa.ccms.caab.client;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import reactor.util.context.ContextView;
+
+/**
+ * Tracks the upstream API calls made while handling a single HTTP request: how many were made, and
+ * how long the request spent waiting on them.
+ *
+ * <p>The waiting time counts the time at least one call was in flight, so calls made in parallel
+ * are only counted once - it is the time the request would save if every call were instant.
+ *
+ * <p>An instance is bound to each incoming request as a request attribute by {@link
+ * uk.gov.laa.ccms.caab.config.UpstreamCallMetricsFilter} and discarded with the request. Calls are
+ * often subscribed to on a thread other than the one handling the request, so the tracker is also
+ * carried in the Reactor {@link reactor.util.context.Context} under {@link #ATTRIBUTE}, captured
+ * there from the request by {@link UpstreamCallTrackerAccessor}.
+ *
+ * @see MeteredExchangeFilterFunction
+ */
+public class UpstreamCallTracker {
+
+  /** The request attribute and Context key the tracker for the current request is stored under. */
+  public static final String ATTRIBUTE = UpstreamCallTracker.class.getName();
+
+  private int calls;
+
+  private int inFlight;
+
+  private long waitStarted;
+
+  private long waitNanos;
+
+  /**
+   * Get the tracker bound to the HTTP request being handled on the current thread.
+   *
+   * @return the tracker for the current request, or null if there is no current request.
+   */
+  public static UpstreamCallTracker current() {
+    final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    return requestAttributes != null
+        ? (UpstreamCallTracker)
+            requestAttributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+        : null;
+  }
+
+  /**
+   * Get the tracker carried in the given Reactor Context or, failing that, bound to the HTTP
+   * request being handled on the current thread.
+   *
+   * @param context the Context of the call being made.
+   * @return the tracker for the current request, or null if there is no current request.
+   */
+  public static UpstreamCallTracker current(final ContextView context) {
+    return context.hasKey(ATTRIBUTE) ? context.get(ATTRIBUTE) : current();
+  }
+
+  /**
+   * Record that an upstream call has started.
+   *
+   * @param now the monotonic time in nanoseconds.
+   */
+  public synchronized void callStarted(final long now) {
+    calls++;
+    if (inFlight++ == 0) {
+      waitStarted = now;
+    }
+  }
+
+  /**
+   * Record that an upstream call has finished, successfully or not.
+   *
+   * @param now the monotonic time in nanoseconds.
+   */
+  public synchronized void callFinished(final long now) {
+    if (--inFlight == 0) {
+      waitNanos += now - waitStarted;
+    }
+  }
+
+  /**
+   * Get the number of upstream calls started during the request so far.
+   *
+   * @return the number of calls.
+   */
+  public synchronized int getCalls() {
+    return calls;
+  }
+
+  /**
+   * Get the time the request has spent waiting on upstream calls so far, including any still in
+   * flight.
+   *
+   * @param now the monotonic time in nanoseconds.
+   * @return the time spent waiting, in nanoseconds.
+   */
+  public synchronized long getWaitNanos(final long now) {
+    return inFlight > 0 ? waitNanos + now - waitStarted : waitNanos;
+  }
+}
@@ -0,0 +1,35 @@
+package uk.gov.laa.ccms.caab.client;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Captures the {@link UpstreamCallTracker} of the HTTP request being handled into the Reactor
+ * Context of each call subscribed to while handling it, so that the call is still counted once it
+ * has moved to a thread of the HTTP client.
+ *
+ * <p>Registered with the context propagation library through {@code META-INF/services}, and applied
+ * by Reactor's automatic context propagation. The tracker is only ever read back from the Context,
+ * so nothing is restored onto other threads.
+ */
+public class UpstreamCallTrackerAccessor implements ThreadLocalAccessor<UpstreamCallTracker> {
+
+  @Override
+  public Object key() {
+    return UpstreamCallTracker.ATTRIBUTE;
+  }
+
+  @Override
+  public UpstreamCallTracker getValue() {
+    return UpstreamCallTracker.current();
+  }
+
+  @Override
+  public void setValue(final UpstreamCallTracker value) {
+    // Read from the Context by MeteredExchangeFilterFunction, never from the thread.
+  }
+
+  @Override
+  public void setValue() {
+    // Nothing is restored onto the thread, so there is nothing to clear.
+  }
+}
@@ -0,0 +1,97 @@
+package uk.gov.laa.ccms.caab.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Connection pool and timeout settings for the HTTP client behind one API's WebClient.
+ *
+ * <p>Each API gets its own connection pool, so a slow API can only exhaust its own connections.
+ * Once {@code maxConnections} are in use, further requests queue for up to {@code
+ * pendingAcquireTimeout}, and no more than {@code pendingAcquireMaxCount} may queue at once; beyond
+ * either limit the request fails straight away rather than waiting on a socket that may never be
+ * freed.
+ */
+@Getter
+public class ApiConnectionProperties {
+
+  /** The maximum number of open connections to the API. */
+  private final int maxConnections;
+
+  /** The maximum number of requests that may wait for a connection. -1 means no limit. */
+  private final int pendingAcquireMaxCount;
+
+  /** How long a request may wait for a connection from the pool before it fails. */
+  private final Duration pendingAcquireTimeout;
+
+  /** How long to wait for a new connection to be established. */
+  private final Duration connectTimeout;
+
+  /** How long to wait for the response, and between each read of its body, before giving up. */
+  private final Duration responseTimeout;
+
+  /** How long a connection may sit unused in the pool before it is closed. */
+  private final Duration maxIdleTime;
+
+  /** How long a connection may be kept open, in total, before it is closed. */
+  private final Duration maxLifeTime;
+
+  /**
+   * How often the pool is checked in the background for idle or expired connections to close. Zero
+   * means connections are only checked as they are acquired.
+   */
+  private final Duration evictInBackground;
+
+  /** Whether connections are kept open to be reused for later requests. */
+  private final boolean keepAlive;
+
+  /** Whether to ask the API for gzip compressed responses. */
+  private final boolean compress;
+
+  /**
+   * Whether to offer HTTP/2, falling back to HTTP/1.1 if the API does not support it. HTTP/2 is
+   * negotiated over TLS for https URLs, and by upgrade for http URLs.
+   */
+  private final boolean http2;
+
+  /**
+   * Construct the API connection properties.
+   *
+   * @param maxConnections the maximum number of open connections.
+   * @param pendingAcquireMaxCount the maximum number of requests that may wait for a connection.
+   * @param pendingAcquireTimeout how long a request may wait for a connection.
+   * @param connectTimeout how long to wait for a connection to be established.
+   * @param responseTimeout how long to wait for the response, and between reads of its body.
+   * @param maxIdleTime how long a connection may sit unused before it is closed.
+   * @param maxLifeTime how long a connection may be kept open before it is closed.
+   * @param evictInBackground how often idle and expired connections are closed in the background.
+   * @param keepAlive whether connections are reused.
+   * @param compress whether to ask for gzip compressed responses.
+   * @param http2 whether to offer HTTP/2.
+   */
+  public ApiConnectionProperties(
+      @DefaultValue("50") final int maxConnections,
+      @DefaultValue("500") final int pendingAcquireMaxCount,
+      @DefaultValue("10s") final Duration pendingAcquireTimeout,
+      @DefaultValue("5s") final Duration connectTimeout,
+      @DefaultValue("60s") final Duration responseTimeout,
+      @DefaultValue("30s") final Duration maxIdleTime,
+      @DefaultValue("10m") final Duration maxLifeTime,
+      @DefaultValue("60s") final Duration evictInBackground,
+      @DefaultValue("true") final boolean keepAlive,
+      @DefaultValue("true") final boolean compress,
+      @DefaultValue("false") final boolean http2) {
+    this.maxConnections = maxConnections;
+    this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+    this.pendingAcquireTimeout = pendingAcquireTimeout;
+    this.connectTimeout = connectTimeout;
+    this.responseTimeout = responseTimeout;
+    this.maxIdleTime = maxIdleTime;
+    this.maxLifeTime = maxLifeTime;
+    this.evictInBackground = evictInBackground;
+    this.keepAlive = keepAlive;
+    this.compress = compress;
+    this.http2 = http2;
+  }
+}
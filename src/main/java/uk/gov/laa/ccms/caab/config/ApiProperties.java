@@ -14,4 +14,10 @@ abstract class ApiProperties {
   private final String host;
   private final int port;
   private final String accessToken;
+
+  /** The connection pool and timeout settings for the API. */
+  private final ApiConnectionProperties connection;
+
+  /** The retry, circuit breaker and bulkhead settings for calls to the API. */
+  private final ApiResilienceProperties resilience;
 }
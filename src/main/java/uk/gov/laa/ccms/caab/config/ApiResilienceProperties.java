@@ -0,0 +1,84 @@
+package uk.gov.laa.ccms.caab.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Retry, circuit breaker and bulkhead settings for the calls made to one API.
+ *
+ * <p>Only idempotent reads are retried, and only after a failure that is likely to be transient: a
+ * connection or timeout error, or a 502, 503 or 504 response. The same failures count towards the
+ * circuit breaker, which stops calls to the API altogether for {@code openDuration} once {@code
+ * failureThreshold} of them have happened in a row. The bulkhead holds back any call that would
+ * take the number in flight to the API above {@code maxConcurrentCalls}, and rejects it if no other
+ * call has finished within {@code maxWaitDuration}.
+ */
+@Getter
+public class ApiResilienceProperties {
+
+  /** Whether calls to the API are retried, circuit broken and limited at all. */
+  private final boolean enabled;
+
+  /** How many times a failed read is retried before the failure is returned to the caller. */
+  private final int maxRetries;
+
+  /** How long to wait before the first retry. The wait doubles for each retry after that. */
+  private final Duration retryBackoff;
+
+  /** The longest to wait between retries. */
+  private final Duration retryMaxBackoff;
+
+  /** The fraction of each wait, between 0 and 1, that is randomised so retries do not line up. */
+  private final double retryJitter;
+
+  /** How many failed calls in a row open the circuit breaker. */
+  private final int failureThreshold;
+
+  /** How long the circuit breaker stays open before a trial call is let through. */
+  private final Duration openDuration;
+
+  /**
+   * The maximum number of calls that may be in flight to the API at once. Zero means as many as the
+   * API's connection pool has connections.
+   */
+  private final int maxConcurrentCalls;
+
+  /** How long a call held back by the bulkhead may wait before it is rejected. */
+  private final Duration maxWaitDuration;
+
+  /**
+   * Construct the API resilience properties.
+   *
+   * @param enabled whether calls are retried, circuit broken and limited.
+   * @param maxRetries how many times a failed read is retried.
+   * @param retryBackoff how long to wait before the first retry.
+   * @param retryMaxBackoff the longest to wait between retries.
+   * @param retryJitter the fraction of each wait that is randomised.
+   * @param failureThreshold how many failed calls in a row open the circuit breaker.
+   * @param openDuration how long the circuit breaker stays open.
+   * @param maxConcurrentCalls the maximum number of calls in flight at once, or zero for as many
+   *     as the connection pool has connections.
+   * @param maxWaitDuration how long a call held back by the bulkhead waits before it is rejected.
+   */
+  public ApiResilienceProperties(
+      @DefaultValue("true") final boolean enabled,
+      @DefaultValue("2") final int maxRetries,
+      @DefaultValue("100ms") final Duration retryBackoff,
+      @DefaultValue("1s") final Duration retryMaxBackoff,
+      @DefaultValue("0.5") final double retryJitter,
+      @DefaultValue("5") final int failureThreshold,
+      @DefaultValue("30s") final Duration openDuration,
+      @DefaultValue("0") final int maxConcurrentCalls,
+      @DefaultValue("500ms") final Duration maxWaitDuration) {
+    this.enabled = enabled;
+    this.maxRetries = maxRetries;
+    this.retryBackoff = retryBackoff;
+    this.retryMaxBackoff = retryMaxBackoff;
+    this.retryJitter = retryJitter;
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.maxWaitDuration = maxWaitDuration;
+  }
+}
@@ -1,15 +1,25 @@
 package uk.gov.laa.ccms.caab.config;
 
 import fi.solita.clamav.ClamAVClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.LocaleResolver;
@@ -18,6 +28,12 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.i18n.FixedLocaleResolver;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import uk.gov.laa.ccms.caab.client.DeduplicatingExchangeFilterFunction;
+import uk.gov.laa.ccms.caab.client.MeteredExchangeFilterFunction;
+import uk.gov.laa.ccms.caab.client.ResilientExchangeFilterFunction;
 import uk.gov.laa.ccms.caab.util.UserRoleUtil;
 
 /** Configuration class for creating WebClient instances used for making HTTP requests. */
@@ -40,8 +56,12 @@ public class ApplicationConfig implements WebMvcConfigurer {
 
   private final String osApiUrl;
 
+  private final ApiConnectionProperties osApiConnection;
+
   private final String connectorApiUrl;
 
+  private final ApiConnectionProperties connectorApiConnection;
+
   private final String avApiHostName;
 
   private final Integer avApiPort;
@@ -50,6 +70,12 @@ public class ApplicationConfig implements WebMvcConfigurer {
 
   private final LoggingInterceptor loggingInterceptor;
 
+  private final MeterRegistry meterRegistry;
+
+  private final ObservationRegistry observationRegistry;
+
+  private final List<ConnectionProvider> connectionProviders = new ArrayList<>();
+
   @Override
   public void addInterceptors(InterceptorRegistry registry) {
     registry.addInterceptor(loggingInterceptor);
@@ -69,6 +95,11 @@ public class ApplicationConfig implements WebMvcConfigurer {
    * @param caabApiProperties The connection details for the CAAB API.
    * @param osApiUrl The URL of the ordinance survey API.
    * @param loggingInterceptor A logging interceptor for the caab.
+   * @param environment The environment to bind the connector and ordinance survey API connection
+   *     settings from.
+   * @param meterRegistry The registry to publish the upstream call and resilience metrics to.
+   * @param observationRegistry The registry holding the observation of the HTTP request being
+   *     handled, so that upstream call metrics can carry its trace.
    */
   public ApplicationConfig(
       final EbsApiProperties ebsApiProperties,
@@ -80,7 +111,10 @@ public class ApplicationConfig implements WebMvcConfigurer {
       @Value("${av.api.hostname}") final String avApiHostName,
       @Value("${av.api.port}") final Integer avApiPort,
       @Value("${av.api.timeout}") final Integer avApiTimeout,
-      final LoggingInterceptor loggingInterceptor) {
+      final LoggingInterceptor loggingInterceptor,
+      final Environment environment,
+      final MeterRegistry meterRegistry,
+      final ObjectProvider<ObservationRegistry> observationRegistry) {
     this.ebsApiProperties = ebsApiProperties;
     this.soaApiProperties = soaApiProperties;
     this.caabApiProperties = caabApiProperties;
@@ -91,6 +125,13 @@ public class ApplicationConfig implements WebMvcConfigurer {
     this.avApiPort = avApiPort;
     this.avApiTimeout = avApiTimeout;
     this.loggingInterceptor = loggingInterceptor;
+    this.meterRegistry = meterRegistry;
+    this.observationRegistry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+
+    final Binder binder = Binder.get(environment);
+    this.osApiConnection = binder.bindOrCreate("os.api.connection", ApiConnectionProperties.class);
+    this.connectorApiConnection =
+        binder.bindOrCreate("laa.ccms.connector.connection", ApiConnectionProperties.class);
   }
 
   /**
@@ -100,7 +141,7 @@ public class ApplicationConfig implements WebMvcConfigurer {
    */
   @Bean("ebsApiWebClient")
   WebClient ebsApiWebClient() {
-    return createWebClient(ebsApiProperties);
+    return createWebClient("ebs-api", ebsApiProperties, true);
   }
 
   /**
@@ -110,7 +151,7 @@ public class ApplicationConfig implements WebMvcConfigurer {
    */
   @Bean("soaApiWebClient")
   WebClient soaApiWebClient() {
-    return createWebClient(soaApiProperties);
+    return createWebClient("soa-api", soaApiProperties, true);
   }
 
   /**
@@ -120,7 +161,7 @@ public class ApplicationConfig implements WebMvcConfigurer {
    */
   @Bean("caabApiWebClient")
   WebClient caabApiWebClient() {
-    return createWebClient(caabApiProperties);
+    return createWebClient("caab-api", caabApiProperties, true);
   }
 
   /**
@@ -130,14 +171,9 @@ public class ApplicationConfig implements WebMvcConfigurer {
    */
   @Bean("assessmentApiWebClient")
   WebClient assessmentApiWebClient() {
-    return createWebClient(assessmentApiProperties);
+    return createWebClient("assessment-api", assessmentApiProperties, false);
   }
 
-  /**
-   * Creates a WebClient bean for interacting with the Ordinance Survey API.
-   *
-   * @return A WebClient instance configured for the Ordinance Survey API.
-   */
   /**
    * Creates a WebClient bean for interacting with the OPA connector.
    *
@@ -149,12 +185,25 @@ public class ApplicationConfig implements WebMvcConfigurer {
    */
   @Bean("connectorApiWebClient")
   WebClient connectorApiWebClient() {
-    return WebClient.create(connectorApiUrl);
+    return WebClient.builder()
+        .baseUrl(connectorApiUrl)
+        .clientConnector(createClientConnector("connector-api", connectorApiConnection))
+        .filter(createMeteredFilter("connector-api"))
+        .build();
   }
 
+  /**
+   * Creates a WebClient bean for interacting with the Ordinance Survey API.
+   *
+   * @return A WebClient instance configured for the Ordinance Survey API.
+   */
   @Bean("osApiWebClient")
   WebClient osApiWebClient() {
-    return WebClient.create(osApiUrl);
+    return WebClient.builder()
+        .baseUrl(osApiUrl)
+        .clientConnector(createClientConnector("os-api", osApiConnection))
+        .filter(createMeteredFilter("os-api"))
+        .build();
   }
 
   /**
@@ -206,16 +255,103 @@ public class ApplicationConfig implements WebMvcConfigurer {
     return localeResolver;
   }
 
-  private WebClient createWebClient(final ApiProperties apiProperties) {
+  /** Closes the connection pools behind the WebClients when the application shuts down. */
+  @PreDestroy
+  void disposeConnectionProviders() {
+    connectionProviders.forEach(ConnectionProvider::dispose);
+  }
+
+  /**
+   * Creates a WebClient for an API that authenticates with an access token.
+   *
+   * @param name The name of the API, used to name its connection pool, resilience and call
+   *     metrics.
+   * @param apiProperties The connection details for the API.
+   * @param deduplicateRequests Whether identical GET requests made while handling a single HTTP
+   *     request should share one upstream call.
+   * @return A WebClient instance configured for the API.
+   */
+  private WebClient createWebClient(
+      final String name, final ApiProperties apiProperties, final boolean deduplicateRequests) {
     final int size = 16 * 1024 * 1024;
     final ExchangeStrategies strategies =
         ExchangeStrategies.builder()
             .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(size))
             .build();
-    return WebClient.builder()
-        .baseUrl(apiProperties.getUrl())
-        .defaultHeader(HttpHeaders.AUTHORIZATION, apiProperties.getAccessToken())
-        .exchangeStrategies(strategies)
-        .build();
+    final WebClient.Builder builder =
+        WebClient.builder()
+            .baseUrl(apiProperties.getUrl())
+            .defaultHeader(HttpHeaders.AUTHORIZATION, apiProperties.getAccessToken())
+            .exchangeStrategies(strategies)
+            .clientConnector(createClientConnector(name, apiProperties.getConnection()));
+    if (deduplicateRequests) {
+      builder.filter(new DeduplicatingExchangeFilterFunction(strategies));
+    }
+    final ApiResilienceProperties resilience = apiProperties.getResilience();
+    if (resilience.isEnabled()) {
+      final int maxConcurrentCalls =
+          resilience.getMaxConcurrentCalls() > 0
+              ? resilience.getMaxConcurrentCalls()
+              : apiProperties.getConnection().getMaxConnections();
+      // Added after deduplication, so that calls shared within a request are only attempted,
+      // retried and counted once.
+      builder.filter(
+          new ResilientExchangeFilterFunction(name, resilience, maxConcurrentCalls, meterRegistry));
+    }
+    // Added last, so that each attempt made on the wire is timed, and shared calls are not.
+    builder.filter(createMeteredFilter(name));
+    return builder.build();
+  }
+
+  /**
+   * Creates the filter which times every call made to an API.
+   *
+   * @param name The name of the API, used to tag its metrics.
+   * @return the filter for the API.
+   */
+  private MeteredExchangeFilterFunction createMeteredFilter(final String name) {
+    return new MeteredExchangeFilterFunction(name, meterRegistry, observationRegistry);
+  }
+
+  /**
+   * Creates the HTTP connector for an API's WebClient, with its own connection pool.
+   *
+   * <p>The pool publishes its metrics to Micrometer under {@code
+   * reactor.netty.connection.provider}, tagged with the API name, so that the pool size can be
+   * tuned against the traffic it sees.
+   *
+   * @param name The name of the API, used to name its connection pool.
+   * @param connection The connection pool and timeout settings for the API.
+   * @return A connector configured with the given settings.
+   */
+  private ReactorClientHttpConnector createClientConnector(
+      final String name, final ApiConnectionProperties connection) {
+    final ConnectionProvider connectionProvider =
+        ConnectionProvider.builder(name)
+            .maxConnections(connection.getMaxConnections())
+            .pendingAcquireMaxCount(connection.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(connection.getPendingAcquireTimeout())
+            .maxIdleTime(connection.getMaxIdleTime())
+            .maxLifeTime(connection.getMaxLifeTime())
+            .evictInBackground(connection.getEvictInBackground())
+            .metrics(true)
+            .build();
+    connectionProviders.add(connectionProvider);
+
+    HttpClient httpClient =
+        HttpClient.create(connectionProvider)
+            .option(
+                ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                Math.toIntExact(connection.getConnectTimeout().toMillis()))
+            .responseTimeout(connection.getResponseTimeout())
+            .keepAlive(connection.isKeepAlive())
+            .compress(connection.isCompress());
+    if (connection.isHttp2()) {
+      // TLS is only used for https URLs, where HTTP/2 is negotiated by ALPN. For http URLs the
+      // client asks to upgrade from HTTP/1.1 instead.
+      httpClient =
+          httpClient.secure().protocol(HttpProtocol.H2, HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+    return new ReactorClientHttpConnector(httpClient);
   }
 }
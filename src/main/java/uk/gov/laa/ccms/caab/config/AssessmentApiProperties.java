@@ -1,12 +1,19 @@
 package uk.gov.laa.ccms.caab.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 /** Connection properties for the Assessment API. */
 @ConfigurationProperties(prefix = "laa.ccms.assessment-api")
 public class AssessmentApiProperties extends ApiProperties {
 
-  public AssessmentApiProperties(String url, String host, int port, String accessToken) {
-    super(url, host, port, accessToken);
+  public AssessmentApiProperties(
+      String url,
+      String host,
+      int port,
+      String accessToken,
+      @DefaultValue ApiConnectionProperties connection,
+      @DefaultValue ApiResilienceProperties resilience) {
+    super(url, host, port, accessToken, connection, resilience);
   }
 }
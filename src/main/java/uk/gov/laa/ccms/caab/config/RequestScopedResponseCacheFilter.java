@@ -0,0 +1,56 @@
+package uk.gov.laa.ccms.caab.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import uk.gov.laa.ccms.caab.client.RequestScopedResponseCache;
+
+/**
+ * Filter responsible for binding a {@link RequestScopedResponseCache} to each incoming request,
+ * and for recording how many upstream API calls it saved once the request has been handled.
+ */
+@Slf4j
+@Component
+public class RequestScopedResponseCacheFilter extends OncePerRequestFilter {
+
+  private final DistributionSummary savedCallsSummary;
+
+  /**
+   * Construct the filter.
+   *
+   * @param meterRegistry the registry to publish the saved upstream calls per request to.
+   */
+  public RequestScopedResponseCacheFilter(final MeterRegistry meterRegistry) {
+    this.savedCallsSummary =
+        DistributionSummary.builder("caab.upstream.calls.deduplicated")
+            .description("Upstream API calls avoided per request by sharing identical reads")
+            .baseUnit("calls")
+            .register(meterRegistry);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      final HttpServletRequest request,
+      final HttpServletResponse response,
+      final FilterChain filterChain)
+      throws ServletException, IOException {
+    final RequestScopedResponseCache responseCache = new RequestScopedResponseCache();
+    request.setAttribute(RequestScopedResponseCache.ATTRIBUTE, responseCache);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      final int savedCalls = responseCache.getSavedCalls();
+      if (savedCalls > 0) {
+        log.debug("[{}] {} upstream calls deduplicated", request.getRequestURI(), savedCalls);
+      }
+      savedCallsSummary.record(savedCalls);
+    }
+  }
+}
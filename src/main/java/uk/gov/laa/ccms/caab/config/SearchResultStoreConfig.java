@@ -0,0 +1,34 @@
+package uk.gov.laa.ccms.caab.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.laa.ccms.caab.cache.InMemorySearchResultStore;
+import uk.gov.laa.ccms.caab.cache.SearchResultStore;
+import uk.gov.laa.ccms.caab.cache.SearchResultStoreProperties;
+
+/**
+ * Configuration for the store that holds each user's search results while they are paged through.
+ *
+ * <p>Results are held in memory unless a shared {@link SearchResultStore} is registered.
+ */
+@Configuration
+@EnableConfigurationProperties(SearchResultStoreProperties.class)
+public class SearchResultStoreConfig {
+
+  /**
+   * Creates the in-memory search result store, used when no other is registered.
+   *
+   * @param properties the size and expiry settings for the store.
+   * @param meterRegistry the registry to publish the store's metrics to.
+   * @return the in-memory store.
+   */
+  @Bean
+  @ConditionalOnMissingBean(SearchResultStore.class)
+  public SearchResultStore searchResultStore(
+      final SearchResultStoreProperties properties, final MeterRegistry meterRegistry) {
+    return new InMemorySearchResultStore(properties, meterRegistry);
+  }
+}
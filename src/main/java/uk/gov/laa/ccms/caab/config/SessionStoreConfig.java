@@ -0,0 +1,137 @@
+package uk.gov.laa.ccms.caab.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.web.http.CookieSerializer;
+import org.springframework.session.web.http.DefaultCookieSerializer;
+import uk.gov.laa.ccms.caab.session.CompactSessionAttributeSerializer;
+import uk.gov.laa.ccms.caab.session.InMemorySessionAttributeStore;
+import uk.gov.laa.ccms.caab.session.SessionAttributeSerializer;
+import uk.gov.laa.ccms.caab.session.SessionAttributeStore;
+import uk.gov.laa.ccms.caab.session.SessionStoreProperties;
+import uk.gov.laa.ccms.caab.session.StoredSessionRepository;
+
+/**
+ * Configuration which moves HTTP sessions out of the servlet container and into the session store,
+ * when {@code laa.ccms.session-store.enabled} is set.
+ *
+ * <p>Sessions are held in memory unless a shared {@link SessionAttributeStore} is registered.
+ */
+@Configuration
+@EnableSpringHttpSession
+@EnableConfigurationProperties(SessionStoreProperties.class)
+@ConditionalOnProperty(prefix = "laa.ccms.session-store", name = "enabled", havingValue = "true")
+public class SessionStoreConfig {
+
+  private static final String SESSION_COOKIE = "server.servlet.session.cookie";
+
+  /**
+   * Creates the in-memory session store backend, used when no other is registered.
+   *
+   * @param properties the session store settings.
+   * @return the in-memory backend.
+   */
+  @Bean
+  @ConditionalOnMissingBean(SessionAttributeStore.class)
+  public SessionAttributeStore sessionAttributeStore(final SessionStoreProperties properties) {
+    return new InMemorySessionAttributeStore(
+        properties.getMaximumSessions(), properties.getTimeToIdle());
+  }
+
+  /**
+   * Creates the serializer for session attributes.
+   *
+   * @param properties the session store settings.
+   * @return the serializer.
+   */
+  @Bean
+  public SessionAttributeSerializer sessionAttributeSerializer(
+      final SessionStoreProperties properties) {
+    return new CompactSessionAttributeSerializer(
+        (int) properties.getCompressionThreshold().toBytes());
+  }
+
+  /**
+   * Creates the session repository used in place of the servlet container's sessions.
+   *
+   * @param store the backend to hold sessions in.
+   * @param serializer the serializer for session attributes.
+   * @param properties the session store settings.
+   * @param meterRegistry the registry to publish the session attribute metrics to.
+   * @return the session repository.
+   */
+  @Bean
+  public StoredSessionRepository sessionRepository(
+      final SessionAttributeStore store,
+      final SessionAttributeSerializer serializer,
+      final SessionStoreProperties properties,
+      final MeterRegistry meterRegistry) {
+    return new StoredSessionRepository(
+        store,
+        serializer,
+        properties.getTimeToIdle(),
+        properties.getMaximumSessions(),
+        meterRegistry);
+  }
+
+  /**
+   * Writes the session cookie as the servlet container would, from the {@code
+   * server.servlet.session.cookie} properties. The cookie keeps the container's default name of
+   * {@code JSESSIONID} unless one is configured, since the OPA integration relies on it.
+   *
+   * @param environment the environment to read the cookie properties from.
+   * @return the cookie serializer.
+   */
+  @Bean
+  public CookieSerializer cookieSerializer(final Environment environment) {
+    final Binder binder = Binder.get(environment);
+    final DefaultCookieSerializer cookieSerializer = new DefaultCookieSerializer();
+    cookieSerializer.setUseBase64Encoding(false);
+    cookieSerializer.setCookieName(
+        binder.bind(SESSION_COOKIE + ".name", String.class).orElse("JSESSIONID"));
+    binder.bind(SESSION_COOKIE + ".domain", String.class).ifBound(cookieSerializer::setDomainName);
+    binder.bind(SESSION_COOKIE + ".path", String.class).ifBound(cookieSerializer::setCookiePath);
+    binder
+        .bind(SESSION_COOKIE + ".http-only", Boolean.class)
+        .ifBound(cookieSerializer::setUseHttpOnlyCookie);
+    binder
+        .bind(SESSION_COOKIE + ".secure", Boolean.class)
+        .ifBound(cookieSerializer::setUseSecureCookie);
+    binder
+        .bind(SESSION_COOKIE + ".max-age", String.class)
+        .map(maxAge -> DurationStyle.detectAndParse(maxAge, ChronoUnit.SECONDS))
+        .ifBound(maxAge -> cookieSerializer.setCookieMaxAge((int) maxAge.toSeconds()));
+    // The container only sends a SameSite attribute when one is configured.
+    cookieSerializer.setSameSite(
+        binder
+            .bind(SESSION_COOKIE + ".same-site", String.class)
+            .map(SessionStoreConfig::sameSiteAttribute)
+            .orElse(null));
+    return cookieSerializer;
+  }
+
+  /**
+   * The SameSite attribute value for a configured {@code same-site} setting, or null for {@code
+   * omitted}.
+   */
+  private static String sameSiteAttribute(final String sameSite) {
+    return switch (sameSite.trim().toLowerCase(Locale.ROOT)) {
+      case "omitted" -> null;
+      case "none" -> "None";
+      case "lax" -> "Lax";
+      case "strict" -> "Strict";
+      default ->
+          throw new IllegalArgumentException("Unknown session cookie same-site: " + sameSite);
+    };
+  }
+}
@@ -0,0 +1,81 @@
+package uk.gov.laa.ccms.caab.config;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.laa.ccms.caab.client.UpstreamCallTracker;
+
+/**
+ * Filter responsible for binding an {@link UpstreamCallTracker} to each incoming request, and for
+ * recording how many upstream API calls it made, and how long it waited on them, once the request
+ * has been handled.
+ *
+ * <p>Both are tagged with the pattern of the page requested, so that the pages which fan out to
+ * the most calls, or spend the most time waiting on them, can be found.
+ */
+@Slf4j
+@Component
+public class UpstreamCallMetricsFilter extends OncePerRequestFilter {
+
+  private final MeterRegistry meterRegistry;
+
+  private final Clock clock;
+
+  /**
+   * Construct the filter.
+   *
+   * @param meterRegistry the registry to publish the upstream calls and wait per request to.
+   */
+  public UpstreamCallMetricsFilter(final MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.clock = meterRegistry.config().clock();
+  }
+
+  @Override
+  protected void doFilterInternal(
+      final HttpServletRequest request,
+      final HttpServletResponse response,
+      final FilterChain filterChain)
+      throws ServletException, IOException {
+    final UpstreamCallTracker tracker = new UpstreamCallTracker();
+    request.setAttribute(UpstreamCallTracker.ATTRIBUTE, tracker);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      final int calls = tracker.getCalls();
+      final long waitNanos = tracker.getWaitNanos(clock.monotonicTime());
+      final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      final String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+      log.debug(
+          "[{}] {} upstream calls, waited {}ms",
+          request.getRequestURI(),
+          calls,
+          TimeUnit.NANOSECONDS.toMillis(waitNanos));
+      DistributionSummary.builder("caab.upstream.calls")
+          .description("Upstream API calls made per request")
+          .baseUnit("calls")
+          .tag("uri", uri)
+          .tag("method", request.getMethod())
+          .register(meterRegistry)
+          .record(calls);
+      Timer.builder("caab.upstream.wait")
+          .description("Time per request spent waiting on upstream API calls")
+          .tag("uri", uri)
+          .tag("method", request.getMethod())
+          .register(meterRegistry)
+          .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
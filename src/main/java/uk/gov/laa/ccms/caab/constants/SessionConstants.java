@@ -15,12 +15,6 @@ public class SessionConstants {
   /** Session attribute used to keep track of search criteria when copying a case. */
   public static final String CASE_SEARCH_CRITERIA = "caseSearchCriteria";
 
-  /**
-   * Session attribute used to keep track of copy case search results during the creation of a new
-   * application. Used when returning to copy case results screen to prepopulate table of results
-   */
-  public static final String CASE_SEARCH_RESULTS = "caseSearchResults";
-
   /**
    * Session attribute used to keep track of client search criteria during the creation of a new
    * application. Used when returning to the client search screen to prepopulate fields
@@ -117,9 +111,6 @@ public class SessionConstants {
    */
   public static final String ACTIVE_CASE = "activeCase";
 
-  /** Session attribute used to keep track of the submission poll counts. */
-  public static final String SUBMISSION_POLL_COUNT = "submissionPollCount";
-
   /** Session attribute used to keep track of the client names associated with the application. */
   public static final String APPLICATION_CLIENT_NAMES = "applicationClientNames";
 
@@ -229,8 +220,6 @@ public class SessionConstants {
   /** Session attribute for keeping track of counsel search criteria. */
   public static final String COUNSEL_SEARCH_CRITERIA = "counselSearchCriteria";
 
-  public static final String COUNSEL_SEARCH_RESULTS = "counselSearchResults";
-
   /** Session attribute used to keep track of the selected counsel for confirmation. */
   public static final String SELECTED_COUNSEL = "selectedCounsel";
 
@@ -1,12 +1,6 @@
 package uk.gov.laa.ccms.caab.constants;
 
-import lombok.Getter;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
-
 /** Constants for submission types used on the submission screens. */
-@Component
-@Getter
 public class SubmissionConstants {
 
   /** submission used for create client. */
@@ -17,8 +11,4 @@ public class SubmissionConstants {
 
   /** submission used for create case. */
   public static final String SUBMISSION_SUBMIT_CASE = "submit-case";
-
-  /** the maximum amount of poll request for a submission. */
-  @Value("${submission.max-poll-count:6}")
-  private Integer maxPollCount;
 }
@@ -4,12 +4,16 @@ import static uk.gov.laa.ccms.caab.constants.SessionConstants.NOTIFICATION_SEARC
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.USER_DETAILS;
 
 import jakarta.servlet.http.HttpSession;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 import uk.gov.laa.ccms.caab.config.UserRole;
 import uk.gov.laa.ccms.caab.service.NotificationService;
+import uk.gov.laa.ccms.caab.service.UserService;
 import uk.gov.laa.ccms.caab.util.UserRoleUtil;
 import uk.gov.laa.ccms.data.model.NotificationSummary;
 import uk.gov.laa.ccms.data.model.UserDetail;
@@ -23,20 +27,41 @@ public class HomeController {
 
   private final NotificationService notificationService;
 
+  private final UserService userService;
+
   /**
    * Handles requests to the home page. Retrieves and formats user notifications and actions.
    *
+   * <p>The user's details are retrieved afresh here, bypassing the cache, as the provider shown on
+   * the home page can be changed outside this service and the cache is held by each node. The
+   * details retrieved replace those cached. They are retrieved alongside the notifications - the
+   * user id the notifications are looked up by does not change - so the page waits on one round
+   * trip at most.
+   *
    * @param model Model for the view.
    * @return The name of the view to render.
    */
   @GetMapping({"/home", "/"})
   public String home(Model model, HttpSession session) {
     session.removeAttribute(NOTIFICATION_SEARCH_CRITERIA);
-    UserDetail user = (UserDetail) model.getAttribute(USER_DETAILS);
+    UserDetail sessionUser = (UserDetail) model.getAttribute(USER_DETAILS);
+
+    // Retrieve the User, and a summary of their Notifications & Actions from the SOA Gateway
+    Tuple2<UserDetail, Optional<NotificationSummary>> userAndNotifications =
+        Mono.zip(
+                userService
+                    .refreshUserByLoginId(sessionUser.getLoginId())
+                    .defaultIfEmpty(sessionUser),
+                notificationService
+                    .getNotificationsSummary(sessionUser.getUserId())
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty()))
+            .block();
 
-    // Retrieve a summary of the User's Notifications & Actions from the SOA Gateway
-    NotificationSummary notificationSummary =
-        notificationService.getNotificationsSummary(user.getUserId()).block();
+    UserDetail user = userAndNotifications.getT1();
+    NotificationSummary notificationSummary = userAndNotifications.getT2().orElse(null);
+    model.addAttribute(USER_DETAILS, user);
+    session.setAttribute(USER_DETAILS, user);
 
     boolean showNotifications =
         notificationSummary != null && UserRoleUtil.hasRole(user, UserRole.VIEW_NOTIFICATIONS);
@@ -5,7 +5,6 @@ import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_ID;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_SUMMARY;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_SEARCH_CRITERIA;
-import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_SEARCH_RESULTS;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CLIENT_FLOW_CONTEXT;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CLIENT_FLOW_FORM_DATA;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CORRESPONDENCE_ADDRESS_FLOW;
@@ -20,6 +19,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
@@ -36,11 +36,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.SessionAttribute;
 import org.springframework.web.bind.annotation.SessionAttributes;
-import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 import uk.gov.laa.ccms.caab.bean.CaseSearchCriteria;
 import uk.gov.laa.ccms.caab.bean.validators.application.CaseSearchCriteriaValidator;
+import uk.gov.laa.ccms.caab.cache.SearchResultStore;
 import uk.gov.laa.ccms.caab.client.EbsApiClientException;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
 import uk.gov.laa.ccms.caab.exception.TooManyResultsException;
@@ -53,7 +53,6 @@ import uk.gov.laa.ccms.caab.model.BaseApplicationDetail;
 import uk.gov.laa.ccms.caab.service.ApplicationService;
 import uk.gov.laa.ccms.caab.service.LookupService;
 import uk.gov.laa.ccms.caab.service.ProviderService;
-import uk.gov.laa.ccms.caab.util.PaginationUtil;
 import uk.gov.laa.ccms.data.model.CaseStatusLookupDetail;
 import uk.gov.laa.ccms.data.model.ProviderDetail;
 import uk.gov.laa.ccms.data.model.UserDetail;
@@ -62,7 +61,7 @@ import uk.gov.laa.ccms.data.model.UserDetail;
 @Controller
 @RequiredArgsConstructor
 @Slf4j
-@SessionAttributes(value = {CASE_SEARCH_CRITERIA, CASE_SEARCH_RESULTS})
+@SessionAttributes(value = {CASE_SEARCH_CRITERIA})
 public class ApplicationSearchController {
   private final ProviderService providerService;
 
@@ -74,6 +73,10 @@ public class ApplicationSearchController {
 
   private final EbsApplicationMapper applicationMapper;
 
+  private final SearchResultStore searchResultStore;
+
+  private static final String CASE_SEARCH = "caseSearch";
+
   private static final String SEARCH_URL = "SEARCH_URL";
 
   protected static final String CURRENT_URL = "currentUrl";
@@ -130,8 +133,7 @@ public class ApplicationSearchController {
       @SessionAttribute(USER_DETAILS) UserDetail user,
       @Validated @ModelAttribute(CASE_SEARCH_CRITERIA) final CaseSearchCriteria caseSearchCriteria,
       BindingResult bindingResult,
-      Model model,
-      final RedirectAttributes redirectAttributes) {
+      Model model) {
 
     if (bindingResult.hasErrors()) {
       populateDropdowns(user, model);
@@ -150,7 +152,7 @@ public class ApplicationSearchController {
       return "application/application-search-too-many-results";
     }
 
-    redirectAttributes.addFlashAttribute(CASE_SEARCH_RESULTS, searchResults);
+    searchResultStore.put(user.getLoginId(), CASE_SEARCH, caseSearchCriteria, searchResults);
 
     return "redirect:/application/search/results";
   }
@@ -160,24 +162,36 @@ public class ApplicationSearchController {
    *
    * @param page Page number for pagination.
    * @param size Size of results per page.
-   * @param caseSearchResults The full un-paginated search results list.
+   * @param user The details of the currently authenticated user.
+   * @param caseSearchCriteria The criteria the search was run with.
    * @param request The HTTP request.
    * @param model Model to store attributes for the view.
-   * @return The appropriate view based on the search results.
+   * @return The appropriate view based on the search results, or a redirect to the search form
+   *     if the search results are no longer held.
    */
   @GetMapping("/application/search/results")
   public String applicationSearchResults(
       @RequestParam(value = "page", defaultValue = "0") final int page,
       @RequestParam(value = "size", defaultValue = "10") final int size,
-      @ModelAttribute(CASE_SEARCH_RESULTS) final List<BaseApplicationDetail> caseSearchResults,
+      @SessionAttribute(USER_DETAILS) final UserDetail user,
+      @ModelAttribute(CASE_SEARCH_CRITERIA) final CaseSearchCriteria caseSearchCriteria,
       final HttpServletRequest request,
       final HttpSession httpSession,
       final Model model) {
 
-    // Paginate the results list, and convert to the Page wrapper object for display
+    final Optional<Page<BaseApplicationDetail>> caseSearchResults =
+        searchResultStore.getPage(
+            user.getLoginId(),
+            CASE_SEARCH,
+            caseSearchCriteria,
+            Pageable.ofSize(size).withPage(page));
+    if (caseSearchResults.isEmpty()) {
+      return "redirect:/application/search";
+    }
+
+    // Convert the page of results to the Page wrapper object for display
     ApplicationDetails applicationDetails =
-        applicationMapper.toApplicationDetails(
-            PaginationUtil.paginateList(Pageable.ofSize(size).withPage(page), caseSearchResults));
+        applicationMapper.toApplicationDetails(caseSearchResults.get());
 
     String queryString = request.getQueryString();
     String searchUrl = request.getRequestURL().toString();
@@ -2,13 +2,14 @@ package uk.gov.laa.ccms.caab.controller.application.search;
 
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_FORM_DATA;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_SEARCH_CRITERIA;
-import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_SEARCH_RESULTS;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.USER_DETAILS;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -20,10 +21,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.SessionAttribute;
 import org.springframework.web.bind.annotation.SessionAttributes;
-import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import uk.gov.laa.ccms.caab.bean.ApplicationFormData;
 import uk.gov.laa.ccms.caab.bean.CaseSearchCriteria;
 import uk.gov.laa.ccms.caab.bean.validators.application.CaseSearchCriteriaValidator;
+import uk.gov.laa.ccms.caab.cache.SearchResultStore;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
 import uk.gov.laa.ccms.caab.exception.TooManyResultsException;
 import uk.gov.laa.ccms.caab.mapper.EbsApplicationMapper;
@@ -31,7 +32,6 @@ import uk.gov.laa.ccms.caab.model.ApplicationDetails;
 import uk.gov.laa.ccms.caab.model.BaseApplicationDetail;
 import uk.gov.laa.ccms.caab.service.ApplicationService;
 import uk.gov.laa.ccms.caab.service.ProviderService;
-import uk.gov.laa.ccms.caab.util.PaginationUtil;
 import uk.gov.laa.ccms.data.model.CaseStatusLookupValueDetail;
 import uk.gov.laa.ccms.data.model.ProviderDetail;
 import uk.gov.laa.ccms.data.model.UserDetail;
@@ -40,7 +40,7 @@ import uk.gov.laa.ccms.data.model.UserDetail;
 @Controller
 @RequiredArgsConstructor
 @Slf4j
-@SessionAttributes(value = {APPLICATION_FORM_DATA, CASE_SEARCH_CRITERIA, CASE_SEARCH_RESULTS})
+@SessionAttributes(value = {APPLICATION_FORM_DATA, CASE_SEARCH_CRITERIA})
 public class CopyCaseSearchController {
 
   private final ProviderService providerService;
@@ -51,6 +51,10 @@ public class CopyCaseSearchController {
 
   private final CaseSearchCriteriaValidator searchCriteriaValidator;
 
+  private final SearchResultStore searchResultStore;
+
+  private static final String COPY_CASE_SEARCH = "copyCaseSearch";
+
   protected static final String CURRENT_URL = "currentUrl";
   protected static final String CASE_RESULTS_PAGE = "caseResultsPage";
 
@@ -97,7 +101,6 @@ public class CopyCaseSearchController {
       @ModelAttribute(CASE_SEARCH_CRITERIA) CaseSearchCriteria caseSearchCriteria,
       @SessionAttribute(USER_DETAILS) UserDetail user,
       BindingResult bindingResult,
-      RedirectAttributes redirectAttributes,
       Model model) {
 
     searchCriteriaValidator.validate(caseSearchCriteria, bindingResult);
@@ -124,7 +127,7 @@ public class CopyCaseSearchController {
       return "application/application-copy-case-search-too-many-results";
     }
 
-    redirectAttributes.addFlashAttribute(CASE_SEARCH_RESULTS, searchResults);
+    searchResultStore.put(user.getLoginId(), COPY_CASE_SEARCH, caseSearchCriteria, searchResults);
 
     return "redirect:/application/copy-case/results";
   }
@@ -134,23 +137,35 @@ public class CopyCaseSearchController {
    *
    * @param page Page number for pagination.
    * @param size Size of results per page.
-   * @param caseSearchResults The full un-paginated search results list..
+   * @param user The details of the currently authenticated user.
+   * @param caseSearchCriteria The criteria the search was run with.
    * @param request The HTTP request.
    * @param model Model to store attributes for the view.
-   * @return The appropriate view based on the search results.
+   * @return The appropriate view based on the search results, or a redirect to the search form
+   *     if the search results are no longer held.
    */
   @GetMapping("/application/copy-case/results")
   public String copyCaseSearchResults(
       @RequestParam(value = "page", defaultValue = "0") int page,
       @RequestParam(value = "size", defaultValue = "10") int size,
-      @ModelAttribute(CASE_SEARCH_RESULTS) List<BaseApplicationDetail> caseSearchResults,
+      @SessionAttribute(USER_DETAILS) UserDetail user,
+      @ModelAttribute(CASE_SEARCH_CRITERIA) CaseSearchCriteria caseSearchCriteria,
       HttpServletRequest request,
       Model model) {
 
-    // Paginate the results list, and convert to the Page wrapper object for display
+    Optional<Page<BaseApplicationDetail>> caseSearchResults =
+        searchResultStore.getPage(
+            user.getLoginId(),
+            COPY_CASE_SEARCH,
+            caseSearchCriteria,
+            Pageable.ofSize(size).withPage(page));
+    if (caseSearchResults.isEmpty()) {
+      return "redirect:/application/copy-case/search";
+    }
+
+    // Convert the page of results to the Page wrapper object for display
     ApplicationDetails searchResultsPage =
-        applicationMapper.toApplicationDetails(
-            PaginationUtil.paginateList(Pageable.ofSize(size).withPage(page), caseSearchResults));
+        applicationMapper.toApplicationDetails(caseSearchResults.get());
 
     model.addAttribute(CURRENT_URL, request.getRequestURL().toString());
     model.addAttribute(CASE_RESULTS_PAGE, searchResultsPage);
@@ -161,19 +176,24 @@ public class CopyCaseSearchController {
    * Validates and selects a specific copy case reference number from the search results.
    *
    * @param copyCaseReferenceNumber The reference number of the selected copy case.
-   * @param caseSearchResults Search results containing copy cases.
+   * @param user The details of the currently authenticated user.
+   * @param caseSearchCriteria The criteria the copy case search was run with.
    * @param applicationFormData Details of the current application.
    * @return Redirects to the client search page after storing the selected case reference number.
    */
   @GetMapping("/application/copy-case/{case-reference-number}/confirm")
   public String selectCopyCaseReferenceNumber(
       @PathVariable("case-reference-number") String copyCaseReferenceNumber,
-      @SessionAttribute(CASE_SEARCH_RESULTS) List<BaseApplicationDetail> caseSearchResults,
+      @SessionAttribute(USER_DETAILS) UserDetail user,
+      @ModelAttribute(CASE_SEARCH_CRITERIA) CaseSearchCriteria caseSearchCriteria,
       @ModelAttribute(APPLICATION_FORM_DATA) ApplicationFormData applicationFormData) {
 
-    // Validate that the supplied caseRef is one from the search results in the session
+    // Validate that the supplied caseRef is one from the search results
     boolean validCaseRef =
-        caseSearchResults.stream()
+        searchResultStore
+            .<BaseApplicationDetail>get(user.getLoginId(), COPY_CASE_SEARCH, caseSearchCriteria)
+            .orElse(List.of())
+            .stream()
             .anyMatch(
                 application ->
                     application.getCaseReferenceNumber().equals(copyCaseReferenceNumber));
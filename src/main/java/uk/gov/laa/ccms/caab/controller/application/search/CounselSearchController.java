@@ -4,8 +4,8 @@ import static uk.gov.laa.ccms.caab.constants.ApplicationConstants.COUNSEL_COST_C
 import static uk.gov.laa.ccms.caab.constants.CounselLookupConstants.TOO_MANY_RESULTS;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.COST_ALLOCATION_FORM_DATA;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.COUNSEL_SEARCH_CRITERIA;
-import static uk.gov.laa.ccms.caab.constants.SessionConstants.COUNSEL_SEARCH_RESULTS;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SELECTED_COUNSEL;
+import static uk.gov.laa.ccms.caab.constants.SessionConstants.USER_DETAILS;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
@@ -13,8 +13,10 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -30,15 +32,16 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import uk.gov.laa.ccms.caab.bean.CounselSearchCriteria;
 import uk.gov.laa.ccms.caab.bean.costs.AllocateCostsFormData;
 import uk.gov.laa.ccms.caab.bean.validators.application.CounselSearchValidator;
+import uk.gov.laa.ccms.caab.cache.SearchResultStore;
 import uk.gov.laa.ccms.caab.client.EbsApiClientException;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
 import uk.gov.laa.ccms.caab.mapper.CounselLookupMapper;
 import uk.gov.laa.ccms.caab.model.CategoryDetail;
 import uk.gov.laa.ccms.caab.model.CostEntryDetail;
 import uk.gov.laa.ccms.caab.service.CounselService;
-import uk.gov.laa.ccms.caab.util.PaginationUtil;
 import uk.gov.laa.ccms.data.model.CounselLookupDetail;
 import uk.gov.laa.ccms.data.model.CounselLookupValueDetail;
+import uk.gov.laa.ccms.data.model.UserDetail;
 
 /** Controller class for Counsel search. */
 @Controller
@@ -50,6 +53,8 @@ public class CounselSearchController {
   private final CounselSearchValidator counselSearchValidator;
   private final CounselService counselService;
   private final CounselLookupMapper counselLookupMapper;
+  private final SearchResultStore searchResultStore;
+  private static final String COUNSEL_SEARCH = "counselSearch";
   private static final String SEARCH_URL = "SEARCH_URL";
   protected static final String CURRENT_URL = "currentUrl";
 
@@ -87,13 +92,14 @@ public class CounselSearchController {
    *
    * @param searchCriteria Criteria for counsel search.
    * @param bindingResult handler validation errors.
+   * @param user The details of the currently authenticated user.
    * @return View name in terms of string value.
    */
   @PostMapping("/counsel/search")
   public String counselLookup(
       @ModelAttribute(COUNSEL_SEARCH_CRITERIA) final CounselSearchCriteria searchCriteria,
       BindingResult bindingResult,
-      final HttpSession session,
+      @SessionAttribute(USER_DETAILS) final UserDetail user,
       Model model) {
 
     counselSearchValidator.validate(searchCriteria, bindingResult);
@@ -119,7 +125,8 @@ public class CounselSearchController {
       throw new CaabApplicationException("Error performing counsel search.", e);
     }
 
-    session.setAttribute(COUNSEL_SEARCH_RESULTS, searchResult.getContent());
+    searchResultStore.put(
+        user.getLoginId(), COUNSEL_SEARCH, searchCriteria, searchResult.getContent());
 
     return "redirect:/counsel/results";
   }
@@ -129,6 +136,8 @@ public class CounselSearchController {
    *
    * @param page Default page 0 to show when not specified.
    * @param size Default size 10 to show page when not specified.
+   * @param searchCriteria The criteria the counsel search was run with.
+   * @param user The details of the currently authenticated user.
    * @param model Model (MVC) to pass data to view.
    * @return View name in terms of string value.
    */
@@ -136,21 +145,24 @@ public class CounselSearchController {
   public String counselLookupGet(
       @RequestParam(value = "page", defaultValue = "0") final int page,
       @RequestParam(value = "size", defaultValue = "10") final int size,
+      @ModelAttribute(COUNSEL_SEARCH_CRITERIA) final CounselSearchCriteria searchCriteria,
+      @SessionAttribute(USER_DETAILS) final UserDetail user,
       final HttpServletRequest request,
-      final HttpSession httpSession,
       Model model) {
 
-    @SuppressWarnings("unchecked")
-    List<CounselLookupValueDetail> lookupValueDetails =
-        (List<CounselLookupValueDetail>) httpSession.getAttribute(COUNSEL_SEARCH_RESULTS);
+    final Optional<Page<CounselLookupValueDetail>> lookupValueDetails =
+        searchResultStore.getPage(
+            user.getLoginId(),
+            COUNSEL_SEARCH,
+            searchCriteria,
+            Pageable.ofSize(size).withPage(page));
 
-    if (lookupValueDetails == null) {
+    if (lookupValueDetails.isEmpty()) {
       return "redirect:/counsel/search";
     }
 
     final CounselLookupDetail counselLookupDetail =
-        counselLookupMapper.toCounselLookupDetail(
-            PaginationUtil.paginateList(Pageable.ofSize(size).withPage(page), lookupValueDetails));
+        counselLookupMapper.toCounselLookupDetail(lookupValueDetails.get());
 
     String searchUrl = "/counsel/results";
     model.addAttribute(CURRENT_URL, searchUrl);
@@ -164,15 +176,22 @@ public class CounselSearchController {
    * GET method for selecting a counsel from the search results.
    *
    * @param index The index of the selected counsel in the search results.
+   * @param searchCriteria The criteria the counsel search was run with.
+   * @param user The details of the currently authenticated user.
    * @param session The current HTTP session.
    * @return A redirect to the counsel confirmation screen.
    */
   @GetMapping("/counsel/select")
-  public String selectCounsel(@RequestParam("index") int index, HttpSession session) {
+  public String selectCounsel(
+      @RequestParam("index") int index,
+      @ModelAttribute(COUNSEL_SEARCH_CRITERIA) final CounselSearchCriteria searchCriteria,
+      @SessionAttribute(USER_DETAILS) final UserDetail user,
+      HttpSession session) {
 
-    @SuppressWarnings("unchecked")
-    List<CounselLookupValueDetail> lookupValueDetails =
-        (List<CounselLookupValueDetail>) session.getAttribute(COUNSEL_SEARCH_RESULTS);
+    final List<CounselLookupValueDetail> lookupValueDetails =
+        searchResultStore
+            .<CounselLookupValueDetail>get(user.getLoginId(), COUNSEL_SEARCH, searchCriteria)
+            .orElse(null);
 
     if (lookupValueDetails != null && index >= 0 && index < lookupValueDetails.size()) {
       CounselLookupValueDetail selectedCounsel = lookupValueDetails.get(index);
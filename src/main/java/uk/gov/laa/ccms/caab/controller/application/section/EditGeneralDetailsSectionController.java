@@ -9,7 +9,6 @@ import static uk.gov.laa.ccms.caab.constants.SessionConstants.ADDRESS_SEARCH_RES
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_ID;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_SEARCH_CRITERIA;
-import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_SEARCH_RESULTS;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CORRESPONDENCE_ADDRESS_FLOW;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_RESULT;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_TRANSACTION_ID;
@@ -23,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Controller;
@@ -36,7 +36,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.SessionAttribute;
 import org.springframework.web.bind.annotation.SessionAttributes;
-import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 import uk.gov.laa.ccms.caab.bean.ActiveCase;
@@ -50,6 +49,7 @@ import uk.gov.laa.ccms.caab.bean.validators.client.AddressSearchValidator;
 import uk.gov.laa.ccms.caab.bean.validators.client.CorrespondenceAddressValidator;
 import uk.gov.laa.ccms.caab.bean.validators.client.FindAddressValidator;
 import uk.gov.laa.ccms.caab.builders.DropdownBuilder;
+import uk.gov.laa.ccms.caab.cache.SearchResultStore;
 import uk.gov.laa.ccms.caab.config.UserRole;
 import uk.gov.laa.ccms.caab.constants.CaseContext;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
@@ -67,7 +67,6 @@ import uk.gov.laa.ccms.caab.service.AmendmentService;
 import uk.gov.laa.ccms.caab.service.ApplicationService;
 import uk.gov.laa.ccms.caab.service.LookupService;
 import uk.gov.laa.ccms.caab.service.ProviderService;
-import uk.gov.laa.ccms.caab.util.PaginationUtil;
 import uk.gov.laa.ccms.caab.util.UserRoleUtil;
 import uk.gov.laa.ccms.data.model.CaseStatusLookupDetail;
 import uk.gov.laa.ccms.data.model.ProviderDetail;
@@ -77,7 +76,7 @@ import uk.gov.laa.ccms.data.model.UserDetail;
 @Controller
 @RequiredArgsConstructor
 @Slf4j
-@SessionAttributes({CASE_SEARCH_CRITERIA, CASE_SEARCH_RESULTS})
+@SessionAttributes({CASE_SEARCH_CRITERIA})
 public class EditGeneralDetailsSectionController {
 
   // services
@@ -98,6 +97,9 @@ public class EditGeneralDetailsSectionController {
   private final EbsApplicationMapper applicationMapper;
   private final ResultDisplayMapper resultDisplayMapper;
 
+  private final SearchResultStore searchResultStore;
+
+  private static final String LINKED_CASE_SEARCH = "linkedCaseSearch";
   private static final String ACTION_FIND_ADDRESS = "find_address";
   protected static final String CURRENT_URL = "currentUrl";
   protected static final String CASE_RESULTS_PAGE = "caseResultsPage";
@@ -564,7 +566,6 @@ public class EditGeneralDetailsSectionController {
    * @param caseSearchCriteria Search criteria model attribute.
    * @param user User details from session attribute.
    * @param currentLinkedCases The current Linked cases for the application.
-   * @param redirectAttributes Redirect attributes.
    * @param bindingResult Binding result for validation.
    * @param model Spring MVC model.
    * @return The view name for redirection or linked case search view.
@@ -576,7 +577,6 @@ public class EditGeneralDetailsSectionController {
       @SessionAttribute(USER_DETAILS) final UserDetail user,
       @SessionAttribute(LINKED_CASES)
           final ResultsDisplay<LinkedCaseResultRowDisplay> currentLinkedCases,
-      final RedirectAttributes redirectAttributes,
       @Validated @ModelAttribute(CASE_SEARCH_CRITERIA) final CaseSearchCriteria caseSearchCriteria,
       final BindingResult bindingResult,
       final Model model) {
@@ -609,7 +609,7 @@ public class EditGeneralDetailsSectionController {
       return "application/sections/application-linked-case-search-too-many-results";
     }
 
-    redirectAttributes.addFlashAttribute(CASE_SEARCH_RESULTS, searchResults);
+    searchResultStore.put(user.getLoginId(), LINKED_CASE_SEARCH, caseSearchCriteria, searchResults);
 
     return "redirect:/%s/sections/linked-cases/search/results"
         .formatted(caseContext.getPathValue());
@@ -620,27 +620,39 @@ public class EditGeneralDetailsSectionController {
    *
    * @param page Requested page number.
    * @param size Size of the page.
-   * @param caseSearchResults List of search results.
+   * @param user User details from session attribute.
+   * @param caseSearchCriteria The criteria the search was run with.
    * @param request HTTP servlet request.
    * @param model Spring MVC model.
    * @param session HTTP session.
-   * @return The view name for search results.
+   * @return The view name for search results, or a redirect to the search form if the search
+   *     results are no longer held.
    */
   @GetMapping("/{caseContext}/sections/linked-cases/search/results")
   public String linkedCasesSearchResults(
       @RequestParam(value = "page", defaultValue = "0") final int page,
       @RequestParam(value = "size", defaultValue = "10") final int size,
       @PathVariable final CaseContext caseContext,
-      @ModelAttribute(CASE_SEARCH_RESULTS) final List<BaseApplicationDetail> caseSearchResults,
+      @SessionAttribute(USER_DETAILS) final UserDetail user,
+      @ModelAttribute(CASE_SEARCH_CRITERIA) final CaseSearchCriteria caseSearchCriteria,
       final HttpServletRequest request,
       final Model model,
       final HttpSession session) {
 
     log.info("Displaying linked cases search results for caseContext: {}", caseContext);
-    // Paginate the results list, and convert to the Page wrapper object for display
+    final Optional<Page<BaseApplicationDetail>> caseSearchResults =
+        searchResultStore.getPage(
+            user.getLoginId(),
+            LINKED_CASE_SEARCH,
+            caseSearchCriteria,
+            Pageable.ofSize(size).withPage(page));
+    if (caseSearchResults.isEmpty()) {
+      return "redirect:/%s/sections/linked-cases/search".formatted(caseContext.getPathValue());
+    }
+
+    // Convert the page of results to the Page wrapper object for display
     final ApplicationDetails linkedCaseSearchResults =
-        applicationMapper.toApplicationDetails(
-            PaginationUtil.paginateList(Pageable.ofSize(size).withPage(page), caseSearchResults));
+        applicationMapper.toApplicationDetails(caseSearchResults.get());
 
     model.addAttribute(CURRENT_URL, request.getRequestURL().toString());
 
@@ -13,7 +13,6 @@ import static uk.gov.laa.ccms.caab.util.FileUtil.getFileExtension;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +32,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.SessionAttribute;
 import org.springframework.web.bind.annotation.SessionAttributes;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 import uk.gov.laa.ccms.caab.bean.ActiveCase;
@@ -46,11 +46,11 @@ import uk.gov.laa.ccms.caab.exception.AvVirusFoundException;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
 import uk.gov.laa.ccms.caab.mapper.EvidenceMapper;
 import uk.gov.laa.ccms.caab.model.BaseEvidenceDocumentDetail;
-import uk.gov.laa.ccms.caab.model.EvidenceDocumentDetail;
 import uk.gov.laa.ccms.caab.model.EvidenceDocumentDetails;
 import uk.gov.laa.ccms.caab.service.AvScanService;
 import uk.gov.laa.ccms.caab.service.EvidenceService;
 import uk.gov.laa.ccms.caab.service.LookupService;
+import uk.gov.laa.ccms.caab.util.Base64JsonFieldReader;
 import uk.gov.laa.ccms.data.model.CommonLookupDetail;
 import uk.gov.laa.ccms.data.model.EvidenceDocumentTypeLookupValueDetail;
 import uk.gov.laa.ccms.data.model.UserDetail;
@@ -210,9 +210,12 @@ public class EvidenceSectionController {
 
     evidenceUploadFormData.setRegisteredDocumentId(registeredDocumentId);
 
+    // The content is read from the uploaded file as it is sent, rather than copied into the
+    // document detail.
     evidenceService
         .addDocument(
-            evidenceMapper.toEvidenceDocumentDetail(evidenceUploadFormData),
+            evidenceMapper.toEvidenceDocumentMetadata(evidenceUploadFormData),
+            evidenceUploadFormData.getFile(),
             userDetail.getLoginId())
         .blockOptional()
         .orElseThrow(() -> new CaabApplicationException("Failed to save document"));
@@ -287,40 +290,41 @@ public class EvidenceSectionController {
    * belong to the active case and the module resolved from the case context - the id alone is not
    * trusted, to prevent enumerating ids and accessing other cases' documents.
    *
+   * <p>The content is decoded from the TDS response as it arrives and streamed to the browser, so
+   * only a few kilobytes of the document are held in memory at a time. The length of the content is
+   * not known until it has all been sent, so range requests are not supported.
+   *
    * @param context The case context (application or amendment).
    * @param evidenceDocumentId The id of the evidence document to view.
    * @param activeCase The active case from the session.
    * @return the document content as an inline HTTP response.
    */
   @GetMapping("/{caseContext}/evidence/{evidence-document-id}/view")
-  public ResponseEntity<byte[]> viewEvidenceDocument(
+  public ResponseEntity<StreamingResponseBody> viewEvidenceDocument(
       @PathVariable(CASE_CONTEXT) final CaseContext context,
       @PathVariable("evidence-document-id") final Integer evidenceDocumentId,
       @SessionAttribute(ACTIVE_CASE) final ActiveCase activeCase) {
 
-    final boolean documentBelongsToActiveCase =
+    final BaseEvidenceDocumentDetail document =
         evidenceService
             .getEvidenceDocumentsForCase(
                 activeCase.getCaseReferenceNumber(), resolveCcmsModule(context))
-            .map(EvidenceDocumentDetails::getContent)
-            .map(
+            .mapNotNull(EvidenceDocumentDetails::getContent)
+            .flatMap(
                 docs ->
-                    docs != null
-                        && docs.stream().anyMatch(doc -> evidenceDocumentId.equals(doc.getId())))
-            .blockOptional()
-            .orElse(false);
-
-    if (!documentBelongsToActiveCase) {
-      throw new CaabApplicationException("Invalid document id: %s".formatted(evidenceDocumentId));
-    }
-
-    final EvidenceDocumentDetail document =
-        evidenceService
-            .getEvidenceDocument(evidenceDocumentId)
+                    Mono.justOrEmpty(
+                        docs.stream()
+                            .filter(doc -> evidenceDocumentId.equals(doc.getId()))
+                            .findFirst()))
             .blockOptional()
-            .orElseThrow(() -> new CaabApplicationException("Failed to retrieve document"));
+            .orElseThrow(
+                () ->
+                    new CaabApplicationException(
+                        "Invalid document id: %s".formatted(evidenceDocumentId)));
 
-    final byte[] fileData = Base64.getDecoder().decode(document.getFileData());
+    // Fetched before the response is started, so that a failure still shows the error page.
+    final Base64JsonFieldReader content =
+        evidenceService.openEvidenceDocumentContent(evidenceDocumentId);
 
     final String contentDisposition =
         ContentDisposition.inline()
@@ -331,7 +335,13 @@ public class EvidenceSectionController {
     return ResponseEntity.ok()
         .contentType(resolveMediaType(document.getFileExtension()))
         .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-        .body(fileData);
+        .header(HttpHeaders.ACCEPT_RANGES, "none")
+        .body(
+            outputStream -> {
+              try (content) {
+                content.transferTo(outputStream);
+              }
+            });
   }
 
   /**
@@ -9,7 +9,6 @@ import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_ID;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_SUMMARY;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_REFERENCE_NUMBER;
-import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_POLL_COUNT;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_QUICK_EDIT_TYPE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_RESULT;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_TRANSACTION_ID;
@@ -30,9 +29,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.SessionAttribute;
 import uk.gov.laa.ccms.caab.bean.ActiveCase;
 import uk.gov.laa.ccms.caab.constants.CaseContext;
-import uk.gov.laa.ccms.caab.constants.SubmissionConstants;
+import uk.gov.laa.ccms.caab.model.SubmissionProgress;
 import uk.gov.laa.ccms.caab.service.ApplicationService;
-import uk.gov.laa.ccms.data.model.TransactionStatus;
+import uk.gov.laa.ccms.caab.service.SubmissionTracker;
 import uk.gov.laa.ccms.data.model.UserDetail;
 
 /** Controller for the add case submission into ebs. */
@@ -41,7 +40,7 @@ import uk.gov.laa.ccms.data.model.UserDetail;
 @Slf4j
 public class CaseSubmissionController {
 
-  private final SubmissionConstants submissionConstants;
+  private final SubmissionTracker submissionTracker;
 
   private final ApplicationService applicationService;
 
@@ -50,7 +49,9 @@ public class CaseSubmissionController {
 
   /**
    * Handles the creation of a case submission and updates the model and session with relevant
-   * details. If the case status is confirmed, redirects to the submission confirmation page.
+   * details. If the case status is confirmed, redirects to the submission confirmation page. The
+   * status is polled in the background by the {@link SubmissionTracker}, so this only reports the
+   * progress it has tracked so far.
    *
    * @param transactionId the ID of the submission transaction
    * @param user the user details for the case submission
@@ -73,31 +74,28 @@ public class CaseSubmissionController {
     model.addAttribute("caseContext", caseContext);
 
     if (!StringUtils.hasText(transactionId)) {
-      final String submissionResult = (String) session.getAttribute(SUBMISSION_RESULT);
-      if (StringUtils.hasText(submissionResult)) {
-        return redirectToSubmissionResult(session, caseContext, SUBMISSION_SUBMIT_CASE);
-      }
-      return viewIncludingPollCount(session, caseContext, model);
+      return redirectToSubmissionResult(session, caseContext, SUBMISSION_SUBMIT_CASE);
     }
 
     requireSessionAttribute(user, USER_DETAILS);
 
-    final TransactionStatus caseStatus = applicationService.getCaseStatus(transactionId).block();
+    final SubmissionProgress progress = submissionTracker.getCaseProgress(transactionId);
 
-    if (caseStatus != null && StringUtils.hasText(caseStatus.getReferenceNumber())) {
-      return handleConfirmedSubmission(caseContext, user, session, caseStatus.getReferenceNumber());
+    if (progress.state() == SubmissionProgress.State.CONFIRMED) {
+      return handleConfirmedSubmission(caseContext, user, session, progress.referenceNumber());
     }
 
-    // Fallback: if polling reached its limit for a new application, check whether the case is now
-    // available in EBS to avoid a false "failed" submission.
-    if (caseContext.isApplication()
-        && pollCountExceeded(session)
-        && isCaseAvailableInEbs(activeCase, user)) {
-      final String caseReference = activeCase.getCaseReferenceNumber();
-      return handleConfirmedSubmission(caseContext, user, session, caseReference);
+    if (progress.state() == SubmissionProgress.State.FAILED) {
+      // Fallback: if tracking ran out for a new application, check whether the case is now
+      // available in EBS to avoid a false "failed" submission.
+      if (caseContext.isApplication() && isCaseAvailableInEbs(activeCase, user)) {
+        final String caseReference = activeCase.getCaseReferenceNumber();
+        return handleConfirmedSubmission(caseContext, user, session, caseReference);
+      }
+      return handleFailedSubmission(caseContext, session);
     }
 
-    return viewIncludingPollCount(session, caseContext, model);
+    return "submissions/submissionInProgress";
   }
 
   private String handleConfirmedSubmission(
@@ -120,7 +118,6 @@ public class CaseSubmissionController {
       applicationService.removeSubmittedApplication(caseReferenceNumber, user);
     }
 
-    session.removeAttribute(SUBMISSION_POLL_COUNT);
     session.removeAttribute(SUBMISSION_TRANSACTION_ID);
     session.removeAttribute(SUBMISSION_QUICK_EDIT_TYPE);
     session.setAttribute(SUBMISSION_RESULT, SUBMISSION_CONFIRMED);
@@ -128,12 +125,11 @@ public class CaseSubmissionController {
         .formatted(caseContext.getPathValue(), SUBMISSION_SUBMIT_CASE);
   }
 
-  private boolean pollCountExceeded(final HttpSession session) {
-    if (session.getAttribute(SUBMISSION_POLL_COUNT) == null) {
-      return false;
-    }
-    final int submissionPollCount = (int) session.getAttribute(SUBMISSION_POLL_COUNT);
-    return submissionPollCount >= submissionConstants.getMaxPollCount();
+  private String handleFailedSubmission(final CaseContext caseContext, final HttpSession session) {
+    session.removeAttribute(SUBMISSION_TRANSACTION_ID);
+    session.removeAttribute(SUBMISSION_QUICK_EDIT_TYPE);
+    session.setAttribute(SUBMISSION_RESULT, SUBMISSION_FAILED);
+    return "redirect:/%s/%s/failed".formatted(caseContext.getPathValue(), SUBMISSION_SUBMIT_CASE);
   }
 
   private boolean isCaseAvailableInEbs(final ActiveCase activeCase, final UserDetail user) {
@@ -147,7 +143,7 @@ public class CaseSubmissionController {
           != null;
     } catch (RuntimeException ex) {
       log.debug(
-          "Unable to resolve case {} during submit polling fallback.",
+          "Unable to resolve case {} during submit tracking fallback.",
           activeCase.getCaseReferenceNumber(),
           ex);
       return false;
@@ -198,34 +194,4 @@ public class CaseSubmissionController {
       return "redirect:/case/overview";
     }
   }
-
-  /**
-   * Returns the view based on the submission poll count from the session. If the poll count exceeds
-   * the maximum, redirects to the failed submission page.
-   *
-   * @param session the HTTP session containing the submission poll count
-   * @param model the model to be updated with submission details
-   * @return the view name or a redirect to the failed submission page if the max poll count is
-   *     exceeded
-   */
-  protected String viewIncludingPollCount(
-      final HttpSession session, final CaseContext caseContext, final Model model) {
-    int submissionPollCount = 0;
-
-    if (session.getAttribute(SUBMISSION_POLL_COUNT) != null) {
-      submissionPollCount = (int) session.getAttribute(SUBMISSION_POLL_COUNT);
-      if (submissionPollCount >= submissionConstants.getMaxPollCount()) {
-        session.removeAttribute(SUBMISSION_POLL_COUNT);
-        session.removeAttribute(SUBMISSION_TRANSACTION_ID);
-        session.removeAttribute(SUBMISSION_QUICK_EDIT_TYPE);
-        session.setAttribute(SUBMISSION_RESULT, SUBMISSION_FAILED);
-        return "redirect:/%s/%s/failed"
-            .formatted(caseContext.getPathValue(), SubmissionConstants.SUBMISSION_SUBMIT_CASE);
-      }
-    }
-    submissionPollCount += 1;
-    session.setAttribute(SUBMISSION_POLL_COUNT, submissionPollCount);
-    model.addAttribute("caseContext", caseContext);
-    return "submissions/submissionInProgress";
-  }
 }
@@ -6,7 +6,6 @@ import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CLIENT_FLOW_FORM_DATA;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CLIENT_REFERENCE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CLIENT_SEARCH_CRITERIA;
-import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_POLL_COUNT;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_RESULT;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_TRANSACTION_ID;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.USER_DETAILS;
@@ -28,8 +27,9 @@ import org.springframework.web.bind.annotation.SessionAttribute;
 import uk.gov.laa.ccms.caab.constants.CaseContext;
 import uk.gov.laa.ccms.caab.constants.SubmissionConstants;
 import uk.gov.laa.ccms.caab.model.BaseClientDetail;
+import uk.gov.laa.ccms.caab.model.SubmissionProgress;
 import uk.gov.laa.ccms.caab.service.ClientService;
-import uk.gov.laa.ccms.data.model.TransactionStatus;
+import uk.gov.laa.ccms.caab.service.SubmissionTracker;
 import uk.gov.laa.ccms.data.model.UserDetail;
 
 /** Controller for client creation submissions in progress. */
@@ -38,7 +38,7 @@ import uk.gov.laa.ccms.data.model.UserDetail;
 @Slf4j
 public class ClientSubmissionsInProgressController {
 
-  private final SubmissionConstants submissionConstants;
+  private final SubmissionTracker submissionTracker;
 
   private final ClientService clientService;
 
@@ -64,13 +64,12 @@ public class ClientSubmissionsInProgressController {
       return redirectToSubmissionResult(session, CaseContext.APPLICATION, SUBMISSION_CREATE_CLIENT);
     }
 
-    final TransactionStatus clientStatus = clientService.getClientStatus(transactionId).block();
+    final SubmissionProgress progress = submissionTracker.getClientProgress(transactionId);
 
-    if (clientStatus != null && StringUtils.hasText(clientStatus.getReferenceNumber())) {
-      session.setAttribute(CLIENT_REFERENCE, clientStatus.getReferenceNumber());
+    if (progress.state() == SubmissionProgress.State.CONFIRMED) {
+      session.setAttribute(CLIENT_REFERENCE, progress.referenceNumber());
 
       // Do some session tidy up
-      session.removeAttribute(SUBMISSION_POLL_COUNT);
       session.removeAttribute(SUBMISSION_TRANSACTION_ID);
       session.setAttribute(SUBMISSION_RESULT, SUBMISSION_CONFIRMED);
       session.removeAttribute(CLIENT_SEARCH_CRITERIA);
@@ -79,7 +78,8 @@ public class ClientSubmissionsInProgressController {
       return "redirect:/application/client-create/confirmed";
     }
 
-    return viewIncludingPollCount(session, CaseContext.APPLICATION, SUBMISSION_CREATE_CLIENT);
+    return viewIncludingProgress(
+        progress, session, CaseContext.APPLICATION, SUBMISSION_CREATE_CLIENT);
   }
 
   /**
@@ -108,13 +108,12 @@ public class ClientSubmissionsInProgressController {
     requireSessionAttribute(user, USER_DETAILS);
     requireSessionAttribute(baseClient, APPLICATION_CLIENT_NAMES);
 
-    final TransactionStatus clientStatus = clientService.getClientStatus(transactionId).block();
+    final SubmissionProgress progress = submissionTracker.getClientProgress(transactionId);
 
-    if (clientStatus != null && StringUtils.hasText(clientStatus.getReferenceNumber())) {
-      clientService.updateClientNames(clientStatus.getReferenceNumber(), user, baseClient).block();
+    if (progress.state() == SubmissionProgress.State.CONFIRMED) {
+      clientService.updateClientNames(progress.referenceNumber(), user, baseClient).block();
 
       // Do some session tidy up
-      session.removeAttribute(SUBMISSION_POLL_COUNT);
       session.removeAttribute(SUBMISSION_TRANSACTION_ID);
       session.setAttribute(SUBMISSION_RESULT, SUBMISSION_CONFIRMED);
       session.removeAttribute(CLIENT_FLOW_FORM_DATA);
@@ -128,7 +127,7 @@ public class ClientSubmissionsInProgressController {
       return "redirect:/%s/client-update/confirmed".formatted(caseContext.getPathValue());
     }
 
-    return viewIncludingPollCount(session, caseContext, SUBMISSION_UPDATE_CLIENT);
+    return viewIncludingProgress(progress, session, caseContext, SUBMISSION_UPDATE_CLIENT);
   }
 
   /**
@@ -145,7 +144,6 @@ public class ClientSubmissionsInProgressController {
       @PathVariable("caseContext") CaseContext caseContext,
       @PathVariable String submissionType,
       final HttpSession session) {
-    session.removeAttribute(SUBMISSION_POLL_COUNT);
     session.removeAttribute(SUBMISSION_TRANSACTION_ID);
     session.setAttribute(SUBMISSION_RESULT, SUBMISSION_FAILED);
     if (caseContext.isApplication()) {
@@ -179,21 +177,16 @@ public class ClientSubmissionsInProgressController {
     return "submissions/submissionFailed";
   }
 
-  private String viewIncludingPollCount(
-      final HttpSession session, final CaseContext caseContext, final String submissionType) {
-    int submissionPollCount = 0;
-
-    if (session.getAttribute(SUBMISSION_POLL_COUNT) != null) {
-      submissionPollCount = (int) session.getAttribute(SUBMISSION_POLL_COUNT);
-      if (submissionPollCount >= submissionConstants.getMaxPollCount()) {
-        session.removeAttribute(SUBMISSION_POLL_COUNT);
-        session.removeAttribute(SUBMISSION_TRANSACTION_ID);
-        session.setAttribute(SUBMISSION_RESULT, SUBMISSION_FAILED);
-        return "redirect:/%s/%s/failed".formatted(caseContext.getPathValue(), submissionType);
-      }
+  private String viewIncludingProgress(
+      final SubmissionProgress progress,
+      final HttpSession session,
+      final CaseContext caseContext,
+      final String submissionType) {
+    if (progress.state() == SubmissionProgress.State.FAILED) {
+      session.removeAttribute(SUBMISSION_TRANSACTION_ID);
+      session.setAttribute(SUBMISSION_RESULT, SUBMISSION_FAILED);
+      return "redirect:/%s/%s/failed".formatted(caseContext.getPathValue(), submissionType);
     }
-    submissionPollCount += 1;
-    session.setAttribute(SUBMISSION_POLL_COUNT, submissionPollCount);
     return "submissions/submissionInProgress";
   }
 }
@@ -0,0 +1,64 @@
+package uk.gov.laa.ccms.caab.controller.submission;
+
+import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_TRANSACTION_ID;
+import static uk.gov.laa.ccms.caab.constants.SubmissionConstants.SUBMISSION_SUBMIT_CASE;
+import static uk.gov.laa.ccms.caab.util.SubmissionUtil.isAlreadySubmitted;
+
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.SessionAttribute;
+import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.caab.constants.CaseContext;
+import uk.gov.laa.ccms.caab.model.SubmissionProgress;
+import uk.gov.laa.ccms.caab.service.SubmissionTracker;
+
+/**
+ * Controller for the status of a submission in progress, which the submission in progress page
+ * long-polls so that it only reloads once the submission is confirmed or has failed.
+ */
+@RestController
+@RequiredArgsConstructor
+public class SubmissionStatusController {
+
+  private final SubmissionTracker submissionTracker;
+
+  /**
+   * Handles the GET request for the status of a submission in progress. The response is held until
+   * the submission is confirmed or has failed, or the long poll timeout runs out, whichever is
+   * first.
+   *
+   * @param caseContext the context for the case (e.g. application or amendments)
+   * @param submissionType the type of submission in progress
+   * @param transactionId the ID of the submission transaction
+   * @param session the HTTP session holding the result of a finished submission
+   * @return a Mono containing the progress of the submission
+   */
+  @GetMapping(
+      value = "/{caseContext}/{submissionType:submit-case|client-create|client-update}/status",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<SubmissionProgress> getSubmissionStatus(
+      @PathVariable("caseContext") final CaseContext caseContext,
+      @PathVariable final String submissionType,
+      @SessionAttribute(value = SUBMISSION_TRANSACTION_ID, required = false)
+          final String transactionId,
+      final HttpSession session) {
+
+    if (!StringUtils.hasText(transactionId)) {
+      // The submission has already finished, or was never made: the in progress page redirects
+      // to its result either way.
+      return Mono.just(
+          isAlreadySubmitted(session)
+              ? SubmissionProgress.confirmed(null)
+              : SubmissionProgress.failed());
+    }
+
+    return SUBMISSION_SUBMIT_CASE.equals(submissionType)
+        ? submissionTracker.awaitCaseProgress(transactionId)
+        : submissionTracker.awaitClientProgress(transactionId);
+  }
+}
@@ -2,6 +2,7 @@ package uk.gov.laa.ccms.caab.mapper;
 
 import java.util.List;
 import org.mapstruct.Context;
+import org.mapstruct.InheritConfiguration;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import uk.gov.laa.ccms.caab.bean.evidence.EvidenceRequired;
@@ -57,6 +58,17 @@ public interface EvidenceMapper {
   @Mapping(target = "ccmsModule", source = "ccmsModule.code")
   EvidenceDocumentDetail toEvidenceDocumentDetail(final EvidenceUploadFormData formData);
 
+  /**
+   * Map the evidence upload form data to an evidence document detail without its file data, for
+   * when the content is sent separately from the uploaded file.
+   *
+   * @param formData the evidence upload form data.
+   * @return the evidence document detail, with no file data.
+   */
+  @InheritConfiguration(name = "toEvidenceDocumentDetail")
+  @Mapping(target = "fileData", ignore = true)
+  EvidenceDocumentDetail toEvidenceDocumentMetadata(final EvidenceUploadFormData formData);
+
   @Mapping(target = "statusDescription", ignore = true)
   @Mapping(target = "documentLink", ignore = true)
   @Mapping(target = "status", ignore = true)
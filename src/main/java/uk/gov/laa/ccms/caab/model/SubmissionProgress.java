@@ -0,0 +1,48 @@
+package uk.gov.laa.ccms.caab.model;
+
+/**
+ * The progress of a case or client submission to EBS.
+ *
+ * @param state whether the submission is still pending, has been confirmed, or has failed.
+ * @param referenceNumber the case or client reference number, once the submission is confirmed.
+ */
+public record SubmissionProgress(State state, String referenceNumber) {
+
+  /** The states a submission moves through. */
+  public enum State {
+    /** The submission has not been confirmed yet. */
+    PENDING,
+    /** The submission has been confirmed, and has a reference number. */
+    CONFIRMED,
+    /** The submission was not confirmed in time. */
+    FAILED
+  }
+
+  /**
+   * The progress of a submission which has not been confirmed yet.
+   *
+   * @return the pending progress.
+   */
+  public static SubmissionProgress pending() {
+    return new SubmissionProgress(State.PENDING, null);
+  }
+
+  /**
+   * The progress of a submission which has been confirmed.
+   *
+   * @param referenceNumber the case or client reference number.
+   * @return the confirmed progress.
+   */
+  public static SubmissionProgress confirmed(final String referenceNumber) {
+    return new SubmissionProgress(State.CONFIRMED, referenceNumber);
+  }
+
+  /**
+   * The progress of a submission which was not confirmed in time.
+   *
+   * @return the failed progress.
+   */
+  public static SubmissionProgress failed() {
+    return new SubmissionProgress(State.FAILED, null);
+  }
+}
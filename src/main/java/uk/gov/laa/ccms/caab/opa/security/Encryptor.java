@@ -13,25 +13,39 @@
 package uk.gov.laa.ccms.caab.opa.security;
 
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.util.Base64;
-import javax.crypto.BadPaddingException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.PBEParameterSpec;
 import lombok.extern.slf4j.Slf4j;
 
-/** Provides cryptographic functions for encrypting and decrypting a given String. */
+/**
+ * Provides cryptographic functions for encrypting and decrypting a given String.
+ *
+ * <p>A {@link Cipher} can only be used by one thread at a time, so rather than sharing one of each
+ * behind a lock, initialised ciphers are kept in lock-free pools: a call borrows one, or creates
+ * one from the cached key if none is free, and hands it back when done. The pools grow to the
+ * greatest number of calls made at once and no further.
+ */
 @Slf4j
 public class Encryptor {
 
-  private Cipher encryptCipher;
+  private static final String ALGORITHM = "PBEWithMD5AndDES";
+
+  private static final String TRANSFORMATION = "PBEWithMD5AndDES/CBC/PKCS5Padding";
+
+  private final SecretKey key;
 
-  private Cipher decryptCipher;
+  private final PBEParameterSpec parameters;
 
-  private String password;
+  private final Queue<Cipher> encryptCiphers = new ConcurrentLinkedQueue<>();
+
+  private final Queue<Cipher> decryptCiphers = new ConcurrentLinkedQueue<>();
 
   /**
    * Constructs an Encryptor and initializes it with a master password, salt, and iteration count.
@@ -54,23 +68,16 @@ public class Encryptor {
       (byte) 0x3e,
       (byte) 0x19
     };
-    final int iterations = 3;
-
-    init(pass, salt, iterations);
-  }
 
-  private void init(final char[] pass, final byte[] salt, final int iterations)
-      throws SecurityException {
+    // The legacy systems derive the key with 20 iterations, whatever their iterations variable
+    // says, so that is what the wire format needs.
     try {
-      final PBEParameterSpec ps = new PBEParameterSpec(salt, 20);
-      final SecretKeyFactory kf = SecretKeyFactory.getInstance("PBEWithMD5AndDES");
-      final SecretKey k = kf.generateSecret(new PBEKeySpec(pass));
+      this.parameters = new PBEParameterSpec(salt, 20);
+      this.key = SecretKeyFactory.getInstance(ALGORITHM).generateSecret(new PBEKeySpec(pass));
 
-      encryptCipher = Cipher.getInstance("PBEWithMD5AndDES/CBC/PKCS5Padding");
-      encryptCipher.init(Cipher.ENCRYPT_MODE, k, ps);
-
-      decryptCipher = Cipher.getInstance("PBEWithMD5AndDES/CBC/PKCS5Padding");
-      decryptCipher.init(Cipher.DECRYPT_MODE, k, ps);
+      // Create one of each up front, so a bad configuration fails here rather than on first use.
+      encryptCiphers.add(newCipher(Cipher.ENCRYPT_MODE));
+      decryptCiphers.add(newCipher(Cipher.DECRYPT_MODE));
     } catch (final Exception e) {
       throw new SecurityException("Could not initialize CryptoLibrary: " + e.getMessage());
     }
@@ -83,11 +90,11 @@ public class Encryptor {
    * @return String the encrypted string.
    * @exception SecurityException Description of the Exceptio
    */
-  public synchronized String encrypt(final String value) throws SecurityException {
+  public String encrypt(final String value) throws SecurityException {
 
     try {
       final byte[] utf8Value = value.getBytes(StandardCharsets.UTF_8);
-      final byte[] encryptedValue = encryptCipher.doFinal(utf8Value);
+      final byte[] encryptedValue = doFinal(encryptCiphers, Cipher.ENCRYPT_MODE, utf8Value);
 
       return Base64.getEncoder().encodeToString(encryptedValue);
     } catch (final Exception e) {
@@ -102,7 +109,7 @@ public class Encryptor {
    * @return String the encrypted string.
    * @exception SecurityException Description of the Exception
    */
-  public synchronized String decrypt(final String str) throws SecurityException {
+  public String decrypt(final String str) throws SecurityException {
     try {
       return decodetoken(str);
     } catch (final Exception e) {
@@ -110,11 +117,31 @@ public class Encryptor {
     }
   }
 
-  private String decodetoken(final String str)
-      throws IllegalBlockSizeException, BadPaddingException {
+  private String decodetoken(final String str) throws GeneralSecurityException {
     final byte[] decryptedValue;
     // Directly use java.util.Base64 for decoding
-    decryptedValue = decryptCipher.doFinal(Base64.getDecoder().decode(str));
+    decryptedValue =
+        doFinal(decryptCiphers, Cipher.DECRYPT_MODE, Base64.getDecoder().decode(str));
     return new String(decryptedValue, StandardCharsets.UTF_8);
   }
+
+  /**
+   * Runs the input through a cipher borrowed from the pool. A completed {@code doFinal} leaves the
+   * cipher as it was initialised, ready to be handed back; one that failed may not, so it is
+   * dropped and the pool makes another when it needs one.
+   */
+  private byte[] doFinal(final Queue<Cipher> pool, final int mode, final byte[] input)
+      throws GeneralSecurityException {
+    final Cipher pooled = pool.poll();
+    final Cipher cipher = pooled != null ? pooled : newCipher(mode);
+    final byte[] output = cipher.doFinal(input);
+    pool.offer(cipher);
+    return output;
+  }
+
+  private Cipher newCipher(final int mode) throws GeneralSecurityException {
+    final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+    cipher.init(mode, key, parameters);
+    return cipher;
+  }
 }
@@ -1,21 +1,29 @@
 package uk.gov.laa.ccms.caab.service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 import uk.gov.laa.ccms.caab.bean.AddressFormData;
 import uk.gov.laa.ccms.caab.bean.AddressSearchFormData;
 import uk.gov.laa.ccms.caab.bean.ClientFormDataAddressDetails;
+import uk.gov.laa.ccms.caab.cache.AddressSearchCache;
 import uk.gov.laa.ccms.caab.client.OrdinanceSurveyApiClient;
 import uk.gov.laa.ccms.caab.mapper.AddressFormDataMapper;
 import uk.gov.laa.ccms.caab.mapper.ClientAddressResultDisplayMapper;
 import uk.gov.laa.ccms.caab.model.AddressResultRowDisplay;
 import uk.gov.laa.ccms.caab.model.ResultsDisplay;
-import uk.gov.laa.ccms.caab.model.os.OrdinanceSurveyResponse;
-
-/** Service class to handle Addresses. */
+import uk.gov.laa.ccms.caab.util.IndexedAddresses;
+
+/**
+ * Service class to handle Addresses.
+ *
+ * <p>Address search results are held in the {@link AddressSearchCache} by postcode, together with
+ * an index of them by house name or number and UPRN, which is used to filter and select from them.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -27,6 +35,8 @@ public class AddressService {
 
   private final AddressFormDataMapper addressFormDataMapper;
 
+  private final AddressSearchCache addressSearchCache;
+
   /**
    * Updates the ClientFormDataAddressDetails object with information from the
    * AddressResultRowDisplay object.
@@ -64,18 +74,38 @@ public class AddressService {
    */
   public ResultsDisplay<AddressResultRowDisplay> getAddresses(final String postcode) {
     try {
-      final OrdinanceSurveyResponse response =
-          ordinanceSurveyApiClient.getAddresses(postcode).block();
-
-      return response != null && response.getResults() != null
-          ? clientAddressResultDisplayMapper.toClientAddressResultsDisplay(response)
-          : new ResultsDisplay<AddressResultRowDisplay>();
+      return Optional.ofNullable(addressSearchCache.get(postcode, this::fetchAddresses).block())
+          .map(IndexedAddresses::getResults)
+          .orElseGet(ResultsDisplay::new);
     } catch (final Exception e) {
       log.error("Error fetching addresses from Ordinance Survey API: {}", e.getMessage());
       return new ResultsDisplay<AddressResultRowDisplay>();
     }
   }
 
+  private Mono<IndexedAddresses> fetchAddresses(final String postcode) {
+    return ordinanceSurveyApiClient
+        .getAddresses(postcode)
+        .filter(response -> response.getResults() != null)
+        .map(clientAddressResultDisplayMapper::toClientAddressResultsDisplay)
+        .map(IndexedAddresses::of);
+  }
+
+  /**
+   * Finds the index of a set of address search results - the cached one if these are the cached
+   * results for their postcode, or a new one otherwise.
+   *
+   * @param results The address search results.
+   * @return The index of the results.
+   */
+  private IndexedAddresses index(final ResultsDisplay<AddressResultRowDisplay> results) {
+    return Optional.ofNullable(results.getContent())
+        .filter(content -> !content.isEmpty())
+        .map(content -> addressSearchCache.getIfPresent(content.getFirst().getPostcode()))
+        .filter(indexedAddresses -> indexedAddresses.isIndexOf(results))
+        .orElseGet(() -> IndexedAddresses.of(results));
+  }
+
   /**
    * Filters a list of addresses based on the provided house name or number.
    *
@@ -88,12 +118,10 @@ public class AddressService {
       final String houseNameNumber, final ResultsDisplay<AddressResultRowDisplay> results) {
 
     final List<AddressResultRowDisplay> filteredAddressList =
-        results.getContent().stream()
-            .filter(address -> address.getHouseNameNumber().equalsIgnoreCase(houseNameNumber))
-            .collect(Collectors.toList());
+        index(results).getByHouseNameNumber(houseNameNumber);
 
     final ResultsDisplay<AddressResultRowDisplay> filteredResults = new ResultsDisplay<>();
-    filteredResults.setContent(filteredAddressList);
+    filteredResults.setContent(new ArrayList<>(filteredAddressList));
 
     return filteredAddressList.isEmpty() ? results : filteredResults;
   }
@@ -111,13 +139,7 @@ public class AddressService {
       final ResultsDisplay<AddressResultRowDisplay> results,
       final ClientFormDataAddressDetails addressDetails) {
 
-    final AddressResultRowDisplay clientAddress =
-        results != null
-            ? results.getContent().stream()
-                .filter(result -> uprn.equals(result.getUprn()))
-                .findFirst()
-                .orElse(null)
-            : null;
+    final AddressResultRowDisplay clientAddress = getSelectedAddress(uprn, results);
 
     clientAddressResultDisplayMapper.updateClientFormDataAddressDetails(
         addressDetails, clientAddress);
@@ -135,12 +157,7 @@ public class AddressService {
   public AddressResultRowDisplay getSelectedAddress(
       final String uprn, final ResultsDisplay<AddressResultRowDisplay> results) {
 
-    return results != null
-        ? results.getContent().stream()
-            .filter(result -> uprn.equals(result.getUprn()))
-            .findFirst()
-            .orElse(null)
-        : null;
+    return results != null ? index(results).getByUprn(uprn) : null;
   }
 
   /**
@@ -155,13 +172,7 @@ public class AddressService {
       final ResultsDisplay<AddressResultRowDisplay> results,
       final AddressFormData addressFormData) {
 
-    final AddressResultRowDisplay addressResultRowDisplay =
-        results != null
-            ? results.getContent().stream()
-                .filter(result -> uprn.equals(result.getUprn()))
-                .findFirst()
-                .orElse(null)
-            : null;
+    final AddressResultRowDisplay addressResultRowDisplay = getSelectedAddress(uprn, results);
 
     addressFormDataMapper.updateAddressFormData(addressFormData, addressResultRowDisplay);
   }
@@ -25,9 +25,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -35,9 +37,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 import reactor.util.function.Tuple4;
 import reactor.util.function.Tuple5;
-import reactor.util.function.Tuple6;
+import reactor.util.function.Tuple7;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetails;
 import uk.gov.laa.ccms.caab.bean.AddressFormData;
@@ -178,47 +181,50 @@ public class ApplicationService {
 
     ReflectionUtils.nullifyStrings(caseSearchCriteria);
 
-    final List<BaseApplicationDetail> searchResults = new ArrayList<>();
-
     // Only search for EBS Cases if the user hasn't selected status 'UNSUBMITTED'.
-    if (!STATUS_UNSUBMITTED_ACTUAL_VALUE.equals(caseSearchCriteria.getStatus())) {
-      // Set page and size to min and max respectively. Because we are combining 2 searches
-      // we will have to return all records for pagination by the caller.
-      final CaseDetails caseDetails =
-          Optional.ofNullable(
-                  ebsApiClient
-                      .getCases(
-                          caseSearchCriteria,
-                          user.getProvider().getId(),
-                          0,
-                          searchConstants.getMaxSearchResultsCases())
-                      .block())
-              .orElseThrow(() -> new CaabApplicationException("Failed to retrieve EBS Cases"));
-
-      if (caseDetails.getTotalElements() > searchConstants.getMaxSearchResultsCases()) {
-        throw new TooManyResultsException(
-            "Case Search returned %s results".formatted(caseDetails.getTotalElements()));
-      }
-
-      searchResults.addAll(
-          caseDetails.getContent().stream().map(soaApplicationMapper::toBaseApplication).toList());
-    }
+    // Set page and size to min and max respectively. Because we are combining 2 searches
+    // we will have to return all records for pagination by the caller.
+    final Mono<List<BaseApplicationDetail>> ebsCasesMono =
+        STATUS_UNSUBMITTED_ACTUAL_VALUE.equals(caseSearchCriteria.getStatus())
+            ? Mono.just(List.of())
+            : ebsApiClient
+                .getCases(
+                    caseSearchCriteria,
+                    user.getProvider().getId(),
+                    0,
+                    searchConstants.getMaxSearchResultsCases())
+                .switchIfEmpty(
+                    Mono.error(new CaabApplicationException("Failed to retrieve EBS Cases")))
+                .map(this::toEbsSearchResults);
 
     // We need to fetch all TDS applications regardless of status to check for amendments.
-    // Temporarily remove case status from search criteria.
+    // Temporarily remove case status from search criteria. The query is built when the request
+    // is created, so the status can be restored before either search is made.
     String caseStatus = caseSearchCriteria.getStatus();
     caseSearchCriteria.setStatus(null);
 
     // Now retrieve applications from the Transient Data Store
-    final List<BaseApplicationDetail> tdsApplications =
-        this.getTdsApplications(
-                caseSearchCriteria, user, 0, searchConstants.getMaxSearchResultsCases())
-            .getContent();
+    final Mono<List<BaseApplicationDetail>> tdsApplicationsMono =
+        caabApiClient
+            .getApplications(
+                caseSearchCriteria,
+                user.getProvider().getId(),
+                0,
+                searchConstants.getMaxSearchResultsCases())
+            .switchIfEmpty(
+                Mono.error(new CaabApplicationException("Failed to query for applications")))
+            .map(ApplicationDetails::getContent);
 
     // Re-add the original case status to the search criteria to retain for pre-poulation
     // of the search form.
     caseSearchCriteria.setStatus(caseStatus);
 
+    // Run the EBS and TDS searches concurrently.
+    final Tuple2<List<BaseApplicationDetail>, List<BaseApplicationDetail>> searches =
+        Mono.zip(ebsCasesMono, tdsApplicationsMono).block();
+    final List<BaseApplicationDetail> searchResults = new ArrayList<>(searches.getT1());
+    final List<BaseApplicationDetail> tdsApplications = searches.getT2();
+
     /*
      * TODO: Exclude (and remove) any Pending Applications where the SOA
      *  transaction has now completed.
@@ -227,46 +233,35 @@ public class ApplicationService {
 
     // Handle amendments: where there is a duplicate case from EBS + TDS, set the EBS amendment
     // flag to true, and remove the TDS application from the results.
-    searchResults.stream()
-        .filter(
-            ebsCase ->
-                tdsApplications.stream()
-                    .anyMatch(
-                        tdsApplication ->
-                            tdsApplication
-                                .getCaseReferenceNumber()
-                                .equals(ebsCase.getCaseReferenceNumber())))
-        .forEach(
-            ebsCase -> {
-              final Optional<BaseApplicationDetail> matchingTds =
-                  tdsApplications.stream()
-                      .filter(
-                          tdsApplication ->
-                              tdsApplication
-                                  .getCaseReferenceNumber()
-                                  .equals(ebsCase.getCaseReferenceNumber()))
-                      .findFirst();
-
-              // Duplicate EBS/TDS case references only indicate an amendment when the TDS record
-              // is explicitly flagged as an amendment.
-              if (matchingTds.isPresent()
-                  && Boolean.TRUE.equals(matchingTds.get().getAmendment())) {
-                ebsCase.setAmendment(true);
-              }
-
-              tdsApplications.removeIf(
-                  app -> app.getCaseReferenceNumber().equals(ebsCase.getCaseReferenceNumber()));
-            });
-
-    // Clear TDS results unless case status search criteria was 'UNSUBMITTED', 'Draft' or unset
-    if (caseSearchCriteria.getStatus() != null
-        && !STATUS_UNSUBMITTED_ACTUAL_VALUE.equals(caseSearchCriteria.getStatus())
-        && !STATUS_DRAFT.equals(caseSearchCriteria.getStatus())) {
-      tdsApplications.clear();
+    final Map<String, BaseApplicationDetail> tdsApplicationsByCaseRef =
+        new HashMap<>(tdsApplications.size());
+    tdsApplications.forEach(
+        tdsApplication ->
+            tdsApplicationsByCaseRef.putIfAbsent(
+                tdsApplication.getCaseReferenceNumber(), tdsApplication));
+
+    final Set<String> ebsCaseRefs = new HashSet<>(searchResults.size());
+    for (final BaseApplicationDetail ebsCase : searchResults) {
+      ebsCaseRefs.add(ebsCase.getCaseReferenceNumber());
+
+      // Duplicate EBS/TDS case references only indicate an amendment when the TDS record
+      // is explicitly flagged as an amendment.
+      final BaseApplicationDetail matchingTds =
+          tdsApplicationsByCaseRef.get(ebsCase.getCaseReferenceNumber());
+      if (matchingTds != null && Boolean.TRUE.equals(matchingTds.getAmendment())) {
+        ebsCase.setAmendment(true);
+      }
     }
 
-    // Now add the remaining TDS applications into the list
-    searchResults.addAll(tdsApplications);
+    // Add the remaining TDS applications, unless case status search criteria was not
+    // 'UNSUBMITTED', 'Draft' or unset
+    if (caseSearchCriteria.getStatus() == null
+        || STATUS_UNSUBMITTED_ACTUAL_VALUE.equals(caseSearchCriteria.getStatus())
+        || STATUS_DRAFT.equals(caseSearchCriteria.getStatus())) {
+      tdsApplications.stream()
+          .filter(tdsApplication -> !ebsCaseRefs.contains(tdsApplication.getCaseReferenceNumber()))
+          .forEach(searchResults::add);
+    }
 
     // Final check of the number of results now that the two searches have been combined.
     if (searchResults.size() > searchConstants.getMaxSearchResultsCases()) {
@@ -280,6 +275,22 @@ public class ApplicationService {
     return searchResults;
   }
 
+  /**
+   * Map the EBS cases returned by a case search to BaseApplicationDetails, first checking that the
+   * search has not matched more cases than can be displayed.
+   *
+   * @param caseDetails the EBS case search results.
+   * @return the EBS cases as a List of BaseApplicationDetail.
+   * @throws TooManyResultsException if the search matched more cases than can be displayed.
+   */
+  private List<BaseApplicationDetail> toEbsSearchResults(final CaseDetails caseDetails) {
+    if (caseDetails.getTotalElements() > searchConstants.getMaxSearchResultsCases()) {
+      throw new TooManyResultsException(
+          "Case Search returned %s results".formatted(caseDetails.getTotalElements()));
+    }
+    return caseDetails.getContent().stream().map(soaApplicationMapper::toBaseApplication).toList();
+  }
+
   /**
    * Applies a patch to an existing application.
    *
@@ -823,13 +834,22 @@ public class ApplicationService {
             user.getProvider().getId().toString(),
             application.getCaseReferenceNumber());
 
-    final Tuple6<
+    // The evidence check depends only on the application, so it runs alongside the lookups rather
+    // than after them.
+    final Mono<Boolean> allEvidenceProvidedMono =
+        evidenceService.getAllEvidenceProvided(
+            String.valueOf(application.getId()),
+            application.getCaseReferenceNumber(),
+            application.getProviderDetails().getProvider().getId());
+
+    final Tuple7<
             RelationshipToCaseLookupDetail,
             RelationshipToCaseLookupDetail,
             CommonLookupDetail,
             CommonLookupDetail,
             AssessmentDetails,
-            AssessmentDetails>
+            AssessmentDetails,
+            Boolean>
         applicationSummaryMonos =
             Mono.zip(
                     orgRelationshipsToCaseMono,
@@ -837,7 +857,8 @@ public class ApplicationService {
                     relationshipsToClientMono,
                     contactTitlesMono,
                     meansAssessmentsMono,
-                    meritsAssessmentsMono)
+                    meritsAssessmentsMono,
+                    allEvidenceProvidedMono)
                 .blockOptional()
                 .orElseThrow(
                     () ->
@@ -874,11 +895,7 @@ public class ApplicationService {
             application.getApplicationType(),
             application.getPriorAuthorities());
 
-    final boolean allEvidenceProvided =
-        evidenceService.isAllEvidenceProvided(
-            String.valueOf(application.getId()),
-            application.getCaseReferenceNumber(),
-            application.getProviderDetails().getProvider().getId());
+    final boolean allEvidenceProvided = applicationSummaryMonos.getT7();
 
     return new ApplicationSectionsBuilder(application.getAuditTrail())
         .caseReferenceNumber(application.getCaseReferenceNumber())
@@ -1187,20 +1204,17 @@ public class ApplicationService {
     BigDecimal maxValue = BigDecimal.valueOf(0);
     final List<Float> costLimitations = new ArrayList<>();
 
-    for (final ScopeLimitationDetail scopeLimitation : scopeLimitations) {
-      final uk.gov.laa.ccms.data.model.ScopeLimitationDetail criteria =
-          new uk.gov.laa.ccms.data.model.ScopeLimitationDetail()
-              .categoryOfLaw(categoryOfLaw)
-              .matterType(matterType)
-              .proceedingCode(proceedingCode)
-              .levelOfService(levelOfService)
-              .scopeLimitations(scopeLimitation.getScopeLimitation().getId());
-
-      if (EMERGENCY_APPLICATION_TYPE_CODES.contains(applicationType)) {
-        criteria.emergency(true);
-      }
+    final Map<String, ScopeLimitationDetails> scopeLimitationDetails =
+        getScopeLimitationDetails(
+            categoryOfLaw,
+            matterType,
+            proceedingCode,
+            levelOfService,
+            EMERGENCY_APPLICATION_TYPE_CODES.contains(applicationType),
+            scopeLimitations);
 
-      Optional.ofNullable(lookupService.getScopeLimitationDetails(criteria).block())
+    for (final ScopeLimitationDetail scopeLimitation : scopeLimitations) {
+      Optional.ofNullable(scopeLimitationDetails.get(scopeLimitation.getScopeLimitation().getId()))
           .orElseThrow(
               () -> new CaabApplicationException("Failed to retrieve scope limitiation details"))
           .getContent()
@@ -1248,19 +1262,17 @@ public class ApplicationService {
     //      // see - getAmendmentProceedingStage
     //    }
 
+    // The stages are always those of the non-emergency scope limitation details.
+    final Map<String, ScopeLimitationDetails> scopeLimitationDetails =
+        getScopeLimitationDetails(
+            categoryOfLaw, matterType, proceedingCode, levelOfService, false, scopeLimitations);
+
     final List<List<Integer>> allStages = new ArrayList<>();
     final List<Integer> minStageList = new ArrayList<>();
     for (final ScopeLimitationDetail scopeLimitation : scopeLimitations) {
-      final uk.gov.laa.ccms.data.model.ScopeLimitationDetail criteria =
-          new uk.gov.laa.ccms.data.model.ScopeLimitationDetail()
-              .categoryOfLaw(categoryOfLaw)
-              .matterType(matterType)
-              .proceedingCode(proceedingCode)
-              .levelOfService(levelOfService)
-              .scopeLimitations(scopeLimitation.getScopeLimitation().getId());
-
       final List<Integer> stageList =
-          Optional.ofNullable(lookupService.getScopeLimitationDetails(criteria).block())
+          Optional.ofNullable(
+                  scopeLimitationDetails.get(scopeLimitation.getScopeLimitation().getId()))
               .orElseThrow(
                   () -> new CaabApplicationException("Failed to retrieve scope limitation details"))
               .getContent()
@@ -1281,6 +1293,44 @@ public class ApplicationService {
     return getMinValue(minStageList);
   }
 
+  /**
+   * Looks up the details of all of a proceeding's scope limitations at once. The details are
+   * reference data, so the cost limitation, stage and wording lookups for a proceeding share them.
+   *
+   * @param categoryOfLaw The category of law.
+   * @param matterType The type of the matter.
+   * @param proceedingCode The code of the proceeding.
+   * @param levelOfService The level of service.
+   * @param emergency Whether to look up the emergency details of the scope limitations.
+   * @param scopeLimitations The list of scope limitations.
+   * @return The scope limitation details, keyed on scope limitation code.
+   */
+  private Map<String, ScopeLimitationDetails> getScopeLimitationDetails(
+      final String categoryOfLaw,
+      final String matterType,
+      final String proceedingCode,
+      final String levelOfService,
+      final boolean emergency,
+      final List<ScopeLimitationDetail> scopeLimitations) {
+    if (scopeLimitations.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    return Optional.ofNullable(
+            lookupService
+                .getScopeLimitationDetails(
+                    categoryOfLaw,
+                    matterType,
+                    proceedingCode,
+                    levelOfService,
+                    emergency,
+                    scopeLimitations.stream()
+                        .map(scopeLimitation -> scopeLimitation.getScopeLimitation().getId())
+                        .toList())
+                .block())
+        .orElseGet(Collections::emptyMap);
+  }
+
   /**
    * Finds the common stages across all scope limitations.
    *
@@ -2069,32 +2119,31 @@ public class ApplicationService {
       final ApplicationDetail application,
       final ProceedingDetail proceeding,
       final List<ScopeLimitationDetail> scopeLimitations) {
-    Optional.ofNullable(scopeLimitations).orElseGet(Collections::emptyList).stream()
-        .filter(scopeLimitation -> scopeLimitation.getScopeLimitation() != null)
-        .filter(scopeLimitation -> scopeLimitation.getScopeLimitation().getId() != null)
-        .forEach(
-            scopeLimitation ->
-                scopeLimitation.setNonDefaultWordingReqd(
-                    getNonDefaultWordingRequired(application, proceeding, scopeLimitation)));
+    final List<ScopeLimitationDetail> knownScopeLimitations =
+        Optional.ofNullable(scopeLimitations).orElseGet(Collections::emptyList).stream()
+            .filter(scopeLimitation -> scopeLimitation.getScopeLimitation() != null)
+            .filter(scopeLimitation -> scopeLimitation.getScopeLimitation().getId() != null)
+            .toList();
+
+    final Map<String, ScopeLimitationDetails> scopeLimitationDetails =
+        getScopeLimitationDetails(
+            application.getCategoryOfLaw().getId(),
+            proceeding.getMatterType().getId(),
+            proceeding.getProceedingType().getId(),
+            proceeding.getLevelOfService().getId(),
+            EMERGENCY_APPLICATION_TYPE_CODES.contains(application.getApplicationType().getId()),
+            knownScopeLimitations);
+
+    knownScopeLimitations.forEach(
+        scopeLimitation ->
+            scopeLimitation.setNonDefaultWordingReqd(
+                getNonDefaultWordingRequired(
+                    scopeLimitationDetails.get(scopeLimitation.getScopeLimitation().getId()))));
   }
 
   private Boolean getNonDefaultWordingRequired(
-      final ApplicationDetail application,
-      final ProceedingDetail proceeding,
-      final ScopeLimitationDetail scopeLimitation) {
-    final uk.gov.laa.ccms.data.model.ScopeLimitationDetail criteria =
-        new uk.gov.laa.ccms.data.model.ScopeLimitationDetail()
-            .categoryOfLaw(application.getCategoryOfLaw().getId())
-            .matterType(proceeding.getMatterType().getId())
-            .proceedingCode(proceeding.getProceedingType().getId())
-            .levelOfService(proceeding.getLevelOfService().getId())
-            .scopeLimitations(scopeLimitation.getScopeLimitation().getId());
-
-    if (EMERGENCY_APPLICATION_TYPE_CODES.contains(application.getApplicationType().getId())) {
-      criteria.emergency(true);
-    }
-
-    return Optional.ofNullable(lookupService.getScopeLimitationDetails(criteria).block())
+      final ScopeLimitationDetails scopeLimitationDetails) {
+    return Optional.ofNullable(scopeLimitationDetails)
         .map(ScopeLimitationDetails::getContent)
         .orElseGet(Collections::emptyList)
         .stream()
@@ -30,7 +30,6 @@ import static uk.gov.laa.ccms.caab.util.AssessmentUtil.getDisplayNameForAttribut
 import static uk.gov.laa.ccms.caab.util.AssessmentUtil.getEntityRelationship;
 import static uk.gov.laa.ccms.caab.util.AssessmentUtil.getFormattedAttributeValue;
 import static uk.gov.laa.ccms.caab.util.AssessmentUtil.getMostRecentAssessmentDetail;
-import static uk.gov.laa.ccms.caab.util.AssessmentUtil.getRelatedEntities;
 import static uk.gov.laa.ccms.caab.util.AssessmentUtil.isAssessmentReferenceConsistent;
 import static uk.gov.laa.ccms.caab.util.OpponentUtil.getOpponentByEbsId;
 import static uk.gov.laa.ccms.caab.util.OpponentUtil.getOpponentById;
@@ -45,6 +44,7 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -59,6 +59,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentAttributeDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
@@ -101,6 +102,7 @@ import uk.gov.laa.ccms.caab.model.assessment.AssessmentSummaryAttributeDisplay;
 import uk.gov.laa.ccms.caab.model.assessment.AssessmentSummaryEntityDisplay;
 import uk.gov.laa.ccms.caab.opa.session.OpaSessionJson;
 import uk.gov.laa.ccms.caab.util.AssessmentReuseUtil;
+import uk.gov.laa.ccms.caab.util.IndexedAssessment;
 import uk.gov.laa.ccms.caab.util.OpponentUtil;
 import uk.gov.laa.ccms.caab.util.ProceedingUtil;
 import uk.gov.laa.ccms.data.model.AssessmentSummaryEntityLookupValueDetail;
@@ -209,6 +211,10 @@ public class AssessmentService {
    * determines which assessment was last saved to set the isMeansLast flag and applies status
    * updates based on whether assessments have started or changed.
    *
+   * <p>The statuses are worked out in memory first, and only then written back: each assessment is
+   * patched at most once, with the status it ends up with, both at once, and not at all if its
+   * status has not changed.
+   *
    * @param application the application whose assessments are being evaluated
    * @param meansAssessment the means assessment details
    * @param meritsAssessment the merits assessment details
@@ -226,6 +232,10 @@ public class AssessmentService {
     // status-setting path.
     final Map<String, String> statusDisplayCache = new HashMap<>();
 
+    // The status each assessment is to be patched to. A later rule overrides an earlier one, as its
+    // patch would have landed last when each rule patched as it went.
+    final Map<AssessmentDetail, AssessmentStatus> statusUpdates = new IdentityHashMap<>();
+
     // The stored *AssessmentStatus holds the progress-status display description (e.g. "In
     // progress"), so the assessment's raw status (e.g. "INCOMPLETE") is resolved to its description
     // before comparing - otherwise the values would never match and the assessment would be flagged
@@ -260,51 +270,83 @@ public class AssessmentService {
 
     log.info("Calculating means assessment status");
     calculateAssessmentStatus(
-        MEANS, meansAssessment, meritsAssessment, application, user, statusDisplayCache);
+        MEANS,
+        meansAssessment,
+        meritsAssessment,
+        application,
+        user,
+        statusDisplayCache,
+        statusUpdates);
 
     log.info("Calculating merits assessment status");
     calculateAssessmentStatus(
-        MERITS, meritsAssessment, meansAssessment, application, user, statusDisplayCache);
+        MERITS,
+        meritsAssessment,
+        meansAssessment,
+        application,
+        user,
+        statusDisplayCache,
+        statusUpdates);
 
     // If a proceeding was removed, we should set reassessment required for both.
     if (Boolean.TRUE.equals(application.getMeritsReassessmentRequired())) {
-      setReassessmentRequired(application, meansAssessment, user, statusDisplayCache);
-      setReassessmentRequired(application, meritsAssessment, user, statusDisplayCache);
+      setReassessmentRequired(application, meansAssessment, statusDisplayCache, statusUpdates);
+      setReassessmentRequired(application, meritsAssessment, statusDisplayCache, statusUpdates);
     }
+
+    writeAssessmentStatuses(statusUpdates, user);
   }
 
   /**
-   * Sets the status of the provided assessment to REQUIRED and updates it in the database and on
-   * the application.
+   * Sets the status of the provided assessment to REQUIRED on the application, and marks it to be
+   * updated in the database.
    *
    * @param application the application related to the assessment
    * @param assessment the assessment to update
-   * @param user the user performing the update operation
+   * @param statusUpdates the statuses to write back, by assessment
    */
   private void setReassessmentRequired(
       final ApplicationDetail application,
       final AssessmentDetail assessment,
-      final UserDetail user,
-      final Map<String, String> statusDisplayCache) {
+      final Map<String, String> statusDisplayCache,
+      final Map<AssessmentDetail, AssessmentStatus> statusUpdates) {
     if (assessment != null) {
-      assessmentApiClient
-          .patchAssessment(
-              assessment.getId(),
-              user.getLoginId(),
-              new PatchAssessmentDetail().status(REQUIRED.getStatus()))
-          .block();
+      statusUpdates.put(assessment, REQUIRED);
       setAssessmentStatusOnApplication(application, assessment, REQUIRED, statusDisplayCache);
     }
   }
 
+  /**
+   * Writes the calculated statuses back to the assessments, patching them all at once and skipping
+   * any whose status is unchanged, so the caller waits for one round trip at most.
+   *
+   * @param statusUpdates the statuses to write back, by assessment
+   * @param user the user performing the update operation
+   */
+  private void writeAssessmentStatuses(
+      final Map<AssessmentDetail, AssessmentStatus> statusUpdates, final UserDetail user) {
+    Flux.fromIterable(statusUpdates.entrySet())
+        .filter(update -> update.getValue() != getStatus(update.getKey()))
+        .flatMap(
+            update ->
+                assessmentApiClient.patchAssessment(
+                    update.getKey().getId(),
+                    user.getLoginId(),
+                    new PatchAssessmentDetail().status(update.getValue().getStatus())))
+        .then()
+        .block();
+  }
+
   /**
    * Calculates and updates the status of the provided assessment based on specific criteria,
    * including the amendment state of the application and whether a reassessment is required. The
-   * status is updated through an API client and also set on the application object.
+   * status is set on the application object, and marked to be updated in the database if it has
+   * changed.
    *
    * @param currentAssessment the assessment whose status needs to be evaluated
    * @param application the application related to the assessment
    * @param user the user performing the update operation
+   * @param statusUpdates the statuses to write back, by assessment
    */
   private void calculateAssessmentStatus(
       final AssessmentName assessmentName,
@@ -312,7 +354,8 @@ public class AssessmentService {
       final AssessmentDetail otherAssessment,
       final ApplicationDetail application,
       final UserDetail user,
-      final Map<String, String> statusDisplayCache) {
+      final Map<String, String> statusDisplayCache,
+      final Map<AssessmentDetail, AssessmentStatus> statusUpdates) {
 
     boolean statusChanged = false;
     AssessmentStatus assessmentStatus = getStatus(currentAssessment);
@@ -342,12 +385,7 @@ public class AssessmentService {
 
     // update the assessment status if it has changed
     if (statusChanged && currentAssessment != null) {
-      assessmentApiClient
-          .patchAssessment(
-              currentAssessment.getId(),
-              user.getLoginId(),
-              new PatchAssessmentDetail().status(assessmentStatus.getStatus()))
-          .block();
+      statusUpdates.put(currentAssessment, assessmentStatus);
     }
 
     if (currentAssessment != null
@@ -2107,6 +2145,7 @@ public class AssessmentService {
       final ApplicationDetail application, final AssessmentDetail assessment) {
 
     boolean mismatch = false;
+    final IndexedAssessment indexedAssessment = IndexedAssessment.of(assessment);
     for (final ProceedingDetail proceeding : application.getProceedings()) {
       log.debug(
           "App proceedings ID - " + proceeding.getId() + ", EBS-ID - " + proceeding.getEbsId());
@@ -2114,15 +2153,12 @@ public class AssessmentService {
       final String proceedingId = getAssessmentMappingId(proceeding);
       log.debug("Proceeding ID is " + proceedingId);
 
-      final AssessmentEntityTypeDetail proceedingEntityType =
-          getAssessmentEntityType(assessment, PROCEEDING);
-
       final AssessmentEntityDetail proceedingEntity =
-          getAssessmentEntity(proceedingEntityType, proceedingId);
+          indexedAssessment.getEntity(PROCEEDING, proceedingId);
 
       if (proceedingEntity != null) {
         final String attributeValue =
-            getAssessmentAttribute(proceedingEntity, REQUESTED_SCOPE).getValue();
+            indexedAssessment.getAttribute(proceedingEntity, REQUESTED_SCOPE).getValue();
         log.debug("Assessment Scope Request value : " + attributeValue);
 
         final String scopeInAssessment = getRequestedScopeForAssessmentInput(proceeding);
@@ -2206,6 +2242,7 @@ public class AssessmentService {
       final ApplicationDetail application, final AssessmentDetail assessment) {
 
     boolean mismatch = false;
+    final IndexedAssessment indexedAssessment = IndexedAssessment.of(assessment);
 
     for (final OpponentDetail opponent : application.getOpponents()) {
       log.debug("App opponent ID - " + opponent.getId() + ", EBS-ID - " + opponent.getEbsId());
@@ -2214,11 +2251,8 @@ public class AssessmentService {
 
       log.debug("Opponent ID is " + opponentId);
 
-      final AssessmentEntityTypeDetail opponentEntityType =
-          getAssessmentEntityType(assessment, OPPONENT);
-
       final AssessmentEntityDetail opponentEntity =
-          getAssessmentEntity(opponentEntityType, opponentId);
+          indexedAssessment.getEntity(OPPONENT, opponentId);
 
       if (opponentEntity == null) {
         // An application opponent has no matching assessment entity -> mismatch.
@@ -2267,6 +2301,7 @@ public class AssessmentService {
       final List<AssessmentSummaryEntityLookupValueDetail> childSummaryLookups) {
 
     final List<AssessmentSummaryEntityDisplay> summaryToDisplay = new ArrayList<>();
+    final IndexedAssessment indexedAssessment = IndexedAssessment.of(assessment);
 
     // loop through all parent summary lookups
     for (final AssessmentSummaryEntityLookupValueDetail parentSummaryLookup :
@@ -2275,14 +2310,14 @@ public class AssessmentService {
 
       // get all entities for the parent summary lookup
       final List<AssessmentEntityDetail> entities =
-          getAssessmentEntitiesForEntityType(assessment, parentSummaryLookup.getName());
+          indexedAssessment.getEntities(parentSummaryLookup.getName());
 
       // loop through all entities in the assessment where the entity type matches
       // the parent summary lookup
       for (final AssessmentEntityDetail entity : entities) {
         log.debug("Entity: {}", entity.getName());
         createSummaryEntity(
-            assessment, summaryToDisplay, childSummaryLookups, parentSummaryLookup, entity);
+            indexedAssessment, summaryToDisplay, childSummaryLookups, parentSummaryLookup, entity);
       }
     }
 
@@ -2292,14 +2327,14 @@ public class AssessmentService {
   /**
    * Creates a summary display entity from the given entity and adds it to the list if applicable.
    *
-   * @param assessment the current assessment detail
+   * @param assessment the indexed view of the current assessment
    * @param summaryEntitiesToDisplay the list to add created summary display entities to
    * @param childSummaryLookups list of lookup values for potential child summary entities
    * @param summaryEntityLookup the lookup data for the current summary entity
    * @param entity the current assessment entity to process
    */
   protected void createSummaryEntity(
-      final AssessmentDetail assessment,
+      final IndexedAssessment assessment,
       final List<AssessmentSummaryEntityDisplay> summaryEntitiesToDisplay,
       final List<AssessmentSummaryEntityLookupValueDetail> childSummaryLookups,
       final AssessmentSummaryEntityLookupValueDetail summaryEntityLookup,
@@ -2311,7 +2346,7 @@ public class AssessmentService {
     // check it matches the assessment entity attributes, then add it to a list if matches
     final List<AssessmentSummaryAttributeDisplay> attributesToDisplay =
         summaryEntityLookup.getAttributes().stream()
-            .map(attributeLookup -> getAssessmentAttribute(entity, attributeLookup.getName()))
+            .map(attributeLookup -> assessment.getAttribute(entity, attributeLookup.getName()))
             .filter(Objects::nonNull)
             .map(attribute -> createSummaryAttributeDisplay(attribute, summaryEntityLookup))
             .filter(Objects::nonNull)
@@ -2340,7 +2375,7 @@ public class AssessmentService {
             if (!relationType.startsWith("rev") && !relationType.endsWith("_rev")) {
               log.debug("Relation Type: " + relationType);
               for (final AssessmentEntityDetail childEntity :
-                  getRelatedEntities(relationship, assessment)) {
+                  assessment.getRelatedEntities(relationship)) {
                 for (final AssessmentSummaryEntityLookupValueDetail childSummaryEntityLookup :
                     childSummaryLookups) {
                   createSummaryEntity(
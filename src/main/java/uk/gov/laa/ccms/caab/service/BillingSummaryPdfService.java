@@ -1,23 +1,29 @@
 package uk.gov.laa.ccms.caab.service;
 
-import static uk.gov.laa.ccms.caab.util.AssessmentUtil.getAssessmentAttribute;
-import static uk.gov.laa.ccms.caab.util.AssessmentUtil.getAssessmentEntitiesForEntityType;
-
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
@@ -27,6 +33,7 @@ import uk.gov.laa.ccms.caab.assessment.model.AssessmentAttributeDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityTypeDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AuditDetail;
 import uk.gov.laa.ccms.caab.bean.billing.SoaFigureColumn;
 import uk.gov.laa.ccms.caab.bean.billing.StatementOfAccountDisplay;
 import uk.gov.laa.ccms.caab.bean.billing.pdf.BillLine;
@@ -36,6 +43,7 @@ import uk.gov.laa.ccms.caab.constants.assessment.AssessmentEntityType;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
 import uk.gov.laa.ccms.caab.model.ApplicationDetail;
 import uk.gov.laa.ccms.caab.model.StringDisplayValue;
+import uk.gov.laa.ccms.caab.util.IndexedAssessment;
 
 /**
  * Builds the bill and POA summary report PDFs from the completed billing assessment, mirroring the
@@ -48,11 +56,17 @@ import uk.gov.laa.ccms.caab.model.StringDisplayValue;
  * read.
  *
  * <p>Unlike the legacy PUI, the report is generated on demand and streamed rather than stored in
- * S3: it is a stateless view of the current assessment, so there is nothing to persist.
+ * S3: it is a stateless view of the current assessment, so there is nothing to persist. A rendered
+ * report is held for a while in memory, keyed on the assessment and when it was last saved, so
+ * downloading it again does not render it again.
+ *
+ * <p>Setting up a renderer - its fonts and CSS machinery - costs as much as laying out a small
+ * report, so renderers are created once, pooled, and reused. They are warmed up once the
+ * application is ready rather than while it starts. The pool also bounds how many reports are laid
+ * out at once, as each holds its whole document in memory while it does.
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class BillingSummaryPdfService {
 
   private static final String TEMPLATE = "pdf/billing-summary";
@@ -61,6 +75,13 @@ public class BillingSummaryPdfService {
   private static final String BILL_LINE_ENTITY_SUFFIX = "_BILL_LINE";
   private static final String LOGO_RESOURCE = "static/assets/images/laa.png";
 
+  private static final int RENDERER_POOL_SIZE = 4;
+  private static final Duration RENDERER_WAIT = Duration.ofSeconds(30);
+  private static final String WARM_UP_DOCUMENT = "<html><body><p>warm up</p></body></html>";
+
+  private static final long MAX_CACHED_REPORT_BYTES = 32L * 1024 * 1024;
+  private static final Duration CACHED_REPORT_EXPIRY = Duration.ofMinutes(30);
+
   private static final String ATTR_BILL_TYPE = "BILL_TYPE";
   private static final String ATTR_BILL_DESCRIPTION = "BILL_DESCRIPTION";
   private static final String ATTR_COURT_ASSESS_BILL = "COURT_ASSESS_BILL";
@@ -93,7 +114,41 @@ public class BillingSummaryPdfService {
    * it as a string - so an embedded image is the one form it can resolve in every environment,
    * packaged jar included. Read once and held, since it never changes.
    */
-  private String logoDataUri;
+  private final String logoDataUri;
+
+  /** Pooled renderers, each used by one report at a time. */
+  private final BlockingQueue<ITextRenderer> renderers;
+
+  /** Rendered reports, for assessments whose id and last saved time are known. */
+  private final Cache<ReportKey, byte[]> reports;
+
+  /**
+   * Identifies a rendered report. The bill lines are all read from the assessment, so its id and
+   * last saved time stand for them; the header also carries figures from the case and statement of
+   * account, so it is part of the key as it is.
+   */
+  private record ReportKey(
+      String reportTitle, Long assessmentId, Date lastSaved, TopSectionData topSection) {}
+
+  /**
+   * Creates the service, reading the logo and filling the pool of renderers.
+   *
+   * @param templateEngine the engine to render the report template with.
+   */
+  public BillingSummaryPdfService(final SpringTemplateEngine templateEngine) {
+    this.templateEngine = templateEngine;
+    this.logoDataUri = readLogoDataUri();
+    this.renderers = new ArrayBlockingQueue<>(RENDERER_POOL_SIZE);
+    for (int i = 0; i < RENDERER_POOL_SIZE; i++) {
+      renderers.add(new ITextRenderer());
+    }
+    this.reports =
+        Caffeine.newBuilder()
+            .maximumWeight(MAX_CACHED_REPORT_BYTES)
+            .<ReportKey, byte[]>weigher((key, pdf) -> pdf.length)
+            .expireAfterWrite(CACHED_REPORT_EXPIRY)
+            .build();
+  }
 
   /**
    * Renders the POA summary report for a completed POA assessment to a PDF.
@@ -145,28 +200,108 @@ public class BillingSummaryPdfService {
       final StatementOfAccountDisplay statement,
       final BigDecimal allocatedCostLimit) {
 
-    final List<BillLine> billLines = buildBillLines(assessment);
+    final IndexedAssessment indexedAssessment = IndexedAssessment.of(assessment);
     final TopSectionData top =
-        buildTopSection(ebsCase, providerName, assessment, statement, allocatedCostLimit);
+        buildTopSection(ebsCase, providerName, indexedAssessment, statement, allocatedCostLimit);
+    final Long assessmentId = assessment == null ? null : assessment.getId();
+    final Date lastSaved =
+        Optional.ofNullable(assessment)
+            .map(AssessmentDetail::getAuditDetail)
+            .map(AuditDetail::getLastSaved)
+            .orElse(null);
+
+    if (assessmentId == null || lastSaved == null) {
+      return render(reportTitle, indexedAssessment, top);
+    }
+    final ReportKey key = new ReportKey(reportTitle, assessmentId, lastSaved, top);
+    final byte[] cached = reports.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    // Rendered outside the cache, rather than in a compute, so that a slow render does not hold
+    // the lock shared with other reports' entries. Two downloads of the same report at once may
+    // both render it; the last to finish is kept.
+    final byte[] pdf = render(reportTitle, indexedAssessment, top);
+    reports.put(key, pdf);
+    return pdf;
+  }
+
+  /**
+   * Warms up the pooled renderers once the application is ready, so that startup is not held up
+   * by it. A renderer in use by a report is skipped, as the report warms it up.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUpRenderers() {
+    final List<ITextRenderer> idle = new ArrayList<>(RENDERER_POOL_SIZE);
+    renderers.drainTo(idle);
+    for (final ITextRenderer renderer : idle) {
+      renderers.add(warmedUp(renderer));
+    }
+  }
+
+  private byte[] render(
+      final String reportTitle, final IndexedAssessment assessment, final TopSectionData top) {
+    final List<BillLine> billLines = buildBillLines(assessment);
     final BottomSectionData bottom = buildBottomSection(billLines);
 
     final Context context = new Context();
     context.setVariable("data", reportTitle);
-    context.setVariable("logo", logoDataUri());
+    context.setVariable("logo", logoDataUri);
     context.setVariable("topSectionData", top);
     context.setVariable("billLines", billLines);
     context.setVariable("bottomSectionData", bottom);
 
     final String html = templateEngine.process(TEMPLATE, context);
 
+    final ITextRenderer renderer = takeRenderer(reportTitle);
+    boolean rendered = false;
     try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-      final ITextRenderer renderer = new ITextRenderer();
-      renderer.setDocumentFromString(html);
-      renderer.layout();
-      renderer.createPDF(out);
+      renderTo(renderer, html, out);
+      rendered = true;
       return out.toByteArray();
     } catch (final Exception e) {
       throw new CaabApplicationException("Failed to generate the " + reportTitle + " PDF", e);
+    } finally {
+      // A renderer that failed part way through may be left holding that document's state, so a
+      // fresh one takes its place rather than risking it on the next report.
+      renderers.add(rendered ? renderer : new ITextRenderer());
+    }
+  }
+
+  private ITextRenderer takeRenderer(final String reportTitle) {
+    try {
+      final ITextRenderer renderer =
+          renderers.poll(RENDERER_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+      if (renderer == null) {
+        throw new CaabApplicationException(
+            "Timed out waiting for a renderer for the " + reportTitle + " PDF");
+      }
+      return renderer;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CaabApplicationException(
+          "Interrupted waiting for a renderer for the " + reportTitle + " PDF", e);
+    }
+  }
+
+  private static void renderTo(
+      final ITextRenderer renderer, final String html, final OutputStream out) throws Exception {
+    renderer.setDocumentFromString(html);
+    renderer.layout();
+    renderer.createPDF(out);
+  }
+
+  /**
+   * The renderer, once it has laid out a small document, so its fonts are loaded and its CSS
+   * machinery set up before the first report needs it.
+   */
+  private static ITextRenderer warmedUp(final ITextRenderer renderer) {
+    try {
+      renderTo(renderer, WARM_UP_DOCUMENT, OutputStream.nullOutputStream());
+      return renderer;
+    } catch (final Exception e) {
+      log.warn("Could not warm up a PDF renderer; the first report will do it instead", e);
+      return new ITextRenderer();
     }
   }
 
@@ -174,23 +309,19 @@ public class BillingSummaryPdfService {
    * The LAA logo as a data URI, or an empty string if it cannot be read - a missing logo should
    * cost the user the report's header image, not the report.
    */
-  private synchronized String logoDataUri() {
-    if (logoDataUri == null) {
-      try (InputStream logo = new ClassPathResource(LOGO_RESOURCE).getInputStream()) {
-        logoDataUri =
-            "data:image/png;base64," + Base64.getEncoder().encodeToString(logo.readAllBytes());
-      } catch (final IOException e) {
-        log.warn("Could not read the report logo from {}; rendering without it", LOGO_RESOURCE, e);
-        logoDataUri = "";
-      }
+  private static String readLogoDataUri() {
+    try (InputStream logo = new ClassPathResource(LOGO_RESOURCE).getInputStream()) {
+      return "data:image/png;base64," + Base64.getEncoder().encodeToString(logo.readAllBytes());
+    } catch (final IOException e) {
+      log.warn("Could not read the report logo from {}; rendering without it", LOGO_RESOURCE, e);
+      return "";
     }
-    return logoDataUri;
   }
 
   private TopSectionData buildTopSection(
       final ApplicationDetail ebsCase,
       final String providerName,
-      final AssessmentDetail assessment,
+      final IndexedAssessment assessment,
       final StatementOfAccountDisplay statement,
       final BigDecimal allocatedCostLimit) {
 
@@ -203,27 +334,23 @@ public class BillingSummaryPdfService {
     return TopSectionData.builder()
         .caseReference(ebsCase.getCaseReferenceNumber())
         .providerName(providerName)
-        .billType(attributeValue(global, ATTR_BILL_TYPE))
-        .description(attributeValue(global, ATTR_BILL_DESCRIPTION))
+        .billType(attributeValue(assessment, global, ATTR_BILL_TYPE))
+        .description(attributeValue(assessment, global, ATTR_BILL_DESCRIPTION))
         .caseStatus(caseStatus(ebsCase))
         // The legacy report leaves the total POA blank.
         .totalPoa("")
         .totalBills(orZero(providerColumn.getBillsAuthorised()))
-        .courtAssessedBill(attributeValue(global, ATTR_COURT_ASSESS_BILL))
+        .courtAssessedBill(attributeValue(assessment, global, ATTR_COURT_ASSESS_BILL))
         .costLimit(orZero(allocatedCostLimit))
         .availableCostLimit(orZero(providerColumn.getCostLimitationRemaining()))
         .totalValueOfClaim(
-            currency(attributeValue(global, ATTR_SUBMITTED_TOTAL_AMOUNT))
-                .add(currency(attributeValue(global, ATTR_SUBMITTED_TOTAL_VAT))))
+            currency(attributeValue(assessment, global, ATTR_SUBMITTED_TOTAL_AMOUNT))
+                .add(currency(attributeValue(assessment, global, ATTR_SUBMITTED_TOTAL_VAT))))
         .build();
   }
 
-  private List<BillLine> buildBillLines(final AssessmentDetail assessment) {
+  private List<BillLine> buildBillLines(final IndexedAssessment assessment) {
     final List<BillLine> lines = new ArrayList<>();
-    if (assessment == null || assessment.getEntityTypes() == null) {
-      return lines;
-    }
-
     for (final AssessmentEntityTypeDetail entityType : assessment.getEntityTypes()) {
       if (entityType.getName() == null
           || !entityType.getName().endsWith(BILL_LINE_ENTITY_SUFFIX)
@@ -236,7 +363,7 @@ public class BillingSummaryPdfService {
               .substring(0, entityType.getName().length() - BILL_LINE_ENTITY_SUFFIX.length());
 
       for (final AssessmentEntityDetail entity : entityType.getEntities()) {
-        final LocalDate date = parseDate(attributeValue(entity, prefix + SUFFIX_DATE));
+        final LocalDate date = parseDate(attributeValue(assessment, entity, prefix + SUFFIX_DATE));
         // The legacy report drops any line without a parseable date.
         if (date == null) {
           continue;
@@ -245,18 +372,20 @@ public class BillingSummaryPdfService {
             BillLine.builder()
                 .date(date)
                 .dateDisplay(DISPLAY_DATE.format(date).toUpperCase(Locale.UK))
-                .costType(attributeValue(entity, prefix + SUFFIX_COST_TYPE))
-                .categoryOfWork(attributeValue(entity, prefix + SUFFIX_CATEGORY_OF_WORK))
-                .workConducted(attributeValue(entity, prefix + SUFFIX_ACTIVITY))
-                .hoursMinClaimed(attributeValue(entity, prefix + SUFFIX_TIME))
-                .itemsClaimed(attributeValue(entity, prefix + SUFFIX_ITEM))
-                .rateClaimed(currency(attributeValue(entity, prefix + SUFFIX_RATE)))
-                .upliftClaimed(currency(attributeValue(entity, prefix + SUFFIX_UPLIFT)))
-                .netClaim(currency(attributeValue(entity, prefix + SUFFIX_NET_CLAIM)))
-                .vat(currency(attributeValue(entity, prefix + SUFFIX_VAT)))
-                .totalClaim(currency(attributeValue(entity, prefix + SUFFIX_TOTAL_CLAIM)))
-                .feeEarner(attributeValue(entity, prefix + SUFFIX_FEE_EARNER))
-                .priorAuthority(attributeValue(entity, prefix + SUFFIX_PRIOR_AUTH))
+                .costType(attributeValue(assessment, entity, prefix + SUFFIX_COST_TYPE))
+                .categoryOfWork(
+                    attributeValue(assessment, entity, prefix + SUFFIX_CATEGORY_OF_WORK))
+                .workConducted(attributeValue(assessment, entity, prefix + SUFFIX_ACTIVITY))
+                .hoursMinClaimed(attributeValue(assessment, entity, prefix + SUFFIX_TIME))
+                .itemsClaimed(attributeValue(assessment, entity, prefix + SUFFIX_ITEM))
+                .rateClaimed(currency(attributeValue(assessment, entity, prefix + SUFFIX_RATE)))
+                .upliftClaimed(currency(attributeValue(assessment, entity, prefix + SUFFIX_UPLIFT)))
+                .netClaim(currency(attributeValue(assessment, entity, prefix + SUFFIX_NET_CLAIM)))
+                .vat(currency(attributeValue(assessment, entity, prefix + SUFFIX_VAT)))
+                .totalClaim(
+                    currency(attributeValue(assessment, entity, prefix + SUFFIX_TOTAL_CLAIM)))
+                .feeEarner(attributeValue(assessment, entity, prefix + SUFFIX_FEE_EARNER))
+                .priorAuthority(attributeValue(assessment, entity, prefix + SUFFIX_PRIOR_AUTH))
                 .build());
       }
     }
@@ -287,14 +416,13 @@ public class BillingSummaryPdfService {
         .build();
   }
 
-  private AssessmentEntityDetail globalEntity(final AssessmentDetail assessment) {
-    return getAssessmentEntitiesForEntityType(assessment, AssessmentEntityType.GLOBAL).stream()
-        .findFirst()
-        .orElse(null);
+  private AssessmentEntityDetail globalEntity(final IndexedAssessment assessment) {
+    return assessment.getEntities(AssessmentEntityType.GLOBAL).stream().findFirst().orElse(null);
   }
 
-  private String attributeValue(final AssessmentEntityDetail entity, final String name) {
-    return Optional.ofNullable(getAssessmentAttribute(entity, name))
+  private String attributeValue(
+      final IndexedAssessment assessment, final AssessmentEntityDetail entity, final String name) {
+    return Optional.ofNullable(assessment.getAttribute(entity, name))
         .map(AssessmentAttributeDetail::getValue)
         .orElse("");
   }
@@ -11,14 +11,17 @@ import static uk.gov.laa.ccms.caab.constants.assessment.AssessmentName.MERITS;
 import static uk.gov.laa.ccms.caab.util.EvidenceUtil.isEvidenceProvided;
 
 import com.google.common.collect.Streams;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuple2;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentAttributeDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
 import uk.gov.laa.ccms.caab.client.CaabApiClient;
@@ -33,6 +36,7 @@ import uk.gov.laa.ccms.caab.model.BaseEvidenceDocumentDetail;
 import uk.gov.laa.ccms.caab.model.EvidenceDocumentDetail;
 import uk.gov.laa.ccms.caab.model.EvidenceDocumentDetails;
 import uk.gov.laa.ccms.caab.model.PriorAuthorityDetail;
+import uk.gov.laa.ccms.caab.util.Base64JsonFieldReader;
 import uk.gov.laa.ccms.caab.util.EvidenceUtil;
 import uk.gov.laa.ccms.data.model.EvidenceDocumentTypeLookupDetail;
 import uk.gov.laa.ccms.data.model.EvidenceDocumentTypeLookupValueDetail;
@@ -46,6 +50,12 @@ import uk.gov.laa.ccms.soa.gateway.model.Document;
 @Slf4j
 public class EvidenceService {
 
+  /** The field of an evidence document holding its Base64 encoded content. */
+  private static final String FILE_DATA = "fileData";
+
+  /** How many chunks of a document's response body may be buffered ahead of the reader. */
+  private static final int EVIDENCE_CONTENT_BUFFERS = 4;
+
   private final AssessmentService assessmentService;
 
   private final CaseOutcomeService caseOutcomeService;
@@ -94,6 +104,31 @@ public class EvidenceService {
     return caabApiClient.getEvidenceDocument(evidenceDocumentId);
   }
 
+  /**
+   * Open the content of an evidence document, so that it can be decoded as it is read from the TDS
+   * without the document ever being held in memory. The document has been fetched, and found to
+   * have content, by the time this returns.
+   *
+   * @param evidenceDocumentId - the id of the document.
+   * @return a reader for the document content. The caller must close it.
+   * @throws CaabApplicationException if the document could not be retrieved or has no content.
+   */
+  public Base64JsonFieldReader openEvidenceDocumentContent(final Integer evidenceDocumentId) {
+    final InputStream body =
+        DataBufferUtils.subscriberInputStream(
+            caabApiClient.getEvidenceDocumentBody(evidenceDocumentId), EVIDENCE_CONTENT_BUFFERS);
+    try {
+      return Base64JsonFieldReader.open(body, FILE_DATA)
+          .orElseThrow(
+              () ->
+                  new CaabApplicationException(
+                      "Evidence document %s has no content".formatted(evidenceDocumentId)));
+    } catch (IOException e) {
+      throw new CaabApplicationException(
+          "Failed to retrieve evidence document %s".formatted(evidenceDocumentId), e);
+    }
+  }
+
   /**
    * Get a combined List of all evidence document types required for the supplied case reference and
    * provider. This will include OPA, Prior Authority and Case Outcome evidence.
@@ -161,6 +196,23 @@ public class EvidenceService {
     return caabApiClient.createEvidenceDocument(evidenceDocumentDetail, userId);
   }
 
+  /**
+   * Store an evidence document in the TDS, prior to submission to EBS, reading its content from
+   * the given source as it is sent rather than from the document detail.
+   *
+   * @param evidenceDocumentDetail - the evidence document detail, without its file data.
+   * @param content - the content of the evidence document.
+   * @param userId - the user adding the document.
+   * @return Mono wrapping the EBS registered document id.
+   */
+  public Mono<String> addDocument(
+      final EvidenceDocumentDetail evidenceDocumentDetail,
+      final InputStreamSource content,
+      final String userId) {
+
+    return caabApiClient.createEvidenceDocument(evidenceDocumentDetail, content, userId);
+  }
+
   public Mono<Void> updateDocument(
       final EvidenceDocumentDetail evidenceDocumentDetail, final String userId) {
     return caabApiClient.updateEvidenceDocument(evidenceDocumentDetail, userId);
@@ -329,6 +381,22 @@ public class EvidenceService {
    */
   public boolean isAllEvidenceProvided(
       final String applicationId, final String caseReferenceNumber, final Integer providerId) {
+    return getAllEvidenceProvided(applicationId, caseReferenceNumber, providerId)
+        .blockOptional()
+        .orElseThrow(() -> new CaabApplicationException("Failed to retrieve evidence data"));
+  }
+
+  /**
+   * Determine whether all required evidence has been provided for the related application, without
+   * blocking, so that the check can run alongside other lookups.
+   *
+   * @param applicationId - the application id.
+   * @param caseReferenceNumber - the case reference number.
+   * @param providerId - the provider id.
+   * @return Mono containing true if all evidence has been provided, false otherwise.
+   */
+  public Mono<Boolean> getAllEvidenceProvided(
+      final String applicationId, final String caseReferenceNumber, final Integer providerId) {
 
     // Get the list of required evidence docs for this application.
     final Mono<List<EvidenceDocumentTypeLookupValueDetail>> evidenceRequiredMono =
@@ -338,18 +406,15 @@ public class EvidenceService {
     final Mono<EvidenceDocumentDetails> evidenceUploadedMono =
         getEvidenceDocumentsForCase(caseReferenceNumber, APPLICATION);
 
-    final Tuple2<List<EvidenceDocumentTypeLookupValueDetail>, EvidenceDocumentDetails>
-        combinedResult =
-            Mono.zip(evidenceRequiredMono, evidenceUploadedMono)
-                .blockOptional()
-                .orElseThrow(
-                    () -> new CaabApplicationException("Failed to retrieve evidence data"));
-
-    final List<EvidenceDocumentTypeLookupValueDetail> evidenceRequired = combinedResult.getT1();
-    final List<BaseEvidenceDocumentDetail> evidenceProvided = combinedResult.getT2().getContent();
-
-    return evidenceRequired.stream()
-        .allMatch(required -> isEvidenceProvided(required.getDescription(), evidenceProvided));
+    return Mono.zip(evidenceRequiredMono, evidenceUploadedMono)
+        .map(
+            combinedResult -> {
+              final List<BaseEvidenceDocumentDetail> evidenceProvided =
+                  combinedResult.getT2().getContent();
+              return combinedResult.getT1().stream()
+                  .allMatch(
+                      required -> isEvidenceProvided(required.getDescription(), evidenceProvided));
+            });
   }
 
   private boolean isRequiredOpaEvidenceItem(
@@ -12,9 +12,11 @@ import static uk.gov.laa.ccms.caab.constants.CommonValueConstants.COMMON_VALUE_M
 import static uk.gov.laa.ccms.caab.constants.CommonValueConstants.COMMON_VALUE_PROCEEDING_ORDER_TYPE;
 import static uk.gov.laa.ccms.caab.constants.CommonValueConstants.COMMON_VALUE_RELATIONSHIP_TO_CLIENT;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -27,6 +29,7 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import uk.gov.laa.ccms.caab.bean.ClientFlowFormData;
+import uk.gov.laa.ccms.caab.cache.ReferenceDataCache;
 import uk.gov.laa.ccms.caab.client.EbsApiClient;
 import uk.gov.laa.ccms.caab.mapper.context.submission.GeneralDetailsSubmissionSummaryMappingContext;
 import uk.gov.laa.ccms.caab.mapper.context.submission.OpponentSubmissionSummaryMappingContext;
@@ -55,13 +58,26 @@ import uk.gov.laa.ccms.data.model.ScopeLimitationDetails;
 import uk.gov.laa.ccms.data.model.StageEndLookupDetail;
 import uk.gov.laa.ccms.data.model.TaxRateLookupDetail;
 
-/** Service class to handle Common Lookups. */
+/**
+ * Service class to handle Common Lookups.
+ *
+ * <p>Static reference data is served through the {@link ReferenceDataCache}, so repeated lookups
+ * of the same type and parameters do not go back to the EBS API. Free-text and criteria-based
+ * searches (courts, proceedings, scope limitations) always go to the EBS API, except for the
+ * details of known scope limitations of a proceeding, which are reference data.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LookupService {
+
+  /** The most scope limitations of one proceeding whose details are looked up at once. */
+  private static final int MAX_CONCURRENT_SCOPE_LIMITATION_LOOKUPS = 4;
+
   private final EbsApiClient ebsApiClient;
 
+  private final ReferenceDataCache referenceDataCache;
+
   /**
    * Get a list of Country Common Values.
    *
@@ -69,8 +85,8 @@ public class LookupService {
    *     data returned from ebs.
    */
   public Mono<CommonLookupDetail> getCountries() {
-    return ebsApiClient
-        .getCountries()
+    return referenceDataCache
+        .get("countries", ebsApiClient::getCountries)
         .flatMap(
             countries -> {
               if (countries != null) {
@@ -107,7 +123,8 @@ public class LookupService {
    * @return MatterTypeLookupDetail containing the matterType values.
    */
   public Mono<MatterTypeLookupDetail> getMatterTypes(final String categoryOfLaw) {
-    return ebsApiClient.getMatterTypes(categoryOfLaw);
+    return referenceDataCache.get(
+        "matterTypes", () -> ebsApiClient.getMatterTypes(categoryOfLaw), categoryOfLaw);
   }
 
   /**
@@ -137,7 +154,10 @@ public class LookupService {
    */
   public Mono<ClientInvolvementTypeLookupDetail> getProceedingClientInvolvementTypes(
       final String proceedingCode) {
-    return ebsApiClient.getClientInvolvementTypes(proceedingCode);
+    return referenceDataCache.get(
+        "clientInvolvementTypes",
+        () -> ebsApiClient.getClientInvolvementTypes(proceedingCode),
+        proceedingCode);
   }
 
   /**
@@ -152,7 +172,12 @@ public class LookupService {
   public Mono<LevelOfServiceLookupDetail> getProceedingLevelOfServiceTypes(
       final String categoryOfLaw, final String proceedingCode, final String matterType) {
 
-    return ebsApiClient.getLevelOfServiceTypes(proceedingCode, categoryOfLaw, matterType);
+    return referenceDataCache.get(
+        "levelOfServiceTypes",
+        () -> ebsApiClient.getLevelOfServiceTypes(proceedingCode, categoryOfLaw, matterType),
+        proceedingCode,
+        categoryOfLaw,
+        matterType);
   }
 
   /**
@@ -183,6 +208,58 @@ public class LookupService {
     return ebsApiClient.getScopeLimitations(searchCriteria);
   }
 
+  /**
+   * Get the Scope Limitation Details of each of a proceeding's scope limitations at once. Each
+   * scope limitation is looked up once however often it appears, the lookups are made together,
+   * and the results are cached as reference data for the category of law, matter type, proceeding,
+   * level of service and emergency flag.
+   *
+   * @param categoryOfLaw - the category of law of the application.
+   * @param matterType - the matter type of the proceeding.
+   * @param proceedingCode - the proceeding type of the proceeding.
+   * @param levelOfService - the level of service of the proceeding.
+   * @param emergency - whether to look up the emergency details of the scope limitations.
+   * @param scopeLimitations - the codes of the scope limitations to look up.
+   * @return a Map of ScopeLimitationDetails keyed on scope limitation code. A scope limitation
+   *     whose details could not be found has no entry.
+   */
+  public Mono<Map<String, ScopeLimitationDetails>> getScopeLimitationDetails(
+      final String categoryOfLaw,
+      final String matterType,
+      final String proceedingCode,
+      final String levelOfService,
+      final boolean emergency,
+      final Collection<String> scopeLimitations) {
+    return Flux.fromIterable(scopeLimitations)
+        .filter(Objects::nonNull)
+        .distinct()
+        .flatMap(
+            scopeLimitation ->
+                referenceDataCache
+                    .get(
+                        "scopeLimitationDetails",
+                        () ->
+                            ebsApiClient.getScopeLimitations(
+                                new ScopeLimitationDetail()
+                                    .categoryOfLaw(categoryOfLaw)
+                                    .matterType(matterType)
+                                    .proceedingCode(proceedingCode)
+                                    .levelOfService(levelOfService)
+                                    .emergency(emergency ? Boolean.TRUE : null)
+                                    .scopeLimitations(scopeLimitation)),
+                        categoryOfLaw,
+                        matterType,
+                        proceedingCode,
+                        levelOfService,
+                        emergency,
+                        scopeLimitation)
+                    .map(
+                        scopeLimitationDetails ->
+                            Pair.of(scopeLimitation, scopeLimitationDetails)),
+            MAX_CONCURRENT_SCOPE_LIMITATION_LOOKUPS)
+        .collectMap(Pair::getKey, Pair::getValue);
+  }
+
   /**
    * Retrieves court details. A wildcard match is performed for both courtCode and description to
    * return all Courts which contain the provided values.
@@ -218,7 +295,11 @@ public class LookupService {
    */
   public Mono<OutcomeResultLookupDetail> getOutcomeResults(
       final String proceedingCode, final String outcomeResult) {
-    return ebsApiClient.getOutcomeResults(proceedingCode, outcomeResult);
+    return referenceDataCache.get(
+        "outcomeResults",
+        () -> ebsApiClient.getOutcomeResults(proceedingCode, outcomeResult),
+        proceedingCode,
+        outcomeResult);
   }
 
   /**
@@ -230,7 +311,11 @@ public class LookupService {
    */
   public Mono<StageEndLookupDetail> getStageEnds(
       final String proceedingCode, final String stageEnd) {
-    return ebsApiClient.getStageEnds(proceedingCode, stageEnd);
+    return referenceDataCache.get(
+        "stageEnds",
+        () -> ebsApiClient.getStageEnds(proceedingCode, stageEnd),
+        proceedingCode,
+        stageEnd);
   }
 
   /**
@@ -253,7 +338,11 @@ public class LookupService {
    */
   public Mono<PriorAuthorityTypeDetails> getPriorAuthorityTypes(
       final String code, final Boolean valueRequired) {
-    return ebsApiClient.getPriorAuthorityTypes(code, valueRequired);
+    return referenceDataCache.get(
+        "priorAuthorityTypes",
+        () -> ebsApiClient.getPriorAuthorityTypes(code, valueRequired),
+        code,
+        valueRequired);
   }
 
   /**
@@ -287,7 +376,8 @@ public class LookupService {
    * @return A Mono containing the AwardTypeLookupDetail or an error handler if an error occurs.
    */
   public Mono<AwardTypeLookupDetail> getAwardTypes(final String code, final String awardType) {
-    return ebsApiClient.getAwardTypes(code, awardType);
+    return referenceDataCache.get(
+        "awardTypes", () -> ebsApiClient.getAwardTypes(code, awardType), code, awardType);
   }
 
   /**
@@ -296,7 +386,7 @@ public class LookupService {
    * @return A Mono containing the TaxRateLookupDetail or an error handler if an error occurs.
    */
   public Mono<TaxRateLookupDetail> getTaxRates() {
-    return ebsApiClient.getTaxRates();
+    return referenceDataCache.get("taxRates", ebsApiClient::getTaxRates);
   }
 
   /**
@@ -305,7 +395,8 @@ public class LookupService {
    * @return CategoryOfLawLookupDetail containing the category of law values.
    */
   public Mono<CategoryOfLawLookupDetail> getCategoriesOfLaw() {
-    return ebsApiClient.getCategoriesOfLaw(null, null, null);
+    return referenceDataCache.get(
+        "categoriesOfLaw", () -> ebsApiClient.getCategoriesOfLaw(null, null, null), (String) null);
   }
 
   /**
@@ -315,8 +406,8 @@ public class LookupService {
    * @return Mono containing an Optional category of law.
    */
   public Mono<Optional<CategoryOfLawLookupValueDetail>> getCategoryOfLaw(final String code) {
-    return ebsApiClient
-        .getCategoriesOfLaw(code, null, null)
+    return referenceDataCache
+        .get("categoriesOfLaw", () -> ebsApiClient.getCategoriesOfLaw(code, null, null), code)
         .mapNotNull(
             categoryOfLawLookupDetail ->
                 categoryOfLawLookupDetail.getContent().stream().findFirst());
@@ -328,7 +419,10 @@ public class LookupService {
    * @return Mono containing all relationship lookup values or null if an error occurs.
    */
   public Mono<RelationshipToCaseLookupDetail> getPersonToCaseRelationships() {
-    return ebsApiClient.getPersonToCaseRelationships(null, null);
+    return referenceDataCache.get(
+        "personToCaseRelationships",
+        () -> ebsApiClient.getPersonToCaseRelationships(null, null),
+        (String) null);
   }
 
   /**
@@ -338,8 +432,11 @@ public class LookupService {
    */
   public Mono<Optional<RelationshipToCaseLookupValueDetail>> getPersonToCaseRelationship(
       final String code) {
-    return ebsApiClient
-        .getPersonToCaseRelationships(code, null)
+    return referenceDataCache
+        .get(
+            "personToCaseRelationships",
+            () -> ebsApiClient.getPersonToCaseRelationships(code, null),
+            code)
         .mapNotNull(
             relationshipToCaseLookupDetail ->
                 relationshipToCaseLookupDetail.getContent().stream().findFirst());
@@ -351,7 +448,10 @@ public class LookupService {
    * @return Mono containing all relationship lookup values or null if an error occurs.
    */
   public Mono<RelationshipToCaseLookupDetail> getOrganisationToCaseRelationships() {
-    return ebsApiClient.getOrganisationToCaseRelationshipValues(null, null);
+    return referenceDataCache.get(
+        "organisationToCaseRelationships",
+        () -> ebsApiClient.getOrganisationToCaseRelationshipValues(null, null),
+        (String) null);
   }
 
   /**
@@ -361,8 +461,11 @@ public class LookupService {
    */
   public Mono<Optional<RelationshipToCaseLookupValueDetail>> getOrganisationToCaseRelationship(
       final String code) {
-    return ebsApiClient
-        .getOrganisationToCaseRelationshipValues(code, null)
+    return referenceDataCache
+        .get(
+            "organisationToCaseRelationships",
+            () -> ebsApiClient.getOrganisationToCaseRelationshipValues(code, null),
+            code)
         .mapNotNull(
             relationshipToCaseLookupDetail ->
                 relationshipToCaseLookupDetail.getContent().stream().findFirst());
@@ -384,12 +487,16 @@ public class LookupService {
    * @return A Mono containing the CaseStatusLookupDetail or an error handler if an error occurs.
    */
   public Mono<CaseStatusLookupDetail> getCaseStatusValues(final Boolean copyAllowed) {
-    return ebsApiClient.getCaseStatusValues(copyAllowed);
+    return referenceDataCache.get(
+        "caseStatusValues", () -> ebsApiClient.getCaseStatusValues(copyAllowed), copyAllowed);
   }
 
   public Mono<AssessmentSummaryEntityLookupDetail> getAssessmentSummaryAttributes(
       final String summaryType) {
-    return ebsApiClient.getAssessmentSummaryAttributes(summaryType);
+    return referenceDataCache.get(
+        "assessmentSummaryAttributes",
+        () -> ebsApiClient.getAssessmentSummaryAttributes(summaryType),
+        summaryType);
   }
 
   /**
@@ -402,8 +509,8 @@ public class LookupService {
    */
   public Mono<Optional<CommonLookupValueDetail>> getCommonValue(
       final String type, final String code) {
-    return ebsApiClient
-        .getCommonValues(type, code)
+    return referenceDataCache
+        .get("commonValues", () -> ebsApiClient.getCommonValues(type, code), type, code)
         .mapNotNull(commonLookupDetail -> commonLookupDetail.getContent().stream().findFirst());
   }
 
@@ -414,7 +521,8 @@ public class LookupService {
    * @return a Mono containing the CommonLookupDetail
    */
   public Mono<CommonLookupDetail> getCommonValues(final String type) {
-    return ebsApiClient.getCommonValues(type);
+    return referenceDataCache.get(
+        "commonValues", () -> ebsApiClient.getCommonValues(type), type, null);
   }
 
   /**
@@ -630,7 +738,7 @@ public class LookupService {
    * @return a Mono emitting the declaration lookup details
    */
   public Mono<DeclarationLookupDetail> getDeclarations(final String submissionType) {
-    return ebsApiClient.getDeclarations(submissionType, null);
+    return getDeclarations(submissionType, null);
   }
 
   /**
@@ -644,7 +752,11 @@ public class LookupService {
    */
   public Mono<DeclarationLookupDetail> getDeclarations(
       final String submissionType, final String billType) {
-    return ebsApiClient.getDeclarations(submissionType, billType);
+    return referenceDataCache.get(
+        "declarations",
+        () -> ebsApiClient.getDeclarations(submissionType, billType),
+        submissionType,
+        billType);
   }
 
   /**
@@ -656,6 +768,10 @@ public class LookupService {
    */
   public Mono<ProviderRequestTypeLookupDetail> getProviderRequestTypes(
       final Boolean isCaseRelated, final String type) {
-    return ebsApiClient.getProviderRequestTypes(isCaseRelated, type);
+    return referenceDataCache.get(
+        "providerRequestTypes",
+        () -> ebsApiClient.getProviderRequestTypes(isCaseRelated, type),
+        isCaseRelated,
+        type);
   }
 }
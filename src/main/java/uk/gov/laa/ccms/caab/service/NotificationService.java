@@ -171,9 +171,9 @@ public class NotificationService {
     final boolean existsInS3;
 
     if (isDraftDocument) {
-      existsInS3 = s3ApiClient.getDraftDocumentUrl(attachmentId).isPresent();
+      existsInS3 = s3ApiClient.draftDocumentExists(attachmentId);
     } else {
-      existsInS3 = s3ApiClient.getDocumentUrl(attachmentId).isPresent();
+      existsInS3 = s3ApiClient.documentExists(attachmentId);
     }
 
     if (existsInS3) {
@@ -425,22 +425,21 @@ public class NotificationService {
   }
 
   /**
-   * For each {@link Document} provided, generate a signed URL to access the file in S3.
+   * For each {@link Document} provided, generate a signed URL to access the file in S3. The URLs
+   * are resolved together, rather than one document at a time.
    *
    * @param documentIds The IDs of the documents for which to generate access URLs.
-   * @return a map of document ID / URL pairs.
+   * @return a map of document ID / URL pairs, with a null URL for any document not found in S3.
    */
   private Map<String, String> getDocumentLinks(List<String> documentIds, boolean isDraft) {
     Map<String, String> documentLinks = new HashMap<>();
     if (!documentIds.isEmpty()) {
+      Map<String, String> documentUrls =
+          isDraft
+              ? s3ApiClient.getDraftDocumentUrls(documentIds)
+              : s3ApiClient.getDocumentUrls(documentIds);
       for (String documentId : documentIds) {
-        String documentUrl;
-        if (isDraft) {
-          documentUrl = s3ApiClient.getDraftDocumentUrl(documentId).orElse(null);
-        } else {
-          documentUrl = s3ApiClient.getDocumentUrl(documentId).orElse(null);
-        }
-        documentLinks.put(documentId, documentUrl);
+        documentLinks.put(documentId, documentUrls.get(documentId));
       }
     }
     return documentLinks;
@@ -0,0 +1,205 @@
+package uk.gov.laa.ccms.caab.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.caab.model.SubmissionProgress;
+import uk.gov.laa.ccms.data.model.TransactionStatus;
+
+/**
+ * Tracks case and client submissions until EBS confirms them, so that the submission in progress
+ * page no longer polls the status of a transaction on every refresh.
+ *
+ * <p>The first request for a transaction starts polling its status in the background, backing off
+ * exponentially with jitter, until the transaction has a reference number or the tracking period
+ * runs out. Every other request for the same transaction shares that one poll, and its outcome is
+ * kept for a while once known, so that a refresh or a second tab does not poll again.
+ *
+ * <p>Submissions are tracked by each node. A request reaching a node which is not tracking its
+ * transaction starts tracking it there; the status is held by EBS, so nodes need not coordinate.
+ *
+ * @see SubmissionTrackerProperties
+ */
+@Service
+@EnableConfigurationProperties(SubmissionTrackerProperties.class)
+@Slf4j
+public class SubmissionTracker {
+
+  private static final String CACHE_NAME = "submissions";
+
+  private final ApplicationService applicationService;
+
+  private final ClientService clientService;
+
+  private final SubmissionTrackerProperties properties;
+
+  private final AsyncCache<TrackedTransaction, Optional<String>> submissions;
+
+  /**
+   * Construct the submission tracker.
+   *
+   * @param applicationService the service to poll the status of case submissions with.
+   * @param clientService the service to poll the status of client submissions with.
+   * @param properties the polling and retention settings.
+   * @param meterRegistry the registry to publish the hit, miss and size metrics to.
+   */
+  public SubmissionTracker(
+      final ApplicationService applicationService,
+      final ClientService clientService,
+      final SubmissionTrackerProperties properties,
+      final MeterRegistry meterRegistry) {
+    this.applicationService = applicationService;
+    this.clientService = clientService;
+    this.properties = properties;
+    this.submissions =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSubmissions())
+            .expireAfterWrite(properties.getRetention())
+            .recordStats()
+            .buildAsync();
+    CaffeineCacheMetrics.monitor(meterRegistry, submissions.synchronous(), CACHE_NAME);
+  }
+
+  /**
+   * Retrieve the progress of a case submission without waiting, starting to track it if it is not
+   * already tracked.
+   *
+   * @param transactionId the transaction id of the case submission.
+   * @return the progress of the submission.
+   */
+  public SubmissionProgress getCaseProgress(final String transactionId) {
+    return getProgress(new TrackedTransaction(TransactionType.CASE, transactionId));
+  }
+
+  /**
+   * Retrieve the progress of a client submission without waiting, starting to track it if it is
+   * not already tracked.
+   *
+   * @param transactionId the transaction id of the client submission.
+   * @return the progress of the submission.
+   */
+  public SubmissionProgress getClientProgress(final String transactionId) {
+    return getProgress(new TrackedTransaction(TransactionType.CLIENT, transactionId));
+  }
+
+  /**
+   * Wait for a case submission to be confirmed or to fail, for up to the long poll timeout.
+   *
+   * @param transactionId the transaction id of the case submission.
+   * @return a Mono containing the progress of the submission, which is pending if the wait ran out.
+   */
+  public Mono<SubmissionProgress> awaitCaseProgress(final String transactionId) {
+    return awaitProgress(new TrackedTransaction(TransactionType.CASE, transactionId));
+  }
+
+  /**
+   * Wait for a client submission to be confirmed or to fail, for up to the long poll timeout.
+   *
+   * @param transactionId the transaction id of the client submission.
+   * @return a Mono containing the progress of the submission, which is pending if the wait ran out.
+   */
+  public Mono<SubmissionProgress> awaitClientProgress(final String transactionId) {
+    return awaitProgress(new TrackedTransaction(TransactionType.CLIENT, transactionId));
+  }
+
+  private SubmissionProgress getProgress(final TrackedTransaction transaction) {
+    final Optional<String> referenceNumber = track(transaction).getNow(null);
+    return referenceNumber == null ? SubmissionProgress.pending() : toProgress(referenceNumber);
+  }
+
+  private Mono<SubmissionProgress> awaitProgress(final TrackedTransaction transaction) {
+    // Cancellation is not passed on to the poll, which other requests may be sharing.
+    return Mono.fromFuture(() -> track(transaction), true)
+        .map(SubmissionTracker::toProgress)
+        .timeout(properties.getLongPollTimeout(), Mono.fromSupplier(SubmissionProgress::pending));
+  }
+
+  private CompletableFuture<Optional<String>> track(final TrackedTransaction transaction) {
+    return submissions.get(transaction, (key, executor) -> poll(key).toFuture());
+  }
+
+  private Mono<Optional<String>> poll(final TrackedTransaction transaction) {
+    return Mono.defer(
+            () -> {
+              final long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+              return getStatus(transaction)
+                  .mapNotNull(TransactionStatus::getReferenceNumber)
+                  .filter(StringUtils::hasText)
+                  .repeatWhenEmpty(
+                      attempts ->
+                          attempts
+                              .takeWhile(attempt -> System.nanoTime() < deadline)
+                              .concatMap(attempt -> Mono.delay(nextDelay(attempt, deadline))));
+            })
+        .map(Optional::of)
+        .switchIfEmpty(
+            Mono.fromSupplier(
+                () -> {
+                  log.warn(
+                      "{} transaction {} was not confirmed within {}",
+                      transaction.type(),
+                      transaction.transactionId(),
+                      properties.getTimeout());
+                  return Optional.empty();
+                }));
+  }
+
+  private Mono<TransactionStatus> getStatus(final TrackedTransaction transaction) {
+    return Mono.defer(
+            () ->
+                switch (transaction.type()) {
+                  case CASE -> applicationService.getCaseStatus(transaction.transactionId());
+                  case CLIENT -> clientService.getClientStatus(transaction.transactionId());
+                })
+        .onErrorResume(
+            ex -> {
+              log.debug(
+                  "Unable to get the status of {} transaction {}, polling again.",
+                  transaction.type(),
+                  transaction.transactionId(),
+                  ex);
+              return Mono.empty();
+            });
+  }
+
+  /**
+   * The delay before polling a submission again, after a number of polls which did not confirm it.
+   *
+   * @param attempt the number of polls already made, less one.
+   * @return the delay, doubling with each attempt up to the maximum delay, less a random jitter.
+   */
+  Duration backoff(final long attempt) {
+    final long initialDelay = properties.getInitialDelay().toMillis();
+    final long delay =
+        Math.min(properties.getMaxDelay().toMillis(), initialDelay << Math.min(attempt, 20));
+    final double jitter = properties.getJitter() * ThreadLocalRandom.current().nextDouble();
+    return Duration.ofMillis(Math.max(0, delay - (long) (delay * jitter)));
+  }
+
+  private Duration nextDelay(final long attempt, final long deadline) {
+    final Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    final Duration backoff = backoff(attempt);
+    return backoff.compareTo(remaining) <= 0 ? backoff : remaining;
+  }
+
+  private static SubmissionProgress toProgress(final Optional<String> referenceNumber) {
+    return referenceNumber.map(SubmissionProgress::confirmed).orElseGet(SubmissionProgress::failed);
+  }
+
+  private enum TransactionType {
+    CASE,
+    CLIENT
+  }
+
+  private record TrackedTransaction(TransactionType type, String transactionId) {}
+}
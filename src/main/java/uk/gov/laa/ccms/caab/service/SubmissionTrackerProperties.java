@@ -0,0 +1,68 @@
+package uk.gov.laa.ccms.caab.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the tracking of case and client submissions, whose status is polled
+ * until EBS confirms them.
+ *
+ * <p>The delay between polls doubles from the initial delay up to the maximum delay, and each delay
+ * is shortened by a random part of up to the jitter, so that submissions made together do not keep
+ * polling together.
+ */
+@Getter
+@ConfigurationProperties(prefix = "laa.ccms.submission-tracker")
+public class SubmissionTrackerProperties {
+
+  /** The delay before polling the status of a submission again for the first time. */
+  private final Duration initialDelay;
+
+  /** The longest delay between polls of the status of a submission. */
+  private final Duration maxDelay;
+
+  /** The largest part of each delay, between 0 and 1, which may be randomly taken off it. */
+  private final double jitter;
+
+  /** How long a submission is polled for before it is treated as failed. */
+  private final Duration timeout;
+
+  /** How long a browser waiting on the status of a submission is held before it asks again. */
+  private final Duration longPollTimeout;
+
+  /** How long the outcome of a submission is kept after it is known. */
+  private final Duration retention;
+
+  /** The maximum number of submissions tracked at once. */
+  private final long maximumSubmissions;
+
+  /**
+   * Construct the submission tracker properties.
+   *
+   * @param initialDelay the delay before polling a submission again for the first time.
+   * @param maxDelay the longest delay between polls of a submission.
+   * @param jitter the largest part of each delay which may be randomly taken off it.
+   * @param timeout how long a submission is polled for before it is treated as failed.
+   * @param longPollTimeout how long a browser waiting on a submission is held.
+   * @param retention how long the outcome of a submission is kept after it is known.
+   * @param maximumSubmissions the maximum number of submissions tracked at once.
+   */
+  public SubmissionTrackerProperties(
+      @DefaultValue("1s") final Duration initialDelay,
+      @DefaultValue("8s") final Duration maxDelay,
+      @DefaultValue("0.5") final double jitter,
+      @DefaultValue("30s") final Duration timeout,
+      @DefaultValue("20s") final Duration longPollTimeout,
+      @DefaultValue("10m") final Duration retention,
+      @DefaultValue("1000") final long maximumSubmissions) {
+    this.initialDelay = initialDelay;
+    this.maxDelay = maxDelay;
+    this.jitter = jitter;
+    this.timeout = timeout;
+    this.longPollTimeout = longPollTimeout;
+    this.retention = retention;
+    this.maximumSubmissions = maximumSubmissions;
+  }
+}
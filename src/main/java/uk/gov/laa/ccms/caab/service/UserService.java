@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.caab.cache.UserDetailCache;
 import uk.gov.laa.ccms.caab.client.EbsApiClient;
 import uk.gov.laa.ccms.caab.client.SoaApiClient;
 import uk.gov.laa.ccms.data.model.UserDetail;
@@ -19,15 +20,37 @@ public class UserService {
 
   private final EbsApiClient ebsApiClient;
   private final SoaApiClient soaApiClient;
+  private final UserDetailCache userDetailCache;
 
   /**
-   * Retrieves user details based on the login ID.
+   * Retrieves user details based on the login ID. The details are cached for a short while, so
+   * they may lag a change made outside this service by up to the cache's time to live.
    *
    * @param loginId The login ID of the user.
    * @return A Mono containing the UserDetail or an error handler if an error occurs.
    */
   public Mono<UserDetail> getUserByLoginId(String loginId) {
-    return ebsApiClient.getUserByLoginId(loginId);
+    return userDetailCache.get(loginId, ebsApiClient::getUserByLoginId);
+  }
+
+  /**
+   * Retrieves user details based on the login ID, bypassing any cached details, and caches the
+   * details retrieved in their place.
+   *
+   * @param loginId The login ID of the user.
+   * @return A Mono containing the UserDetail or an error handler if an error occurs.
+   */
+  public Mono<UserDetail> refreshUserByLoginId(String loginId) {
+    return userDetailCache.refresh(loginId, ebsApiClient::getUserByLoginId);
+  }
+
+  /**
+   * Discards any cached details of the user, so that they are retrieved afresh on next use.
+   *
+   * @param loginId The login ID of the user.
+   */
+  public void evictUser(String loginId) {
+    userDetailCache.invalidate(loginId);
   }
 
   /**
@@ -51,7 +74,8 @@ public class UserService {
   }
 
   /**
-   * Updates the user profile options.
+   * Updates the user profile options, and discards any cached details of the user once the update
+   * has been attempted.
    *
    * @param providerId The ID of the provider.
    * @param loginId The login ID of the user.
@@ -62,6 +86,8 @@ public class UserService {
       Integer providerId, String loginId, String userType) {
     UserOptions userOptions =
         new UserOptions().providerFirmId(String.valueOf(providerId)).userLoginId(loginId);
-    return soaApiClient.updateUserOptions(userOptions, loginId, userType);
+    return soaApiClient
+        .updateUserOptions(userOptions, loginId, userType)
+        .doOnTerminate(() -> evictUser(loginId));
   }
 }
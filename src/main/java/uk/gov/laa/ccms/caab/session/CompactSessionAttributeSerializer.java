@@ -0,0 +1,190 @@
+package uk.gov.laa.ccms.caab.session;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.springframework.core.ConfigurableObjectInputStream;
+import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
+
+/**
+ * Serializes session attributes as compactly as they allow, compressing any that are large.
+ *
+ * <p>A value that is {@link Serializable} throughout - a string, search criteria, the security
+ * context - is written with Java serialization. Anything else - the application and case models,
+ * which make up most of a session - is written as JSON, recording the type of each value so that it
+ * reads back as it was written.
+ *
+ * <p>The first value of each class written as JSON is read straight back, and a class that does
+ * not survive the round trip (lacking a constructor Jackson can use, say) is refused from then on,
+ * so that it is kept out of the store rather than lost from it.
+ *
+ * <p>Only classes from this application, the JDK and Spring are read back, whichever way they were
+ * written.
+ */
+public class CompactSessionAttributeSerializer implements SessionAttributeSerializer {
+
+  private static final byte JAVA = 1;
+
+  private static final byte JSON = 2;
+
+  private static final byte COMPRESSED = 0x10;
+
+  private static final ObjectInputFilter JAVA_CLASS_FILTER =
+      ObjectInputFilter.Config.createFilter(
+          "maxdepth=100;java.**;uk.gov.laa.ccms.**;org.springframework.**;!*");
+
+  private final int compressionThreshold;
+
+  private final ObjectWriter jsonWriter;
+
+  private final ObjectReader jsonReader;
+
+  private final Set<Class<?>> jsonReadable = ConcurrentHashMap.newKeySet();
+
+  private final Set<Class<?>> jsonUnreadable = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Construct the serializer.
+   *
+   * @param compressionThreshold the serialized size in bytes above which a value is compressed.
+   */
+  public CompactSessionAttributeSerializer(final int compressionThreshold) {
+    this.compressionThreshold = compressionThreshold;
+
+    final ObjectMapper objectMapper =
+        new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            // A field added or dropped by a release must not lose a session mid-deploy.
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    objectMapper.activateDefaultTyping(
+        BasicPolymorphicTypeValidator.builder()
+            .allowIfSubType("uk.gov.laa.ccms.")
+            .allowIfSubType("java.util.")
+            .allowIfSubType("java.time.")
+            .allowIfSubType("java.math.")
+            .allowIfSubType("java.lang.")
+            .build(),
+        ObjectMapper.DefaultTyping.NON_FINAL);
+    // Written as Object, so that the type of the value itself is recorded too.
+    this.jsonWriter = objectMapper.writerFor(Object.class);
+    this.jsonReader = objectMapper.readerFor(Object.class);
+  }
+
+  @Override
+  public byte[] serialize(final Object value) {
+    byte format = JAVA;
+    byte[] payload = value instanceof Serializable ? writeJava(value) : null;
+    if (payload == null) {
+      format = JSON;
+      payload = writeJson(value);
+    }
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length + 1);
+    try {
+      if (payload.length > compressionThreshold) {
+        out.write(format | COMPRESSED);
+        try (OutputStream deflater =
+            new DeflaterOutputStream(out, new Deflater(Deflater.BEST_SPEED))) {
+          deflater.write(payload);
+        }
+      } else {
+        out.write(format);
+        out.write(payload);
+      }
+    } catch (final IOException e) {
+      throw new CaabApplicationException("Failed to compress session attribute", e);
+    }
+    return out.toByteArray();
+  }
+
+  @Override
+  public Object deserialize(final byte[] bytes) {
+    if (bytes.length == 0) {
+      throw new CaabApplicationException("Empty session attribute");
+    }
+    final byte format = bytes[0];
+    InputStream in = new ByteArrayInputStream(bytes, 1, bytes.length - 1);
+    if ((format & COMPRESSED) != 0) {
+      in = new InflaterInputStream(in);
+    }
+
+    try (InputStream payload = in) {
+      return switch (format & ~COMPRESSED) {
+        case JAVA -> readJava(payload);
+        case JSON -> jsonReader.readValue(payload);
+        default ->
+            throw new CaabApplicationException("Unknown session attribute format: " + format);
+      };
+    } catch (final IOException | ClassNotFoundException e) {
+      throw new CaabApplicationException("Failed to deserialize session attribute", e);
+    }
+  }
+
+  /** Write a value with Java serialization, or return null if part of it is not serializable. */
+  private static byte[] writeJava(final Object value) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+      objectOut.writeObject(value);
+    } catch (final NotSerializableException e) {
+      return null;
+    } catch (final IOException e) {
+      throw new CaabApplicationException("Failed to serialize session attribute", e);
+    }
+    return out.toByteArray();
+  }
+
+  private Object readJava(final InputStream in) throws IOException, ClassNotFoundException {
+    // Resolves classes against the application's class loader, not the JDK's.
+    try (ObjectInputStream objectIn =
+        new ConfigurableObjectInputStream(in, getClass().getClassLoader())) {
+      objectIn.setObjectInputFilter(JAVA_CLASS_FILTER);
+      return objectIn.readObject();
+    }
+  }
+
+  private byte[] writeJson(final Object value) {
+    final Class<?> type = value.getClass();
+    if (jsonUnreadable.contains(type)) {
+      throw new CaabApplicationException("Session attribute cannot be read from JSON: " + type);
+    }
+
+    final byte[] json;
+    try {
+      json = jsonWriter.writeValueAsBytes(value);
+    } catch (final IOException e) {
+      throw new CaabApplicationException("Failed to serialize session attribute: " + type, e);
+    }
+
+    if (!jsonReadable.contains(type)) {
+      try {
+        jsonReader.readValue(json);
+        jsonReadable.add(type);
+      } catch (final IOException e) {
+        jsonUnreadable.add(type);
+        throw new CaabApplicationException(
+            "Session attribute cannot be read from JSON: " + type, e);
+      }
+    }
+    return json;
+  }
+}
@@ -0,0 +1,94 @@
+package uk.gov.laa.ccms.caab.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Session store backend holding sessions in memory, on this node only.
+ *
+ * <p>Used in tests and locally, and wherever no shared backend is configured. Sessions are
+ * discarded once unused for longer than they may be idle, and the least recently used are
+ * discarded once the maximum number are held.
+ */
+public class InMemorySessionAttributeStore implements SessionAttributeStore {
+
+  private final Cache<String, StoredEntry> sessions;
+
+  /**
+   * Construct the in-memory store.
+   *
+   * @param maximumSessions the maximum number of sessions held.
+   * @param timeToIdle how long a session may go unused before it is discarded.
+   */
+  public InMemorySessionAttributeStore(final long maximumSessions, final Duration timeToIdle) {
+    this.sessions =
+        Caffeine.newBuilder().maximumSize(maximumSessions).expireAfterAccess(timeToIdle).build();
+  }
+
+  @Override
+  public SessionRecord findSession(final String sessionId) {
+    final StoredEntry entry = sessions.getIfPresent(sessionId);
+    return entry != null ? entry.session() : null;
+  }
+
+  @Override
+  public byte[] findAttribute(final String sessionId, final String attributeName) {
+    final StoredEntry entry = sessions.getIfPresent(sessionId);
+    return entry != null ? entry.attributes().get(attributeName) : null;
+  }
+
+  @Override
+  public void saveSession(
+      final String originalId,
+      final SessionRecord session,
+      final Map<String, byte[]> changedAttributes,
+      final Set<String> removedAttributes) {
+    final StoredEntry renamed =
+        originalId.equals(session.id()) ? null : sessions.asMap().remove(originalId);
+
+    // Merged under the entry's lock, so that concurrent requests changing different attributes of
+    // one session do not overwrite each other's changes. The attribute names are merged too, as a
+    // session only loads the attributes it has the name of.
+    sessions
+        .asMap()
+        .compute(
+            session.id(),
+            (id, existing) -> {
+              final StoredEntry previous = renamed != null ? renamed : existing;
+              final Map<String, byte[]> attributes =
+                  previous != null ? new HashMap<>(previous.attributes()) : new HashMap<>();
+              final Set<String> attributeNames =
+                  previous != null
+                      ? new HashSet<>(previous.session().attributeNames())
+                      : new HashSet<>();
+              attributeNames.addAll(changedAttributes.keySet());
+              // Names with no stored value are those kept on the requesting node only.
+              session.attributeNames().stream()
+                  .filter(name -> !attributes.containsKey(name))
+                  .forEach(attributeNames::add);
+              attributes.putAll(changedAttributes);
+              removedAttributes.forEach(attributes::remove);
+              attributeNames.removeAll(removedAttributes);
+              return new StoredEntry(
+                  new SessionRecord(
+                      session.id(),
+                      session.creationTime(),
+                      session.lastAccessedTime(),
+                      session.maxInactiveInterval(),
+                      Set.copyOf(attributeNames)),
+                  Map.copyOf(attributes));
+            });
+  }
+
+  @Override
+  public void deleteSession(final String sessionId) {
+    sessions.invalidate(sessionId);
+  }
+
+  private record StoredEntry(SessionRecord session, Map<String, byte[]> attributes) {}
+}
@@ -0,0 +1,30 @@
+package uk.gov.laa.ccms.caab.session;
+
+/**
+ * Converts session attribute values to and from the bytes held by a {@link SessionAttributeStore}.
+ *
+ * <p>Serializing the same value twice must give the same bytes, since that is how an attribute
+ * read and left unchanged is told apart from one that was changed in place.
+ */
+public interface SessionAttributeSerializer {
+
+  /**
+   * Serialize an attribute value.
+   *
+   * @param value the value to serialize.
+   * @return the serialized value.
+   * @throws uk.gov.laa.ccms.caab.exception.CaabApplicationException if the value cannot be
+   *     serialized.
+   */
+  byte[] serialize(Object value);
+
+  /**
+   * Deserialize an attribute value.
+   *
+   * @param bytes the serialized value.
+   * @return the value.
+   * @throws uk.gov.laa.ccms.caab.exception.CaabApplicationException if the bytes cannot be
+   *     deserialized.
+   */
+  Object deserialize(byte[] bytes);
+}
@@ -0,0 +1,60 @@
+package uk.gov.laa.ccms.caab.session;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The backend sessions are stored in. Each attribute is stored and loaded on its own, so that a
+ * request only loads the attributes it uses, and only rewrites the attributes it changes.
+ *
+ * <p>For sessions to survive a node being replaced, the backend must be shared between nodes. An
+ * implementation registered as a bean replaces the {@link InMemorySessionAttributeStore}.
+ *
+ * @see StoredSessionRepository
+ */
+public interface SessionAttributeStore {
+
+  /**
+   * Find a session's details.
+   *
+   * @param sessionId the id of the session.
+   * @return the session's details, or null if there is no such session.
+   */
+  SessionRecord findSession(String sessionId);
+
+  /**
+   * Find the serialized value of one of a session's attributes.
+   *
+   * @param sessionId the id of the session.
+   * @param attributeName the name of the attribute.
+   * @return the serialized value, or null if the session has no such attribute.
+   */
+  byte[] findAttribute(String sessionId, String attributeName);
+
+  /**
+   * Save a session's details and any attributes that have changed. Attributes neither changed nor
+   * removed are kept as they are.
+   *
+   * <p>Requests for one session may overlap, so the session's attribute names are merged with those
+   * already stored rather than replacing them: the names of the attributes changed, and of any in
+   * the session's details that have no stored value, are added, and those removed are dropped.
+   *
+   * @param originalId the id the session was stored under, which differs from the id of the
+   *     session if it has been changed since.
+   * @param session the session's details.
+   * @param changedAttributes the serialized values of the attributes that have changed, by name.
+   * @param removedAttributes the names of the attributes that have been removed.
+   */
+  void saveSession(
+      String originalId,
+      SessionRecord session,
+      Map<String, byte[]> changedAttributes,
+      Set<String> removedAttributes);
+
+  /**
+   * Delete a session and all of its attributes.
+   *
+   * @param sessionId the id of the session.
+   */
+  void deleteSession(String sessionId);
+}
@@ -0,0 +1,22 @@
+package uk.gov.laa.ccms.caab.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * The details of a stored session, apart from its attribute values, which are stored and loaded
+ * one at a time.
+ *
+ * @param id the id of the session.
+ * @param creationTime when the session was created.
+ * @param lastAccessedTime when the session was last used.
+ * @param maxInactiveInterval how long the session may go unused before it expires.
+ * @param attributeNames the names of the attributes held in the session.
+ */
+public record SessionRecord(
+    String id,
+    Instant creationTime,
+    Instant lastAccessedTime,
+    Duration maxInactiveInterval,
+    Set<String> attributeNames) {}
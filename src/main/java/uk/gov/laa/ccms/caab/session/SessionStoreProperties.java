@@ -0,0 +1,49 @@
+package uk.gov.laa.ccms.caab.session;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the HTTP session store, which holds sessions outside the servlet
+ * container so that they survive a node being replaced.
+ *
+ * <p>The store is off by default, leaving sessions with the container.
+ */
+@Getter
+@ConfigurationProperties(prefix = "laa.ccms.session-store")
+public class SessionStoreProperties {
+
+  /** Whether sessions are held in the session store rather than by the servlet container. */
+  private final boolean enabled;
+
+  /** How long a session may go unused before it expires. */
+  private final Duration timeToIdle;
+
+  /** The maximum number of sessions held by the in-memory backend. */
+  private final long maximumSessions;
+
+  /** The serialized size above which an attribute is compressed before it is stored. */
+  private final DataSize compressionThreshold;
+
+  /**
+   * Construct the session store properties.
+   *
+   * @param enabled whether sessions are held in the session store.
+   * @param timeToIdle how long a session may go unused before it expires.
+   * @param maximumSessions the maximum number of sessions held by the in-memory backend.
+   * @param compressionThreshold the serialized size above which an attribute is compressed.
+   */
+  public SessionStoreProperties(
+      @DefaultValue("false") final boolean enabled,
+      @DefaultValue("60m") final Duration timeToIdle,
+      @DefaultValue("10000") final long maximumSessions,
+      @DefaultValue("1KB") final DataSize compressionThreshold) {
+    this.enabled = enabled;
+    this.timeToIdle = timeToIdle;
+    this.maximumSessions = maximumSessions;
+    this.compressionThreshold = compressionThreshold;
+  }
+}
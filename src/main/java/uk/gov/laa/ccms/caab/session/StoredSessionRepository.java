@@ -0,0 +1,346 @@
+package uk.gov.laa.ccms.caab.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
+
+/**
+ * Session repository holding sessions in a {@link SessionAttributeStore}, so that they are kept
+ * outside the servlet container.
+ *
+ * <p>A session's attributes are loaded one at a time, when a request first uses them. When the
+ * request ends, each attribute it used is serialized again and written back only if its bytes have
+ * changed - so that an attribute read and changed in place is saved, but one only read is not.
+ *
+ * <p>An attribute the serializer refuses is kept on this node only, as the servlet container
+ * would, and counted, so that it can be made serializable. An attribute that can no longer be read
+ * (its class changed by a release, say) is dropped from the session and counted, rather than
+ * failing the request.
+ *
+ * <p>The size of each attribute written is recorded to {@code caab.session.attribute.size}, tagged
+ * with the attribute name.
+ */
+@Slf4j
+public class StoredSessionRepository
+    implements SessionRepository<StoredSessionRepository.StoredSession> {
+
+  private final SessionAttributeStore store;
+
+  private final SessionAttributeSerializer serializer;
+
+  private final Duration maxInactiveInterval;
+
+  private final MeterRegistry meterRegistry;
+
+  private final Clock clock;
+
+  private final Cache<String, Map<String, Object>> localAttributes;
+
+  /**
+   * Construct the repository.
+   *
+   * @param store the backend to hold sessions in.
+   * @param serializer converts attribute values to and from the bytes held by the store.
+   * @param maxInactiveInterval how long a new session may go unused before it expires.
+   * @param maximumSessions the maximum number of sessions to keep attributes on this node only
+   *     for. Those of the least recently used sessions are dropped beyond it.
+   * @param meterRegistry the registry to publish the attribute size and write metrics to.
+   */
+  public StoredSessionRepository(
+      final SessionAttributeStore store,
+      final SessionAttributeSerializer serializer,
+      final Duration maxInactiveInterval,
+      final long maximumSessions,
+      final MeterRegistry meterRegistry) {
+    this(
+        store, serializer, maxInactiveInterval, maximumSessions, meterRegistry, Clock.systemUTC());
+  }
+
+  StoredSessionRepository(
+      final SessionAttributeStore store,
+      final SessionAttributeSerializer serializer,
+      final Duration maxInactiveInterval,
+      final long maximumSessions,
+      final MeterRegistry meterRegistry,
+      final Clock clock) {
+    this.store = store;
+    this.serializer = serializer;
+    this.maxInactiveInterval = maxInactiveInterval;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+    this.localAttributes =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSessions)
+            .expireAfterAccess(maxInactiveInterval)
+            .build();
+  }
+
+  @Override
+  public StoredSession createSession() {
+    final Instant now = clock.instant();
+    return new StoredSession(
+        new SessionRecord(
+            UUID.randomUUID().toString(), now, now, maxInactiveInterval, new HashSet<>()));
+  }
+
+  @Override
+  public void save(final StoredSession session) {
+    final Map<String, byte[]> changedAttributes = new HashMap<>();
+    final Set<String> removedAttributes;
+    final SessionRecord record;
+
+    synchronized (session) {
+      if (!session.originalId.equals(session.id)) {
+        final Map<String, Object> local = localAttributes.asMap().remove(session.originalId);
+        if (local != null) {
+          localAttributes.put(session.id, local);
+        }
+      }
+
+      for (final Map.Entry<String, Object> attribute : session.values.entrySet()) {
+        final String name = attribute.getKey();
+        final byte[] bytes;
+        try {
+          bytes = serializer.serialize(attribute.getValue());
+        } catch (final CaabApplicationException e) {
+          log.debug("Session attribute {} kept on this node only", name, e);
+          localAttributes
+              .get(session.id, id -> new ConcurrentHashMap<>())
+              .put(name, attribute.getValue());
+          countWrite(name, "local_only");
+          continue;
+        }
+
+        removeLocalAttribute(session.id, name);
+        if (Arrays.equals(bytes, session.storedValues.get(name))) {
+          countWrite(name, "unchanged");
+          continue;
+        }
+        changedAttributes.put(name, bytes);
+        countWrite(name, "written");
+        DistributionSummary.builder("caab.session.attribute.size")
+            .description("Serialized size of each session attribute written")
+            .baseUnit("bytes")
+            .tag("attribute", name)
+            .register(meterRegistry)
+            .record(bytes.length);
+      }
+
+      removedAttributes = Set.copyOf(session.removedAttributes);
+      removedAttributes.forEach(name -> removeLocalAttribute(session.id, name));
+      record = session.toRecord();
+    }
+
+    store.saveSession(session.originalId, record, changedAttributes, removedAttributes);
+    session.saved(changedAttributes);
+  }
+
+  @Override
+  public StoredSession findById(final String id) {
+    final SessionRecord record = store.findSession(id);
+    if (record == null) {
+      return null;
+    }
+    final StoredSession session = new StoredSession(record);
+    if (session.isExpired()) {
+      deleteById(id);
+      return null;
+    }
+    return session;
+  }
+
+  @Override
+  public void deleteById(final String id) {
+    store.deleteSession(id);
+    localAttributes.invalidate(id);
+  }
+
+  private void removeLocalAttribute(final String sessionId, final String name) {
+    final Map<String, Object> local = localAttributes.getIfPresent(sessionId);
+    if (local != null) {
+      local.remove(name);
+    }
+  }
+
+  private void countWrite(final String name, final String result) {
+    Counter.builder("caab.session.attribute.writes")
+        .description("Session attributes saved at the end of a request, by whether written")
+        .tag("attribute", name)
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private Object load(final String sessionId, final String name, final StoredSession session) {
+    final Map<String, Object> local = localAttributes.getIfPresent(sessionId);
+    if (local != null && local.containsKey(name)) {
+      return local.get(name);
+    }
+
+    final byte[] bytes = store.findAttribute(sessionId, name);
+    if (bytes == null) {
+      return null;
+    }
+    try {
+      final Object value = serializer.deserialize(bytes);
+      session.storedValues.put(name, bytes);
+      return value;
+    } catch (final CaabApplicationException e) {
+      log.warn("Session attribute {} could not be read and has been dropped", name, e);
+      Counter.builder("caab.session.attribute.read.failures")
+          .description("Session attributes dropped because they could not be read")
+          .tag("attribute", name)
+          .register(meterRegistry)
+          .increment();
+      return null;
+    }
+  }
+
+  /**
+   * A session held in the {@link SessionAttributeStore}, loading its attributes as they are used.
+   */
+  public final class StoredSession implements Session {
+
+    private String id;
+
+    private String originalId;
+
+    private final Instant creationTime;
+
+    private Instant lastAccessedTime;
+
+    private Duration maxInactiveInterval;
+
+    private final Set<String> attributeNames;
+
+    /** The attributes used during this request, loaded or set. */
+    private final Map<String, Object> values = new HashMap<>();
+
+    /** The stored bytes of the attributes loaded, to tell whether they have since changed. */
+    private final Map<String, byte[]> storedValues = new HashMap<>();
+
+    private final Set<String> removedAttributes = new HashSet<>();
+
+    private StoredSession(final SessionRecord record) {
+      this.id = record.id();
+      this.originalId = record.id();
+      this.creationTime = record.creationTime();
+      this.lastAccessedTime = record.lastAccessedTime();
+      this.maxInactiveInterval = record.maxInactiveInterval();
+      this.attributeNames = new HashSet<>(record.attributeNames());
+    }
+
+    @Override
+    public synchronized String getId() {
+      return id;
+    }
+
+    @Override
+    public synchronized String changeSessionId() {
+      id = UUID.randomUUID().toString();
+      return id;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T getAttribute(final String attributeName) {
+      if (values.containsKey(attributeName)) {
+        return (T) values.get(attributeName);
+      }
+      if (!attributeNames.contains(attributeName)) {
+        return null;
+      }
+
+      final Object value = load(originalId, attributeName, this);
+      if (value == null) {
+        attributeNames.remove(attributeName);
+        removedAttributes.add(attributeName);
+        return null;
+      }
+      values.put(attributeName, value);
+      return (T) value;
+    }
+
+    @Override
+    public synchronized Set<String> getAttributeNames() {
+      return Set.copyOf(attributeNames);
+    }
+
+    @Override
+    public synchronized void setAttribute(final String attributeName, final Object attributeValue) {
+      if (attributeValue == null) {
+        removeAttribute(attributeName);
+        return;
+      }
+      attributeNames.add(attributeName);
+      values.put(attributeName, attributeValue);
+      removedAttributes.remove(attributeName);
+    }
+
+    @Override
+    public synchronized void removeAttribute(final String attributeName) {
+      attributeNames.remove(attributeName);
+      values.remove(attributeName);
+      storedValues.remove(attributeName);
+      removedAttributes.add(attributeName);
+    }
+
+    @Override
+    public Instant getCreationTime() {
+      return creationTime;
+    }
+
+    @Override
+    public synchronized void setLastAccessedTime(final Instant lastAccessedTime) {
+      this.lastAccessedTime = lastAccessedTime;
+    }
+
+    @Override
+    public synchronized Instant getLastAccessedTime() {
+      return lastAccessedTime;
+    }
+
+    @Override
+    public synchronized void setMaxInactiveInterval(final Duration interval) {
+      this.maxInactiveInterval = interval;
+    }
+
+    @Override
+    public synchronized Duration getMaxInactiveInterval() {
+      return maxInactiveInterval;
+    }
+
+    @Override
+    public synchronized boolean isExpired() {
+      return !maxInactiveInterval.isNegative()
+          && clock.instant().isAfter(lastAccessedTime.plus(maxInactiveInterval));
+    }
+
+    private SessionRecord toRecord() {
+      return new SessionRecord(
+          id, creationTime, lastAccessedTime, maxInactiveInterval, Set.copyOf(attributeNames));
+    }
+
+    private synchronized void saved(final Map<String, byte[]> changedAttributes) {
+      storedValues.putAll(changedAttributes);
+      removedAttributes.clear();
+      originalId = id;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package uk.gov.laa.ccms.caab.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * Reads one Base64 encoded string field from a JSON object, decoding it straight into an output
+ * stream a chunk at a time.
+ *
+ * <p>Documents are sent by the APIs as JSON with their content Base64 encoded in a single field.
+ * Binding the whole object holds the JSON, the encoded string and the decoded content in memory at
+ * once; reading the field with this class holds only a few kilobytes of it at a time, however
+ * large the document.
+ */
+public final class Base64JsonFieldReader implements Closeable {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final JsonParser parser;
+
+  private Base64JsonFieldReader(final JsonParser parser) {
+    this.parser = parser;
+  }
+
+  /**
+   * Read a JSON object up to the value of the named top level field. Nothing is decoded until
+   * {@link #transferTo(OutputStream)} is called.
+   *
+   * @param json the JSON object. It is closed when the reader is closed, or straight away if the
+   *     field is not found.
+   * @param fieldName the name of the field holding the Base64 encoded content.
+   * @return a reader positioned at the field, or empty if the object has no such field, or its
+   *     value is not a string.
+   * @throws IOException if the JSON cannot be read.
+   */
+  public static Optional<Base64JsonFieldReader> open(final InputStream json, final String fieldName)
+      throws IOException {
+    final JsonParser parser = JSON_FACTORY.createParser(json);
+    try {
+      if (parser.nextToken() == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          final String name = parser.currentName();
+          final JsonToken value = parser.nextToken();
+          if (fieldName.equals(name) && value == JsonToken.VALUE_STRING) {
+            return Optional.of(new Base64JsonFieldReader(parser));
+          }
+          parser.skipChildren();
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      parser.close();
+      throw e;
+    }
+    parser.close();
+    return Optional.empty();
+  }
+
+  /**
+   * Decode the field into the given stream.
+   *
+   * @param out the stream to write the decoded content to. It is not closed.
+   * @return the number of bytes written.
+   * @throws IOException if the JSON cannot be read, the field is not valid Base64, or the content
+   *     cannot be written.
+   */
+  public int transferTo(final OutputStream out) throws IOException {
+    try {
+      return parser.readBinaryValue(out);
+    } catch (IllegalArgumentException e) {
+      // Jackson reports an invalid Base64 character this way rather than as a parse error.
+      throw new JsonParseException(parser, "Invalid Base64 content", e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+}
@@ -0,0 +1,102 @@
+package uk.gov.laa.ccms.caab.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageWriter;
+
+/**
+ * Writes an object as JSON with one of its fields holding Base64 encoded content, encoding the
+ * content straight from an input stream a chunk at a time.
+ *
+ * <p>This is the counterpart of {@link Base64JsonFieldReader}, for sending documents to the APIs.
+ * Setting the content on the object before serialising it holds the content, the encoded string
+ * and the serialised JSON in memory at once; writing it with this class holds only a few kilobytes
+ * of it at a time, however large the document.
+ *
+ * <p>The object's other fields are serialised by the JSON encoder of the WebClient sending them, so
+ * that dates, nullable fields and the like are written exactly as in any other request to the API.
+ */
+public final class Base64JsonFieldWriter {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final Encoder<Object> encoder;
+
+  /**
+   * Construct a writer serialising objects with the JSON encoder among the given message writers.
+   *
+   * @param messageWriters the message writers of the WebClient the JSON is sent with.
+   * @throws IllegalArgumentException if none of the message writers writes JSON.
+   */
+  @SuppressWarnings("unchecked")
+  public Base64JsonFieldWriter(final List<HttpMessageWriter<?>> messageWriters) {
+    this.encoder =
+        messageWriters.stream()
+            .filter(EncoderHttpMessageWriter.class::isInstance)
+            .map(writer -> (Encoder<Object>) ((EncoderHttpMessageWriter<?>) writer).getEncoder())
+            .filter(
+                candidate ->
+                    candidate.canEncode(
+                        ResolvableType.forClass(Object.class), MediaType.APPLICATION_JSON))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("No message writer writes JSON"));
+  }
+
+  /**
+   * Write an object as JSON, with the named field set to the Base64 encoded content. The field is
+   * written last, replacing any value the object already has for it.
+   *
+   * @param value the object to write. It must serialise to a JSON object.
+   * @param fieldName the name of the field to hold the Base64 encoded content.
+   * @param content the content to encode. It is read to the end but not closed.
+   * @param out the stream to write the JSON to. It is not closed.
+   * @throws IOException if the content cannot be read, or the JSON cannot be written.
+   */
+  public void write(
+      final Object value, final String fieldName, final InputStream content, final OutputStream out)
+      throws IOException {
+    final DataBuffer fields =
+        encoder.encodeValue(
+            value,
+            DefaultDataBufferFactory.sharedInstance,
+            ResolvableType.forInstance(value),
+            MediaType.APPLICATION_JSON,
+            Map.of());
+
+    try (JsonParser parser = JSON_FACTORY.createParser(fields.asInputStream(true));
+        JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException(
+            value.getClass().getName() + " does not serialise to a JSON object");
+      }
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.writeStartObject();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String name = parser.currentName();
+        parser.nextToken();
+        if (fieldName.equals(name)) {
+          parser.skipChildren();
+        } else {
+          generator.writeFieldName(name);
+          generator.copyCurrentStructure(parser);
+        }
+      }
+      generator.writeFieldName(fieldName);
+      generator.writeBinary(content, -1);
+      generator.writeEndObject();
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package uk.gov.laa.ccms.caab.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import uk.gov.laa.ccms.caab.model.AddressResultRowDisplay;
+import uk.gov.laa.ccms.caab.model.ResultsDisplay;
+
+/**
+ * A read-only view of the results of an address search which finds addresses by house name or
+ * number, and by UPRN, without scanning the results.
+ *
+ * <p>House names and numbers are matched ignoring case. Where more than one address has the same
+ * UPRN, the first wins.
+ */
+public final class IndexedAddresses {
+
+  private final ResultsDisplay<AddressResultRowDisplay> results;
+
+  private final List<AddressResultRowDisplay> content;
+
+  private final Map<String, List<AddressResultRowDisplay>> addressesByHouseNameNumber =
+      new HashMap<>();
+
+  private final Map<String, AddressResultRowDisplay> addressesByUprn = new HashMap<>();
+
+  private IndexedAddresses(
+      final ResultsDisplay<AddressResultRowDisplay> results,
+      final List<AddressResultRowDisplay> content) {
+    this.results = results;
+    this.content = content;
+
+    for (final AddressResultRowDisplay address : content) {
+      if (address.getHouseNameNumber() != null) {
+        addressesByHouseNameNumber
+            .computeIfAbsent(fold(address.getHouseNameNumber()), key -> new ArrayList<>())
+            .add(address);
+      }
+      if (address.getUprn() != null) {
+        addressesByUprn.putIfAbsent(address.getUprn(), address);
+      }
+    }
+  }
+
+  /**
+   * Builds the view of the results of an address search, as they are at the time.
+   *
+   * @param results the results to index.
+   * @return the view of the results.
+   */
+  public static IndexedAddresses of(final ResultsDisplay<AddressResultRowDisplay> results) {
+    return new IndexedAddresses(
+        results,
+        Collections.unmodifiableList(
+            new ArrayList<>(
+                Optional.ofNullable(results.getContent()).orElseGet(Collections::emptyList))));
+  }
+
+  /**
+   * Retrieves the results that were indexed. Each call returns a new results display, but they all
+   * share the same unmodifiable list of addresses.
+   *
+   * @return the results.
+   */
+  public ResultsDisplay<AddressResultRowDisplay> getResults() {
+    final ResultsDisplay<AddressResultRowDisplay> copy = new ResultsDisplay<>(content);
+    copy.setTotalPages(results.getTotalPages());
+    copy.setTotalElements(results.getTotalElements());
+    copy.setNumber(results.getNumber());
+    copy.setSize(results.getSize());
+    return copy;
+  }
+
+  /**
+   * Whether these are the indexed results, as returned by {@link #getResults()}.
+   *
+   * @param results the results to check.
+   * @return true if the results hold the indexed addresses.
+   */
+  public boolean isIndexOf(final ResultsDisplay<AddressResultRowDisplay> results) {
+    return results != null && results.getContent() == content;
+  }
+
+  /**
+   * Retrieves the addresses with a house name or number.
+   *
+   * @param houseNameNumber the house name or number, matched ignoring case.
+   * @return the matching addresses in the order of the results, or an empty list if none match.
+   */
+  public List<AddressResultRowDisplay> getByHouseNameNumber(final String houseNameNumber) {
+    return houseNameNumber == null
+        ? List.of()
+        : Collections.unmodifiableList(
+            addressesByHouseNameNumber.getOrDefault(fold(houseNameNumber), List.of()));
+  }
+
+  /**
+   * Retrieves the address with a UPRN.
+   *
+   * @param uprn the Unique Property Reference Number of the address.
+   * @return the matching address, or null if not found.
+   */
+  public AddressResultRowDisplay getByUprn(final String uprn) {
+    return uprn == null ? null : addressesByUprn.get(uprn);
+  }
+
+  private static String fold(final String value) {
+    return value.toLowerCase(Locale.ROOT);
+  }
+}
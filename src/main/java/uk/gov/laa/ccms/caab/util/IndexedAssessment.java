@@ -0,0 +1,255 @@
+package uk.gov.laa.ccms.caab.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentAttributeDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityTypeDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentRelationshipDetail;
+import uk.gov.laa.ccms.caab.constants.assessment.AssessmentAttribute;
+import uk.gov.laa.ccms.caab.constants.assessment.AssessmentEntityType;
+import uk.gov.laa.ccms.caab.constants.assessment.AssessmentRelationship;
+
+/**
+ * A read-only view of an assessment which finds entity types, entities, attributes and
+ * relationships by name without scanning the assessment, for code that makes many lookups against
+ * the same assessment.
+ *
+ * <p>The view answers exactly as the equivalent {@link AssessmentUtil} lookups would: names are
+ * matched ignoring case, except entity names which are matched exactly, and the first match wins.
+ * It is a snapshot taken when it is built, so it should be built once the assessment has stopped
+ * changing and not be kept beyond the request that built it.
+ */
+public final class IndexedAssessment {
+
+  private static final IndexedAssessment EMPTY = new IndexedAssessment(List.of());
+
+  private final List<AssessmentEntityTypeDetail> entityTypes;
+
+  private final Map<String, AssessmentEntityTypeDetail> entityTypesByName = new HashMap<>();
+
+  private final Map<String, Map<String, AssessmentEntityDetail>> entitiesByTypeAndName =
+      new HashMap<>();
+
+  private final Map<String, List<AssessmentEntityDetail>> relatedEntitiesByTypeName =
+      new HashMap<>();
+
+  // Keyed on identity, as the generated models hash every field they hold.
+  private final Map<AssessmentEntityDetail, Map<String, AssessmentAttributeDetail>>
+      attributesByEntity = new IdentityHashMap<>();
+
+  private final Map<AssessmentEntityDetail, Map<String, AssessmentRelationshipDetail>>
+      relationsByEntity = new IdentityHashMap<>();
+
+  private IndexedAssessment(final List<AssessmentEntityTypeDetail> entityTypes) {
+    this.entityTypes = Collections.unmodifiableList(entityTypes);
+
+    for (final AssessmentEntityTypeDetail entityType : entityTypes) {
+      if (entityType.getName() == null) {
+        continue;
+      }
+      final String typeName = fold(entityType.getName());
+      final List<AssessmentEntityDetail> entities =
+          Optional.ofNullable(entityType.getEntities()).orElseGet(List::of);
+
+      if (entityTypesByName.putIfAbsent(typeName, entityType) == null) {
+        final Map<String, AssessmentEntityDetail> entitiesByName = new HashMap<>();
+        for (final AssessmentEntityDetail entity : entities) {
+          if (entity.getName() != null) {
+            entitiesByName.putIfAbsent(entity.getName(), entity);
+          }
+        }
+        entitiesByTypeAndName.put(typeName, entitiesByName);
+      }
+      relatedEntitiesByTypeName
+          .computeIfAbsent(typeName, name -> new ArrayList<>())
+          .addAll(entities);
+
+      for (final AssessmentEntityDetail entity : entities) {
+        attributesByEntity.computeIfAbsent(entity, IndexedAssessment::indexAttributes);
+        relationsByEntity.computeIfAbsent(entity, IndexedAssessment::indexRelations);
+      }
+    }
+  }
+
+  /**
+   * Builds the view of an assessment.
+   *
+   * @param assessment the assessment to index, or null for an empty view.
+   * @return the view of the assessment.
+   */
+  public static IndexedAssessment of(final AssessmentDetail assessment) {
+    if (assessment == null || assessment.getEntityTypes() == null) {
+      return EMPTY;
+    }
+    return new IndexedAssessment(List.copyOf(assessment.getEntityTypes()));
+  }
+
+  /**
+   * Retrieves every entity type in the assessment, in the order the assessment holds them.
+   *
+   * @return the entity types.
+   */
+  public List<AssessmentEntityTypeDetail> getEntityTypes() {
+    return entityTypes;
+  }
+
+  /**
+   * Retrieves an entity type by name.
+   *
+   * @param entityType the entity type to retrieve.
+   * @return the matching entity type, or null if not found.
+   */
+  public AssessmentEntityTypeDetail getEntityType(final AssessmentEntityType entityType) {
+    return entityType == null ? null : getEntityType(entityType.getType());
+  }
+
+  /**
+   * Retrieves an entity type by name.
+   *
+   * @param entityType the name of the entity type to retrieve.
+   * @return the matching entity type, or null if not found.
+   */
+  public AssessmentEntityTypeDetail getEntityType(final String entityType) {
+    return entityType == null ? null : entityTypesByName.get(fold(entityType));
+  }
+
+  /**
+   * Retrieves the entities of an entity type.
+   *
+   * @param entityType the entity type to retrieve the entities of.
+   * @return the entities, or an empty list if the entity type is not found.
+   */
+  public List<AssessmentEntityDetail> getEntities(final AssessmentEntityType entityType) {
+    return entityType == null ? List.of() : getEntities(entityType.getType());
+  }
+
+  /**
+   * Retrieves the entities of an entity type.
+   *
+   * @param entityType the name of the entity type to retrieve the entities of.
+   * @return the entities, or an empty list if the entity type is not found.
+   */
+  public List<AssessmentEntityDetail> getEntities(final String entityType) {
+    return Optional.ofNullable(getEntityType(entityType))
+        .map(AssessmentEntityTypeDetail::getEntities)
+        .map(Collections::unmodifiableList)
+        .orElseGet(List::of);
+  }
+
+  /**
+   * Retrieves an entity by the name of its entity type and its own name.
+   *
+   * @param entityType the entity type the entity belongs to.
+   * @param entityName the name of the entity, matched exactly.
+   * @return the matching entity, or null if not found.
+   */
+  public AssessmentEntityDetail getEntity(
+      final AssessmentEntityType entityType, final String entityName) {
+    if (entityType == null || entityName == null) {
+      return null;
+    }
+    return entitiesByTypeAndName.getOrDefault(fold(entityType.getType()), Map.of()).get(entityName);
+  }
+
+  /**
+   * Retrieves the entities a relationship points at, being every entity whose entity type is named
+   * after the relationship.
+   *
+   * @param relationship the relationship to follow.
+   * @return the related entities, or an empty list if there are none.
+   */
+  public List<AssessmentEntityDetail> getRelatedEntities(
+      final AssessmentRelationshipDetail relationship) {
+    if (relationship == null || relationship.getName() == null) {
+      return List.of();
+    }
+    return Collections.unmodifiableList(
+        relatedEntitiesByTypeName.getOrDefault(
+            fold(relationship.getName().replace("_", "")), List.of()));
+  }
+
+  /**
+   * Retrieves a relationship of an entity.
+   *
+   * @param entity the entity holding the relationship.
+   * @param relationship the relationship to retrieve.
+   * @return the matching relationship, or null if not found.
+   */
+  public AssessmentRelationshipDetail getRelationship(
+      final AssessmentEntityDetail entity, final AssessmentRelationship relationship) {
+    if (entity == null || relationship == null) {
+      return null;
+    }
+    final Map<String, AssessmentRelationshipDetail> relations = relationsByEntity.get(entity);
+    return relations == null
+        ? AssessmentUtil.getEntityRelationship(entity, relationship)
+        : relations.get(fold(relationship.getRelationship()));
+  }
+
+  /**
+   * Retrieves an attribute of an entity.
+   *
+   * @param entity the entity holding the attribute.
+   * @param attribute the attribute to retrieve.
+   * @return the matching attribute, or null if not found.
+   */
+  public AssessmentAttributeDetail getAttribute(
+      final AssessmentEntityDetail entity, final AssessmentAttribute attribute) {
+    return attribute == null ? null : getAttribute(entity, attribute.name());
+  }
+
+  /**
+   * Retrieves an attribute of an entity. An entity from outside the assessment is searched
+   * directly.
+   *
+   * @param entity the entity holding the attribute.
+   * @param attribute the name of the attribute to retrieve.
+   * @return the matching attribute, or null if not found.
+   */
+  public AssessmentAttributeDetail getAttribute(
+      final AssessmentEntityDetail entity, final String attribute) {
+    if (entity == null || attribute == null) {
+      return null;
+    }
+    final Map<String, AssessmentAttributeDetail> attributes = attributesByEntity.get(entity);
+    return attributes == null
+        ? AssessmentUtil.getAssessmentAttribute(entity, attribute)
+        : attributes.get(fold(attribute));
+  }
+
+  private static Map<String, AssessmentAttributeDetail> indexAttributes(
+      final AssessmentEntityDetail entity) {
+    final Map<String, AssessmentAttributeDetail> attributes = new HashMap<>();
+    for (final AssessmentAttributeDetail attribute :
+        Optional.ofNullable(entity.getAttributes()).orElseGet(List::of)) {
+      if (attribute.getName() != null) {
+        attributes.putIfAbsent(fold(attribute.getName()), attribute);
+      }
+    }
+    return attributes;
+  }
+
+  private static Map<String, AssessmentRelationshipDetail> indexRelations(
+      final AssessmentEntityDetail entity) {
+    final Map<String, AssessmentRelationshipDetail> relations = new HashMap<>();
+    for (final AssessmentRelationshipDetail relation :
+        Optional.ofNullable(entity.getRelations()).orElseGet(List::of)) {
+      if (relation.getName() != null) {
+        relations.putIfAbsent(fold(relation.getName()), relation);
+      }
+    }
+    return relations;
+  }
+
+  private static String fold(final String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+}
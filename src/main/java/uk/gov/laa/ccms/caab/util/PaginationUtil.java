@@ -1,6 +1,5 @@
 package uk.gov.laa.ccms.caab.util;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -42,10 +41,32 @@ public final class PaginationUtil {
       return new PageImpl<>(list.subList(start, end), pageable, list.size());
     }
 
+    sortList(pageable.getSort(), list);
+
+    List<T> sublist = new ArrayList<>(list.subList(start, end));
+    return new PageImpl<>(sublist, pageable, list.size());
+  }
+
+  /**
+   * Sorts a given list in place based on the provided {@link Sort}.
+   *
+   * <p>Top-level properties (e.g. {@code caseReferenceNumber}) and nested properties (e.g. {@code
+   * status.displayValue}) are read using their getters. Nested properties take precedence over
+   * top-level properties.
+   *
+   * @param <T> The type of the elements within the list.
+   * @param sort The {@link Sort} describing the properties to sort by.
+   * @param list The list of items to be sorted.
+   */
+  public static <T> void sortList(final Sort sort, final List<T> list) {
+    if (!sort.isSorted() || list.isEmpty()) {
+      return;
+    }
+
     List<Sort.Order> nestedOrders = new ArrayList<>();
     List<Sort.Order> topLevelOrders = new ArrayList<>();
 
-    for (Sort.Order order : pageable.getSort()) {
+    for (Sort.Order order : sort) {
       String property = order.getProperty();
       boolean isNested = property.contains(".");
 
@@ -65,37 +86,30 @@ public final class PaginationUtil {
       // Sort the list based on nested properties
       list.sort(comparatorForNestedSort(nestedOrders));
     }
-
-    List<T> sublist = new ArrayList<>(list.subList(start, end));
-    return new PageImpl<>(sublist, pageable, list.size());
   }
 
   private static <T> Comparator<T> comparatorForTopLevelSort(
       Class<?> clazz, List<Sort.Order> topLevelOrders) {
-    return (o1, o2) -> {
-      for (Sort.Order order : topLevelOrders) {
-        String property = order.getProperty();
-        String methodName = "get" + property.substring(0, 1).toUpperCase() + property.substring(1);
+    final String[] properties =
+        topLevelOrders.stream().map(Sort.Order::getProperty).toArray(String[]::new);
+    final boolean[] ascending = ascending(topLevelOrders);
 
+    return (o1, o2) -> {
+      for (int i = 0; i < properties.length; i++) {
         try {
-          Method method = clazz.getDeclaredMethod(methodName);
-          Object val1 = method.invoke(o1);
-          Object val2 = method.invoke(o2);
+          Object val1 = PropertyAccessors.getProperty(clazz, properties[i], o1);
+          Object val2 = PropertyAccessors.getProperty(clazz, properties[i], o2);
 
           if (val1 == null && val2 == null) {
             continue;
           } else if (val1 == null) {
-            return order.isAscending() ? -1 : 1;
+            return ascending[i] ? -1 : 1;
           } else if (val2 == null) {
-            return order.isAscending() ? 1 : -1;
+            return ascending[i] ? 1 : -1;
           }
 
           if (val1 instanceof Comparable && val2 instanceof Comparable) {
-            @SuppressWarnings("unchecked")
-            Comparable<Object> comparableVal1 = (Comparable<Object>) val1;
-            return order.isAscending()
-                ? comparableVal1.compareTo(val2)
-                : comparableVal1.compareTo(val2) * -1;
+            return compare(val1, val2, ascending[i]);
           }
         } catch (Exception e) {
           throw new CaabApplicationException("Error sorting comparator for top-level properties");
@@ -106,25 +120,28 @@ public final class PaginationUtil {
   }
 
   private static <T> Comparator<T> comparatorForNestedSort(List<Sort.Order> nestedOrders) {
+    // Split each property path once, rather than on every comparison.
+    final String[][] propertyPaths =
+        nestedOrders.stream()
+            .map(order -> order.getProperty().split("\\."))
+            .toArray(String[][]::new);
+    final boolean[] ascending = ascending(nestedOrders);
+
     return (o1, o2) -> {
-      for (Sort.Order order : nestedOrders) {
-        String nestedProperty = order.getProperty();
-        String[] nestedPropertyParts = nestedProperty.split("\\.");
+      for (int i = 0; i < propertyPaths.length; i++) {
         Object val1 = o1;
         Object val2 = o2;
 
-        for (String propertyPart : nestedPropertyParts) {
+        for (String propertyPart : propertyPaths[i]) {
           try {
-            String methodName =
-                "get" + propertyPart.substring(0, 1).toUpperCase() + propertyPart.substring(1);
-            Method method = val1.getClass().getDeclaredMethod(methodName);
-            val1 = method.invoke(val1);
-            val2 = method.invoke(val2);
+            final Class<?> clazz = val1.getClass();
+            val1 = PropertyAccessors.getProperty(clazz, propertyPart, val1);
+            val2 = PropertyAccessors.getProperty(clazz, propertyPart, val2);
 
             if (val1 == null) {
-              return order.isAscending() ? -1 : 1;
+              return ascending[i] ? -1 : 1;
             } else if (val2 == null) {
-              return order.isAscending() ? 1 : -1;
+              return ascending[i] ? 1 : -1;
             }
           } catch (Exception e) {
             throw new CaabApplicationException("Error sorting comparator for nested properties");
@@ -132,14 +149,24 @@ public final class PaginationUtil {
         }
 
         if (val1 instanceof Comparable && val2 instanceof Comparable) {
-          @SuppressWarnings("unchecked")
-          Comparable<Object> comparableVal1 = (Comparable<Object>) val1;
-          return order.isAscending()
-              ? comparableVal1.compareTo(val2)
-              : comparableVal1.compareTo(val2) * -1;
+          return compare(val1, val2, ascending[i]);
         }
       }
       return 0;
     };
   }
+
+  private static boolean[] ascending(final List<Sort.Order> orders) {
+    final boolean[] ascending = new boolean[orders.size()];
+    for (int i = 0; i < ascending.length; i++) {
+      ascending[i] = orders.get(i).isAscending();
+    }
+    return ascending;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int compare(final Object val1, final Object val2, final boolean ascending) {
+    final int result = ((Comparable<Object>) val1).compareTo(val2);
+    return ascending ? result : result * -1;
+  }
 }
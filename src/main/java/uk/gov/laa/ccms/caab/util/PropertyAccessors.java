@@ -0,0 +1,70 @@
+package uk.gov.laa.ccms.caab.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves bean property getters to {@link MethodHandle}s, caching them per class so that code
+ * reading the same property from many objects (for example, a comparator used to sort a list) only
+ * pays for the reflective lookup once.
+ *
+ * <p>Getters are resolved with {@link Class#getDeclaredMethod}, so only properties declared
+ * directly on the given class are found.
+ */
+final class PropertyAccessors {
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<Map<String, MethodHandle>> GETTERS =
+      new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(final Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private PropertyAccessors() {}
+
+  /**
+   * Read a property from the given object using its getter.
+   *
+   * @param type the class declaring the getter.
+   * @param property the name of the property, e.g. {@code caseReferenceNumber}.
+   * @param target the object to read the property from.
+   * @return the property value.
+   * @throws ReflectiveOperationException if the class has no accessible getter for the property.
+   */
+  static Object getProperty(final Class<?> type, final String property, final Object target)
+      throws ReflectiveOperationException {
+    try {
+      return (Object) getter(type, property).invokeExact(target);
+    } catch (ReflectiveOperationException | RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  private static MethodHandle getter(final Class<?> type, final String property)
+      throws ReflectiveOperationException {
+    final Map<String, MethodHandle> getters = GETTERS.get(type);
+    MethodHandle getter = getters.get(property);
+    if (getter == null) {
+      getter = resolveGetter(type, property);
+      getters.putIfAbsent(property, getter);
+    }
+    return getter;
+  }
+
+  private static MethodHandle resolveGetter(final Class<?> type, final String property)
+      throws ReflectiveOperationException {
+    final String methodName =
+        "get" + property.substring(0, 1).toUpperCase() + property.substring(1);
+    final Method method = type.getDeclaredMethod(methodName);
+    return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+  }
+}
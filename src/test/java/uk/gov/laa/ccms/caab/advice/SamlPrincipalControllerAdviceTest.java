@@ -127,9 +127,9 @@ class SamlPrincipalControllerAdviceTest {
 
     @Test
     @DisplayName(
-        "User details are always retrieved from database when home page is requested, "
-            + "even with matching user in session")
-    public void userDetailsRetrievedWhenHomePageRequested() {
+        "User details are left to the home page to retrieve when it is requested with a matching "
+            + "user in session")
+    public void userDetailsNotRetrievedWhenHomePageRequestedWithMatchingUser() {
       when(session.getAttribute("user")).thenReturn(userDetails);
 
       HandlerMethod handler = mock(HandlerMethod.class);
@@ -139,11 +139,33 @@ class SamlPrincipalControllerAdviceTest {
 
       advice.addSamlPrincipalToModel(authentication, model, session, request);
 
-      verify(userService).getUserByLoginId(any());
+      // The HomeController retrieves the user alongside the notifications.
+      verifyNoInteractions(userService);
       verify(model).addAttribute("user", userDetails);
       verify(model).addAttribute("userAttributes", attributes);
       verify(session).setAttribute("user", userDetails);
       verifyNoMoreInteractions(model);
     }
+
+    @Test
+    @DisplayName(
+        "User details are retrieved by login id when home page is requested with mismatched user "
+            + "in session")
+    public void userDetailsRetrievedWhenHomePageRequestedWithMismatchedUser() {
+      UserDetail sessionUser = new UserDetail();
+      sessionUser.setLoginId("different");
+      when(session.getAttribute("user")).thenReturn(sessionUser);
+
+      HandlerMethod handler = mock(HandlerMethod.class);
+      when(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE))
+          .thenReturn(handler);
+      doReturn(HomeController.class).when(handler).getBeanType();
+
+      advice.addSamlPrincipalToModel(authentication, model, session, request);
+
+      verify(userService).getUserByLoginId("test");
+      verify(model).addAttribute("user", userDetails);
+      verify(session).setAttribute("user", userDetails);
+    }
   }
 }
@@ -82,7 +82,8 @@ class EbsApplicationMappingContextBuilderTest {
   @BeforeEach
   void beforeEach() {
     applicationService =
-        new EbsApplicationMappingContextBuilder(providerService, lookupService, ebsApiClient);
+        new EbsApplicationMappingContextBuilder(
+            providerService, lookupService, ebsApiClient, new MappingContextProperties(2));
   }
 
   @Test
@@ -96,7 +97,9 @@ class EbsApplicationMappingContextBuilderTest {
     when(lookupService.getAwardTypes()).thenReturn(Mono.just(awardTypes));
 
     final EbsCaseOutcomeMappingContext result =
-        applicationService.buildCaseOutcomeMappingContext(ebsCase, ebsProceedingMappingContexts);
+        applicationService
+            .buildCaseOutcomeMappingContext(ebsCase, Mono.just(ebsProceedingMappingContexts))
+            .block();
 
     assertNotNull(result);
     assertEquals(ebsCase, result.getEbsCase());
@@ -128,8 +131,9 @@ class EbsApplicationMappingContextBuilderTest {
     assertThrows(
         CaabApplicationException.class,
         () ->
-            applicationService.buildCaseOutcomeMappingContext(
-                ebsCase, ebsProceedingMappingContexts));
+            applicationService
+                .buildCaseOutcomeMappingContext(ebsCase, Mono.just(ebsProceedingMappingContexts))
+                .block());
   }
 
   @Test
@@ -148,8 +152,10 @@ class EbsApplicationMappingContextBuilderTest {
         assertThrows(
             CaabApplicationException.class,
             () ->
-                applicationService.buildCaseOutcomeMappingContext(
-                    ebsCase, ebsProceedingMappingContexts));
+                applicationService
+                    .buildCaseOutcomeMappingContext(
+                        ebsCase, Mono.just(ebsProceedingMappingContexts))
+                    .block());
 
     assertEquals(
         "Failed to find AwardType with code: %s"
@@ -180,7 +186,7 @@ class EbsApplicationMappingContextBuilderTest {
         .thenReturn(Mono.just(Optional.of(lookup)));
 
     EbsPriorAuthorityMappingContext result =
-        applicationService.buildPriorAuthorityMappingContext(ebsPriorAuthority);
+        applicationService.buildPriorAuthorityMappingContext(ebsPriorAuthority).block();
 
     verify(lookupService)
         .getCommonValue(
@@ -215,7 +221,7 @@ class EbsApplicationMappingContextBuilderTest {
         .thenReturn(Mono.just(Optional.of(priorAuthorityTypeDetail)));
 
     EbsPriorAuthorityMappingContext result =
-        applicationService.buildPriorAuthorityMappingContext(ebsPriorAuthority);
+        applicationService.buildPriorAuthorityMappingContext(ebsPriorAuthority).block();
 
     assertNotNull(result);
     assertEquals(ebsPriorAuthority, result.getEbsPriorAuthority());
@@ -246,7 +252,7 @@ class EbsApplicationMappingContextBuilderTest {
     Exception e =
         assertThrows(
             CaabApplicationException.class,
-            () -> applicationService.buildPriorAuthorityMappingContext(ebsPriorAuthority));
+            () -> applicationService.buildPriorAuthorityMappingContext(ebsPriorAuthority).block());
 
     assertEquals(
         "Failed to find PriorAuthorityType with code: %s"
@@ -281,7 +287,7 @@ class EbsApplicationMappingContextBuilderTest {
     Exception e =
         assertThrows(
             CaabApplicationException.class,
-            () -> applicationService.buildPriorAuthorityMappingContext(ebsPriorAuthority));
+            () -> applicationService.buildPriorAuthorityMappingContext(ebsPriorAuthority).block());
 
     assertEquals(
         "Failed to find common value with code: %s"
@@ -407,7 +413,7 @@ class EbsApplicationMappingContextBuilderTest {
 
     // Call the method under test
     EbsProceedingMappingContext result =
-        applicationService.buildProceedingMappingContext(ebsProceeding, ebsCase);
+        applicationService.buildProceedingMappingContext(ebsProceeding, ebsCase).block();
 
     //    StepVerifier.create(EbsProceedingMappingContextMono)
     //        .expectNextMatches(result -> {
@@ -480,7 +486,7 @@ class EbsApplicationMappingContextBuilderTest {
 
     // Call the method under test
     BigDecimal result =
-        applicationService.calculateProceedingCostLimitation(ebsProceeding, ebsCase);
+        applicationService.calculateProceedingCostLimitation(ebsProceeding, ebsCase).block();
 
     verify(lookupService, times(3)).getScopeLimitationDetails(any(ScopeLimitationDetail.class));
 
@@ -492,8 +498,9 @@ class EbsApplicationMappingContextBuilderTest {
     final Proceeding ebsProceeding = buildProceedingDetail(STATUS_DRAFT);
     ebsProceeding.setOutcome(null);
 
-    applicationService.addProceedingOutcomeContext(
-        EbsProceedingMappingContext.builder(), ebsProceeding);
+    applicationService
+        .addProceedingOutcomeContext(EbsProceedingMappingContext.builder(), ebsProceeding)
+        .block();
 
     verifyNoInteractions(lookupService);
   }
@@ -7,8 +7,6 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -81,7 +79,8 @@ class SoaApplicationMappingContextBuilderTest {
   @BeforeEach
   void beforeEach() {
     applicationService =
-        new SoaApplicationMappingContextBuilder(providerService, lookupService, ebsApiClient);
+        new SoaApplicationMappingContextBuilder(
+            providerService, lookupService, ebsApiClient, new MappingContextProperties(2));
   }
 
   @Test
@@ -95,7 +94,9 @@ class SoaApplicationMappingContextBuilderTest {
     when(lookupService.getAwardTypes()).thenReturn(Mono.just(awardTypes));
 
     final SoaCaseOutcomeMappingContext result =
-        applicationService.buildCaseOutcomeMappingContext(soaCase, soaProceedingMappingContexts);
+        applicationService
+            .buildCaseOutcomeMappingContext(soaCase, Mono.just(soaProceedingMappingContexts))
+            .block();
 
     assertNotNull(result);
     assertEquals(soaCase, result.getSoaCase());
@@ -127,8 +128,9 @@ class SoaApplicationMappingContextBuilderTest {
     assertThrows(
         CaabApplicationException.class,
         () ->
-            applicationService.buildCaseOutcomeMappingContext(
-                soaCase, soaProceedingMappingContexts));
+            applicationService
+                .buildCaseOutcomeMappingContext(soaCase, Mono.just(soaProceedingMappingContexts))
+                .block());
   }
 
   @Test
@@ -147,8 +149,10 @@ class SoaApplicationMappingContextBuilderTest {
         assertThrows(
             CaabApplicationException.class,
             () ->
-                applicationService.buildCaseOutcomeMappingContext(
-                    soaCase, soaProceedingMappingContexts));
+                applicationService
+                    .buildCaseOutcomeMappingContext(
+                        soaCase, Mono.just(soaProceedingMappingContexts))
+                    .block());
 
     assertEquals(
         "Failed to find AwardType with code: %s"
@@ -171,20 +175,20 @@ class SoaApplicationMappingContextBuilderTest {
         .thenReturn(Mono.just(Optional.of(priorAuthorityTypeDetail)));
 
     CommonLookupValueDetail lookup =
-        new CommonLookupValueDetail().code("thecode").description("thedescription");
+        new CommonLookupValueDetail()
+            .code(soaPriorAuthority.getDetails().getFirst().getValue())
+            .description("thedescription");
 
-    when(lookupService.getCommonValue(
-            priorAuthoritiesItem.getLovCode(),
-            soaPriorAuthority.getDetails().getFirst().getValue()))
-        .thenReturn(Mono.just(Optional.of(lookup)));
+    when(lookupService.getCommonValues(priorAuthoritiesItem.getLovCode()))
+        .thenReturn(commonValues(lookup));
 
     SoaPriorAuthorityMappingContext result =
-        applicationService.buildPriorAuthorityMappingContext(soaPriorAuthority);
+        applicationService
+            .buildPriorAuthorityMappingContext(
+                soaPriorAuthority, new CommonValueLookups(lookupService))
+            .block();
 
-    verify(lookupService)
-        .getCommonValue(
-            priorAuthoritiesItem.getLovCode(),
-            soaPriorAuthority.getDetails().getFirst().getValue());
+    verify(lookupService).getCommonValues(priorAuthoritiesItem.getLovCode());
 
     assertNotNull(result);
     assertEquals(soaPriorAuthority, result.getSoaPriorAuthority());
@@ -201,6 +205,44 @@ class SoaApplicationMappingContextBuilderTest {
     assertEquals(lookup.getDescription(), result.getItems().getFirst().getValue().getDescription());
   }
 
+  @Test
+  void testBuildSoaPriorAuthorityMappingContext_LovCodeBeyondFirstPage() {
+    PriorAuthority soaPriorAuthority = buildPriorAuthority();
+
+    PriorAuthorityTypeDetails priorAuthorityTypeDetails =
+        buildPriorAuthorityTypeDetails(REFERENCE_DATA_ITEM_TYPE_LOV);
+    PriorAuthorityTypeDetail priorAuthorityTypeDetail =
+        priorAuthorityTypeDetails.getContent().getFirst();
+    PriorAuthorityDetail priorAuthoritiesItem =
+        priorAuthorityTypeDetail.getPriorAuthorities().getFirst();
+    String code = soaPriorAuthority.getDetails().getFirst().getValue();
+
+    when(lookupService.getPriorAuthorityType(soaPriorAuthority.getPriorAuthorityType()))
+        .thenReturn(Mono.just(Optional.of(priorAuthorityTypeDetail)));
+
+    CommonLookupValueDetail lookup =
+        new CommonLookupValueDetail().code(code).description("thedescription");
+
+    when(lookupService.getCommonValues(priorAuthoritiesItem.getLovCode()))
+        .thenReturn(
+            Mono.just(
+                new CommonLookupDetail()
+                    .totalElements(1001)
+                    .addContentItem(new CommonLookupValueDetail().code("other"))));
+    when(lookupService.getCommonValue(priorAuthoritiesItem.getLovCode(), code))
+        .thenReturn(Mono.just(Optional.of(lookup)));
+
+    SoaPriorAuthorityMappingContext result =
+        applicationService
+            .buildPriorAuthorityMappingContext(
+                soaPriorAuthority, new CommonValueLookups(lookupService))
+            .block();
+
+    assertNotNull(result);
+    assertEquals(1, result.getItems().size());
+    assertEquals(lookup.getDescription(), result.getItems().getFirst().getValue().getDescription());
+  }
+
   @Test
   void testBuildSoaPriorAuthorityMappingContext_NoLovLookup() {
     PriorAuthority soaPriorAuthority = buildPriorAuthority();
@@ -214,7 +256,10 @@ class SoaApplicationMappingContextBuilderTest {
         .thenReturn(Mono.just(Optional.of(priorAuthorityTypeDetail)));
 
     SoaPriorAuthorityMappingContext result =
-        applicationService.buildPriorAuthorityMappingContext(soaPriorAuthority);
+        applicationService
+            .buildPriorAuthorityMappingContext(
+                soaPriorAuthority, new CommonValueLookups(lookupService))
+            .block();
 
     assertNotNull(result);
     assertEquals(soaPriorAuthority, result.getSoaPriorAuthority());
@@ -245,7 +290,11 @@ class SoaApplicationMappingContextBuilderTest {
     Exception e =
         assertThrows(
             CaabApplicationException.class,
-            () -> applicationService.buildPriorAuthorityMappingContext(soaPriorAuthority));
+            () ->
+                applicationService
+                    .buildPriorAuthorityMappingContext(
+                        soaPriorAuthority, new CommonValueLookups(lookupService))
+                    .block());
 
     assertEquals(
         "Failed to find PriorAuthorityType with code: %s"
@@ -272,15 +321,17 @@ class SoaApplicationMappingContextBuilderTest {
     when(lookupService.getPriorAuthorityType(soaPriorAuthority.getPriorAuthorityType()))
         .thenReturn(Mono.just(Optional.of(priorAuthorityTypeDetail)));
 
-    when(lookupService.getCommonValue(
-            priorAuthoritiesItem.getLovCode(),
-            soaPriorAuthority.getDetails().getFirst().getValue()))
+    when(lookupService.getCommonValues(priorAuthoritiesItem.getLovCode()))
         .thenReturn(Mono.empty());
 
     Exception e =
         assertThrows(
             CaabApplicationException.class,
-            () -> applicationService.buildPriorAuthorityMappingContext(soaPriorAuthority));
+            () ->
+                applicationService
+                    .buildPriorAuthorityMappingContext(
+                        soaPriorAuthority, new CommonValueLookups(lookupService))
+                    .block());
 
     assertEquals(
         "Failed to find common value with code: %s"
@@ -299,59 +350,50 @@ class SoaApplicationMappingContextBuilderTest {
     when(ebsApiClient.getProceeding(soaProceeding.getProceedingType()))
         .thenReturn(Mono.just(proceedingLookup));
 
-    CommonLookupValueDetail proceedingStatusLookup = new CommonLookupValueDetail();
-    when(lookupService.getCommonValue(COMMON_VALUE_PROCEEDING_STATUS, soaProceeding.getStatus()))
-        .thenReturn(Mono.just(Optional.of(proceedingStatusLookup)));
+    CommonLookupValueDetail proceedingStatusLookup =
+        new CommonLookupValueDetail().code(soaProceeding.getStatus());
+    when(lookupService.getCommonValues(COMMON_VALUE_PROCEEDING_STATUS))
+        .thenReturn(commonValues(proceedingStatusLookup));
 
     CommonLookupValueDetail matterTypeLookup =
         new CommonLookupValueDetail()
             .code(soaProceeding.getMatterType())
             .description("the matter type");
-    when(lookupService.getCommonValue(COMMON_VALUE_MATTER_TYPES, soaProceeding.getMatterType()))
-        .thenReturn(Mono.just(Optional.of(matterTypeLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_MATTER_TYPES))
+        .thenReturn(commonValues(matterTypeLookup));
 
     CommonLookupValueDetail levelOfServiceLookup =
         new CommonLookupValueDetail()
             .code(soaProceeding.getLevelOfService())
             .description("the los");
-    when(lookupService.getCommonValue(
-            COMMON_VALUE_LEVEL_OF_SERVICE, soaProceeding.getLevelOfService()))
-        .thenReturn(Mono.just(Optional.of(levelOfServiceLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_LEVEL_OF_SERVICE))
+        .thenReturn(commonValues(levelOfServiceLookup));
 
     CommonLookupValueDetail clientInvLookup =
         new CommonLookupValueDetail()
             .code(soaProceeding.getClientInvolvementType())
             .description("the involvement");
-    when(lookupService.getCommonValue(
-            COMMON_VALUE_CLIENT_INVOLVEMENT_TYPES, soaProceeding.getClientInvolvementType()))
-        .thenReturn(Mono.just(Optional.of(clientInvLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_CLIENT_INVOLVEMENT_TYPES))
+        .thenReturn(commonValues(clientInvLookup));
 
     CommonLookupValueDetail scopeLimitationOneLookup =
         new CommonLookupValueDetail()
             .code(soaProceeding.getScopeLimitations().getFirst().getScopeLimitation())
             .description("the limitation 1");
-    when(lookupService.getCommonValue(
-            COMMON_VALUE_SCOPE_LIMITATIONS,
-            soaProceeding.getScopeLimitations().getFirst().getScopeLimitation()))
-        .thenReturn(Mono.just(Optional.of(scopeLimitationOneLookup)));
 
     CommonLookupValueDetail scopeLimitationTwoLookup =
         new CommonLookupValueDetail()
             .code(soaProceeding.getScopeLimitations().get(1).getScopeLimitation())
             .description("the limitation 2");
-    when(lookupService.getCommonValue(
-            COMMON_VALUE_SCOPE_LIMITATIONS,
-            soaProceeding.getScopeLimitations().get(1).getScopeLimitation()))
-        .thenReturn(Mono.just(Optional.of(scopeLimitationTwoLookup)));
 
     CommonLookupValueDetail scopeLimitationThreeLookup =
         new CommonLookupValueDetail()
             .code(soaProceeding.getScopeLimitations().get(2).getScopeLimitation())
             .description("the limitation 3");
-    when(lookupService.getCommonValue(
-            COMMON_VALUE_SCOPE_LIMITATIONS,
-            soaProceeding.getScopeLimitations().get(2).getScopeLimitation()))
-        .thenReturn(Mono.just(Optional.of(scopeLimitationThreeLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_SCOPE_LIMITATIONS))
+        .thenReturn(
+            commonValues(
+                scopeLimitationOneLookup, scopeLimitationTwoLookup, scopeLimitationThreeLookup));
 
     // Mock the call for scopeLimitationDetails, used to calculate the max cost limitation.
     ScopeLimitationDetails scopeLimitationOne =
@@ -407,10 +449,11 @@ class SoaApplicationMappingContextBuilderTest {
 
     // Call the method under test
     SoaProceedingMappingContext result =
-        applicationService.buildProceedingMappingContext(soaProceeding, soaCase);
+        applicationService
+            .buildProceedingMappingContext(
+                soaProceeding, soaCase, new CommonValueLookups(lookupService))
+            .block();
 
-    //    StepVerifier.create(SoaProceedingMappingContextMono)
-    //        .expectNextMatches(result -> {
     assertNotNull(result);
     assertEquals(soaProceeding, result.getSoaProceeding());
     assertEquals(clientInvLookup, result.getClientInvolvement());
@@ -436,9 +479,6 @@ class SoaApplicationMappingContextBuilderTest {
     assertEquals(outcomeResults.getContent().getFirst(), result.getOutcomeResultLookup());
     assertEquals(stageEnds.getContent().getFirst(), result.getStageEndLookup());
     assertEquals(courts.getContent().getFirst(), result.getCourtLookup());
-    //          return true; // Return true to indicate the match is successful
-    //        })
-    //        .verifyComplete();
   }
 
   @Test
@@ -480,7 +520,7 @@ class SoaApplicationMappingContextBuilderTest {
 
     // Call the method under test
     BigDecimal result =
-        applicationService.calculateProceedingCostLimitation(soaProceeding, soaCase);
+        applicationService.calculateProceedingCostLimitation(soaProceeding, soaCase).block();
 
     verify(lookupService, times(3)).getScopeLimitationDetails(any(ScopeLimitationDetail.class));
 
@@ -492,8 +532,9 @@ class SoaApplicationMappingContextBuilderTest {
     final ProceedingDetail soaProceeding = buildProceedingDetail(STATUS_DRAFT);
     soaProceeding.setOutcome(null);
 
-    applicationService.addProceedingOutcomeContext(
-        SoaProceedingMappingContext.builder(), soaProceeding);
+    applicationService
+        .addProceedingOutcomeContext(SoaProceedingMappingContext.builder(), soaProceeding)
+        .block();
 
     verifyNoInteractions(lookupService);
   }
@@ -517,7 +558,9 @@ class SoaApplicationMappingContextBuilderTest {
     soaCase.getPriorAuthorities().clear(); // PriorAuthority mapping context tested elsewhere.
     soaCase.getAwards().clear(); // Awards tested separately.
 
-    CommonLookupValueDetail applicationTypeLookup = new CommonLookupValueDetail();
+    CommonLookupValueDetail applicationTypeLookup =
+        new CommonLookupValueDetail()
+            .code(soaCase.getApplicationDetails().getApplicationAmendmentType());
 
     ProviderDetail providerDetail =
         buildProviderDetail(
@@ -525,13 +568,8 @@ class SoaApplicationMappingContextBuilderTest {
             soaCase.getApplicationDetails().getProviderDetails().getFeeEarnerContactId(),
             soaCase.getApplicationDetails().getProviderDetails().getSupervisorContactId());
 
-    when(lookupService.getCommonValue(COMMON_VALUE_APPLICATION_TYPE, soaCase.getCertificateType()))
-        .thenReturn(Mono.just(Optional.of(applicationTypeLookup)));
-
-    when(lookupService.getCommonValue(
-            COMMON_VALUE_APPLICATION_TYPE,
-            soaCase.getApplicationDetails().getApplicationAmendmentType()))
-        .thenReturn(Mono.just(Optional.of(applicationTypeLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_APPLICATION_TYPE))
+        .thenReturn(commonValues(applicationTypeLookup));
 
     when(providerService.getProvider(
             Integer.parseInt(
@@ -540,25 +578,25 @@ class SoaApplicationMappingContextBuilderTest {
 
     CommonLookupValueDetail matterTypeLookup =
         new CommonLookupValueDetail().code("mat1").description("mat 1");
-    when(lookupService.getCommonValue(eq(COMMON_VALUE_MATTER_TYPES), anyString()))
-        .thenReturn(Mono.just(Optional.of(matterTypeLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_MATTER_TYPES))
+        .thenReturn(commonValues(matterTypeLookup));
 
     CommonLookupValueDetail levelOfServiceLookup =
         new CommonLookupValueDetail().code("los1").description("los 1");
-    when(lookupService.getCommonValue(eq(COMMON_VALUE_LEVEL_OF_SERVICE), anyString()))
-        .thenReturn(Mono.just(Optional.of(levelOfServiceLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_LEVEL_OF_SERVICE))
+        .thenReturn(commonValues(levelOfServiceLookup));
 
     CommonLookupValueDetail clientInvolvementLookup =
         new CommonLookupValueDetail().code("ci1").description("ci 1");
-    when(lookupService.getCommonValue(eq(COMMON_VALUE_CLIENT_INVOLVEMENT_TYPES), anyString()))
-        .thenReturn(Mono.just(Optional.of(clientInvolvementLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_CLIENT_INVOLVEMENT_TYPES))
+        .thenReturn(commonValues(clientInvolvementLookup));
 
     // Also need to mock calls for the 'sub' mapping contexts, but we aren't testing their
     // content here.
     when(ebsApiClient.getProceeding(any(String.class)))
         .thenReturn(Mono.just(new uk.gov.laa.ccms.data.model.ProceedingDetail()));
-    when(lookupService.getCommonValue(eq(COMMON_VALUE_PROCEEDING_STATUS), any(String.class)))
-        .thenReturn(Mono.just(Optional.of(new CommonLookupValueDetail())));
+    when(lookupService.getCommonValues(COMMON_VALUE_PROCEEDING_STATUS))
+        .thenReturn(commonValues(new CommonLookupValueDetail()));
     when(lookupService.getAwardTypes())
         .thenReturn(
             Mono.just(
@@ -619,7 +657,9 @@ class SoaApplicationMappingContextBuilderTest {
     soaCase.getPriorAuthorities().clear(); // PriorAuthority mapping context tested elsewhere.
     soaCase.getAwards().clear(); // Awards tested separately.
 
-    CommonLookupValueDetail applicationTypeLookup = new CommonLookupValueDetail();
+    CommonLookupValueDetail applicationTypeLookup =
+        new CommonLookupValueDetail()
+            .code(soaCase.getApplicationDetails().getApplicationAmendmentType());
 
     ProviderDetail providerDetail =
         buildProviderDetail(
@@ -627,13 +667,8 @@ class SoaApplicationMappingContextBuilderTest {
             soaCase.getApplicationDetails().getProviderDetails().getFeeEarnerContactId(),
             soaCase.getApplicationDetails().getProviderDetails().getSupervisorContactId());
 
-    when(lookupService.getCommonValue(COMMON_VALUE_APPLICATION_TYPE, soaCase.getCertificateType()))
-        .thenReturn(Mono.just(Optional.of(applicationTypeLookup)));
-
-    when(lookupService.getCommonValue(
-            COMMON_VALUE_APPLICATION_TYPE,
-            soaCase.getApplicationDetails().getApplicationAmendmentType()))
-        .thenReturn(Mono.just(Optional.of(applicationTypeLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_APPLICATION_TYPE))
+        .thenReturn(commonValues(applicationTypeLookup));
 
     when(providerService.getProvider(
             Integer.parseInt(
@@ -642,25 +677,25 @@ class SoaApplicationMappingContextBuilderTest {
 
     CommonLookupValueDetail matterTypeLookup =
         new CommonLookupValueDetail().code("mat1").description("mat 1");
-    when(lookupService.getCommonValue(eq(COMMON_VALUE_MATTER_TYPES), anyString()))
-        .thenReturn(Mono.just(Optional.of(matterTypeLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_MATTER_TYPES))
+        .thenReturn(commonValues(matterTypeLookup));
 
     CommonLookupValueDetail levelOfServiceLookup =
         new CommonLookupValueDetail().code("los1").description("los 1");
-    when(lookupService.getCommonValue(eq(COMMON_VALUE_LEVEL_OF_SERVICE), anyString()))
-        .thenReturn(Mono.just(Optional.of(levelOfServiceLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_LEVEL_OF_SERVICE))
+        .thenReturn(commonValues(levelOfServiceLookup));
 
     CommonLookupValueDetail clientInvolvementLookup =
         new CommonLookupValueDetail().code("ci1").description("ci 1");
-    when(lookupService.getCommonValue(eq(COMMON_VALUE_CLIENT_INVOLVEMENT_TYPES), anyString()))
-        .thenReturn(Mono.just(Optional.of(clientInvolvementLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_CLIENT_INVOLVEMENT_TYPES))
+        .thenReturn(commonValues(clientInvolvementLookup));
 
     // Also need to mock calls for the 'sub' mapping contexts, but we aren't testing their
     // content here.
     when(ebsApiClient.getProceeding(any(String.class)))
         .thenReturn(Mono.just(new uk.gov.laa.ccms.data.model.ProceedingDetail()));
-    when(lookupService.getCommonValue(eq(COMMON_VALUE_PROCEEDING_STATUS), any(String.class)))
-        .thenReturn(Mono.just(Optional.of(new CommonLookupValueDetail())));
+    when(lookupService.getCommonValues(COMMON_VALUE_PROCEEDING_STATUS))
+        .thenReturn(commonValues(new CommonLookupValueDetail()));
     when(lookupService.getAwardTypes())
         .thenReturn(
             Mono.just(
@@ -702,9 +737,10 @@ class SoaApplicationMappingContextBuilderTest {
             soaCase.getApplicationDetails().getProviderDetails().getFeeEarnerContactId(),
             soaCase.getApplicationDetails().getProviderDetails().getSupervisorContactId());
 
-    CommonLookupValueDetail certificateTypeLookup = new CommonLookupValueDetail();
-    when(lookupService.getCommonValue(COMMON_VALUE_APPLICATION_TYPE, soaCase.getCertificateType()))
-        .thenReturn(Mono.just(Optional.of(certificateTypeLookup)));
+    CommonLookupValueDetail certificateTypeLookup =
+        new CommonLookupValueDetail().code(soaCase.getCertificateType());
+    when(lookupService.getCommonValues(COMMON_VALUE_APPLICATION_TYPE))
+        .thenReturn(commonValues(certificateTypeLookup));
 
     when(providerService.getProvider(
             Integer.parseInt(
@@ -713,25 +749,25 @@ class SoaApplicationMappingContextBuilderTest {
 
     CommonLookupValueDetail matterTypeLookup =
         new CommonLookupValueDetail().code("mat1").description("mat 1");
-    when(lookupService.getCommonValue(eq(COMMON_VALUE_MATTER_TYPES), anyString()))
-        .thenReturn(Mono.just(Optional.of(matterTypeLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_MATTER_TYPES))
+        .thenReturn(commonValues(matterTypeLookup));
 
     CommonLookupValueDetail levelOfServiceLookup =
         new CommonLookupValueDetail().code("los1").description("los 1");
-    when(lookupService.getCommonValue(eq(COMMON_VALUE_LEVEL_OF_SERVICE), anyString()))
-        .thenReturn(Mono.just(Optional.of(levelOfServiceLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_LEVEL_OF_SERVICE))
+        .thenReturn(commonValues(levelOfServiceLookup));
 
     CommonLookupValueDetail clientInvolvementLookup =
         new CommonLookupValueDetail().code("ci1").description("ci 1");
-    when(lookupService.getCommonValue(eq(COMMON_VALUE_CLIENT_INVOLVEMENT_TYPES), anyString()))
-        .thenReturn(Mono.just(Optional.of(clientInvolvementLookup)));
+    when(lookupService.getCommonValues(COMMON_VALUE_CLIENT_INVOLVEMENT_TYPES))
+        .thenReturn(commonValues(clientInvolvementLookup));
 
     // Also need to mock calls for the 'sub' mapping contexts, but we aren't testing their
     // content here.
     when(ebsApiClient.getProceeding(any(String.class)))
         .thenReturn(Mono.just(new uk.gov.laa.ccms.data.model.ProceedingDetail()));
-    when(lookupService.getCommonValue(eq(COMMON_VALUE_PROCEEDING_STATUS), any(String.class)))
-        .thenReturn(Mono.just(Optional.of(new CommonLookupValueDetail())));
+    when(lookupService.getCommonValues(COMMON_VALUE_PROCEEDING_STATUS))
+        .thenReturn(commonValues(new CommonLookupValueDetail()));
     when(lookupService.getAwardTypes())
         .thenReturn(
             Mono.just(
@@ -746,4 +782,8 @@ class SoaApplicationMappingContextBuilderTest {
     // certificateType.
     assertEquals(certificateTypeLookup, result.getApplicationType());
   }
+
+  private static Mono<CommonLookupDetail> commonValues(final CommonLookupValueDetail... values) {
+    return Mono.just(new CommonLookupDetail().content(List.of(values)));
+  }
 }
@@ -0,0 +1,104 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import uk.gov.laa.ccms.caab.model.AddressResultRowDisplay;
+import uk.gov.laa.ccms.caab.model.ResultsDisplay;
+import uk.gov.laa.ccms.caab.util.IndexedAddresses;
+
+class AddressSearchCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private AddressSearchCache addressSearchCache;
+
+  private final List<String> fetchedPostcodes = new ArrayList<>();
+
+  private final Function<String, Mono<IndexedAddresses>> fetch =
+      postcode ->
+          Mono.fromSupplier(
+              () -> {
+                fetchedPostcodes.add(postcode);
+                return IndexedAddresses.of(new ResultsDisplay<>(List.of(address(postcode))));
+              });
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    addressSearchCache =
+        new AddressSearchCache(
+            new AddressSearchCacheProperties(100, Duration.ofMinutes(1)), meterRegistry);
+  }
+
+  @Test
+  @DisplayName("A postcode is fetched once, however it is written, and then served from the cache")
+  void get_repeated_fetchesOnce() {
+    final IndexedAddresses first = addressSearchCache.get("SW1A 1AA", fetch).block();
+    final IndexedAddresses second = addressSearchCache.get("sw1a1aa", fetch).block();
+    final IndexedAddresses third = addressSearchCache.get(" Sw1A  1aA ", fetch).block();
+
+    assertSame(first, second);
+    assertSame(first, third);
+    assertEquals(List.of("SW1A 1AA"), fetchedPostcodes);
+    assertSame(first, addressSearchCache.getIfPresent("SW1A1AA"));
+    assertEquals(
+        2.0,
+        meterRegistry
+            .get("cache.gets")
+            .tags("cache", "addressSearch", "result", "hit")
+            .functionCounter()
+            .count());
+  }
+
+  @Test
+  @DisplayName("Different postcodes are fetched separately")
+  void get_differentPostcodes_fetchedSeparately() {
+    addressSearchCache.get("SW1A 1AA", fetch).block();
+    addressSearchCache.get("SW1A 2AA", fetch).block();
+
+    assertEquals(List.of("SW1A 1AA", "SW1A 2AA"), fetchedPostcodes);
+  }
+
+  @Test
+  @DisplayName("A postcode with no addresses is not cached")
+  void get_emptyFetch_notCached() {
+    StepVerifier.create(addressSearchCache.get("SW1A 1AA", postcode -> Mono.empty()))
+        .verifyComplete();
+
+    assertNull(addressSearchCache.getIfPresent("SW1A 1AA"));
+    StepVerifier.create(addressSearchCache.get("SW1A 1AA", fetch))
+        .expectNextCount(1)
+        .verifyComplete();
+    assertEquals(List.of("SW1A 1AA"), fetchedPostcodes);
+  }
+
+  @Test
+  @DisplayName("A failed fetch is not cached")
+  void get_failedFetch_notCached() {
+    StepVerifier.create(
+            addressSearchCache.get("SW1A 1AA", postcode -> Mono.error(new IllegalStateException())))
+        .verifyError(IllegalStateException.class);
+
+    StepVerifier.create(addressSearchCache.get("SW1A 1AA", fetch))
+        .expectNextCount(1)
+        .verifyComplete();
+  }
+
+  private static AddressResultRowDisplay address(final String postcode) {
+    final AddressResultRowDisplay address = new AddressResultRowDisplay();
+    address.setPostcode(postcode);
+    return address;
+  }
+}
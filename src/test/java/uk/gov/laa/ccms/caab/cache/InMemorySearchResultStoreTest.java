@@ -0,0 +1,157 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import uk.gov.laa.ccms.caab.bean.CaseSearchCriteria;
+import uk.gov.laa.ccms.caab.model.BaseApplicationDetail;
+
+class InMemorySearchResultStoreTest {
+
+  private static final String OWNER = "testLoginId";
+
+  private static final String SEARCH = "caseSearch";
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private InMemorySearchResultStore searchResultStore;
+
+  private CaseSearchCriteria criteria;
+
+  private final List<BaseApplicationDetail> results =
+      List.of(
+          new BaseApplicationDetail().caseReferenceNumber("2"),
+          new BaseApplicationDetail().caseReferenceNumber("3"),
+          new BaseApplicationDetail().caseReferenceNumber("1"));
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    searchResultStore =
+        new InMemorySearchResultStore(
+            new SearchResultStoreProperties(100, Duration.ofMinutes(5)), meterRegistry);
+    criteria = new CaseSearchCriteria();
+    criteria.setClientSurname("surname");
+  }
+
+  private List<String> caseReferences(final List<BaseApplicationDetail> applications) {
+    return applications.stream().map(BaseApplicationDetail::getCaseReferenceNumber).toList();
+  }
+
+  @Test
+  @DisplayName("get returns the stored results in their original order")
+  void get_returnsStoredResults() {
+    searchResultStore.put(OWNER, SEARCH, criteria, results);
+
+    assertEquals(
+        results, searchResultStore.<BaseApplicationDetail>get(OWNER, SEARCH, criteria).get());
+  }
+
+  @Test
+  @DisplayName("get matches criteria by value rather than by instance")
+  void get_matchesEqualCriteria() {
+    searchResultStore.put(OWNER, SEARCH, criteria, results);
+
+    final CaseSearchCriteria sameCriteria = new CaseSearchCriteria();
+    sameCriteria.setClientSurname("surname");
+
+    assertTrue(searchResultStore.get(OWNER, SEARCH, sameCriteria).isPresent());
+  }
+
+  @Test
+  @DisplayName("get does not return results for other users, searches or criteria")
+  void get_isScopedToOwnerSearchAndCriteria() {
+    searchResultStore.put(OWNER, SEARCH, criteria, results);
+
+    final CaseSearchCriteria otherCriteria = new CaseSearchCriteria();
+    otherCriteria.setClientSurname("other");
+
+    assertTrue(searchResultStore.get("otherLoginId", SEARCH, criteria).isEmpty());
+    assertTrue(searchResultStore.get(OWNER, "copyCaseSearch", criteria).isEmpty());
+    assertTrue(searchResultStore.get(OWNER, SEARCH, otherCriteria).isEmpty());
+  }
+
+  @Test
+  @DisplayName("changing the criteria after a search is stored does not change the stored key")
+  void put_capturesCriteriaWhenStored() {
+    searchResultStore.put(OWNER, SEARCH, criteria, results);
+
+    criteria.setClientSurname("changed");
+
+    assertTrue(searchResultStore.get(OWNER, SEARCH, criteria).isEmpty());
+  }
+
+  @Test
+  @DisplayName("getPage returns the requested page of results in their original order")
+  void getPage_returnsUnsortedPage() {
+    searchResultStore.put(OWNER, SEARCH, criteria, results);
+
+    final Page<BaseApplicationDetail> page =
+        searchResultStore
+            .<BaseApplicationDetail>getPage(OWNER, SEARCH, criteria, PageRequest.of(1, 2))
+            .get();
+
+    assertEquals(List.of("1"), caseReferences(page.getContent()));
+    assertEquals(3, page.getTotalElements());
+    assertEquals(2, page.getTotalPages());
+  }
+
+  @Test
+  @DisplayName("getPage sorts the results without changing their original order")
+  void getPage_returnsSortedPage() {
+    searchResultStore.put(OWNER, SEARCH, criteria, results);
+
+    final Pageable pageable = PageRequest.of(0, 2, Sort.by("caseReferenceNumber").descending());
+    final Page<BaseApplicationDetail> page =
+        searchResultStore.<BaseApplicationDetail>getPage(OWNER, SEARCH, criteria, pageable).get();
+
+    assertEquals(List.of("3", "2"), caseReferences(page.getContent()));
+    assertEquals(
+        List.of("2", "3", "1"),
+        caseReferences(
+            searchResultStore.<BaseApplicationDetail>get(OWNER, SEARCH, criteria).get()));
+  }
+
+  @Test
+  @DisplayName("getPage returns an empty page beyond the last page of results")
+  void getPage_beyondLastPage() {
+    searchResultStore.put(OWNER, SEARCH, criteria, results);
+
+    assertTrue(
+        searchResultStore.getPage(OWNER, SEARCH, criteria, PageRequest.of(5, 2)).get().isEmpty());
+  }
+
+  @Test
+  @DisplayName("invalidate discards every stored search of that name for the user")
+  void invalidate_discardsSearches() {
+    final CaseSearchCriteria otherCriteria = new CaseSearchCriteria();
+    searchResultStore.put(OWNER, SEARCH, criteria, results);
+    searchResultStore.put(OWNER, SEARCH, otherCriteria, results);
+    searchResultStore.put("otherLoginId", SEARCH, criteria, results);
+
+    searchResultStore.invalidate(OWNER, SEARCH);
+
+    assertTrue(searchResultStore.get(OWNER, SEARCH, criteria).isEmpty());
+    assertTrue(searchResultStore.get(OWNER, SEARCH, otherCriteria).isEmpty());
+    assertTrue(searchResultStore.get("otherLoginId", SEARCH, criteria).isPresent());
+  }
+
+  @Test
+  @DisplayName("the number of results held is published as a metric")
+  void resultsHeld_isPublished() {
+    searchResultStore.put(OWNER, SEARCH, criteria, results);
+    searchResultStore.put("otherLoginId", SEARCH, criteria, results.subList(0, 1));
+
+    assertEquals(4, meterRegistry.get("caab.search.results.held").gauge().value());
+  }
+}
@@ -0,0 +1,160 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class ReferenceDataCacheTest {
+
+  private ReferenceDataCache referenceDataCache;
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    referenceDataCache = referenceDataCache(true);
+    loads.set(0);
+  }
+
+  private static ReferenceDataCache referenceDataCache(final boolean enabled) {
+    return new ReferenceDataCache(
+        new ReferenceDataCacheProperties(enabled, 100, Duration.ofHours(1), Duration.ofMinutes(30)),
+        new SimpleMeterRegistry());
+  }
+
+  private Mono<String> load(final String value) {
+    return Mono.fromSupplier(
+        () -> {
+          loads.incrementAndGet();
+          return value;
+        });
+  }
+
+  @Test
+  @DisplayName("get loads a value once and serves it from the cache afterwards")
+  void get_loadsOnce() {
+    for (int i = 0; i < 3; i++) {
+      StepVerifier.create(referenceDataCache.get("lookup", () -> load("value"), "A"))
+          .expectNext("value")
+          .verifyComplete();
+    }
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  @DisplayName("get is lazy and does not load until subscribed")
+  void get_isLazy() {
+    referenceDataCache.get("lookup", () -> load("value"), "A");
+
+    assertEquals(0, loads.get());
+  }
+
+  @Test
+  @DisplayName("get keys entries on lookup name and parameters, including nulls")
+  void get_keysOnLookupAndParameters() {
+    referenceDataCache.get("lookup", () -> load("a"), "A", null).block();
+    referenceDataCache.get("lookup", () -> load("b"), "B", null).block();
+    referenceDataCache.get("other", () -> load("c"), "A", null).block();
+    referenceDataCache.get("lookup", () -> load("a"), "A", null).block();
+
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  @DisplayName("get shares a single load between concurrent subscribers")
+  void get_sharesInFlightLoad() {
+    final Sinks.One<String> upstream = Sinks.one();
+    final Mono<String> first =
+        referenceDataCache.get(
+            "lookup", () -> upstream.asMono().doOnSubscribe(s -> loads.incrementAndGet()), "A");
+    final Mono<String> second =
+        referenceDataCache.get(
+            "lookup", () -> upstream.asMono().doOnSubscribe(s -> loads.incrementAndGet()), "A");
+
+    StepVerifier.create(Mono.zip(first, second))
+        .then(() -> upstream.tryEmitValue("value"))
+        .expectNextMatches(tuple -> "value".equals(tuple.getT1()) && "value".equals(tuple.getT2()))
+        .verifyComplete();
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  @DisplayName("get does not cache empty results")
+  void get_doesNotCacheEmpty() {
+    for (int i = 0; i < 2; i++) {
+      StepVerifier.create(
+              referenceDataCache.get(
+                  "lookup", () -> Mono.<String>empty().doOnSubscribe(s -> loads.incrementAndGet())))
+          .verifyComplete();
+    }
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  @DisplayName("get always calls the loader when the cache is disabled")
+  void get_disabled_alwaysLoads() {
+    referenceDataCache = referenceDataCache(false);
+
+    referenceDataCache.get("lookup", () -> load("value"), "A").block();
+    referenceDataCache.get("lookup", () -> load("value"), "A").block();
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  @DisplayName("invalidate removes only the entries for the named lookup")
+  void invalidate_removesNamedLookup() {
+    referenceDataCache.get("lookup", () -> load("a"), "A").block();
+    referenceDataCache.get("lookup", () -> load("b"), "B").block();
+    referenceDataCache.get("other", () -> load("c"), "C").block();
+
+    assertEquals(2, referenceDataCache.invalidate("lookup"));
+
+    referenceDataCache.get("lookup", () -> load("a"), "A").block();
+    referenceDataCache.get("other", () -> load("c"), "C").block();
+
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  @DisplayName("invalidateAll removes every entry")
+  void invalidateAll_removesEverything() {
+    referenceDataCache.get("lookup", () -> load("a"), "A").block();
+    referenceDataCache.get("other", () -> load("c"), "C").block();
+
+    referenceDataCache.invalidateAll();
+
+    referenceDataCache.get("lookup", () -> load("a"), "A").block();
+    referenceDataCache.get("other", () -> load("c"), "C").block();
+
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  @DisplayName("getSummary reports entries per lookup and hit counts")
+  @SuppressWarnings("unchecked")
+  void getSummary_reportsEntriesAndHits() {
+    referenceDataCache.get("lookup", () -> load("a"), "A").block();
+    referenceDataCache.get("lookup", () -> load("b"), "B").block();
+    referenceDataCache.get("lookup", () -> load("a"), "A").block();
+
+    final Map<String, Object> summary = referenceDataCache.getSummary();
+
+    assertEquals(true, summary.get("enabled"));
+    assertEquals(2L, ((Map<String, Long>) summary.get("entries")).get("lookup"));
+    assertEquals(1L, summary.get("hitCount"));
+    assertEquals(2L, summary.get("missCount"));
+  }
+}
@@ -0,0 +1,127 @@
+package uk.gov.laa.ccms.caab.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import uk.gov.laa.ccms.data.model.UserDetail;
+
+class UserDetailCacheTest {
+
+  private static final String LOGIN_ID = "testLoginId";
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private UserDetailCache userDetailCache;
+
+  private final AtomicInteger fetches = new AtomicInteger();
+
+  private final Function<String, Mono<UserDetail>> fetch =
+      loginId ->
+          Mono.fromSupplier(
+              () -> new UserDetail().loginId(loginId).userId(fetches.incrementAndGet()));
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    userDetailCache =
+        new UserDetailCache(
+            new UserDetailCacheProperties(100, Duration.ofMinutes(1)), meterRegistry);
+  }
+
+  @Test
+  @DisplayName("A user is fetched once and then served from the cache")
+  void get_repeated_fetchesOnce() {
+    final UserDetail first = userDetailCache.get(LOGIN_ID, fetch).block();
+    final UserDetail second = userDetailCache.get(LOGIN_ID, fetch).block();
+
+    assertSame(first, second);
+    assertEquals(1, fetches.get());
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get("cache.gets")
+            .tags("cache", "userDetails", "result", "hit")
+            .functionCounter()
+            .count());
+  }
+
+  @Test
+  @DisplayName("An invalidated user is fetched afresh")
+  void invalidate_fetchesAgain() {
+    userDetailCache.get(LOGIN_ID, fetch).block();
+    userDetailCache.invalidate(LOGIN_ID);
+
+    StepVerifier.create(userDetailCache.get(LOGIN_ID, fetch))
+        .expectNextMatches(user -> user.getUserId() == 2)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Concurrent lookups of one user share a single fetch")
+  void get_concurrent_sharesFetch() {
+    final Sinks.One<UserDetail> pending = Sinks.one();
+    final Function<String, Mono<UserDetail>> slowFetch =
+        loginId -> {
+          fetches.incrementAndGet();
+          return pending.asMono();
+        };
+
+    final Mono<UserDetail> first = userDetailCache.get(LOGIN_ID, slowFetch);
+    final Mono<UserDetail> second = userDetailCache.get(LOGIN_ID, slowFetch);
+    final UserDetail user = new UserDetail().loginId(LOGIN_ID);
+
+    StepVerifier.create(Mono.zip(first, second))
+        .then(() -> pending.tryEmitValue(user))
+        .expectNextMatches(users -> users.getT1() == user && users.getT2() == user)
+        .verifyComplete();
+    assertEquals(1, fetches.get());
+  }
+
+  @Test
+  @DisplayName("A refreshed user is fetched afresh and replaces the user held")
+  void refresh_fetchesAndReplaces() {
+    userDetailCache.get(LOGIN_ID, fetch).block();
+
+    final UserDetail refreshed = userDetailCache.refresh(LOGIN_ID, fetch).block();
+
+    assertEquals(2, refreshed.getUserId());
+    assertSame(refreshed, userDetailCache.get(LOGIN_ID, fetch).block());
+    assertEquals(2, fetches.get());
+  }
+
+  @Test
+  @DisplayName("A fetch in flight when a user is refreshed does not replace the refreshed user")
+  void refresh_staleFetchInFlight_notHeld() {
+    final Sinks.One<UserDetail> stale = Sinks.one();
+    final Mono<UserDetail> staleLookup = userDetailCache.get(LOGIN_ID, loginId -> stale.asMono());
+    staleLookup.subscribe();
+
+    final UserDetail refreshed = userDetailCache.refresh(LOGIN_ID, fetch).block();
+    stale.tryEmitValue(new UserDetail().loginId(LOGIN_ID).userId(0));
+
+    assertSame(refreshed, userDetailCache.get(LOGIN_ID, fetch).block());
+    assertEquals(1, fetches.get());
+  }
+
+  @Test
+  @DisplayName("A failed fetch is not cached")
+  void get_failedFetch_notCached() {
+    StepVerifier.create(
+            userDetailCache.get(LOGIN_ID, loginId -> Mono.error(new IllegalStateException())))
+        .verifyError(IllegalStateException.class);
+
+    StepVerifier.create(userDetailCache.get(LOGIN_ID, fetch))
+        .expectNextMatches(user -> LOGIN_ID.equals(user.getLoginId()))
+        .verifyComplete();
+  }
+}
@@ -0,0 +1,108 @@
+package uk.gov.laa.ccms.caab.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Mono;
+
+class AbstractApiClientErrorHandlerTest {
+
+  private static final ApiCallRejectedException REJECTED =
+      new ApiCallRejectedException("Circuit breaker for test-api is open");
+
+  private static Stream<Arguments> errorHandlers() {
+    return Stream.of(
+        Arguments.of(new AssessmentApiClientErrorHandler(), AssessmentApiClientException.class),
+        Arguments.of(new CaabApiClientErrorHandler(), CaabApiClientException.class),
+        Arguments.of(new EbsApiClientErrorHandler(), EbsApiClientException.class),
+        Arguments.of(new SoaApiClientErrorHandler(), SoaApiClientException.class));
+  }
+
+  private static <T extends ApiClientException> void assertServiceUnavailable(
+      final Class<T> exceptionType, final String message, final Mono<?> error) {
+    final T exception = assertThrows(exceptionType, error::block);
+    assertEquals(message, exception.getMessage());
+    assertTrue(exception.hasHttpStatus(HttpStatus.SERVICE_UNAVAILABLE));
+    assertSame(REJECTED, exception.getCause());
+  }
+
+  @ParameterizedTest
+  @MethodSource("errorHandlers")
+  @DisplayName("A rejected retrieve is raised as the client's exception, as the API unavailable")
+  void handleApiRetrieveError_rejectedCall(
+      final AbstractApiClientErrorHandler errorHandler,
+      final Class<? extends ApiClientException> exceptionType) {
+    assertServiceUnavailable(
+        exceptionType,
+        "Failed to retrieve Case detail with case reference: 123",
+        errorHandler.handleApiRetrieveError(REJECTED, "Case detail", "case reference", "123"));
+
+    final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
+    queryParams.add("name", "smith");
+    assertServiceUnavailable(
+        exceptionType,
+        "Failed to retrieve Counsel details with parameters: name=smith",
+        errorHandler.handleApiRetrieveError(REJECTED, "Counsel details", queryParams));
+  }
+
+  @ParameterizedTest
+  @MethodSource("errorHandlers")
+  @DisplayName("A rejected change is raised as the client's exception, as the API unavailable")
+  void handleApiChangeError_rejectedCall(
+      final AbstractApiClientErrorHandler errorHandler,
+      final Class<? extends ApiClientException> exceptionType) {
+    assertServiceUnavailable(
+        exceptionType,
+        "Failed to create Application",
+        errorHandler.handleApiCreateError(REJECTED, "Application"));
+    assertServiceUnavailable(
+        exceptionType,
+        "Failed to update Application with id: 1",
+        errorHandler.handleApiUpdateError(REJECTED, "Application", "id", "1"));
+    assertServiceUnavailable(
+        exceptionType,
+        "Failed to delete Application with id: 1",
+        errorHandler.handleApiDeleteError(REJECTED, "Application", "id", "1"));
+    assertServiceUnavailable(
+        exceptionType,
+        "Failed to delete Application",
+        errorHandler.handleApiDeleteError(REJECTED, "Application", null));
+  }
+
+  @Test
+  @DisplayName("A retrieve which already failed with the client's exception is raised unchanged")
+  void handleApiRetrieveError_clientException() {
+    final EbsApiClientException notFound =
+        new EbsApiClientException("Not found: Case detail", HttpStatus.NOT_FOUND);
+    final Mono<Object> error =
+        new EbsApiClientErrorHandler()
+            .handleApiRetrieveError(notFound, "Case detail", "case reference", "123");
+
+    assertSame(notFound, assertThrows(EbsApiClientException.class, error::block));
+  }
+
+  @Test
+  @DisplayName("Any other failure is raised as the client's exception, without a status")
+  void handleApiRetrieveError_otherFailure() {
+    final IllegalStateException failure = new IllegalStateException("connection reset");
+    final Mono<Object> error =
+        new CaabApiClientErrorHandler().handleApiRetrieveError(failure, "Application", "id", "1");
+
+    final CaabApiClientException exception =
+        assertThrows(CaabApiClientException.class, error::block);
+    assertNull(exception.getHttpStatus());
+    assertSame(failure, exception.getCause());
+  }
+}
@@ -1,5 +1,6 @@
 package uk.gov.laa.ccms.caab.client;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -8,10 +9,17 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,10 +29,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -967,6 +983,59 @@ class CaabApiClientTest {
     verify(requestHeadersMock, times(1)).exchangeToMono(any(Function.class));
   }
 
+  @Test
+  @DisplayName("createEvidenceDocument - content is encoded into the request body as it is sent")
+  void createEvidenceDocument_withContent_streamsEncodedContent() throws IOException {
+    final EvidenceDocumentDetail evidenceDocument =
+        new EvidenceDocumentDetail().fileName("evidence.pdf").fileData("bm90IG1l");
+    final byte[] content = "the file data".getBytes(StandardCharsets.UTF_8);
+    final String loginId = "user789";
+    final String locationId = "123";
+    final ArgumentCaptor<BodyInserter<?, ? super ClientHttpRequest>> bodyCaptor =
+        ArgumentCaptor.forClass(BodyInserter.class);
+
+    when(caabApiWebClient.post()).thenReturn(requestBodyUriMock);
+    when(requestBodyUriMock.uri("/evidence")).thenReturn(requestBodyMock);
+    when(requestBodyMock.header("Caab-User-Login-Id", loginId)).thenReturn(requestBodyMock);
+    when(requestBodyMock.contentType(MediaType.APPLICATION_JSON)).thenReturn(requestBodyMock);
+    when(requestBodyMock.body(bodyCaptor.capture())).thenReturn(requestHeadersMock);
+    when(requestHeadersMock.exchangeToMono(any(Function.class))).thenReturn(Mono.just(locationId));
+
+    final Mono<String> result =
+        caabApiClient.createEvidenceDocument(
+            evidenceDocument, new ByteArrayResource(content), loginId);
+
+    StepVerifier.create(result).expectNext(locationId).verifyComplete();
+
+    final MockClientHttpRequest request =
+        new MockClientHttpRequest(HttpMethod.POST, URI.create("/evidence"));
+    bodyCaptor
+        .getValue()
+        .insert(
+            request,
+            new BodyInserter.Context() {
+              @Override
+              public List<HttpMessageWriter<?>> messageWriters() {
+                return ExchangeStrategies.withDefaults().messageWriters();
+              }
+
+              @Override
+              public Optional<ServerHttpRequest> serverRequest() {
+                return Optional.empty();
+              }
+
+              @Override
+              public Map<String, Object> hints() {
+                return Map.of();
+              }
+            })
+        .block();
+
+    final JsonNode body = new ObjectMapper().readTree(request.getBodyAsString().block());
+    assertEquals("evidence.pdf", body.get("fileName").asText());
+    assertArrayEquals(content, Base64.getDecoder().decode(body.get("fileData").asText()));
+  }
+
   @Test
   void deleteEvidenceDocument_success() {
     final Integer evidenceDocumentId = 123;
@@ -0,0 +1,202 @@
+package uk.gov.laa.ccms.caab.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+class DeduplicatingExchangeFilterFunctionTest {
+
+  private final ExchangeStrategies exchangeStrategies = ExchangeStrategies.withDefaults();
+
+  private final AtomicInteger exchanges = new AtomicInteger();
+
+  private RequestScopedResponseCache responseCache;
+
+  private WebClient webClient;
+
+  @BeforeEach
+  void setUp() {
+    final ExchangeFunction upstream =
+        request ->
+            Mono.fromSupplier(
+                () ->
+                    ClientResponse.create(HttpStatus.OK, exchangeStrategies)
+                        .header(HttpHeaders.CONTENT_TYPE, "text/plain")
+                        .body("response-" + exchanges.incrementAndGet())
+                        .build());
+    webClient = webClient(upstream);
+
+    responseCache = new RequestScopedResponseCache();
+    final MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAttribute(RequestScopedResponseCache.ATTRIBUTE, responseCache);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  private WebClient webClient(final ExchangeFunction upstream) {
+    return WebClient.builder()
+        .exchangeFunction(upstream)
+        .filter(new DeduplicatingExchangeFilterFunction(exchangeStrategies))
+        .build();
+  }
+
+  private Mono<String> get(final String uri) {
+    return webClient.get().uri(uri).retrieve().bodyToMono(String.class);
+  }
+
+  @Test
+  @DisplayName("Identical GET requests made one after another share one upstream call")
+  void identicalGets_sequential_shareOneCall() {
+    assertEquals("response-1", get("http://ebs/lookup/common?type=A").block());
+    assertEquals("response-1", get("http://ebs/lookup/common?type=A").block());
+    assertEquals("response-1", get("http://ebs/lookup/common?type=A").block());
+
+    assertEquals(1, exchanges.get());
+    assertEquals(2, responseCache.getSavedCalls());
+  }
+
+  @Test
+  @DisplayName("Identical GET requests made in parallel share one upstream call")
+  void identicalGets_parallel_shareOneCall() {
+    StepVerifier.create(
+            Mono.zip(get("http://caab/applications/1"), get("http://caab/applications/1")))
+        .expectNextMatches(
+            tuple -> "response-1".equals(tuple.getT1()) && "response-1".equals(tuple.getT2()))
+        .verifyComplete();
+
+    assertEquals(1, exchanges.get());
+    assertEquals(1, responseCache.getSavedCalls());
+  }
+
+  @Test
+  @DisplayName("GET requests with different parameters each make an upstream call")
+  void differentGets_makeSeparateCalls() {
+    assertEquals("response-1", get("http://ebs/lookup/common?type=A").block());
+    assertEquals("response-2", get("http://ebs/lookup/common?type=B").block());
+
+    assertEquals(2, exchanges.get());
+    assertEquals(0, responseCache.getSavedCalls());
+  }
+
+  @Test
+  @DisplayName("Streamed GET requests are never shared")
+  void streamedGets_makeSeparateCalls() {
+    for (int i = 1; i <= 2; i++) {
+      assertEquals(
+          "response-" + i,
+          webClient
+              .get()
+              .uri("http://caab/evidence/1")
+              .attribute(DeduplicatingExchangeFilterFunction.STREAMED, true)
+              .retrieve()
+              .bodyToMono(String.class)
+              .block());
+    }
+
+    assertEquals(2, exchanges.get());
+    assertEquals(0, responseCache.getSavedCalls());
+  }
+
+  @Test
+  @DisplayName("A write discards held responses so later reads see the written state")
+  void write_discardsHeldResponses() {
+    assertEquals("response-1", get("http://caab/applications/1").block());
+    webClient.patch().uri("http://caab/applications/1").retrieve().toBodilessEntity().block();
+    assertEquals("response-3", get("http://caab/applications/1").block());
+
+    assertEquals(3, exchanges.get());
+  }
+
+  @Test
+  @DisplayName("Error responses are not held, so the next caller makes the call again")
+  void errorResponse_isNotHeld() {
+    webClient =
+        webClient(
+            request -> {
+              exchanges.incrementAndGet();
+              return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+            });
+
+    StepVerifier.create(get("http://ebs/cases/1"))
+        .expectError(WebClientResponseException.NotFound.class)
+        .verify();
+    StepVerifier.create(get("http://ebs/cases/1"))
+        .expectError(WebClientResponseException.NotFound.class)
+        .verify();
+
+    assertEquals(2, exchanges.get());
+    assertEquals(0, responseCache.getSavedCalls());
+  }
+
+  @Test
+  @DisplayName("A failed upstream call is not held, so it is retried by the next caller")
+  void failedCall_isRetried() {
+    webClient =
+        webClient(
+            request ->
+                exchanges.incrementAndGet() == 1
+                    ? Mono.error(new IllegalStateException("connection reset"))
+                    : Mono.just(
+                        ClientResponse.create(HttpStatus.OK, exchangeStrategies)
+                            .header(HttpHeaders.CONTENT_TYPE, "text/plain")
+                            .body("recovered")
+                            .build()));
+
+    StepVerifier.create(get("http://soa/cases/1")).expectError().verify();
+    assertEquals("recovered", get("http://soa/cases/1").block());
+    assertEquals("recovered", get("http://soa/cases/1").block());
+
+    assertEquals(2, exchanges.get());
+  }
+
+  @Test
+  @DisplayName("A call made on another thread finds the cache in the Reactor Context")
+  void otherThread_usesContextCache() {
+    RequestContextHolder.resetRequestAttributes();
+
+    for (int i = 0; i < 2; i++) {
+      assertEquals(
+          "response-1",
+          get("http://ebs/lookup/common?type=A")
+              .subscribeOn(Schedulers.boundedElastic())
+              .contextWrite(Context.of(RequestScopedResponseCache.ATTRIBUTE, responseCache))
+              .block());
+    }
+
+    assertEquals(1, exchanges.get());
+    assertEquals(1, responseCache.getSavedCalls());
+  }
+
+  @Test
+  @DisplayName("Outside of an HTTP request every call goes upstream")
+  void noCurrentRequest_passesThrough() {
+    RequestContextHolder.resetRequestAttributes();
+
+    assertEquals("response-1", get("http://ebs/lookup/common?type=A").block());
+    assertEquals("response-2", get("http://ebs/lookup/common?type=A").block());
+
+    assertEquals(2, exchanges.get());
+  }
+}
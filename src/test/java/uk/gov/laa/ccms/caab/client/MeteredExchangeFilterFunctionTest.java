@@ -0,0 +1,235 @@
+package uk.gov.laa.ccms.caab.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+class MeteredExchangeFilterFunctionTest {
+
+  private final ExchangeStrategies exchangeStrategies = ExchangeStrategies.withDefaults();
+
+  private final MockClock clock = new MockClock();
+
+  private final SimpleMeterRegistry meterRegistry =
+      new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+
+  private final Queue<Mono<ClientResponse>> responses = new ArrayDeque<>();
+
+  private final AtomicInteger scopesOpened = new AtomicInteger();
+
+  private ObservationRegistry observationRegistry;
+
+  private WebClient webClient;
+
+  @BeforeEach
+  void setUp() {
+    observationRegistry = ObservationRegistry.create();
+    observationRegistry
+        .observationConfig()
+        .observationHandler(
+            new ObservationHandler<>() {
+              @Override
+              public void onScopeOpened(final Observation.Context context) {
+                scopesOpened.incrementAndGet();
+              }
+
+              @Override
+              public boolean supportsContext(final Observation.Context context) {
+                return true;
+              }
+            });
+
+    final ExchangeFunction upstream =
+        request -> {
+          final Mono<ClientResponse> response = responses.poll();
+          return response != null ? response : Mono.just(response(HttpStatus.OK));
+        };
+    webClient =
+        WebClient.builder()
+            .baseUrl("http://ebs")
+            .exchangeFunction(upstream)
+            .filter(
+                new MeteredExchangeFilterFunction("ebs-api", meterRegistry, observationRegistry))
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  private ClientResponse response(final HttpStatus status) {
+    return ClientResponse.create(status, exchangeStrategies)
+        .header(HttpHeaders.CONTENT_TYPE, "text/plain")
+        .body(status.name())
+        .build();
+  }
+
+  private Timer timer(final String uri, final String status) {
+    return meterRegistry
+        .get(MeteredExchangeFilterFunction.METRIC_NAME)
+        .tags("api", "ebs-api", "method", "GET", "uri", uri, "status", status)
+        .timer();
+  }
+
+  private UpstreamCallTracker bindTracker() {
+    final UpstreamCallTracker tracker = new UpstreamCallTracker();
+    final MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAttribute(UpstreamCallTracker.ATTRIBUTE, tracker);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    return tracker;
+  }
+
+  @Test
+  @DisplayName("A call is timed against its URI template and response status")
+  void call_timedByTemplateAndStatus() {
+    responses.add(
+        Mono.fromSupplier(
+            () -> {
+              clock.add(Duration.ofMillis(40));
+              return response(HttpStatus.OK);
+            }));
+
+    webClient.get().uri("/users/{id}?type={type}", 1, "A").retrieve().toBodilessEntity().block();
+
+    final Timer timer = timer("/users/{id}", "200");
+    assertEquals(1, timer.count());
+    assertEquals(40, timer.totalTime(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  @DisplayName("A call built without a template is tagged with its path, less any identifiers")
+  void call_noTemplate_identifiersReplaced() {
+    webClient
+        .get()
+        .uri(builder -> builder.path("/cases/300000123/linked-cases").query("page=1").build())
+        .retrieve()
+        .toBodilessEntity()
+        .block();
+
+    assertEquals(1, timer("/cases/{id}/linked-cases", "200").count());
+  }
+
+  @Test
+  @DisplayName("A call that gets an error response is tagged with the response status")
+  void call_errorStatus_taggedWithStatus() {
+    responses.add(Mono.just(response(HttpStatus.NOT_FOUND)));
+
+    assertThrows(
+        WebClientResponseException.NotFound.class,
+        () -> webClient.get().uri("/users/{id}", 1).retrieve().toBodilessEntity().block());
+
+    assertEquals(1, timer("/users/{id}", "404").count());
+  }
+
+  @Test
+  @DisplayName("A call that could not be made is tagged as an IO error")
+  void call_connectionError_taggedAsIoError() {
+    responses.add(
+        Mono.error(
+            new WebClientRequestException(
+                new IOException("Connection refused"),
+                HttpMethod.GET,
+                URI.create("http://ebs/users/1"),
+                HttpHeaders.EMPTY)));
+
+    assertThrows(
+        WebClientRequestException.class,
+        () -> webClient.get().uri("/users/{id}", 1).retrieve().toBodilessEntity().block());
+
+    assertEquals(1, timer("/users/{id}", "IO_ERROR").count());
+  }
+
+  @Test
+  @DisplayName("Calls made in parallel are counted, and their waiting time is only counted once")
+  void parallelCalls_trackedAgainstRequest() {
+    final UpstreamCallTracker tracker = bindTracker();
+    final Sinks.One<ClientResponse> first = Sinks.one();
+    final Sinks.One<ClientResponse> second = Sinks.one();
+    responses.add(first.asMono());
+    responses.add(second.asMono());
+
+    StepVerifier.create(
+            Mono.zip(
+                webClient.get().uri("/users/{id}", 1).retrieve().toBodilessEntity(),
+                webClient.get().uri("/users/{id}", 2).retrieve().toBodilessEntity()))
+        .then(
+            () -> {
+              clock.add(Duration.ofMillis(100));
+              first.tryEmitValue(response(HttpStatus.OK));
+              clock.add(Duration.ofMillis(50));
+              second.tryEmitValue(response(HttpStatus.OK));
+            })
+        .expectNextCount(1)
+        .verifyComplete();
+
+    assertEquals(2, tracker.getCalls());
+    assertEquals(150, TimeUnit.NANOSECONDS.toMillis(tracker.getWaitNanos(clock.monotonicTime())));
+    assertEquals(2, timer("/users/{id}", "200").count());
+  }
+
+  @Test
+  @DisplayName("A call made on another thread is tracked against the tracker in its Context")
+  void otherThread_trackedAgainstContextTracker() {
+    final UpstreamCallTracker tracker = new UpstreamCallTracker();
+
+    webClient
+        .get()
+        .uri("/users/{id}", 1)
+        .retrieve()
+        .toBodilessEntity()
+        .subscribeOn(Schedulers.boundedElastic())
+        .contextWrite(Context.of(UpstreamCallTracker.ATTRIBUTE, tracker))
+        .block();
+
+    assertEquals(1, tracker.getCalls());
+  }
+
+  @Test
+  @DisplayName("A call is recorded within the observation of the request that made it")
+  void call_recordedWithinRequestObservation() {
+    final Observation observation = Observation.start("http.server.requests", observationRegistry);
+    try (Observation.Scope scope = observation.openScope()) {
+      webClient.get().uri("/users/{id}", 1).retrieve().toBodilessEntity().block();
+    } finally {
+      observation.stop();
+    }
+
+    assertEquals(2, scopesOpened.get());
+  }
+}
@@ -0,0 +1,287 @@
+package uk.gov.laa.ccms.caab.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import uk.gov.laa.ccms.caab.config.ApiResilienceProperties;
+
+class ResilientExchangeFilterFunctionTest {
+
+  private final ExchangeStrategies exchangeStrategies = ExchangeStrategies.withDefaults();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final AtomicInteger exchanges = new AtomicInteger();
+
+  private final Queue<Mono<ClientResponse>> responses = new ArrayDeque<>();
+
+  private Instant now;
+
+  private WebClient webClient;
+
+  @BeforeEach
+  void setUp() {
+    now = Instant.parse("2026-01-01T09:00:00Z");
+  }
+
+  private WebClient webClient(final int failureThreshold, final int maxConcurrentCalls) {
+    final ApiResilienceProperties properties =
+        new ApiResilienceProperties(
+            true,
+            2,
+            Duration.ofMillis(1),
+            Duration.ofMillis(5),
+            0.5,
+            failureThreshold,
+            Duration.ofSeconds(30),
+            0,
+            Duration.ofMillis(200));
+    final Clock clock =
+        new Clock() {
+          @Override
+          public ZoneId getZone() {
+            return ZoneOffset.UTC;
+          }
+
+          @Override
+          public Clock withZone(final ZoneId zone) {
+            return this;
+          }
+
+          @Override
+          public Instant instant() {
+            return now;
+          }
+        };
+    final ExchangeFunction upstream =
+        request -> {
+          exchanges.incrementAndGet();
+          final Mono<ClientResponse> response = responses.poll();
+          return response != null ? response : Mono.just(response(HttpStatus.OK));
+        };
+    return WebClient.builder()
+        .exchangeFunction(upstream)
+        .filter(
+            new ResilientExchangeFilterFunction(
+                "ebs-api", properties, maxConcurrentCalls, meterRegistry, clock))
+        .build();
+  }
+
+  private ClientResponse response(final HttpStatus status) {
+    return ClientResponse.create(status, exchangeStrategies)
+        .header(HttpHeaders.CONTENT_TYPE, "text/plain")
+        .body(status.name())
+        .build();
+  }
+
+  private void respondWith(final HttpStatus... statuses) {
+    List.of(statuses).forEach(status -> responses.add(Mono.just(response(status))));
+  }
+
+  private String get() {
+    return webClient.get().uri("http://ebs/users/1").retrieve().bodyToMono(String.class).block();
+  }
+
+  private String post() {
+    return webClient.post().uri("http://ebs/users").retrieve().bodyToMono(String.class).block();
+  }
+
+  private double counter(final String name, final String... tags) {
+    return meterRegistry.get(name).tags(tags).counter().count();
+  }
+
+  private double gauge(final String name, final String... tags) {
+    return meterRegistry.get(name).tags(tags).gauge().value();
+  }
+
+  @Test
+  @DisplayName("A GET that fails with a 503 is retried")
+  void get_transientStatus_retried() {
+    webClient = webClient(3, 2);
+    respondWith(HttpStatus.SERVICE_UNAVAILABLE);
+
+    assertEquals("OK", get());
+    assertEquals(2, exchanges.get());
+    assertEquals(1, counter("caab.api.calls.retried", "api", "ebs-api"));
+  }
+
+  @Test
+  @DisplayName("A GET that fails with a connection error is retried")
+  void get_connectionError_retried() {
+    webClient = webClient(3, 2);
+    responses.add(
+        Mono.error(
+            new WebClientRequestException(
+                new IOException("Connection reset"),
+                HttpMethod.GET,
+                URI.create("http://ebs/users/1"),
+                HttpHeaders.EMPTY)));
+
+    assertEquals("OK", get());
+    assertEquals(2, exchanges.get());
+  }
+
+  @Test
+  @DisplayName("A GET that keeps failing is returned to the caller after the last retry")
+  void get_transientStatus_givesUpAfterMaxRetries() {
+    webClient = webClient(3, 2);
+    respondWith(
+        HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.BAD_GATEWAY, HttpStatus.GATEWAY_TIMEOUT);
+
+    final WebClientResponseException e =
+        assertThrows(WebClientResponseException.class, this::get);
+
+    assertEquals(HttpStatus.GATEWAY_TIMEOUT, e.getStatusCode());
+    assertEquals(3, exchanges.get());
+  }
+
+  @Test
+  @DisplayName("A GET that fails with a 500 is not retried")
+  void get_serverError_notRetried() {
+    webClient = webClient(3, 2);
+    respondWith(HttpStatus.INTERNAL_SERVER_ERROR);
+
+    assertThrows(WebClientResponseException.InternalServerError.class, this::get);
+    assertEquals(1, exchanges.get());
+  }
+
+  @Test
+  @DisplayName("A POST that fails with a 503 is not retried")
+  void post_transientStatus_notRetried() {
+    webClient = webClient(3, 2);
+    respondWith(HttpStatus.SERVICE_UNAVAILABLE);
+
+    assertThrows(WebClientResponseException.ServiceUnavailable.class, this::post);
+    assertEquals(1, exchanges.get());
+  }
+
+  @Test
+  @DisplayName("The circuit opens after too many failures in a row, then lets a trial call through")
+  void circuitBreaker_opensAndRecovers() {
+    webClient = webClient(2, 2);
+    respondWith(HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE);
+
+    assertThrows(ApiCallRejectedException.class, this::get);
+    assertEquals(2, exchanges.get());
+    assertEquals(1, gauge("caab.api.circuit.breaker.state", "api", "ebs-api", "state", "open"));
+
+    assertThrows(ApiCallRejectedException.class, this::post);
+    assertEquals(2, exchanges.get());
+    assertEquals(2, counter("caab.api.calls.rejected", "api", "ebs-api", "reason", "circuit_open"));
+
+    now = now.plus(Duration.ofSeconds(30));
+    assertEquals("OK", get());
+    assertEquals(3, exchanges.get());
+    assertEquals(1, gauge("caab.api.circuit.breaker.state", "api", "ebs-api", "state", "closed"));
+  }
+
+  @Test
+  @DisplayName("A failed trial call reopens the circuit")
+  void circuitBreaker_failedTrialCall_reopens() {
+    webClient = webClient(1, 2);
+    respondWith(HttpStatus.BAD_GATEWAY);
+    assertThrows(ApiCallRejectedException.class, this::get);
+
+    now = now.plus(Duration.ofSeconds(30));
+    respondWith(HttpStatus.BAD_GATEWAY);
+    assertThrows(ApiCallRejectedException.class, this::get);
+
+    assertEquals(2, exchanges.get());
+    assertEquals(1, gauge("caab.api.circuit.breaker.state", "api", "ebs-api", "state", "open"));
+  }
+
+  @Test
+  @DisplayName("Calls beyond the concurrency limit wait for a call in flight to finish")
+  void bulkhead_full_callWaits() {
+    webClient = webClient(3, 1);
+    final Sinks.One<ClientResponse> slowResponse = Sinks.one();
+    responses.add(slowResponse.asMono());
+    final Mono<String> inFlight =
+        webClient.get().uri("http://ebs/slow").retrieve().bodyToMono(String.class).cache();
+    inFlight.subscribe();
+    final Mono<String> waiting =
+        webClient.get().uri("http://ebs/users/1").retrieve().bodyToMono(String.class).cache();
+    waiting.subscribe();
+
+    assertEquals(1, exchanges.get());
+
+    slowResponse.tryEmitValue(response(HttpStatus.OK));
+    assertEquals("OK", inFlight.block());
+    assertEquals("OK", waiting.block());
+    assertEquals(2, exchanges.get());
+    assertEquals(1, gauge("caab.api.bulkhead.available", "api", "ebs-api"));
+  }
+
+  @Test
+  @DisplayName("A call stays in flight until its response body has been read")
+  void bulkhead_heldUntilBodyRead() {
+    webClient = webClient(3, 1);
+    final Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+    responses.add(
+        Mono.just(
+            ClientResponse.create(HttpStatus.OK, exchangeStrategies)
+                .header(HttpHeaders.CONTENT_TYPE, "text/plain")
+                .body(body.asFlux())
+                .build()));
+    final Mono<String> inFlight =
+        webClient.get().uri("http://ebs/slow").retrieve().bodyToMono(String.class).cache();
+    inFlight.subscribe();
+
+    assertEquals(0, gauge("caab.api.bulkhead.available", "api", "ebs-api"));
+
+    body.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap("OK".getBytes(UTF_8)));
+    body.tryEmitComplete();
+    assertEquals("OK", inFlight.block());
+    assertEquals(1, gauge("caab.api.bulkhead.available", "api", "ebs-api"));
+  }
+
+  @Test
+  @DisplayName("Calls waiting too long beyond the concurrency limit are rejected unattempted")
+  void bulkhead_full_rejectsCall() {
+    webClient = webClient(3, 1);
+    final Sinks.One<ClientResponse> slowResponse = Sinks.one();
+    responses.add(slowResponse.asMono());
+    final Mono<String> inFlight =
+        webClient.get().uri("http://ebs/slow").retrieve().bodyToMono(String.class).cache();
+    inFlight.subscribe();
+
+    assertThrows(ApiCallRejectedException.class, this::get);
+    assertEquals(1, exchanges.get());
+    assertEquals(
+        1, counter("caab.api.calls.rejected", "api", "ebs-api", "reason", "bulkhead_full"));
+    assertEquals(0, gauge("caab.api.bulkhead.available", "api", "ebs-api"));
+
+    slowResponse.tryEmitValue(response(HttpStatus.OK));
+    assertEquals("OK", inFlight.block());
+    assertEquals(1, gauge("caab.api.bulkhead.available", "api", "ebs-api"));
+  }
+}
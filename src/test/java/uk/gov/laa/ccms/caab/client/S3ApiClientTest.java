@@ -1,6 +1,7 @@
 package uk.gov.laa.ccms.caab.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -8,6 +9,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,9 +18,11 @@ import io.awspring.cloud.s3.S3Resource;
 import io.awspring.cloud.s3.S3Template;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -32,8 +37,11 @@ import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import uk.gov.laa.ccms.caab.config.S3DocumentBucketProperties;
 
 @ExtendWith(MockitoExtension.class)
@@ -229,6 +237,167 @@ public class S3ApiClientTest {
     verify(s3Template).createSignedGetURL(any(), eq(DRAFT_PREFIX + "1.pdf"), any());
   }
 
+  private void stubDocument(String prefix, String filename, String url)
+      throws MalformedURLException {
+    S3Resource resource = mock(S3Resource.class);
+    when(resource.getFilename()).thenReturn(filename);
+    when(s3Template.listObjects(any(), eq(prefix))).thenReturn(List.of(resource));
+    when(s3Template.createSignedGetURL(any(), eq(filename), any()))
+        .thenReturn(URI.create(url).toURL());
+  }
+
+  @Test
+  void getDocumentUrl_recentlySigned_returnsCachedUrl() throws MalformedURLException {
+    when(s3DocumentBucketProperties.getUrlDuration()).thenReturn(20L);
+    stubDocument(DOCUMENT_ID, DOCUMENT_ID + ".pdf", "https://s3/documentId.pdf");
+
+    s3ApiClient.getDocumentUrl(DOCUMENT_ID);
+    Optional<String> actual = s3ApiClient.getDocumentUrl(DOCUMENT_ID);
+
+    assertEquals(Optional.of("https://s3/documentId.pdf"), actual);
+    verify(s3Template, times(1)).listObjects(any(), eq(DOCUMENT_ID));
+    verify(s3Template, times(1)).createSignedGetURL(any(), any(), any());
+  }
+
+  @Test
+  void getDocumentUrl_urlsTooShortLivedToCache_signsEachTime() throws MalformedURLException {
+    when(s3DocumentBucketProperties.getUrlDuration()).thenReturn(1L);
+    stubDocument(DOCUMENT_ID, DOCUMENT_ID + ".pdf", "https://s3/documentId.pdf");
+
+    s3ApiClient.getDocumentUrl(DOCUMENT_ID);
+    s3ApiClient.getDocumentUrl(DOCUMENT_ID);
+
+    verify(s3Template, times(2)).listObjects(any(), eq(DOCUMENT_ID));
+  }
+
+  @Test
+  void getDocumentUrl_notFound_notCached() {
+    when(s3Template.listObjects(any(), eq(DOCUMENT_ID))).thenReturn(List.of());
+
+    assertTrue(s3ApiClient.getDocumentUrl(DOCUMENT_ID).isEmpty());
+    assertTrue(s3ApiClient.getDocumentUrl(DOCUMENT_ID).isEmpty());
+
+    verify(s3Template, times(2)).listObjects(any(), eq(DOCUMENT_ID));
+  }
+
+  @Test
+  void getDocumentUrl_documentReplaced_signsNewUrl() throws MalformedURLException {
+    when(s3DocumentBucketProperties.getUrlDuration()).thenReturn(20L);
+    stubDocument("1", "1.pdf", "https://s3/1.pdf");
+    s3ApiClient.getDocumentUrl("1");
+
+    s3ApiClient.uploadDocument("1", "ZmlsZURhdGE=", "docx");
+    when(s3Template.createSignedGetURL(any(), eq("1.docx"), any()))
+        .thenReturn(URI.create("https://s3/1.docx").toURL());
+
+    assertEquals(Optional.of("https://s3/1.docx"), s3ApiClient.getDocumentUrl("1"));
+    verify(s3Template, times(1)).listObjects(any(), eq("1"));
+  }
+
+  @Test
+  void getDocumentUrl_documentUploaded_signsWithoutListing() throws MalformedURLException {
+    s3ApiClient.uploadDraftDocument("1", "ZmlsZURhdGE=", "pdf");
+    when(s3Template.createSignedGetURL(any(), eq(DRAFT_PREFIX + "1.pdf"), any()))
+        .thenReturn(URI.create("https://s3/draft/1.pdf").toURL());
+
+    assertEquals(Optional.of("https://s3/draft/1.pdf"), s3ApiClient.getDraftDocumentUrl("1"));
+    verify(s3Template, never()).listObjects(any(), any());
+  }
+
+  @Test
+  void documentExists_documentUploaded_noCallToS3() {
+    s3ApiClient.uploadDocument("1", "ZmlsZURhdGE=", "pdf");
+    when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+        .thenReturn(ListObjectsV2Response.builder().build());
+
+    assertTrue(s3ApiClient.documentExists("1"));
+    assertFalse(s3ApiClient.draftDocumentExists("1"));
+
+    verify(s3Client, times(1)).listObjectsV2(any(ListObjectsV2Request.class));
+  }
+
+  @Test
+  void documentExists_documentLinked_noCallToS3() throws MalformedURLException {
+    stubDocument(DRAFT_PREFIX + "1", DRAFT_PREFIX + "1.pdf", "https://s3/draft/1.pdf");
+    s3ApiClient.getDraftDocumentUrl("1");
+
+    assertTrue(s3ApiClient.draftDocumentExists("1"));
+
+    verify(s3Client, never()).listObjectsV2(any(ListObjectsV2Request.class));
+  }
+
+  @Test
+  void documentExists_notIndexed_listsForFirstObjectAndIndexesIt() {
+    final ArgumentCaptor<ListObjectsV2Request> requestCaptor =
+        ArgumentCaptor.forClass(ListObjectsV2Request.class);
+    when(s3DocumentBucketProperties.getName()).thenReturn("bucket");
+    when(s3Client.listObjectsV2(requestCaptor.capture()))
+        .thenReturn(
+            ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key(DRAFT_PREFIX + "1.pdf").build())
+                .build());
+
+    assertTrue(s3ApiClient.draftDocumentExists("1"));
+    assertTrue(s3ApiClient.draftDocumentExists("1"));
+
+    verify(s3Client, times(1)).listObjectsV2(any(ListObjectsV2Request.class));
+    assertEquals("bucket", requestCaptor.getValue().bucket());
+    assertEquals(DRAFT_PREFIX + "1", requestCaptor.getValue().prefix());
+    assertEquals(1, requestCaptor.getValue().maxKeys());
+  }
+
+  @Test
+  void documentExists_documentRemoved_listsAgain() {
+    s3ApiClient.uploadDocument("1", "ZmlsZURhdGE=", "pdf");
+    s3ApiClient.removeDocument("1.pdf");
+    when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+        .thenReturn(ListObjectsV2Response.builder().build());
+
+    assertFalse(s3ApiClient.documentExists("1"));
+  }
+
+  @Test
+  void documentExists_s3Error_throwsS3ApiClientException() {
+    when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+        .thenThrow(SdkException.builder().message("error").build());
+
+    assertThrows(S3ApiClientException.class, () -> s3ApiClient.documentExists("1"));
+  }
+
+  @Test
+  void getDocumentUrl_documentRemoved_looksUpAgain() throws MalformedURLException {
+    when(s3DocumentBucketProperties.getUrlDuration()).thenReturn(20L);
+    stubDocument("1", "1.pdf", "https://s3/1.pdf");
+    s3ApiClient.getDocumentUrl("1");
+
+    s3ApiClient.removeDocuments(Set.of("1.pdf"));
+    s3ApiClient.getDocumentUrl("1");
+
+    verify(s3Template, times(2)).listObjects(any(), eq("1"));
+  }
+
+  @Test
+  void getDocumentUrls_returnsUrlsForDocumentsFound() throws MalformedURLException {
+    stubDocument("1", "1.pdf", "https://s3/1.pdf");
+    stubDocument("2", "2.pdf", "https://s3/2.pdf");
+    when(s3Template.listObjects(any(), eq("3"))).thenReturn(List.of());
+
+    Map<String, String> actual = s3ApiClient.getDocumentUrls(List.of("1", "2", "3", "1"));
+
+    assertEquals(Map.of("1", "https://s3/1.pdf", "2", "https://s3/2.pdf"), actual);
+    verify(s3Template, times(1)).listObjects(any(), eq("1"));
+  }
+
+  @Test
+  void getDraftDocumentUrls_returnsUrlsByDocumentId() throws MalformedURLException {
+    stubDocument(DRAFT_PREFIX + "1", DRAFT_PREFIX + "1.pdf", "https://s3/draft/1.pdf");
+    stubDocument(DRAFT_PREFIX + "2", DRAFT_PREFIX + "2.pdf", "https://s3/draft/2.pdf");
+
+    Map<String, String> actual = s3ApiClient.getDraftDocumentUrls(List.of("1", "2"));
+
+    assertEquals(Map.of("1", "https://s3/draft/1.pdf", "2", "https://s3/draft/2.pdf"), actual);
+  }
+
   @Test
   void uploadDraftDocument() {
     s3ApiClient.uploadDraftDocument("1", "fileData", "pdf");
@@ -1,25 +1,35 @@
 package uk.gov.laa.ccms.caab.config;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import fi.solita.clamav.ClamAVClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.caab.client.MeteredExchangeFilterFunction;
 
 @ExtendWith(MockitoExtension.class)
 @SpringBootTest(classes = {ApplicationConfig.class, TestConfig.class})
 @TestPropertySource(
     properties = {
       "laa.ccms.ebs-api.url=http://mockUrl",
+      "laa.ccms.ebs-api.connection.max-connections=20",
+      "laa.ccms.ebs-api.connection.response-timeout=15s",
       "laa.ccms.soa-api.url=http://mockUrl",
       "laa.ccms.caab-api.url=http://mockUrl",
       "os.api.url=http://mockUrl",
@@ -56,6 +66,12 @@ class ApplicationConfigTest {
 
   @Autowired private ThymeleafViewResolver thymeleafViewResolver;
 
+  @Autowired private EbsApiProperties ebsApiProperties;
+
+  @Autowired private SoaApiProperties soaApiProperties;
+
+  @Autowired private MeterRegistry meterRegistry;
+
   @MockitoBean private SpringTemplateEngine templateEngine;
 
   @MockitoBean private LoggingInterceptor loggingInterceptor;
@@ -90,4 +106,56 @@ class ApplicationConfigTest {
   void thymeleafViewResolverBeanExists() {
     assertNotNull(thymeleafViewResolver, "thymeleafViewResolver bean should not be null");
   }
+
+  @Test
+  void apiConnectionSettingsBindWithDefaults() {
+    final ApiConnectionProperties ebsConnection = ebsApiProperties.getConnection();
+    assertEquals(20, ebsConnection.getMaxConnections());
+    assertEquals(Duration.ofSeconds(15), ebsConnection.getResponseTimeout());
+    assertEquals(Duration.ofSeconds(5), ebsConnection.getConnectTimeout());
+
+    final ApiConnectionProperties soaConnection = soaApiProperties.getConnection();
+    assertNotNull(soaConnection, "unconfigured connection settings should take their defaults");
+    assertEquals(50, soaConnection.getMaxConnections());
+    assertEquals(500, soaConnection.getPendingAcquireMaxCount());
+    assertEquals(Duration.ofSeconds(10), soaConnection.getPendingAcquireTimeout());
+    assertEquals(Duration.ofSeconds(60), soaConnection.getResponseTimeout());
+    assertTrue(soaConnection.isKeepAlive());
+    assertTrue(soaConnection.isCompress());
+  }
+
+  @Test
+  void apiCallsAreTimedInTheApplicationMeterRegistry() {
+    osApiWebClient
+        .mutate()
+        .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+        .build()
+        .get()
+        .uri("/search/places/v1/postcode")
+        .retrieve()
+        .toBodilessEntity()
+        .block();
+
+    assertNotNull(
+        meterRegistry
+            .find(MeteredExchangeFilterFunction.METRIC_NAME)
+            .tag("api", "os-api")
+            .tag("status", "200")
+            .timer(),
+        "the call should be timed in the injected registry");
+  }
+
+  @Test
+  void apiResilienceIsPublishedToTheApplicationMeterRegistry() {
+    assertNotNull(
+        meterRegistry.find("caab.api.bulkhead.available").tag("api", "ebs-api").gauge(),
+        "the bulkhead should be published to the injected registry");
+    assertNotNull(
+        meterRegistry
+            .find("caab.api.calls.rejected")
+            .tag("api", "ebs-api")
+            .tag("reason", "circuit_open")
+            .counter(),
+        "rejections should be counted in the injected registry");
+  }
 }
@@ -0,0 +1,59 @@
+package uk.gov.laa.ccms.caab.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.caab.client.RequestScopedResponseCache;
+
+class RequestScopedResponseCacheFilterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final RequestScopedResponseCacheFilter filter =
+      new RequestScopedResponseCacheFilter(meterRegistry);
+
+  @Test
+  void shouldBindCacheToRequestAndRecordSavedCalls() throws Exception {
+    final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/home");
+
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (servletRequest, servletResponse) -> {
+          final RequestScopedResponseCache responseCache =
+              (RequestScopedResponseCache)
+                  servletRequest.getAttribute(RequestScopedResponseCache.ATTRIBUTE);
+          assertNotNull(responseCache);
+          responseCache.get("GET /users/1", Mono::empty);
+          responseCache.get("GET /users/1", Mono::empty);
+          responseCache.get("GET /users/1", Mono::empty);
+        });
+
+    final DistributionSummary summary =
+        meterRegistry.get("caab.upstream.calls.deduplicated").summary();
+    assertEquals(1, summary.count());
+    assertEquals(2, summary.totalAmount());
+  }
+
+  @Test
+  void shouldBindNewCacheToEachRequest() throws Exception {
+    final MockHttpServletRequest first = new MockHttpServletRequest("GET", "/home");
+    final MockHttpServletRequest second = new MockHttpServletRequest("GET", "/home");
+
+    filter.doFilter(first, new MockHttpServletResponse(), (req, res) -> {});
+    filter.doFilter(second, new MockHttpServletResponse(), (req, res) -> {});
+
+    assertNotNull(first.getAttribute(RequestScopedResponseCache.ATTRIBUTE));
+    assertNotNull(second.getAttribute(RequestScopedResponseCache.ATTRIBUTE));
+    assertNotSame(
+        first.getAttribute(RequestScopedResponseCache.ATTRIBUTE),
+        second.getAttribute(RequestScopedResponseCache.ATTRIBUTE));
+  }
+}
@@ -0,0 +1,73 @@
+package uk.gov.laa.ccms.caab.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.session.web.http.CookieSerializer;
+import org.springframework.session.web.http.CookieSerializer.CookieValue;
+
+class SessionStoreConfigTest {
+
+  private final SessionStoreConfig sessionStoreConfig = new SessionStoreConfig();
+
+  private String writeCookie(final MockEnvironment environment) {
+    final CookieSerializer cookieSerializer = sessionStoreConfig.cookieSerializer(environment);
+    final MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setContextPath("/civil");
+    final MockHttpServletResponse response = new MockHttpServletResponse();
+    cookieSerializer.writeCookieValue(new CookieValue(request, response, "session-id"));
+    return response.getHeader(HttpHeaders.SET_COOKIE);
+  }
+
+  @Test
+  @DisplayName("The session cookie is written as the servlet container writes it by default")
+  void cookieSerializer_containerDefaults() {
+    final String cookie = writeCookie(new MockEnvironment());
+
+    assertTrue(cookie.startsWith("JSESSIONID=session-id"), cookie);
+    assertTrue(cookie.contains("Path=/civil/"), cookie);
+    assertTrue(cookie.contains("HttpOnly"), cookie);
+    assertFalse(cookie.contains("Secure"), cookie);
+    assertFalse(cookie.contains("SameSite"), cookie);
+    assertFalse(cookie.contains("Max-Age"), cookie);
+  }
+
+  @Test
+  @DisplayName("The session cookie follows the server.servlet.session.cookie properties")
+  void cookieSerializer_configured() {
+    final String cookie =
+        writeCookie(
+            new MockEnvironment()
+                .withProperty("server.servlet.session.cookie.name", "CAAB_JSESSIONID")
+                .withProperty("server.servlet.session.cookie.domain", "example.com")
+                .withProperty("server.servlet.session.cookie.path", "/")
+                .withProperty("server.servlet.session.cookie.http-only", "false")
+                .withProperty("server.servlet.session.cookie.secure", "true")
+                .withProperty("server.servlet.session.cookie.same-site", "strict")
+                .withProperty("server.servlet.session.cookie.max-age", "30m"));
+
+    assertTrue(cookie.startsWith("CAAB_JSESSIONID=session-id"), cookie);
+    assertTrue(cookie.contains("Domain=example.com"), cookie);
+    assertTrue(cookie.contains("Path=/;"), cookie);
+    assertFalse(cookie.contains("HttpOnly"), cookie);
+    assertTrue(cookie.contains("Secure"), cookie);
+    assertTrue(cookie.contains("SameSite=Strict"), cookie);
+    assertTrue(cookie.contains("Max-Age=1800"), cookie);
+  }
+
+  @Test
+  @DisplayName("A session cookie max age without a unit is in seconds")
+  void cookieSerializer_maxAgeInSeconds() {
+    final String cookie =
+        writeCookie(
+            new MockEnvironment().withProperty("server.servlet.session.cookie.max-age", "600"));
+
+    assertTrue(cookie.contains("Max-Age=600;"), cookie);
+  }
+}
@@ -1,5 +1,7 @@
 package uk.gov.laa.ccms.caab.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -10,4 +12,9 @@ public class TestConfig {
   public WebClient.Builder builder() {
     return WebClient.builder();
   }
+
+  @Bean
+  public MeterRegistry meterRegistry() {
+    return new SimpleMeterRegistry();
+  }
 }
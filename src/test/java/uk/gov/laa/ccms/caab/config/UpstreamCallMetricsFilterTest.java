@@ -0,0 +1,83 @@
+package uk.gov.laa.ccms.caab.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.laa.ccms.caab.client.UpstreamCallTracker;
+
+class UpstreamCallMetricsFilterTest {
+
+  private final MockClock clock = new MockClock();
+
+  private final SimpleMeterRegistry meterRegistry =
+      new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+
+  private final UpstreamCallMetricsFilter filter = new UpstreamCallMetricsFilter(meterRegistry);
+
+  @Test
+  void shouldBindTrackerToRequestAndRecordCallsAndWaitByPage() throws Exception {
+    final MockHttpServletRequest request =
+        new MockHttpServletRequest("GET", "/application/summary/300000123");
+
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (servletRequest, servletResponse) -> {
+          final UpstreamCallTracker tracker =
+              (UpstreamCallTracker) servletRequest.getAttribute(UpstreamCallTracker.ATTRIBUTE);
+          assertNotNull(tracker);
+          tracker.callStarted(clock.monotonicTime());
+          tracker.callStarted(clock.monotonicTime());
+          clock.add(Duration.ofMillis(30));
+          tracker.callFinished(clock.monotonicTime());
+          tracker.callFinished(clock.monotonicTime());
+          tracker.callStarted(clock.monotonicTime());
+          clock.add(Duration.ofMillis(20));
+          tracker.callFinished(clock.monotonicTime());
+          servletRequest.setAttribute(
+              HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/application/summary/{id}");
+        });
+
+    final DistributionSummary calls =
+        meterRegistry
+            .get("caab.upstream.calls")
+            .tags("uri", "/application/summary/{id}", "method", "GET")
+            .summary();
+    assertEquals(1, calls.count());
+    assertEquals(3, calls.totalAmount());
+
+    final Timer wait =
+        meterRegistry
+            .get("caab.upstream.wait")
+            .tags("uri", "/application/summary/{id}", "method", "GET")
+            .timer();
+    assertEquals(50, wait.totalTime(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void shouldRecordUnmappedRequestAsUnknown() throws Exception {
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/favicon.ico"),
+        new MockHttpServletResponse(),
+        (req, res) -> {});
+
+    assertEquals(
+        0,
+        meterRegistry
+            .get("caab.upstream.calls")
+            .tags("uri", "UNKNOWN", "method", "GET")
+            .summary()
+            .totalAmount());
+  }
+}
@@ -4,6 +4,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
@@ -26,6 +27,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.context.WebApplicationContext;
 import reactor.core.publisher.Mono;
 import uk.gov.laa.ccms.caab.service.NotificationService;
+import uk.gov.laa.ccms.caab.service.UserService;
+import uk.gov.laa.ccms.data.model.BaseProvider;
 import uk.gov.laa.ccms.data.model.NotificationSummary;
 import uk.gov.laa.ccms.data.model.UserDetail;
 
@@ -35,6 +38,8 @@ import uk.gov.laa.ccms.data.model.UserDetail;
 public class HomeControllerTest {
   @Mock private NotificationService notificationService;
 
+  @Mock private UserService userService;
+
   @InjectMocks private HomeController homeController;
 
   private MockMvc mockMvc;
@@ -96,6 +101,8 @@ public class HomeControllerTest {
             .standardActions(standardActions)
             .overdueActions(overdueActions);
 
+    when(userService.refreshUserByLoginId(userDetails.getLoginId()))
+        .thenReturn(Mono.just(userDetails));
     // Mock the SOA Gateway service to return the notification summary
     when(notificationService.getNotificationsSummary(userDetails.getUserId()))
         .thenReturn(Mono.just(notificationSummary));
@@ -114,6 +121,8 @@ public class HomeControllerTest {
   @Test
   public void testHomeHandlesNullNotifications() throws Exception {
 
+    when(userService.refreshUserByLoginId(userDetails.getLoginId()))
+        .thenReturn(Mono.just(userDetails));
     // Mock the SOA Gateway service to return the notification summary
     when(notificationService.getNotificationsSummary(userDetails.getUserId()))
         .thenReturn(Mono.empty());
@@ -128,4 +137,28 @@ public class HomeControllerTest {
         .andExpect(model().attributeDoesNotExist("actionsMsg"))
         .andExpect(model().attributeDoesNotExist("notificationsMsg"));
   }
+
+  @Test
+  public void testHomeRefreshesUserDetails() throws Exception {
+    // The provider can be changed outside this service, so the home page shows the user as
+    // retrieved now rather than as held in the session.
+    final UserDetail refreshedUser =
+        new UserDetail()
+            .userId(userDetails.getUserId())
+            .userType("testUserType")
+            .loginId("testLoginId")
+            .provider(new BaseProvider().id(2).name("Switched Provider"))
+            .functions(List.of("NOT"));
+
+    when(userService.refreshUserByLoginId(userDetails.getLoginId()))
+        .thenReturn(Mono.just(refreshedUser));
+    when(notificationService.getNotificationsSummary(userDetails.getUserId()))
+        .thenReturn(Mono.empty());
+
+    this.mockMvc
+        .perform(get("/").flashAttr("user", userDetails))
+        .andExpect(status().isOk())
+        .andExpect(model().attribute("user", refreshedUser))
+        .andExpect(request().sessionAttribute("user", refreshedUser));
+  }
 }
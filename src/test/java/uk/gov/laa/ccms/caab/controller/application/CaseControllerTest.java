@@ -43,6 +43,8 @@ import uk.gov.laa.ccms.caab.advice.ActiveCaseModelAdvice;
 import uk.gov.laa.ccms.caab.advice.GlobalExceptionHandler;
 import uk.gov.laa.ccms.caab.bean.ActiveCase;
 import uk.gov.laa.ccms.caab.bean.costs.AllocateCostsFormData;
+import uk.gov.laa.ccms.caab.client.ApiCallRejectedException;
+import uk.gov.laa.ccms.caab.client.CaabApiClientErrorHandler;
 import uk.gov.laa.ccms.caab.client.CaabApiClientException;
 import uk.gov.laa.ccms.caab.constants.FunctionConstants;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
@@ -602,6 +604,50 @@ class CaseControllerTest {
               });
     }
 
+    @Test
+    @DisplayName("Case overview fails when the call for the TDS amendment is rejected")
+    public void caseOverviewFailsWhenAmendmentCallRejected() {
+      final String selectedCaseRef = "2";
+
+      ApplicationDetail applicationDetail =
+          getEbsCase(
+              selectedCaseRef,
+              1,
+              "providerReference",
+              "firstname",
+              "surname",
+              "clientReference",
+              false,
+              null,
+              null);
+
+      BaseApplicationDetail tdsApplication =
+          new BaseApplicationDetail().id(3).caseReferenceNumber(selectedCaseRef);
+
+      when(applicationService.getApplication(any()))
+          .thenReturn(
+              new CaabApiClientErrorHandler()
+                  .handleApiRetrieveError(
+                      new ApiCallRejectedException("Circuit breaker for caab-api is open"),
+                      "Application",
+                      "id",
+                      "3"));
+      when(applicationService.isAmendment(any(), any())).thenReturn(Boolean.TRUE);
+
+      assertThat(
+              mockMvc.perform(
+                  get("/case/overview", selectedCaseRef)
+                      .sessionAttr(USER_DETAILS, user)
+                      .sessionAttr(CASE, applicationDetail)
+                      .sessionAttr(APPLICATION_SUMMARY, tdsApplication)
+                      .sessionAttr(SEARCH_URL, returnUrl)))
+          .failure()
+          .cause()
+          .isInstanceOfSatisfying(
+              CaabApiClientException.class,
+              e -> assertThat(e.hasHttpStatus(HttpStatus.SERVICE_UNAVAILABLE)).isTrue());
+    }
+
     @Test
     @DisplayName("Case overview clears stale TDS amendment when not found")
     public void caseOverviewClearsStaleTdsAmendment() {
@@ -13,11 +13,11 @@ import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_ID;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_SUMMARY;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_SEARCH_CRITERIA;
-import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_SEARCH_RESULTS;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.USER_DETAILS;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,11 +27,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.web.servlet.assertj.MockMvcTester;
 import org.springframework.validation.Errors;
 import reactor.core.publisher.Mono;
 import uk.gov.laa.ccms.caab.bean.CaseSearchCriteria;
 import uk.gov.laa.ccms.caab.bean.validators.application.CaseSearchCriteriaValidator;
+import uk.gov.laa.ccms.caab.cache.SearchResultStore;
+import uk.gov.laa.ccms.caab.client.ApiCallRejectedException;
+import uk.gov.laa.ccms.caab.client.EbsApiClientErrorHandler;
 import uk.gov.laa.ccms.caab.constants.SearchConstants;
 import uk.gov.laa.ccms.caab.controller.application.ApplicationTestUtils;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
@@ -67,6 +73,8 @@ public class ApplicationSearchControllerTest {
 
   @Mock private SearchConstants searchConstants;
 
+  @Mock private SearchResultStore searchResultStore;
+
   @InjectMocks private ApplicationSearchController applicationSearchController;
 
   private MockMvcTester mockMvc;
@@ -194,15 +202,20 @@ public class ApplicationSearchControllerTest {
     public void postApplicationSearchWithResults() throws Exception {
       List<BaseApplicationDetail> caseSearchResults = List.of(new BaseApplicationDetail());
 
+      CaseSearchCriteria caseSearchCriteria = new CaseSearchCriteria();
+
       when(applicationService.getCases(any(), any())).thenReturn(caseSearchResults);
 
       assertThat(
               mockMvc.perform(
                   post("/application/search")
                       .sessionAttr(USER_DETAILS, user)
-                      .sessionAttr(CASE_SEARCH_CRITERIA, new CaseSearchCriteria())))
+                      .sessionAttr(CASE_SEARCH_CRITERIA, caseSearchCriteria)))
           .hasStatus3xxRedirection()
           .hasRedirectedUrl("/application/search/results");
+
+      verify(searchResultStore)
+          .put(user.getLoginId(), "caseSearch", caseSearchCriteria, caseSearchResults);
     }
 
     @Test
@@ -260,10 +273,15 @@ public class ApplicationSearchControllerTest {
     @Test
     @DisplayName("Application search results are paginated")
     public void applicationSearchResultsPaginatesResults() throws Exception {
-      List<BaseApplicationDetail> caseSearchResults =
-          List.of(new BaseApplicationDetail(), new BaseApplicationDetail());
+      CaseSearchCriteria caseSearchCriteria = new CaseSearchCriteria();
+      Page<BaseApplicationDetail> caseSearchResults =
+          new PageImpl<>(List.of(new BaseApplicationDetail()), Pageable.ofSize(1), 2);
 
-      when(applicationMapper.toApplicationDetails(any())).thenReturn(new ApplicationDetails());
+      when(searchResultStore.getPage(
+              user.getLoginId(), "caseSearch", caseSearchCriteria, Pageable.ofSize(1).withPage(0)))
+          .thenReturn(Optional.of(caseSearchResults));
+      when(applicationMapper.toApplicationDetails(caseSearchResults))
+          .thenReturn(new ApplicationDetails());
 
       assertThat(
               mockMvc.perform(
@@ -271,12 +289,28 @@ public class ApplicationSearchControllerTest {
                       .param("page", "0")
                       .param("size", "1")
                       .sessionAttr(USER_DETAILS, user)
-                      .sessionAttr(CASE_SEARCH_RESULTS, caseSearchResults)))
+                      .sessionAttr(CASE_SEARCH_CRITERIA, caseSearchCriteria)))
           .hasStatusOk()
           .hasViewName("application/application-search-results")
           .model()
           .containsKey(CopyCaseSearchController.CASE_RESULTS_PAGE);
     }
+
+    @Test
+    @DisplayName("Application search results redirect to the search when no longer held")
+    public void applicationSearchResultsRedirectsWhenResultsNotHeld() throws Exception {
+      CaseSearchCriteria caseSearchCriteria = new CaseSearchCriteria();
+
+      when(searchResultStore.getPage(any(), any(), any(), any())).thenReturn(Optional.empty());
+
+      assertThat(
+              mockMvc.perform(
+                  get("/application/search/results")
+                      .sessionAttr(USER_DETAILS, user)
+                      .sessionAttr(CASE_SEARCH_CRITERIA, caseSearchCriteria)))
+          .hasStatus3xxRedirection()
+          .hasRedirectedUrl("/application/search");
+    }
   }
 
   @Nested
@@ -390,5 +424,30 @@ public class ApplicationSearchControllerTest {
           .sessionAttributes()
           .hasEntrySatisfying(CASE, value -> assertThat(value).isEqualTo(applicationDetail));
     }
+
+    @Test
+    @DisplayName("Viewing a case fails when the call to the EBS API is rejected as unavailable")
+    public void selectApplicationEbsApiCallRejected() throws Exception {
+      final String selectedCaseRef = "2";
+
+      when(applicationService.getCase(any(), any(Long.class), any()))
+          .thenAnswer(
+              invocation ->
+                  new EbsApiClientErrorHandler()
+                      .handleApiRetrieveError(
+                          new ApiCallRejectedException("Circuit breaker for ebs-api is open"),
+                          "Case detail",
+                          "case reference",
+                          selectedCaseRef)
+                      .block());
+
+      assertThat(
+              mockMvc.perform(
+                  get("/application/{case-reference-number}/view", selectedCaseRef)
+                      .sessionAttr(USER_DETAILS, user)))
+          .failure()
+          .hasCauseInstanceOf(CaabApplicationException.class)
+          .hasRootCauseMessage("Failed to retrieve EBS case " + selectedCaseRef);
+    }
   }
 }
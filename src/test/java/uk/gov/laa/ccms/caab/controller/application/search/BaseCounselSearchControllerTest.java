@@ -2,6 +2,8 @@ package uk.gov.laa.ccms.caab.controller.application.search;
 
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,11 +15,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.web.servlet.MockMvc;
 import uk.gov.laa.ccms.caab.advice.ActiveCaseModelAdvice;
 import uk.gov.laa.ccms.caab.bean.validators.application.CounselSearchValidator;
+import uk.gov.laa.ccms.caab.cache.InMemorySearchResultStore;
+import uk.gov.laa.ccms.caab.cache.SearchResultStore;
+import uk.gov.laa.ccms.caab.cache.SearchResultStoreProperties;
 import uk.gov.laa.ccms.caab.mapper.CounselLookupMapper;
 import uk.gov.laa.ccms.caab.mapper.CounselLookupMapperImpl;
 import uk.gov.laa.ccms.caab.service.CounselService;
 import uk.gov.laa.ccms.data.model.CounselLookupDetail;
 import uk.gov.laa.ccms.data.model.CounselLookupValueDetail;
+import uk.gov.laa.ccms.data.model.UserDetail;
 
 @ExtendWith(MockitoExtension.class)
 public class BaseCounselSearchControllerTest {
@@ -28,12 +34,18 @@ public class BaseCounselSearchControllerTest {
 
   protected CounselLookupMapper mapper = new CounselLookupMapperImpl();
 
+  protected SearchResultStore searchResultStore =
+      new InMemorySearchResultStore(
+          new SearchResultStoreProperties(1000, Duration.ofMinutes(5)), new SimpleMeterRegistry());
+
+  protected UserDetail user = new UserDetail().userId(1).loginId("testLoginId");
+
   protected MockMvc mockMvc;
 
   @BeforeEach
   public void setup() {
     mockMvc =
-        standaloneSetup(new CounselSearchController(validator, service, mapper))
+        standaloneSetup(new CounselSearchController(validator, service, mapper, searchResultStore))
             .setControllerAdvice(new ActiveCaseModelAdvice())
             .build();
   }
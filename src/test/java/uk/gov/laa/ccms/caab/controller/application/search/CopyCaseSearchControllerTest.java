@@ -20,24 +20,28 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_FORM_DATA;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_SEARCH_CRITERIA;
-import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_SEARCH_RESULTS;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.USER_DETAILS;
 
 import jakarta.servlet.ServletException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.validation.Errors;
 import reactor.core.publisher.Mono;
 import uk.gov.laa.ccms.caab.bean.ApplicationFormData;
 import uk.gov.laa.ccms.caab.bean.CaseSearchCriteria;
 import uk.gov.laa.ccms.caab.bean.validators.application.CaseSearchCriteriaValidator;
+import uk.gov.laa.ccms.caab.cache.SearchResultStore;
 import uk.gov.laa.ccms.caab.constants.SearchConstants;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
 import uk.gov.laa.ccms.caab.exception.TooManyResultsException;
@@ -65,6 +69,8 @@ public class CopyCaseSearchControllerTest {
 
   @Mock private SearchConstants searchConstants;
 
+  @Mock private SearchResultStore searchResultStore;
+
   @InjectMocks private CopyCaseSearchController copyCaseSearchController;
 
   private MockMvc mockMvc;
@@ -204,6 +210,7 @@ public class CopyCaseSearchControllerTest {
   @Test
   public void testPostCopyCaseSearch_WithResults() throws Exception {
     List<BaseApplicationDetail> caseSearchResults = List.of(new BaseApplicationDetail());
+    CaseSearchCriteria caseSearchCriteria = new CaseSearchCriteria();
 
     when(applicationService.getCases(any(), any())).thenReturn(caseSearchResults);
 
@@ -211,17 +218,28 @@ public class CopyCaseSearchControllerTest {
         .perform(
             post("/application/copy-case/search")
                 .sessionAttr(USER_DETAILS, user)
-                .sessionAttr(CASE_SEARCH_CRITERIA, new CaseSearchCriteria()))
+                .sessionAttr(CASE_SEARCH_CRITERIA, caseSearchCriteria))
         .andExpect(status().is3xxRedirection())
         .andExpect(redirectedUrl("/application/copy-case/results"));
+
+    verify(searchResultStore)
+        .put(user.getLoginId(), "copyCaseSearch", caseSearchCriteria, caseSearchResults);
   }
 
   @Test
   public void testGetCopyCaseSearchResults_PaginatesResults() throws Exception {
-    List<BaseApplicationDetail> caseSearchResults =
-        List.of(new BaseApplicationDetail(), new BaseApplicationDetail());
-
-    when(applicationMapper.toApplicationDetails(any())).thenReturn(new ApplicationDetails());
+    CaseSearchCriteria caseSearchCriteria = new CaseSearchCriteria();
+    Page<BaseApplicationDetail> caseSearchResults =
+        new PageImpl<>(List.of(new BaseApplicationDetail()), Pageable.ofSize(1), 2);
+
+    when(searchResultStore.getPage(
+            user.getLoginId(),
+            "copyCaseSearch",
+            caseSearchCriteria,
+            Pageable.ofSize(1).withPage(0)))
+        .thenReturn(Optional.of(caseSearchResults));
+    when(applicationMapper.toApplicationDetails(caseSearchResults))
+        .thenReturn(new ApplicationDetails());
 
     this.mockMvc
         .perform(
@@ -229,13 +247,26 @@ public class CopyCaseSearchControllerTest {
                 .param("page", "0")
                 .param("size", "1")
                 .sessionAttr(USER_DETAILS, user)
-                .sessionAttr(CASE_SEARCH_RESULTS, caseSearchResults))
+                .sessionAttr(CASE_SEARCH_CRITERIA, caseSearchCriteria))
         .andDo(print())
         .andExpect(status().isOk())
         .andExpect(view().name("application/application-copy-case-search-results"))
         .andExpect(model().attributeExists(CopyCaseSearchController.CASE_RESULTS_PAGE));
   }
 
+  @Test
+  public void testGetCopyCaseSearchResults_RedirectsWhenResultsNotHeld() throws Exception {
+    when(searchResultStore.getPage(any(), any(), any(), any())).thenReturn(Optional.empty());
+
+    this.mockMvc
+        .perform(
+            get("/application/copy-case/results")
+                .sessionAttr(USER_DETAILS, user)
+                .sessionAttr(CASE_SEARCH_CRITERIA, new CaseSearchCriteria()))
+        .andExpect(status().is3xxRedirection())
+        .andExpect(redirectedUrl("/application/copy-case/search"));
+  }
+
   @Test
   public void testSelectCopyCaseReferenceNumber_InvalidCaseRef() {
     Exception exception =
@@ -244,7 +275,8 @@ public class CopyCaseSearchControllerTest {
             () ->
                 this.mockMvc.perform(
                     get("/application/copy-case/{caseRef}/confirm", "123")
-                        .sessionAttr(CASE_SEARCH_RESULTS, new ArrayList<BaseApplicationDetail>())
+                        .sessionAttr(USER_DETAILS, user)
+                        .sessionAttr(CASE_SEARCH_CRITERIA, new CaseSearchCriteria())
                         .sessionAttr(APPLICATION_FORM_DATA, new ApplicationFormData())));
 
     assertInstanceOf(CaabApplicationException.class, exception.getCause());
@@ -260,11 +292,17 @@ public class CopyCaseSearchControllerTest {
     List<BaseApplicationDetail> caseSearchResults =
         List.of(new BaseApplicationDetail().caseReferenceNumber("123"));
 
+    CaseSearchCriteria caseSearchCriteria = new CaseSearchCriteria();
+
+    when(searchResultStore.get(user.getLoginId(), "copyCaseSearch", caseSearchCriteria))
+        .thenReturn(Optional.of(caseSearchResults));
+
     ApplicationFormData applicationFormData = new ApplicationFormData();
     this.mockMvc
         .perform(
             get("/application/copy-case/{caseRef}/confirm", "123")
-                .sessionAttr(CASE_SEARCH_RESULTS, caseSearchResults)
+                .sessionAttr(USER_DETAILS, user)
+                .sessionAttr(CASE_SEARCH_CRITERIA, caseSearchCriteria)
                 .sessionAttr(APPLICATION_FORM_DATA, applicationFormData))
         .andExpect(status().is3xxRedirection())
         .andExpect(redirectedUrl("/application/client/search"));
@@ -17,16 +17,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static uk.gov.laa.ccms.caab.constants.CounselLookupConstants.TOO_MANY_RESULTS;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.COST_ALLOCATION_FORM_DATA;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.COUNSEL_SEARCH_CRITERIA;
-import static uk.gov.laa.ccms.caab.constants.SessionConstants.COUNSEL_SEARCH_RESULTS;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SELECTED_COUNSEL;
+import static uk.gov.laa.ccms.caab.constants.SessionConstants.USER_DETAILS;
 
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindingResult;
 import uk.gov.laa.ccms.caab.bean.CounselSearchCriteria;
 import uk.gov.laa.ccms.caab.bean.costs.AllocateCostsFormData;
+import uk.gov.laa.ccms.caab.client.ApiCallRejectedException;
+import uk.gov.laa.ccms.caab.client.EbsApiClientErrorHandler;
 import uk.gov.laa.ccms.caab.client.EbsApiClientException;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
 import uk.gov.laa.ccms.caab.model.CostEntryDetail;
@@ -48,11 +51,16 @@ class CounselSearchControllerTest extends BaseCounselSearchControllerTest {
                 .category("TestCategory")
                 .county(null));
 
+    CounselSearchCriteria criteria = new CounselSearchCriteria();
+    criteria.setName("TEST COUNSEL XYZ");
+    searchResultStore.put(user.getLoginId(), "counselSearch", criteria, valueDetails);
+
     mockMvc
         .perform(
             get("/counsel/select")
                 .param("index", "0")
-                .sessionAttr(COUNSEL_SEARCH_RESULTS, valueDetails))
+                .sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria)
+                .sessionAttr(USER_DETAILS, user))
         .andExpect(status().is3xxRedirection())
         .andExpect(redirectedUrl("/application/counsel/confirm"))
         .andExpect(
@@ -87,12 +95,17 @@ class CounselSearchControllerTest extends BaseCounselSearchControllerTest {
         .perform(
             post("/counsel/search")
                 .sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria)
+                .sessionAttr(USER_DETAILS, user)
                 .param("page", "0")
                 .param("size", "10")
                 .param("sort", "name,asc"))
         .andExpect(status().is3xxRedirection()) // Expect redirection
         .andExpect(status().isFound()) // Status 302
         .andExpect(redirectedUrl("/counsel/results"));
+
+    assertEquals(
+        valueDetails,
+        searchResultStore.get(user.getLoginId(), "counselSearch", criteria).orElseThrow());
   }
 
   @Test
@@ -110,6 +123,7 @@ class CounselSearchControllerTest extends BaseCounselSearchControllerTest {
         .perform(
             post("/counsel/search")
                 .sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria)
+                .sessionAttr(USER_DETAILS, user)
                 .param("page", "0")
                 .param("size", "10")
                 .param("sort", "name,asc"))
@@ -132,6 +146,7 @@ class CounselSearchControllerTest extends BaseCounselSearchControllerTest {
         .perform(
             post("/counsel/search")
                 .sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria)
+                .sessionAttr(USER_DETAILS, user)
                 .param("page", "0")
                 .param("size", "10")
                 .param("sort", "name,asc"))
@@ -149,6 +164,7 @@ class CounselSearchControllerTest extends BaseCounselSearchControllerTest {
         .perform(
             post("/counsel/search")
                 .sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria)
+                .sessionAttr(USER_DETAILS, user)
                 .param("page", "0")
                 .param("size", "10")
                 .param("sort", "name,asc"))
@@ -167,7 +183,10 @@ class CounselSearchControllerTest extends BaseCounselSearchControllerTest {
     criteria.setName("Jo");
 
     mockMvc
-        .perform(post("/counsel/search").sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria))
+        .perform(
+            post("/counsel/search")
+                .sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria)
+                .sessionAttr(USER_DETAILS, user))
         .andExpect(status().isOk())
         .andExpect(view().name("application/counsel-search"))
         .andExpect(
@@ -182,7 +201,10 @@ class CounselSearchControllerTest extends BaseCounselSearchControllerTest {
     criteria.setCompany("AC");
 
     mockMvc
-        .perform(post("/counsel/search").sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria))
+        .perform(
+            post("/counsel/search")
+                .sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria)
+                .sessionAttr(USER_DETAILS, user))
         .andExpect(status().isOk())
         .andExpect(view().name("application/counsel-search"))
         .andExpect(
@@ -468,10 +490,15 @@ class CounselSearchControllerTest extends BaseCounselSearchControllerTest {
             new CounselLookupValueDetail().name("COUNSEL 1"),
             new CounselLookupValueDetail().name("COUNSEL 2"));
 
+    CounselSearchCriteria criteria = new CounselSearchCriteria();
+    criteria.setName("COUNSEL");
+    searchResultStore.put(user.getLoginId(), "counselSearch", criteria, valueDetails);
+
     mockMvc
         .perform(
             get("/counsel/results")
-                .sessionAttr(COUNSEL_SEARCH_RESULTS, valueDetails)
+                .sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria)
+                .sessionAttr(USER_DETAILS, user)
                 .param("page", "0")
                 .param("size", "10"))
         .andExpect(status().isOk())
@@ -480,6 +507,22 @@ class CounselSearchControllerTest extends BaseCounselSearchControllerTest {
         .andExpect(model().attributeExists("counselResultsPage"));
   }
 
+  @Test
+  @DisplayName(
+      "WHEN -> counsel results are no longer held, THEN -> redirect to GET:/counsel/search.")
+  void testCounselLookupGetRedirectsWhenResultsNotHeld() throws Exception {
+    CounselSearchCriteria criteria = new CounselSearchCriteria();
+    criteria.setName("COUNSEL");
+
+    mockMvc
+        .perform(
+            get("/counsel/results")
+                .sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria)
+                .sessionAttr(USER_DETAILS, user))
+        .andExpect(status().is3xxRedirection())
+        .andExpect(redirectedUrl("/counsel/search"));
+  }
+
   @Test
   @DisplayName("WHEN -> API call fails with generic error, THEN -> throw CaabApplicationException.")
   void shouldThrowExceptionWhenApiError() {
@@ -497,6 +540,7 @@ class CounselSearchControllerTest extends BaseCounselSearchControllerTest {
                 mockMvc.perform(
                     post("/counsel/search")
                         .sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria)
+                        .sessionAttr(USER_DETAILS, user)
                         .param("page", "0")
                         .param("size", "10")
                         .param("sort", "name,asc")));
@@ -504,4 +548,38 @@ class CounselSearchControllerTest extends BaseCounselSearchControllerTest {
     assertTrue(exception.getCause() instanceof CaabApplicationException);
     assertEquals("Error performing counsel search.", exception.getCause().getMessage());
   }
+
+  @Test
+  @DisplayName(
+      "WHEN -> API call is rejected as unavailable, THEN -> throw CaabApplicationException.")
+  void shouldThrowExceptionWhenApiCallRejected() {
+
+    CounselSearchCriteria criteria = new CounselSearchCriteria();
+    criteria.setName("ASHU");
+
+    when(service.getCounselSearch(any(CounselSearchCriteria.class)))
+        .thenAnswer(
+            invocation ->
+                new EbsApiClientErrorHandler()
+                    .handleApiRetrieveError(
+                        new ApiCallRejectedException("Too many calls in flight to ebs-api"),
+                        "Counsel details",
+                        null)
+                    .block());
+
+    Exception exception =
+        assertThrows(
+            Exception.class,
+            () ->
+                mockMvc.perform(
+                    post("/counsel/search")
+                        .sessionAttr(COUNSEL_SEARCH_CRITERIA, criteria)
+                        .sessionAttr(USER_DETAILS, user)));
+
+    assertTrue(exception.getCause() instanceof CaabApplicationException);
+    assertEquals("Error performing counsel search.", exception.getCause().getMessage());
+    assertTrue(
+        ((EbsApiClientException) exception.getCause().getCause())
+            .hasHttpStatus(HttpStatus.SERVICE_UNAVAILABLE));
+  }
 }
@@ -24,7 +24,6 @@ import static uk.gov.laa.ccms.caab.constants.SessionConstants.ACTIVE_CASE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_ID;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_SEARCH_CRITERIA;
-import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_SEARCH_RESULTS;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CORRESPONDENCE_ADDRESS_FLOW;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.USER_DETAILS;
 import static uk.gov.laa.ccms.caab.constants.SubmissionConstants.SUBMISSION_SUBMIT_CASE;
@@ -36,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -48,6 +48,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.web.WebAppConfiguration;
@@ -67,6 +70,7 @@ import uk.gov.laa.ccms.caab.bean.validators.application.LinkedCaseValidator;
 import uk.gov.laa.ccms.caab.bean.validators.client.AddressSearchValidator;
 import uk.gov.laa.ccms.caab.bean.validators.client.CorrespondenceAddressValidator;
 import uk.gov.laa.ccms.caab.bean.validators.client.FindAddressValidator;
+import uk.gov.laa.ccms.caab.cache.SearchResultStore;
 import uk.gov.laa.ccms.caab.config.UserRole;
 import uk.gov.laa.ccms.caab.exception.TooManyResultsException;
 import uk.gov.laa.ccms.caab.mapper.EbsApplicationMapper;
@@ -116,6 +120,8 @@ class EditGeneralDetailsSectionControllerTest {
 
   @Mock private ResultDisplayMapper resultDisplayMapper;
 
+  @Mock private SearchResultStore searchResultStore;
+
   @InjectMocks private EditGeneralDetailsSectionController editGeneralDetailsSectionController;
 
   private MockMvc mockMvc;
@@ -978,6 +984,32 @@ class EditGeneralDetailsSectionControllerTest {
           .andExpect(
               view().name("application/sections/application-linked-case-search-too-many-results"));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application", "amendments"})
+    @DisplayName("Should store search results and redirect")
+    void shouldStoreSearchResultsAndRedirect(String caseContext) throws Exception {
+      final CaseSearchCriteria caseSearchCriteria = new CaseSearchCriteria();
+      final UserDetail user = buildUserDetail();
+      final List<BaseApplicationDetail> caseSearchResults =
+          new ArrayList<>(List.of(new BaseApplicationDetail().caseReferenceNumber("123")));
+      when(applicationService.getCases(any(), any())).thenReturn(caseSearchResults);
+
+      mockMvc
+          .perform(
+              post("/%s/sections/linked-cases/search".formatted(caseContext))
+                  .sessionAttr(ACTIVE_CASE, ActiveCase.builder().caseReferenceNumber("456").build())
+                  .sessionAttr(USER_DETAILS, user)
+                  .sessionAttr(
+                      "linkedCases", new ResultsDisplay<LinkedCaseResultRowDisplay>(List.of()))
+                  .flashAttr(CASE_SEARCH_CRITERIA, caseSearchCriteria))
+          .andExpect(status().is3xxRedirection())
+          .andExpect(
+              redirectedUrl("/%s/sections/linked-cases/search/results".formatted(caseContext)));
+
+      verify(searchResultStore)
+          .put(user.getLoginId(), "linkedCaseSearch", caseSearchCriteria, caseSearchResults);
+    }
   }
 
   @Nested
@@ -989,18 +1021,31 @@ class EditGeneralDetailsSectionControllerTest {
     void shouldReturnExpectedResult(String caseContext) throws Exception {
       final int page = 0;
       final int size = 10;
-      final List<BaseApplicationDetail> caseSearchResults =
-          Arrays.asList(new BaseApplicationDetail(), new BaseApplicationDetail());
+      final UserDetail user = buildUserDetail();
+      final CaseSearchCriteria caseSearchCriteria = new CaseSearchCriteria();
+      final Page<BaseApplicationDetail> caseSearchResults =
+          new PageImpl<>(
+              Arrays.asList(new BaseApplicationDetail(), new BaseApplicationDetail()),
+              Pageable.ofSize(size),
+              2);
       final ApplicationDetails linkedCaseSearchResults = new ApplicationDetails();
 
-      when(applicationMapper.toApplicationDetails(any())).thenReturn(linkedCaseSearchResults);
+      when(searchResultStore.getPage(
+              user.getLoginId(),
+              "linkedCaseSearch",
+              caseSearchCriteria,
+              Pageable.ofSize(size).withPage(page)))
+          .thenReturn(Optional.of(caseSearchResults));
+      when(applicationMapper.toApplicationDetails(caseSearchResults))
+          .thenReturn(linkedCaseSearchResults);
 
       mockMvc
           .perform(
               get("/%s/sections/linked-cases/search/results".formatted(caseContext))
                   .param("page", String.valueOf(page))
                   .param("size", String.valueOf(size))
-                  .flashAttr(CASE_SEARCH_RESULTS, caseSearchResults))
+                  .sessionAttr(USER_DETAILS, user)
+                  .sessionAttr(CASE_SEARCH_CRITERIA, caseSearchCriteria))
           .andDo(print())
           .andExpect(status().isOk())
           .andExpect(view().name("application/sections/application-linked-case-search-results"))
@@ -1008,6 +1053,21 @@ class EditGeneralDetailsSectionControllerTest {
 
       verify(applicationMapper, times(1)).toApplicationDetails(any());
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application", "amendments"})
+    @DisplayName("Should redirect to the search when results are no longer held")
+    void shouldRedirectWhenResultsNotHeld(String caseContext) throws Exception {
+      when(searchResultStore.getPage(any(), any(), any(), any())).thenReturn(Optional.empty());
+
+      mockMvc
+          .perform(
+              get("/%s/sections/linked-cases/search/results".formatted(caseContext))
+                  .sessionAttr(USER_DETAILS, buildUserDetail())
+                  .sessionAttr(CASE_SEARCH_CRITERIA, new CaseSearchCriteria()))
+          .andExpect(status().is3xxRedirection())
+          .andExpect(redirectedUrl("/%s/sections/linked-cases/search".formatted(caseContext)));
+    }
   }
 
   @Nested
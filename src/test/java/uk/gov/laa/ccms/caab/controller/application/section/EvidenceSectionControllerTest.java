@@ -9,12 +9,14 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 import static uk.gov.laa.ccms.caab.constants.CcmsModule.AMENDMENT;
@@ -27,6 +29,7 @@ import static uk.gov.laa.ccms.caab.constants.SessionConstants.EVIDENCE_UPLOAD_FO
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.USER_DETAILS;
 import static uk.gov.laa.ccms.caab.util.ConversionServiceUtils.getConversionService;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -39,6 +42,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -46,6 +50,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.validation.Errors;
 import reactor.core.publisher.Mono;
@@ -56,6 +61,7 @@ import uk.gov.laa.ccms.caab.bean.evidence.EvidenceUploadFormData;
 import uk.gov.laa.ccms.caab.bean.validators.evidence.EvidenceUploadValidator;
 import uk.gov.laa.ccms.caab.constants.CcmsModule;
 import uk.gov.laa.ccms.caab.exception.AvScanException;
+import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
 import uk.gov.laa.ccms.caab.mapper.EvidenceMapper;
 import uk.gov.laa.ccms.caab.model.BaseEvidenceDocumentDetail;
 import uk.gov.laa.ccms.caab.model.EvidenceDocumentDetail;
@@ -63,6 +69,7 @@ import uk.gov.laa.ccms.caab.model.EvidenceDocumentDetails;
 import uk.gov.laa.ccms.caab.service.AvScanService;
 import uk.gov.laa.ccms.caab.service.EvidenceService;
 import uk.gov.laa.ccms.caab.service.LookupService;
+import uk.gov.laa.ccms.caab.util.Base64JsonFieldReader;
 import uk.gov.laa.ccms.data.model.CommonLookupDetail;
 import uk.gov.laa.ccms.data.model.CommonLookupValueDetail;
 import uk.gov.laa.ccms.data.model.UserDetail;
@@ -265,7 +272,8 @@ class EvidenceSectionControllerTest {
         .andExpect(view().name("error"));
 
     verify(evidenceService, never())
-        .addDocument(any(EvidenceDocumentDetail.class), any(String.class));
+        .addDocument(
+            any(EvidenceDocumentDetail.class), any(InputStreamSource.class), any(String.class));
   }
 
   @ParameterizedTest
@@ -290,10 +298,11 @@ class EvidenceSectionControllerTest {
             user.getUserType()))
         .thenReturn(Mono.just(registeredDocumentId));
 
-    when(evidenceMapper.toEvidenceDocumentDetail(any(EvidenceUploadFormData.class)))
+    when(evidenceMapper.toEvidenceDocumentMetadata(any(EvidenceUploadFormData.class)))
         .thenReturn(evidenceDocumentDetail);
 
-    when(evidenceService.addDocument(evidenceDocumentDetail, user.getLoginId()))
+    when(evidenceService.addDocument(
+            eq(evidenceDocumentDetail), any(InputStreamSource.class), eq(user.getLoginId())))
         .thenReturn(Mono.just(tdsId));
 
     mockMvc
@@ -308,8 +317,9 @@ class EvidenceSectionControllerTest {
     // Update the formData now, for comparison purposes
     formData.setRegisteredDocumentId(registeredDocumentId);
 
-    verify(evidenceMapper).toEvidenceDocumentDetail(formData);
-    verify(evidenceService).addDocument(evidenceDocumentDetail, user.getLoginId());
+    verify(evidenceMapper).toEvidenceDocumentMetadata(formData);
+    verify(evidenceService)
+        .addDocument(evidenceDocumentDetail, formData.getFile(), user.getLoginId());
   }
 
   @ParameterizedTest
@@ -339,11 +349,11 @@ class EvidenceSectionControllerTest {
   void viewEvidenceDocumentStreamsContentInline(String caseContext) throws Exception {
     final Integer tdsId = 123;
     final ActiveCase activeCase = buildActiveCase();
-    final EvidenceDocumentDetail document =
-        new EvidenceDocumentDetail()
-            .fileName("originalName.pdf")
-            .fileExtension("pdf")
-            .fileData(
+    final String documentJson =
+        """
+        {"id": 123, "fileName": "originalName.pdf", "fileData": "%s", "fileExtension": "pdf"}
+        """
+            .formatted(
                 Base64.getEncoder()
                     .encodeToString("the file data".getBytes(StandardCharsets.UTF_8)));
 
@@ -353,8 +363,17 @@ class EvidenceSectionControllerTest {
         .thenReturn(
             Mono.just(
                 new EvidenceDocumentDetails()
-                    .addContentItem(new BaseEvidenceDocumentDetail().id(tdsId))));
-    when(evidenceService.getEvidenceDocument(tdsId)).thenReturn(Mono.just(document));
+                    .addContentItem(
+                        new BaseEvidenceDocumentDetail()
+                            .id(tdsId)
+                            .fileName("originalName.pdf")
+                            .fileExtension("pdf"))));
+    when(evidenceService.openEvidenceDocumentContent(tdsId))
+        .thenReturn(
+            Base64JsonFieldReader.open(
+                    new ByteArrayInputStream(documentJson.getBytes(StandardCharsets.UTF_8)),
+                    "fileData")
+                .orElseThrow());
 
     final String expectedDisposition =
         ContentDisposition.inline()
@@ -362,16 +381,47 @@ class EvidenceSectionControllerTest {
             .build()
             .toString();
 
+    final MvcResult result =
+        mockMvc
+            .perform(
+                get("/%s/evidence/{evidence-document-id}/view".formatted(caseContext), tdsId)
+                    .sessionAttr(ACTIVE_CASE, activeCase))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
     mockMvc
-        .perform(
-            get("/%s/evidence/{evidence-document-id}/view".formatted(caseContext), tdsId)
-                .sessionAttr(ACTIVE_CASE, activeCase))
+        .perform(asyncDispatch(result))
         .andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_PDF))
         .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, expectedDisposition))
+        .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "none"))
         .andExpect(content().bytes("the file data".getBytes(StandardCharsets.UTF_8)));
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = {"application", "amendments"})
+  void viewEvidenceDocumentShowsErrorWhenContentCannotBeRetrieved(String caseContext)
+      throws Exception {
+    final Integer tdsId = 123;
+    final ActiveCase activeCase = buildActiveCase();
+
+    when(evidenceService.getEvidenceDocumentsForCase(
+            activeCase.getCaseReferenceNumber(), expectedModule(caseContext)))
+        .thenReturn(
+            Mono.just(
+                new EvidenceDocumentDetails()
+                    .addContentItem(
+                        new BaseEvidenceDocumentDetail().id(tdsId).fileName("originalName.pdf"))));
+    when(evidenceService.openEvidenceDocumentContent(tdsId))
+        .thenThrow(new CaabApplicationException("Failed to retrieve evidence document 123"));
+
+    mockMvc
+        .perform(
+            get("/%s/evidence/{evidence-document-id}/view".formatted(caseContext), tdsId)
+                .sessionAttr(ACTIVE_CASE, activeCase))
+        .andExpect(view().name("error"));
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"application", "amendments"})
   void viewEvidenceDocumentRejectsDocumentNotInActiveCase(String caseContext) throws Exception {
@@ -393,7 +443,7 @@ class EvidenceSectionControllerTest {
                 .sessionAttr(ACTIVE_CASE, activeCase))
         .andExpect(view().name("error"));
 
-    verify(evidenceService, never()).getEvidenceDocument(any());
+    verify(evidenceService, never()).openEvidenceDocumentContent(any());
   }
 
   private String expectedRedirect(String caseContext) {
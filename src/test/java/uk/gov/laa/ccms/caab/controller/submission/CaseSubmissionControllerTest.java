@@ -1,6 +1,5 @@
 package uk.gov.laa.ccms.caab.controller.submission;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -24,7 +23,6 @@ import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_ID;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_SUMMARY;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE_REFERENCE_NUMBER;
-import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_POLL_COUNT;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_QUICK_EDIT_TYPE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_RESULT;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_TRANSACTION_ID;
@@ -33,7 +31,6 @@ import static uk.gov.laa.ccms.caab.constants.SubmissionConstants.SUBMISSION_SUBM
 import static uk.gov.laa.ccms.caab.util.ConversionServiceUtils.getConversionService;
 import static uk.gov.laa.ccms.caab.util.EbsModelUtils.buildUserDetail;
 
-import jakarta.servlet.http.HttpSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,17 +40,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
-import org.springframework.ui.Model;
-import reactor.core.publisher.Mono;
 import uk.gov.laa.ccms.caab.advice.ActiveCaseModelAdvice;
 import uk.gov.laa.ccms.caab.bean.ActiveCase;
 import uk.gov.laa.ccms.caab.constants.CaseContext;
 import uk.gov.laa.ccms.caab.constants.QuickEditTypeConstants;
-import uk.gov.laa.ccms.caab.constants.SubmissionConstants;
 import uk.gov.laa.ccms.caab.model.ApplicationDetail;
+import uk.gov.laa.ccms.caab.model.SubmissionProgress;
 import uk.gov.laa.ccms.caab.service.ApplicationService;
 import uk.gov.laa.ccms.caab.service.ClientService;
-import uk.gov.laa.ccms.data.model.TransactionStatus;
+import uk.gov.laa.ccms.caab.service.SubmissionTracker;
 import uk.gov.laa.ccms.data.model.UserDetail;
 
 @ExtendWith(MockitoExtension.class)
@@ -63,26 +58,22 @@ class CaseSubmissionControllerTest {
 
   @Mock private ApplicationService applicationService;
 
-  @Mock private SubmissionConstants submissionConstants;
+  @Mock private SubmissionTracker submissionTracker;
 
   @InjectMocks private CaseSubmissionController caseSubmissionController;
 
   private ClientSubmissionsInProgressController clientSubmissionsInProgressController;
 
-  @Mock private HttpSession session;
-
   private ActiveCase activeCase;
 
   private static final UserDetail userDetail = buildUserDetail();
 
-  @Mock private Model model;
-
   @Mock private ClientService clientService;
 
   @BeforeEach
   void setUp() {
     clientSubmissionsInProgressController =
-        new ClientSubmissionsInProgressController(submissionConstants, clientService);
+        new ClientSubmissionsInProgressController(submissionTracker, clientService);
     mockMvc =
         MockMvcBuilders.standaloneSetup(
                 caseSubmissionController, clientSubmissionsInProgressController)
@@ -103,9 +94,8 @@ class CaseSubmissionControllerTest {
   @DisplayName("Test addCaseSubmission - Case confirmed")
   void testAddCaseSubmission_CaseConfirmed() throws Exception {
 
-    final TransactionStatus mockStatus = new TransactionStatus();
-    mockStatus.setReferenceNumber("ref123");
-    when(applicationService.getCaseStatus(anyString())).thenReturn(Mono.just(mockStatus));
+    when(submissionTracker.getCaseProgress("transaction123"))
+        .thenReturn(SubmissionProgress.confirmed("ref123"));
 
     mockMvc
         .perform(
@@ -116,7 +106,7 @@ class CaseSubmissionControllerTest {
         .andExpect(redirectedUrl("/application/%s/confirmed".formatted(SUBMISSION_SUBMIT_CASE)))
         .andExpect(request().sessionAttribute(SUBMISSION_RESULT, "confirmed"));
 
-    verify(applicationService, times(1)).getCaseStatus(anyString());
+    verify(submissionTracker, times(1)).getCaseProgress("transaction123");
     // New (non-amendment) case submission must not remove an amendment draft.
     verify(applicationService, never()).removeSubmittedAmendment(anyString(), any(), any());
     // The confirmed application's spent TDS draft must be removed, otherwise it is left behind in
@@ -128,9 +118,8 @@ class CaseSubmissionControllerTest {
   @DisplayName("Test addCaseSubmission - Amendment confirmed")
   void testAddCaseSubmission_AmendmentConfirmed() throws Exception {
     final String refNumber = "ref123";
-    final TransactionStatus mockStatus = new TransactionStatus();
-    mockStatus.setReferenceNumber(refNumber);
-    when(applicationService.getCaseStatus(anyString())).thenReturn(Mono.just(mockStatus));
+    when(submissionTracker.getCaseProgress("transaction123"))
+        .thenReturn(SubmissionProgress.confirmed(refNumber));
 
     final ApplicationDetail mockCase = new ApplicationDetail();
     mockCase.setCaseReferenceNumber(refNumber);
@@ -153,7 +142,7 @@ class CaseSubmissionControllerTest {
         .andExpect(request().sessionAttributeDoesNotExist(APPLICATION_COSTS))
         .andExpect(request().sessionAttributeDoesNotExist(APPLICATION_FORM_DATA));
 
-    verify(applicationService, times(1)).getCaseStatus(anyString());
+    verify(submissionTracker, times(1)).getCaseProgress("transaction123");
     verify(applicationService, times(1)).getCase(anyString(), anyLong(), anyString());
     // The confirmed amendment's spent TDS draft must be removed (mirrors old PUI cleanup). A full
     // case amendment has no quick edit type.
@@ -164,9 +153,8 @@ class CaseSubmissionControllerTest {
   @DisplayName("Test addCaseSubmission - Means reassessment confirmed passes its quick edit type")
   void testAddCaseSubmission_MeansReassessmentConfirmed() throws Exception {
     final String refNumber = "ref123";
-    final TransactionStatus mockStatus = new TransactionStatus();
-    mockStatus.setReferenceNumber(refNumber);
-    when(applicationService.getCaseStatus(anyString())).thenReturn(Mono.just(mockStatus));
+    when(submissionTracker.getCaseProgress("transaction123"))
+        .thenReturn(SubmissionProgress.confirmed(refNumber));
 
     final ApplicationDetail mockCase = new ApplicationDetail();
     mockCase.setCaseReferenceNumber(refNumber);
@@ -191,15 +179,14 @@ class CaseSubmissionControllerTest {
   }
 
   @Test
-  @DisplayName("Test addCaseSubmission - Missing transaction continues polling")
-  void testAddCaseSubmission_MissingTransactionContinuesPolling() throws Exception {
+  @DisplayName("Test addCaseSubmission - Missing transaction defaults to failed")
+  void testAddCaseSubmission_MissingTransactionDefaultsToFailed() throws Exception {
     mockMvc
         .perform(get("/amendments/submit-case").sessionAttr(USER_DETAILS, userDetail))
-        .andExpect(status().isOk())
-        .andExpect(view().name("submissions/submissionInProgress"))
-        .andExpect(model().attribute("caseContext", CaseContext.AMENDMENTS));
+        .andExpect(status().is3xxRedirection())
+        .andExpect(redirectedUrl("/amendments/%s/failed".formatted(SUBMISSION_SUBMIT_CASE)));
 
-    verify(applicationService, never()).getCaseStatus(anyString());
+    verify(submissionTracker, never()).getCaseProgress(anyString());
   }
 
   @Test
@@ -213,14 +200,14 @@ class CaseSubmissionControllerTest {
         .andExpect(status().is3xxRedirection())
         .andExpect(redirectedUrl("/amendments/%s/confirmed".formatted(SUBMISSION_SUBMIT_CASE)));
 
-    verify(applicationService, never()).getCaseStatus(anyString());
+    verify(submissionTracker, never()).getCaseProgress(anyString());
   }
 
   @Test
   @DisplayName("Test addCaseSubmission - Case not confirmed, poll continues")
   void testAddCaseSubmission_CaseNotConfirmed() throws Exception {
-    final TransactionStatus mockStatus = new TransactionStatus(); // No reference number set
-    when(applicationService.getCaseStatus(anyString())).thenReturn(Mono.just(mockStatus));
+    when(submissionTracker.getCaseProgress("transaction123"))
+        .thenReturn(SubmissionProgress.pending());
 
     mockMvc
         .perform(
@@ -231,17 +218,16 @@ class CaseSubmissionControllerTest {
         .andExpect(view().name("submissions/submissionInProgress"))
         .andExpect(model().attribute("caseContext", CaseContext.APPLICATION));
 
-    verify(applicationService, times(1)).getCaseStatus(anyString());
-    verify(session, times(0)).removeAttribute(SUBMISSION_TRANSACTION_ID);
+    verify(submissionTracker, times(1)).getCaseProgress("transaction123");
+    verify(applicationService, never()).getCase(anyString(), anyLong(), anyString());
   }
 
   @Test
   @DisplayName(
-      "Test addCaseSubmission - Application poll max reached but case exists, marks confirmed")
-  void testAddCaseSubmission_PollMaxReachedButCaseExists() throws Exception {
-    final TransactionStatus mockStatus = new TransactionStatus();
-    when(applicationService.getCaseStatus(anyString())).thenReturn(Mono.just(mockStatus));
-    when(submissionConstants.getMaxPollCount()).thenReturn(5);
+      "Test addCaseSubmission - Application tracking failed but case exists, marks confirmed")
+  void testAddCaseSubmission_TrackingFailedButCaseExists() throws Exception {
+    when(submissionTracker.getCaseProgress("transaction123"))
+        .thenReturn(SubmissionProgress.failed());
 
     final ApplicationDetail createdCase = new ApplicationDetail();
     createdCase.setCaseReferenceNumber(activeCase.getCaseReferenceNumber());
@@ -251,27 +237,70 @@ class CaseSubmissionControllerTest {
         .perform(
             get("/application/submit-case")
                 .sessionAttr(SUBMISSION_TRANSACTION_ID, "transaction123")
-                .sessionAttr(SUBMISSION_POLL_COUNT, 5)
                 .sessionAttr(ACTIVE_CASE, activeCase)
                 .sessionAttr(USER_DETAILS, userDetail))
         .andExpect(status().is3xxRedirection())
         .andExpect(redirectedUrl("/application/%s/confirmed".formatted(SUBMISSION_SUBMIT_CASE)))
         .andExpect(request().sessionAttribute(SUBMISSION_RESULT, "confirmed"));
 
-    verify(applicationService, times(1)).getCaseStatus(anyString());
+    verify(submissionTracker, times(1)).getCaseProgress("transaction123");
     verify(applicationService, times(1)).getCase(anyString(), anyLong(), anyString());
     // The fallback confirms the same submission, so it must clean up the draft too.
     verify(applicationService, times(1))
         .removeSubmittedApplication(activeCase.getCaseReferenceNumber(), userDetail);
   }
 
+  @Test
+  @DisplayName("Test addCaseSubmission - Application tracking failed and no case, marks failed")
+  void testAddCaseSubmission_TrackingFailedAndNoCase() throws Exception {
+    when(submissionTracker.getCaseProgress("transaction123"))
+        .thenReturn(SubmissionProgress.failed());
+    when(applicationService.getCase(anyString(), anyLong(), anyString()))
+        .thenThrow(new IllegalStateException("not found"));
+
+    mockMvc
+        .perform(
+            get("/application/submit-case")
+                .sessionAttr(SUBMISSION_TRANSACTION_ID, "transaction123")
+                .sessionAttr(SUBMISSION_QUICK_EDIT_TYPE, "quickEdit")
+                .sessionAttr(ACTIVE_CASE, activeCase)
+                .sessionAttr(USER_DETAILS, userDetail))
+        .andExpect(status().is3xxRedirection())
+        .andExpect(redirectedUrl("/application/%s/failed".formatted(SUBMISSION_SUBMIT_CASE)))
+        .andExpect(request().sessionAttribute(SUBMISSION_RESULT, "failed"))
+        .andExpect(
+            request()
+                .sessionAttributeDoesNotExist(
+                    SUBMISSION_TRANSACTION_ID, SUBMISSION_QUICK_EDIT_TYPE));
+
+    verify(applicationService, never()).removeSubmittedApplication(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("Test addCaseSubmission - Amendment tracking failed, marks failed without fallback")
+  void testAddCaseSubmission_AmendmentTrackingFailed() throws Exception {
+    when(submissionTracker.getCaseProgress("transaction123"))
+        .thenReturn(SubmissionProgress.failed());
+
+    mockMvc
+        .perform(
+            get("/amendments/submit-case")
+                .sessionAttr(SUBMISSION_TRANSACTION_ID, "transaction123")
+                .sessionAttr(ACTIVE_CASE, activeCase)
+                .sessionAttr(USER_DETAILS, userDetail))
+        .andExpect(status().is3xxRedirection())
+        .andExpect(redirectedUrl("/amendments/%s/failed".formatted(SUBMISSION_SUBMIT_CASE)))
+        .andExpect(request().sessionAttribute(SUBMISSION_RESULT, "failed"));
+
+    verify(applicationService, never()).getCase(anyString(), anyLong(), anyString());
+  }
+
   @Test
   @DisplayName("Test addCaseSubmission - Amendment confirmed does not remove an application draft")
   void testAddCaseSubmission_AmendmentConfirmedDoesNotRemoveApplication() throws Exception {
     final String refNumber = "ref123";
-    final TransactionStatus mockStatus = new TransactionStatus();
-    mockStatus.setReferenceNumber(refNumber);
-    when(applicationService.getCaseStatus(anyString())).thenReturn(Mono.just(mockStatus));
+    when(submissionTracker.getCaseProgress("transaction123"))
+        .thenReturn(SubmissionProgress.confirmed(refNumber));
 
     final ApplicationDetail mockCase = new ApplicationDetail();
     mockCase.setCaseReferenceNumber(refNumber);
@@ -291,8 +320,8 @@ class CaseSubmissionControllerTest {
   @Test
   @DisplayName("Test addCaseSubmission - Case not confirmed does not remove the draft")
   void testAddCaseSubmission_CaseNotConfirmedDoesNotRemoveApplication() throws Exception {
-    final TransactionStatus mockStatus = new TransactionStatus(); // No reference number set
-    when(applicationService.getCaseStatus(anyString())).thenReturn(Mono.just(mockStatus));
+    when(submissionTracker.getCaseProgress("transaction123"))
+        .thenReturn(SubmissionProgress.pending());
 
     mockMvc
         .perform(
@@ -308,8 +337,8 @@ class CaseSubmissionControllerTest {
   @Test
   @DisplayName("Test addCaseSubmission - Amendment not confirmed, poll continues")
   void testAddCaseSubmission_AmendmentNotConfirmed() throws Exception {
-    final TransactionStatus mockStatus = new TransactionStatus(); // No reference number set
-    when(applicationService.getCaseStatus(anyString())).thenReturn(Mono.just(mockStatus));
+    when(submissionTracker.getCaseProgress("transaction123"))
+        .thenReturn(SubmissionProgress.pending());
 
     mockMvc
         .perform(
@@ -322,8 +351,8 @@ class CaseSubmissionControllerTest {
         .andExpect(model().attribute("caseContext", CaseContext.AMENDMENTS))
         .andExpect(model().attribute(ACTIVE_CASE, activeCase));
 
-    verify(applicationService, times(1)).getCaseStatus(anyString());
-    verify(session, times(0)).removeAttribute(SUBMISSION_TRANSACTION_ID);
+    verify(submissionTracker, times(1)).getCaseProgress("transaction123");
+    verify(applicationService, never()).getCase(anyString(), anyLong(), anyString());
   }
 
   @Test
@@ -365,48 +394,6 @@ class CaseSubmissionControllerTest {
         .andExpect(request().sessionAttribute(ACTIVE_CASE, activeCase));
   }
 
-  @Test
-  @DisplayName("Test viewIncludingPollCount - Poll count within limit")
-  void testViewIncludingPollCount_WithinLimit() {
-    when(session.getAttribute(SUBMISSION_POLL_COUNT)).thenReturn(1);
-    when(submissionConstants.getMaxPollCount()).thenReturn(5);
-
-    final String view =
-        caseSubmissionController.viewIncludingPollCount(session, CaseContext.APPLICATION, model);
-
-    assertEquals("submissions/submissionInProgress", view);
-    verify(session, times(1)).setAttribute(SUBMISSION_POLL_COUNT, 2);
-    verify(model, times(1)).addAttribute("caseContext", CaseContext.APPLICATION);
-  }
-
-  @Test
-  @DisplayName("Test viewIncludingPollCount - Poll count exceeded")
-  void testViewIncludingPollCount_ExceededLimit() {
-    when(session.getAttribute(SUBMISSION_POLL_COUNT)).thenReturn(5);
-    when(submissionConstants.getMaxPollCount()).thenReturn(5);
-
-    final String view =
-        caseSubmissionController.viewIncludingPollCount(session, CaseContext.APPLICATION, model);
-
-    assertEquals("redirect:/application/%s/failed".formatted(SUBMISSION_SUBMIT_CASE), view);
-    verify(session, times(1)).removeAttribute(SUBMISSION_POLL_COUNT);
-    verify(session, times(1)).removeAttribute(SUBMISSION_TRANSACTION_ID);
-    verify(session, times(1)).setAttribute(SUBMISSION_RESULT, "failed");
-  }
-
-  @Test
-  @DisplayName("Test viewIncludingPollCount - Poll count starts from zero")
-  void testViewIncludingPollCount_StartFromZero() {
-    when(session.getAttribute(SUBMISSION_POLL_COUNT)).thenReturn(null);
-
-    final String view =
-        caseSubmissionController.viewIncludingPollCount(session, CaseContext.APPLICATION, model);
-
-    assertEquals("submissions/submissionInProgress", view);
-    verify(session, times(1)).setAttribute(SUBMISSION_POLL_COUNT, 1);
-    verify(model, times(1)).addAttribute("caseContext", CaseContext.APPLICATION);
-  }
-
   @Test
   @DisplayName("Test submissionFailed - Application context - Submit Case")
   void testSubmissionFailed_Application_SubmitCase() throws Exception {
@@ -16,13 +16,11 @@ import static uk.gov.laa.ccms.caab.constants.SessionConstants.ACTIVE_CASE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.APPLICATION_CLIENT_NAMES;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CASE;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.CLIENT_FLOW_FORM_DATA;
-import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_POLL_COUNT;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_RESULT;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_TRANSACTION_ID;
 import static uk.gov.laa.ccms.caab.constants.SessionConstants.USER_DETAILS;
 import static uk.gov.laa.ccms.caab.util.ConversionServiceUtils.getConversionService;
 
-import jakarta.servlet.http.HttpSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,10 +31,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import reactor.core.publisher.Mono;
-import uk.gov.laa.ccms.caab.constants.SubmissionConstants;
 import uk.gov.laa.ccms.caab.model.BaseClientDetail;
+import uk.gov.laa.ccms.caab.model.SubmissionProgress;
 import uk.gov.laa.ccms.caab.service.ClientService;
-import uk.gov.laa.ccms.data.model.TransactionStatus;
+import uk.gov.laa.ccms.caab.service.SubmissionTracker;
 import uk.gov.laa.ccms.data.model.UserDetail;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,9 +42,7 @@ public class ClientSubmissionsInProgressControllerTest {
 
   @Mock private ClientService clientService;
 
-  @Mock private SubmissionConstants submissionConstants;
-
-  @Mock private HttpSession session;
+  @Mock private SubmissionTracker submissionTracker;
 
   @InjectMocks private ClientSubmissionsInProgressController controller;
 
@@ -66,10 +62,8 @@ public class ClientSubmissionsInProgressControllerTest {
     user.setLoginId("testLogin");
     user.setUserType("testUserType");
 
-    TransactionStatus clientStatus = new TransactionStatus();
-    clientStatus.setReferenceNumber("123456");
-
-    when(clientService.getClientStatus(anyString())).thenReturn(Mono.just(clientStatus));
+    when(submissionTracker.getClientProgress("123"))
+        .thenReturn(SubmissionProgress.confirmed("123456"));
 
     mockMvc
         .perform(
@@ -87,9 +81,7 @@ public class ClientSubmissionsInProgressControllerTest {
     user.setLoginId("testLogin");
     user.setUserType("testUserType");
 
-    TransactionStatus clientStatus = new TransactionStatus();
-
-    when(clientService.getClientStatus(anyString())).thenReturn(Mono.just(clientStatus));
+    when(submissionTracker.getClientProgress("123")).thenReturn(SubmissionProgress.pending());
 
     mockMvc
         .perform(
@@ -110,7 +102,7 @@ public class ClientSubmissionsInProgressControllerTest {
         .andExpect(status().is3xxRedirection())
         .andExpect(redirectedUrl("/application/client-create/failed"));
 
-    verify(clientService, never()).getClientStatus(anyString());
+    verify(submissionTracker, never()).getClientProgress(anyString());
   }
 
   @Test
@@ -120,55 +112,41 @@ public class ClientSubmissionsInProgressControllerTest {
         .andExpect(status().is3xxRedirection())
         .andExpect(redirectedUrl("/application/client-create/confirmed"));
 
-    verify(clientService, never()).getClientStatus(anyString());
+    verify(submissionTracker, never()).getClientProgress(anyString());
   }
 
   @Test
-  void testSubmissionsInProgress_withPollingThresholdNotReached() throws Exception {
+  void testSubmissionsInProgress_doesNotPollTheClientStatusItself() throws Exception {
     final UserDetail user = new UserDetail();
     user.setLoginId("testLogin");
     user.setUserType("testUserType");
 
-    final TransactionStatus clientStatus = new TransactionStatus();
-
-    when(clientService.getClientStatus(anyString())).thenReturn(Mono.just(clientStatus));
-
-    when(submissionConstants.getMaxPollCount()).thenReturn(6);
-
-    // Set the submission poll count below the threshold (6 in your current logic)
-    final int submissionPollCount = 3;
+    when(submissionTracker.getClientProgress("123")).thenReturn(SubmissionProgress.pending());
 
     mockMvc
         .perform(
             get("/application/client-create")
                 .sessionAttr(SUBMISSION_TRANSACTION_ID, "123")
-                .sessionAttr(USER_DETAILS, user)
-                .sessionAttr(SUBMISSION_POLL_COUNT, submissionPollCount))
+                .sessionAttr(USER_DETAILS, user))
         .andExpect(view().name("submissions/submissionInProgress"))
-        .andExpect(
-            model()
-                .attribute("caseContext", uk.gov.laa.ccms.caab.constants.CaseContext.APPLICATION));
+        .andExpect(request().sessionAttribute(SUBMISSION_TRANSACTION_ID, "123"));
+
+    verify(clientService, never()).getClientStatus(anyString());
   }
 
   @Test
-  void testSubmissionsInProgress_withPollingThresholdReached() throws Exception {
+  void testSubmissionsInProgress_withTrackingFailed() throws Exception {
     UserDetail user = new UserDetail();
     user.setLoginId("testLogin");
     user.setUserType("testUserType");
 
-    TransactionStatus clientStatus = new TransactionStatus();
-
-    when(clientService.getClientStatus(anyString())).thenReturn(Mono.just(clientStatus));
-
-    // Set the submission poll count at the threshold (6 in your current logic)
-    int submissionPollCount = 6;
+    when(submissionTracker.getClientProgress("123")).thenReturn(SubmissionProgress.failed());
 
     mockMvc
         .perform(
             get("/application/client-create")
                 .sessionAttr(SUBMISSION_TRANSACTION_ID, "123")
-                .sessionAttr(USER_DETAILS, user)
-                .sessionAttr("submissionPollCount", submissionPollCount))
+                .sessionAttr(USER_DETAILS, user))
         .andExpect(status().is3xxRedirection())
         .andExpect(redirectedUrl("/application/client-create/failed"))
         .andExpect(request().sessionAttribute(SUBMISSION_RESULT, "failed"))
@@ -186,10 +164,8 @@ public class ClientSubmissionsInProgressControllerTest {
     final BaseClientDetail baseClient =
         new BaseClientDetail().firstName("testFirstName").surname("testSurname");
 
-    final TransactionStatus clientStatus = new TransactionStatus();
-    clientStatus.setReferenceNumber("123456");
-
-    when(clientService.getClientStatus(anyString())).thenReturn(Mono.just(clientStatus));
+    when(submissionTracker.getClientProgress("123"))
+        .thenReturn(SubmissionProgress.confirmed("123456"));
     when(clientService.updateClientNames(anyString(), any(), any())).thenReturn(Mono.empty());
 
     mockMvc
@@ -204,7 +180,6 @@ public class ClientSubmissionsInProgressControllerTest {
         .andExpect(
             request()
                 .sessionAttributeDoesNotExist(
-                    SUBMISSION_POLL_COUNT,
                     SUBMISSION_TRANSACTION_ID,
                     CLIENT_FLOW_FORM_DATA,
                     APPLICATION_CLIENT_NAMES,
@@ -223,10 +198,8 @@ public class ClientSubmissionsInProgressControllerTest {
     final BaseClientDetail baseClient =
         new BaseClientDetail().firstName("testFirstName").surname("testSurname");
 
-    final TransactionStatus clientStatus = new TransactionStatus();
-    clientStatus.setReferenceNumber("123456");
-
-    when(clientService.getClientStatus(anyString())).thenReturn(Mono.just(clientStatus));
+    when(submissionTracker.getClientProgress("123"))
+        .thenReturn(SubmissionProgress.confirmed("123456"));
     when(clientService.updateClientNames(anyString(), any(), any())).thenReturn(Mono.empty());
 
     mockMvc
@@ -242,7 +215,6 @@ public class ClientSubmissionsInProgressControllerTest {
         .andExpect(
             request()
                 .sessionAttributeDoesNotExist(
-                    SUBMISSION_POLL_COUNT,
                     SUBMISSION_TRANSACTION_ID,
                     CLIENT_FLOW_FORM_DATA,
                     APPLICATION_CLIENT_NAMES,
@@ -256,7 +228,7 @@ public class ClientSubmissionsInProgressControllerTest {
         .andExpect(status().is3xxRedirection())
         .andExpect(redirectedUrl("/amendments/client-update/failed"));
 
-    verify(clientService, never()).getClientStatus(anyString());
+    verify(submissionTracker, never()).getClientProgress(anyString());
   }
 
   @Test
@@ -266,7 +238,7 @@ public class ClientSubmissionsInProgressControllerTest {
         .andExpect(status().is3xxRedirection())
         .andExpect(redirectedUrl("/amendments/client-update/confirmed"));
 
-    verify(clientService, never()).getClientStatus(anyString());
+    verify(submissionTracker, never()).getClientProgress(anyString());
   }
 
   @Test
@@ -278,9 +250,7 @@ public class ClientSubmissionsInProgressControllerTest {
     final BaseClientDetail baseClient =
         new BaseClientDetail().firstName("testFirstName").surname("testSurname");
 
-    final TransactionStatus clientStatus = new TransactionStatus();
-
-    when(clientService.getClientStatus(anyString())).thenReturn(Mono.just(clientStatus));
+    when(submissionTracker.getClientProgress("123")).thenReturn(SubmissionProgress.pending());
 
     mockMvc
         .perform(
@@ -0,0 +1,118 @@
+package uk.gov.laa.ccms.caab.controller.submission;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_RESULT;
+import static uk.gov.laa.ccms.caab.constants.SessionConstants.SUBMISSION_TRANSACTION_ID;
+import static uk.gov.laa.ccms.caab.util.ConversionServiceUtils.getConversionService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.caab.model.SubmissionProgress;
+import uk.gov.laa.ccms.caab.service.SubmissionTracker;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionStatusControllerTest {
+
+  @Mock private SubmissionTracker submissionTracker;
+
+  @InjectMocks private SubmissionStatusController submissionStatusController;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc =
+        MockMvcBuilders.standaloneSetup(submissionStatusController)
+            .setConversionService(getConversionService())
+            .build();
+  }
+
+  @Test
+  @DisplayName("Case submission status waits on the tracked case transaction")
+  void getSubmissionStatus_caseConfirmed() throws Exception {
+    when(submissionTracker.awaitCaseProgress("transaction123"))
+        .thenReturn(Mono.just(SubmissionProgress.confirmed("ref123")));
+
+    final MvcResult result =
+        mockMvc
+            .perform(
+                get("/application/submit-case/status")
+                    .sessionAttr(SUBMISSION_TRANSACTION_ID, "transaction123"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.state").value("CONFIRMED"))
+        .andExpect(jsonPath("$.referenceNumber").value("ref123"));
+
+    verify(submissionTracker, never()).awaitClientProgress(anyString());
+  }
+
+  @Test
+  @DisplayName("Client submission status waits on the tracked client transaction")
+  void getSubmissionStatus_clientPending() throws Exception {
+    when(submissionTracker.awaitClientProgress("transaction123"))
+        .thenReturn(Mono.just(SubmissionProgress.pending()));
+
+    final MvcResult result =
+        mockMvc
+            .perform(
+                get("/amendments/client-update/status")
+                    .sessionAttr(SUBMISSION_TRANSACTION_ID, "transaction123"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.state").value("PENDING"));
+
+    verify(submissionTracker, never()).awaitCaseProgress(anyString());
+  }
+
+  @Test
+  @DisplayName("Submission status without a transaction reports the final submission result")
+  void getSubmissionStatus_missingTransaction() throws Exception {
+    final MvcResult confirmed =
+        mockMvc
+            .perform(
+                get("/application/client-create/status")
+                    .sessionAttr(SUBMISSION_RESULT, "confirmed"))
+            .andReturn();
+    mockMvc.perform(asyncDispatch(confirmed)).andExpect(jsonPath("$.state").value("CONFIRMED"));
+
+    final MvcResult failed = mockMvc.perform(get("/application/client-create/status")).andReturn();
+    mockMvc.perform(asyncDispatch(failed)).andExpect(jsonPath("$.state").value("FAILED"));
+
+    verify(submissionTracker, never()).awaitClientProgress(anyString());
+  }
+
+  @Test
+  @DisplayName("Submission status is not available for other submission types")
+  void getSubmissionStatus_unknownSubmissionType() throws Exception {
+    mockMvc
+        .perform(
+            get("/application/bill-create/status")
+                .sessionAttr(SUBMISSION_TRANSACTION_ID, "transaction123"))
+        .andExpect(status().isNotFound());
+  }
+}
@@ -83,6 +83,34 @@ public class EvidenceMapperTest {
     assertNull(result.getTransferStatus());
   }
 
+  @Test
+  void testEvidenceUploadFormData_toEvidenceDocumentMetadata() {
+    EvidenceUploadFormData evidenceUploadFormData = new EvidenceUploadFormData();
+    evidenceUploadFormData.setCaseReferenceNumber("caseRef");
+    evidenceUploadFormData.setCcmsModule(CcmsModule.APPLICATION);
+    evidenceUploadFormData.setDocumentType("docType");
+    evidenceUploadFormData.setEvidenceTypes(List.of("type 1", "type 2"));
+    evidenceUploadFormData.setFile(
+        new MockMultipartFile(
+            "theFile", "originalName", "contentType", "the file data".getBytes()));
+    evidenceUploadFormData.setSanitisedFileName("originalName");
+    evidenceUploadFormData.setRegisteredDocumentId("regId");
+
+    EvidenceDocumentDetail result =
+        evidenceMapper.toEvidenceDocumentMetadata(evidenceUploadFormData);
+
+    assertNotNull(result);
+    assertNull(result.getFileData());
+    assertEquals(evidenceUploadFormData.getCaseReferenceNumber(), result.getCaseReferenceNumber());
+    assertEquals(evidenceUploadFormData.getCcmsModule().getCode(), result.getCcmsModule());
+    assertEquals(evidenceUploadFormData.getDocumentType(), result.getDocumentType().getId());
+    assertEquals("type 1^type 2", result.getEvidenceDescriptions());
+    assertEquals(evidenceUploadFormData.getSanitisedFileName(), result.getFileName());
+    assertEquals(
+        evidenceUploadFormData.getRegisteredDocumentId(), result.getRegisteredDocumentId());
+    assertEquals(0, result.getTransferRetryCount());
+  }
+
   @Test
   void testToEvidenceRequired_providedTrue() {
     EvidenceDocumentTypeLookupValueDetail evidenceDocumentTypeLookupValueDetail =
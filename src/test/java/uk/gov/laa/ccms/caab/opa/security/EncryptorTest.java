@@ -0,0 +1,71 @@
+package uk.gov.laa.ccms.caab.opa.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EncryptorTest {
+
+  private static final String PASSWORD = "password";
+
+  private static final String TOKEN = "{\"caseId\":\"300000123\"}";
+
+  /** {@link #TOKEN} as the legacy systems encrypt it with {@link #PASSWORD}. */
+  private static final String LEGACY_ENCRYPTED_TOKEN = "uPDHlkUJGhEKGSjQ7+ZswwRAytJSJQkd";
+
+  private final Encryptor encryptor = new Encryptor(PASSWORD);
+
+  @Test
+  @DisplayName("Encrypts to the legacy wire format")
+  void encrypt_matchesLegacyFormat() {
+    assertEquals(LEGACY_ENCRYPTED_TOKEN, encryptor.encrypt(TOKEN));
+    // A cipher handed back to the pool must encrypt the same way again.
+    assertEquals(LEGACY_ENCRYPTED_TOKEN, encryptor.encrypt(TOKEN));
+  }
+
+  @Test
+  @DisplayName("Decrypts the legacy wire format")
+  void decrypt_readsLegacyFormat() {
+    assertEquals(TOKEN, encryptor.decrypt(LEGACY_ENCRYPTED_TOKEN));
+    assertEquals(TOKEN, encryptor.decrypt(LEGACY_ENCRYPTED_TOKEN));
+  }
+
+  @Test
+  @DisplayName("A token that cannot be decrypted fails without spoiling later calls")
+  void decrypt_invalidToken_throwsSecurityException() {
+    final SecurityException exception =
+        assertThrows(SecurityException.class, () -> encryptor.decrypt("AAAA"));
+
+    assertEquals(
+        "Could not decrypt: Input length must be multiple of 8 when decrypting with padded cipher",
+        exception.getMessage());
+    assertEquals(TOKEN, encryptor.decrypt(LEGACY_ENCRYPTED_TOKEN));
+  }
+
+  @Test
+  @DisplayName("Many threads can encrypt and decrypt at once")
+  void encryptDecrypt_concurrently_roundTrips() throws Exception {
+    final List<Callable<String>> roundTrips = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      final String value = TOKEN + i;
+      roundTrips.add(() -> encryptor.decrypt(encryptor.encrypt(value)));
+    }
+
+    final List<Future<String>> results;
+    try (ExecutorService executor = Executors.newFixedThreadPool(32)) {
+      results = executor.invokeAll(roundTrips);
+    }
+
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(TOKEN + i, results.get(i).get());
+    }
+  }
+}
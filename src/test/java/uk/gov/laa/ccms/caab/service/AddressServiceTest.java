@@ -4,23 +4,31 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import uk.gov.laa.ccms.caab.bean.ClientFormDataAddressDetails;
+import uk.gov.laa.ccms.caab.cache.AddressSearchCache;
+import uk.gov.laa.ccms.caab.cache.AddressSearchCacheProperties;
 import uk.gov.laa.ccms.caab.client.OrdinanceSurveyApiClient;
+import uk.gov.laa.ccms.caab.mapper.AddressFormDataMapper;
 import uk.gov.laa.ccms.caab.mapper.ClientAddressResultDisplayMapper;
 import uk.gov.laa.ccms.caab.model.AddressResultRowDisplay;
 import uk.gov.laa.ccms.caab.model.ResultsDisplay;
@@ -35,10 +43,24 @@ public class AddressServiceTest {
 
   @Mock private ClientAddressResultDisplayMapper clientAddressResultDisplayMapper;
 
-  @InjectMocks private AddressService addressService;
+  @Mock private AddressFormDataMapper addressFormDataMapper;
+
+  private AddressService addressService;
 
   private static final int MAX_RESULTS = 10;
 
+  @BeforeEach
+  void setUp() {
+    addressService =
+        new AddressService(
+            ordinanceSurveyApiClient,
+            clientAddressResultDisplayMapper,
+            addressFormDataMapper,
+            new AddressSearchCache(
+                new AddressSearchCacheProperties(100, Duration.ofMinutes(1)),
+                new SimpleMeterRegistry()));
+  }
+
   @Test
   void getAddresses_ReturnsAddresses_empty() {
     String postcode = "SW1A1AA";
@@ -75,6 +97,79 @@ public class AddressServiceTest {
     assertEquals(MAX_RESULTS, result.getContent().size());
   }
 
+  @Test
+  void getAddresses_RepeatedSearch_FetchesPostcodeOnce() {
+    OrdinanceSurveyResponse mockResponse = buildOrdinanceSurveyResponse();
+    ResultsDisplay<AddressResultRowDisplay> mockDisplay = buildClientAddressResultsDisplay();
+
+    when(ordinanceSurveyApiClient.getAddresses("SW1A 1AA")).thenReturn(Mono.just(mockResponse));
+    when(clientAddressResultDisplayMapper.toClientAddressResultsDisplay(mockResponse))
+        .thenReturn(mockDisplay);
+
+    ResultsDisplay<AddressResultRowDisplay> first = addressService.getAddresses("SW1A 1AA");
+    ResultsDisplay<AddressResultRowDisplay> second = addressService.getAddresses("sw1a1aa");
+
+    assertEquals(mockDisplay.getContent(), first.getContent());
+    assertEquals(mockDisplay.getContent(), second.getContent());
+    verify(ordinanceSurveyApiClient, times(1)).getAddresses(any());
+  }
+
+  @Test
+  void getAddresses_NoResults_SearchesAgain() {
+    String postcode = "SW1A1AA";
+
+    when(ordinanceSurveyApiClient.getAddresses(postcode))
+        .thenReturn(Mono.just(new OrdinanceSurveyResponse()));
+
+    addressService.getAddresses(postcode);
+    addressService.getAddresses(postcode);
+
+    verify(ordinanceSurveyApiClient, times(2)).getAddresses(postcode);
+  }
+
+  @Test
+  void getAddresses_Error_ReturnsEmptyResults() {
+    String postcode = "SW1A1AA";
+
+    when(ordinanceSurveyApiClient.getAddresses(postcode))
+        .thenReturn(Mono.error(new IllegalStateException("unavailable")));
+
+    ResultsDisplay<AddressResultRowDisplay> result = addressService.getAddresses(postcode);
+
+    assertNotNull(result);
+    assertNull(result.getContent());
+  }
+
+  @Test
+  void filterByHouseNumberAndGetSelectedAddress_SearchedAddresses() {
+    String postcode = "SW1A1AA";
+    OrdinanceSurveyResponse mockResponse = buildOrdinanceSurveyResponse();
+    ResultsDisplay<AddressResultRowDisplay> mockDisplay = buildClientAddressResultsDisplay();
+    mockDisplay
+        .getContent()
+        .forEach(
+            row -> {
+              row.setPostcode(postcode);
+              row.setUprn("uprn" + row.getHouseNameNumber());
+            });
+
+    when(ordinanceSurveyApiClient.getAddresses(postcode)).thenReturn(Mono.just(mockResponse));
+    when(clientAddressResultDisplayMapper.toClientAddressResultsDisplay(mockResponse))
+        .thenReturn(mockDisplay);
+
+    ResultsDisplay<AddressResultRowDisplay> results = addressService.getAddresses(postcode);
+    ResultsDisplay<AddressResultRowDisplay> filteredResults =
+        addressService.filterByHouseNumber("7", results);
+
+    assertEquals(List.of(mockDisplay.getContent().get(7)), filteredResults.getContent());
+    assertSame(
+        mockDisplay.getContent().get(3), addressService.getSelectedAddress("uprn3", results));
+    assertSame(
+        mockDisplay.getContent().get(7),
+        addressService.getSelectedAddress("uprn7", filteredResults));
+    assertNull(addressService.getSelectedAddress("uprn3", filteredResults));
+  }
+
   @ParameterizedTest
   @CsvSource({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9"})
   void filterByHouseNumber_ReturnsFilteredAddresses(String houseNameNumber) {
@@ -62,6 +62,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -74,6 +76,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetails;
@@ -454,6 +457,9 @@ class ApplicationServiceTest {
 
     when(ebsApiClient.getCases(caseSearchCriteria, userDetail.getProvider().getId(), page, size))
         .thenReturn(Mono.just(mockCaseDetails));
+    when(caabApiClient.getApplications(
+            caseSearchCriteria, userDetail.getProvider().getId(), page, size))
+        .thenReturn(Mono.just(new ApplicationDetails()));
     when(searchConstants.getMaxSearchResultsCases()).thenReturn(size);
 
     assertThrows(
@@ -461,6 +467,71 @@ class ApplicationServiceTest {
         () -> applicationService.getCases(caseSearchCriteria, userDetail));
   }
 
+  @Test
+  void getCases_QueriesEbsAndTdsConcurrently() {
+    final CaseSearchCriteria caseSearchCriteria = new CaseSearchCriteria();
+    caseSearchCriteria.setStatus(STATUS_DRAFT);
+
+    final UserDetail userDetail = buildUserDetail();
+
+    // Size both result sets like the configured search.max-results.cases, half of them
+    // duplicated across EBS and TDS.
+    final int size = 100;
+    final CountDownLatch bothSearchesMade = new CountDownLatch(2);
+
+    final CaseDetails mockCaseDetails = new CaseDetails().totalElements(size / 2).size(size / 2);
+    final ApplicationDetails mockTdsApplicationDetails =
+        new ApplicationDetails().totalElements(size / 2).size(size / 2);
+    for (int i = 0; i < size / 2; i++) {
+      final CaseSummary caseSummary =
+          new CaseSummary().caseReferenceNumber("EBS-%03d".formatted(i));
+      mockCaseDetails.addContentItem(caseSummary);
+      when(soaApplicationMapper.toBaseApplication(caseSummary))
+          .thenReturn(new BaseApplicationDetail().caseReferenceNumber("EBS-%03d".formatted(i)));
+      mockTdsApplicationDetails.addContentItem(
+          new BaseApplicationDetail()
+              .caseReferenceNumber("%s-%03d".formatted(i % 2 == 0 ? "EBS" : "TDS", i))
+              .amendment(i % 4 == 0));
+    }
+
+    when(ebsApiClient.getCases(caseSearchCriteria, userDetail.getProvider().getId(), 0, size))
+        .thenReturn(onceBothSearchesMade(bothSearchesMade, mockCaseDetails));
+    when(caabApiClient.getApplications(
+            caseSearchCriteria, userDetail.getProvider().getId(), 0, size))
+        .thenReturn(onceBothSearchesMade(bothSearchesMade, mockTdsApplicationDetails));
+    when(searchConstants.getMaxSearchResultsCases()).thenReturn(size);
+
+    // Neither search answers until both have been made, so searches made one after the other
+    // fail rather than complete.
+    final List<BaseApplicationDetail> result =
+        applicationService.getCases(caseSearchCriteria, userDetail);
+
+    // Every EBS case, plus the TDS applications that are not duplicates of an EBS case.
+    assertEquals(size / 2 + size / 4, result.size());
+    // Every fourth TDS application is an amendment of an EBS case: 0, 4, ..., 48.
+    assertEquals(
+        13,
+        result.stream().filter(app -> Boolean.TRUE.equals(app.getAmendment())).count());
+    assertEquals(
+        result.stream().map(BaseApplicationDetail::getCaseReferenceNumber).sorted().toList(),
+        result.stream().map(BaseApplicationDetail::getCaseReferenceNumber).toList());
+  }
+
+  /**
+   * A search which answers with the given result only once the other search has been made too.
+   */
+  private static <T> Mono<T> onceBothSearchesMade(final CountDownLatch searches, final T result) {
+    return Mono.fromCallable(
+            () -> {
+              searches.countDown();
+              if (!searches.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The other search was not made alongside this one");
+              }
+              return result;
+            })
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
   @Test
   void getCases_TooManyOverallResults_ThrowsException() {
     final CaseSearchCriteria caseSearchCriteria = new CaseSearchCriteria();
@@ -941,6 +1012,9 @@ class ApplicationServiceTest {
             eq(applicationType),
             anyList()))
         .thenReturn(false);
+    when(evidenceService.getAllEvidenceProvided(
+            any(), eq(applicationDetail.getCaseReferenceNumber()), eq(1)))
+        .thenReturn(Mono.just(false));
 
     final ApplicationSectionDisplay summary =
         applicationService.getApplicationSections(applicationDetail, user);
@@ -1049,6 +1123,9 @@ class ApplicationServiceTest {
             eq(applicationType),
             anyList()))
         .thenReturn(false);
+    when(evidenceService.getAllEvidenceProvided(
+            any(), eq(applicationDetail.getCaseReferenceNumber()), eq(1)))
+        .thenReturn(Mono.just(false));
 
     final ApplicationSectionDisplay summary =
         applicationService.getApplicationSections(applicationDetail, user);
@@ -2001,8 +2078,10 @@ class ApplicationServiceTest {
                     .costLimitation(BigDecimal.valueOf(1000)));
 
     when(lookupService.getScopeLimitationDetails(
-            any(uk.gov.laa.ccms.data.model.ScopeLimitationDetail.class)))
-        .thenReturn(Mono.just(mockScopeLimitationDetails1), Mono.just(mockScopeLimitationDetails2));
+            categoryOfLaw, matterType, proceedingCode, levelOfService, true, List.of("SL1", "SL2")))
+        .thenReturn(
+            Mono.just(
+                Map.of("SL1", mockScopeLimitationDetails1, "SL2", mockScopeLimitationDetails2)));
 
     BigDecimal result =
         applicationService.getProceedingCostLimitation(
@@ -2040,8 +2119,15 @@ class ApplicationServiceTest {
                     .costLimitation(BigDecimal.valueOf(800)));
 
     when(lookupService.getScopeLimitationDetails(
-            any(uk.gov.laa.ccms.data.model.ScopeLimitationDetail.class)))
-        .thenReturn(Mono.just(mockScopeLimitationDetails1), Mono.just(mockScopeLimitationDetails2));
+            categoryOfLaw,
+            matterType,
+            proceedingCode,
+            levelOfService,
+            false,
+            List.of("SL1", "SL2")))
+        .thenReturn(
+            Mono.just(
+                Map.of("SL1", mockScopeLimitationDetails1, "SL2", mockScopeLimitationDetails2)));
 
     BigDecimal result =
         applicationService.getProceedingCostLimitation(
@@ -2092,8 +2178,8 @@ class ApplicationServiceTest {
             .addContentItem(new uk.gov.laa.ccms.data.model.ScopeLimitationDetail().stage(2));
 
     when(lookupService.getScopeLimitationDetails(
-            any(uk.gov.laa.ccms.data.model.ScopeLimitationDetail.class)))
-        .thenReturn(Mono.just(mockScopeLimitationDetails));
+            categoryOfLaw, matterType, proceedingCode, levelOfService, false, List.of("SL1")))
+        .thenReturn(Mono.just(Map.of("SL1", mockScopeLimitationDetails)));
 
     Integer result =
         applicationService.getProceedingStage(
@@ -2129,8 +2215,15 @@ class ApplicationServiceTest {
             .addContentItem(new uk.gov.laa.ccms.data.model.ScopeLimitationDetail().stage(3));
 
     when(lookupService.getScopeLimitationDetails(
-            any(uk.gov.laa.ccms.data.model.ScopeLimitationDetail.class)))
-        .thenReturn(Mono.just(mockScopeLimitationDetails1), Mono.just(mockScopeLimitationDetails2));
+            categoryOfLaw,
+            matterType,
+            proceedingCode,
+            levelOfService,
+            false,
+            List.of("SL1", "SL2")))
+        .thenReturn(
+            Mono.just(
+                Map.of("SL1", mockScopeLimitationDetails1, "SL2", mockScopeLimitationDetails2)));
 
     Integer result =
         applicationService.getProceedingStage(
@@ -2166,8 +2259,15 @@ class ApplicationServiceTest {
             .addContentItem(new uk.gov.laa.ccms.data.model.ScopeLimitationDetail().stage(5));
 
     when(lookupService.getScopeLimitationDetails(
-            any(uk.gov.laa.ccms.data.model.ScopeLimitationDetail.class)))
-        .thenReturn(Mono.just(mockScopeLimitationDetails1), Mono.just(mockScopeLimitationDetails2));
+            categoryOfLaw,
+            matterType,
+            proceedingCode,
+            levelOfService,
+            false,
+            List.of("SL1", "SL2")))
+        .thenReturn(
+            Mono.just(
+                Map.of("SL1", mockScopeLimitationDetails1, "SL2", mockScopeLimitationDetails2)));
 
     Integer result =
         applicationService.getProceedingStage(
@@ -2196,8 +2296,8 @@ class ApplicationServiceTest {
             .addContentItem(new uk.gov.laa.ccms.data.model.ScopeLimitationDetail().stage(2));
 
     when(lookupService.getScopeLimitationDetails(
-            any(uk.gov.laa.ccms.data.model.ScopeLimitationDetail.class)))
-        .thenReturn(Mono.just(mockScopeLimitationDetails));
+            categoryOfLaw, matterType, proceedingCode, levelOfService, false, List.of("SL1")))
+        .thenReturn(Mono.just(Map.of("SL1", mockScopeLimitationDetails)));
 
     Integer result =
         applicationService.getProceedingStage(
@@ -2241,8 +2341,10 @@ class ApplicationServiceTest {
     when(caabApiClient.getScopeLimitations(proceeding.getId()))
         .thenReturn(Mono.just(caabScopeLimitations));
     when(lookupService.getScopeLimitationDetails(
-            any(uk.gov.laa.ccms.data.model.ScopeLimitationDetail.class)))
-        .thenReturn(Mono.just(ebsEditableScopeLimitation), Mono.just(ebsReadOnlyScopeLimitation));
+            "FAM", "MAT", "PROC", "LOS", false, List.of("SL1", "SL2")))
+        .thenReturn(
+            Mono.just(
+                Map.of("SL1", ebsEditableScopeLimitation, "SL2", ebsReadOnlyScopeLimitation)));
 
     final List<ScopeLimitationDetail> result =
         applicationService.getScopeLimitations(application, proceeding);
@@ -2250,8 +2352,8 @@ class ApplicationServiceTest {
     assertTrue(result.get(0).getNonDefaultWordingReqd());
     assertFalse(result.get(1).getNonDefaultWordingReqd());
     verify(caabApiClient).getScopeLimitations(proceeding.getId());
-    verify(lookupService, times(2))
-        .getScopeLimitationDetails(any(uk.gov.laa.ccms.data.model.ScopeLimitationDetail.class));
+    verify(lookupService)
+        .getScopeLimitationDetails("FAM", "MAT", "PROC", "LOS", false, List.of("SL1", "SL2"));
   }
 
   @Test
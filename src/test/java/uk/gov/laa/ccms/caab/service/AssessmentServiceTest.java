@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -35,12 +36,14 @@ import static uk.gov.laa.ccms.caab.util.EbsModelUtils.buildUserDetail;
 
 import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -53,6 +56,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentAttributeDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
@@ -60,6 +64,7 @@ import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetails;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityTypeDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AuditDetail;
+import uk.gov.laa.ccms.caab.assessment.model.PatchAssessmentDetail;
 import uk.gov.laa.ccms.caab.client.AssessmentApiClient;
 import uk.gov.laa.ccms.caab.client.CaabApiClient;
 import uk.gov.laa.ccms.caab.client.EbsApiClient;
@@ -83,6 +88,7 @@ import uk.gov.laa.ccms.caab.model.ScopeLimitationDetail;
 import uk.gov.laa.ccms.caab.model.StringDisplayValue;
 import uk.gov.laa.ccms.caab.model.assessment.AssessmentSummaryAttributeDisplay;
 import uk.gov.laa.ccms.caab.model.assessment.AssessmentSummaryEntityDisplay;
+import uk.gov.laa.ccms.caab.util.IndexedAssessment;
 import uk.gov.laa.ccms.data.model.AssessmentSummaryAttributeLookupValueDetail;
 import uk.gov.laa.ccms.data.model.AssessmentSummaryEntityLookupValueDetail;
 import uk.gov.laa.ccms.data.model.BaseProvider;
@@ -583,13 +589,82 @@ public class AssessmentServiceTest {
         application, meansAssessment, meritsAssessment, user);
 
     // Means is flagged twice, merits only by the reassessment-required block: with no proceedings
-    // or opponents there is no key-change date, which every old PUI merits rule depends on.
-    verify(assessmentApiClient, times(2)).patchAssessment(eq(101L), anyString(), any());
-    verify(assessmentApiClient, times(1)).patchAssessment(eq(102L), anyString(), any());
+    // or opponents there is no key-change date, which every old PUI merits rule depends on. Each is
+    // still patched only once.
+    verify(assessmentApiClient, times(1))
+        .patchAssessment(eq(101L), anyString(), eq(new PatchAssessmentDetail().status("REQUIRED")));
+    verify(assessmentApiClient, times(1))
+        .patchAssessment(eq(102L), anyString(), eq(new PatchAssessmentDetail().status("REQUIRED")));
     assertEquals("Re-assessment Required", application.getMeansAssessmentStatus());
     assertEquals("Re-assessment Required", application.getMeritsAssessmentStatus());
   }
 
+  @Test
+  void testCalculateAssessmentStatuses_statusAlreadyStored_doesNotPatch() {
+    final ApplicationDetail application =
+        new ApplicationDetail().amendment(true).meansAssessmentStatus(PROGRESS_STATUS_DESC);
+
+    final AssessmentDetail meansAssessment =
+        new AssessmentDetail().id(ASSESSMENT_ID).name(MEANS.getName()).status("UNCHANGED");
+
+    when(lookupService.getCommonValue(eq(COMMON_VALUE_PROGRESS_STATUS_TYPES), any()))
+        .thenReturn(
+            Mono.just(
+                Optional.of(
+                    new CommonLookupValueDetail()
+                        .code(PROGRESS_STATUS_CODE)
+                        .description(PROGRESS_STATUS_DESC))));
+
+    assessmentService.calculateAssessmentStatuses(
+        application, meansAssessment, null, buildUserDetail());
+
+    // The amendment leaves the means unchanged, and it is already stored as unchanged.
+    verify(assessmentApiClient, never()).patchAssessment(anyLong(), anyString(), any());
+    assertEquals(PROGRESS_STATUS_DESC, application.getMeansAssessmentStatus());
+  }
+
+  @Test
+  void testCalculateAssessmentStatuses_patchesBothAssessmentsAtOnce() {
+    final ApplicationDetail application =
+        new ApplicationDetail().amendment(false).meritsReassessmentRequired(true);
+
+    final AssessmentDetail meansAssessment =
+        new AssessmentDetail().id(101L).name(MEANS.getName()).status("COMPLETE");
+    final AssessmentDetail meritsAssessment =
+        new AssessmentDetail().id(102L).name(MERITS.getName()).status("COMPLETE");
+
+    // Neither patch completes until both have been sent, so this only finishes if they are sent
+    // together rather than one after the other.
+    final CountDownLatch bothSent = new CountDownLatch(2);
+    when(assessmentApiClient.patchAssessment(anyLong(), anyString(), any()))
+        .thenAnswer(
+            invocation -> {
+              bothSent.countDown();
+              return Mono.fromRunnable(
+                      () -> {
+                        try {
+                          bothSent.await();
+                        } catch (final InterruptedException e) {
+                          Thread.currentThread().interrupt();
+                        }
+                      })
+                  .subscribeOn(Schedulers.boundedElastic())
+                  .then();
+            });
+    when(lookupService.getCommonValue(anyString(), anyString()))
+        .thenReturn(
+            Mono.just(
+                Optional.of(new CommonLookupValueDetail().description("Re-assessment Required"))));
+
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(5),
+        () ->
+            assessmentService.calculateAssessmentStatuses(
+                application, meansAssessment, meritsAssessment, user));
+
+    verify(assessmentApiClient, times(2)).patchAssessment(anyLong(), anyString(), any());
+  }
+
   @Test
   void
       testIsReassessmentRequired_amendment_noMeritsAssessment_substantiveApp_emergencyCert_returnsTrue() {
@@ -2213,7 +2288,11 @@ public class AssessmentServiceTest {
 
     // Call the method under test
     assessmentService.createSummaryEntity(
-        assessment, summaryEntitiesToDisplay, childSummaryLookups, summaryEntityLookup, entity);
+        IndexedAssessment.of(assessment),
+        summaryEntitiesToDisplay,
+        childSummaryLookups,
+        summaryEntityLookup,
+        entity);
 
     // Verify the result
     assertFalse(summaryEntitiesToDisplay.isEmpty());
@@ -1,6 +1,7 @@
 package uk.gov.laa.ccms.caab.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -10,7 +11,12 @@ import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,8 +29,10 @@ import uk.gov.laa.ccms.caab.assessment.model.AssessmentAttributeDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityDetail;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityTypeDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AuditDetail;
 import uk.gov.laa.ccms.caab.bean.billing.SoaFigureColumn;
 import uk.gov.laa.ccms.caab.bean.billing.StatementOfAccountDisplay;
+import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
 import uk.gov.laa.ccms.caab.model.ApplicationDetail;
 import uk.gov.laa.ccms.caab.model.StringDisplayValue;
 
@@ -187,4 +195,120 @@ class BillingSummaryPdfServiceTest {
     assertThat(pdf).isNotEmpty();
     assertThat(new String(pdf, 0, 5, StandardCharsets.ISO_8859_1)).isEqualTo("%PDF-");
   }
+
+  @Test
+  @DisplayName("Serves a report again from the cache until the assessment is saved again")
+  void cachesReportByAssessmentVersion() {
+    final SpringTemplateEngine mockEngine = mock(SpringTemplateEngine.class);
+    when(mockEngine.process(eq("pdf/billing-summary"), any(IContext.class)))
+        .thenReturn("<html><body><p>Report</p></body></html>");
+    final BillingSummaryPdfService cachingService = new BillingSummaryPdfService(mockEngine);
+    final AssessmentDetail assessment =
+        completedAssessment().id(1L).auditDetail(new AuditDetail().lastSaved(new Date(1000L)));
+
+    final byte[] first =
+        cachingService.generateBillSummary(
+            ebsCase(), "Test Firm", assessment, statement(), BigDecimal.ZERO);
+    final byte[] second =
+        cachingService.generateBillSummary(
+            ebsCase(), "Test Firm", assessment, statement(), BigDecimal.ZERO);
+    assertThat(second).isSameAs(first);
+    verify(mockEngine, times(1)).process(eq("pdf/billing-summary"), any(IContext.class));
+
+    // The other report, different header figures and a newer save each render afresh.
+    cachingService.generatePoaSummary(
+        ebsCase(), "Test Firm", assessment, statement(), BigDecimal.ZERO);
+    cachingService.generateBillSummary(
+        ebsCase(), "Test Firm", assessment, statement(), BigDecimal.TEN);
+    assessment.getAuditDetail().setLastSaved(new Date(2000L));
+    cachingService.generateBillSummary(
+        ebsCase(), "Test Firm", assessment, statement(), BigDecimal.ZERO);
+    verify(mockEngine, times(4)).process(eq("pdf/billing-summary"), any(IContext.class));
+  }
+
+  @Test
+  @DisplayName("Does not cache a report for an assessment with no known version")
+  void doesNotCacheUnversionedReport() {
+    final SpringTemplateEngine mockEngine = mock(SpringTemplateEngine.class);
+    when(mockEngine.process(eq("pdf/billing-summary"), any(IContext.class)))
+        .thenReturn("<html><body><p>Report</p></body></html>");
+    final BillingSummaryPdfService cachingService = new BillingSummaryPdfService(mockEngine);
+    final AssessmentDetail assessment = completedAssessment().id(1L);
+
+    cachingService.generateBillSummary(
+        ebsCase(), "Test Firm", assessment, statement(), BigDecimal.ZERO);
+    cachingService.generateBillSummary(
+        ebsCase(), "Test Firm", assessment, statement(), BigDecimal.ZERO);
+
+    verify(mockEngine, times(2)).process(eq("pdf/billing-summary"), any(IContext.class));
+  }
+
+  @Test
+  @DisplayName("Renders more reports at once than there are pooled renderers")
+  void rendersConcurrentlyWithPooledRenderers() throws Exception {
+    final List<Future<byte[]>> pdfs;
+    try (ExecutorService executor = Executors.newFixedThreadPool(12)) {
+      pdfs =
+          executor.invokeAll(
+              Collections.nCopies(
+                  24,
+                  () ->
+                      service.generateBillSummary(
+                          ebsCase(),
+                          "Test Firm",
+                          completedAssessment(),
+                          statement(),
+                          BigDecimal.ZERO)));
+    }
+
+    for (final Future<byte[]> pdf : pdfs) {
+      assertThat(new String(pdf.get(), 0, 5, StandardCharsets.ISO_8859_1)).isEqualTo("%PDF-");
+    }
+  }
+
+  @Test
+  @DisplayName("Reports render once the renderers have been warmed up, and while they are")
+  void rendersAroundRendererWarmUp() throws Exception {
+    final Future<byte[]> duringWarmUp;
+    try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+      duringWarmUp =
+          executor.submit(
+              () ->
+                  service.generateBillSummary(
+                      ebsCase(), "Test Firm", completedAssessment(), statement(), BigDecimal.ZERO));
+      service.warmUpRenderers();
+    }
+
+    final byte[] afterWarmUp =
+        service.generateBillSummary(
+            ebsCase(), "Test Firm", completedAssessment(), statement(), BigDecimal.ZERO);
+
+    assertThat(new String(duringWarmUp.get(), 0, 5, StandardCharsets.ISO_8859_1))
+        .isEqualTo("%PDF-");
+    assertThat(new String(afterWarmUp, 0, 5, StandardCharsets.ISO_8859_1)).isEqualTo("%PDF-");
+  }
+
+  @Test
+  @DisplayName("A renderer that fails is replaced, and later reports still render")
+  void replacesFailedRenderer() {
+    final SpringTemplateEngine mockEngine = mock(SpringTemplateEngine.class);
+    when(mockEngine.process(eq("pdf/billing-summary"), any(IContext.class)))
+        .thenReturn("<html><body><p>Unclosed</body></html>")
+        .thenReturn("<html><body><p>Report</p></body></html>");
+    final BillingSummaryPdfService failingService = new BillingSummaryPdfService(mockEngine);
+
+    assertThatThrownBy(
+            () ->
+                failingService.generateBillSummary(
+                    ebsCase(), "Test Firm", completedAssessment(), statement(), BigDecimal.ZERO))
+        .isInstanceOf(CaabApplicationException.class)
+        .hasMessageContaining("BILL REPORT");
+
+    for (int i = 0; i < 8; i++) {
+      final byte[] pdf =
+          failingService.generateBillSummary(
+              ebsCase(), "Test Firm", completedAssessment(), statement(), BigDecimal.ZERO);
+      assertThat(new String(pdf, 0, 5, StandardCharsets.ISO_8859_1)).isEqualTo("%PDF-");
+    }
+  }
 }
@@ -0,0 +1,162 @@
+package uk.gov.laa.ccms.caab.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentAttributeDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityTypeDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AuditDetail;
+import uk.gov.laa.ccms.caab.bean.billing.StatementOfAccountDisplay;
+import uk.gov.laa.ccms.caab.model.ApplicationDetail;
+
+/**
+ * Timing test for the billing summary report, rendering a 200 line bill and logging the median and
+ * 99th percentile render times, alongside those of a fresh renderer per report (as the service once
+ * did) and of a report served from the cache.
+ *
+ * <p>Timings vary too much between machines to assert on, so only the cache - which skips
+ * rendering altogether - is held to being faster than rendering.
+ */
+@Slf4j
+class BillingSummaryPdfServiceTimingTest {
+
+  private static final int BILL_LINES = 200;
+
+  private static final int WARM_UP_RUNS = 5;
+
+  private static final int RUNS = 50;
+
+  private BillingSummaryPdfService service;
+
+  @BeforeEach
+  void setup() {
+    final ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+    resolver.setPrefix("templates/");
+    resolver.setSuffix(".html");
+    resolver.setTemplateMode(TemplateMode.HTML);
+    final SpringTemplateEngine engine = new SpringTemplateEngine();
+    engine.setTemplateResolver(resolver);
+    service = new BillingSummaryPdfService(engine);
+  }
+
+  private static AssessmentAttributeDetail attr(final String name, final String value) {
+    return new AssessmentAttributeDetail().name(name).value(value);
+  }
+
+  private static AssessmentDetail bill(final long id) {
+    final AssessmentEntityTypeDetail lines =
+        new AssessmentEntityTypeDetail().name("PROFIT_COST_BILL_LINE");
+    for (int i = 0; i < BILL_LINES; i++) {
+      lines.addEntitiesItem(
+          new AssessmentEntityDetail()
+              .name("line-" + i)
+              .addAttributesItem(attr("PROFIT_COST_DATE", "%02d-01-2026".formatted(i % 28 + 1)))
+              .addAttributesItem(attr("PROFIT_COST_COST_TYPE", "Profit cost"))
+              .addAttributesItem(attr("PROFIT_COST_CATEGORY_OF_WORK", "Preparation"))
+              .addAttributesItem(attr("PROFIT_COST_ACTIVITY", "Drafting document " + i))
+              .addAttributesItem(attr("PROFIT_COST_TIME", "01:30"))
+              .addAttributesItem(attr("PROFIT_COST_ITEM", "1"))
+              .addAttributesItem(attr("PROFIT_COST_RATE", "50.00"))
+              .addAttributesItem(attr("PROFIT_COST_UPLIFT", "0"))
+              .addAttributesItem(attr("PROFIT_COST_NET_CLAIM_INC_UPLFT", "75.00"))
+              .addAttributesItem(attr("PROFIT_COST_VAT", "15.00"))
+              .addAttributesItem(attr("PROFIT_COST_TOTAL_CLAIM", "90.00"))
+              .addAttributesItem(attr("PROFIT_COST_FEE_EARNER", "A Solicitor"))
+              .addAttributesItem(attr("PROFIT_COST_PRIOR_AUTH", "N/A")));
+    }
+    return new AssessmentDetail()
+        .id(id)
+        .auditDetail(new AuditDetail().lastSaved(new Date(id)))
+        .addEntityTypesItem(
+            new AssessmentEntityTypeDetail()
+                .name("global")
+                .addEntitiesItem(
+                    new AssessmentEntityDetail()
+                        .name("300000123")
+                        .addAttributesItem(attr("BILL_TYPE", "Profit costs"))
+                        .addAttributesItem(attr("BILL_SUBMITTED_TOTAL_AMT", "15000.00"))
+                        .addAttributesItem(attr("BILL_SUBMITTED_TOTAL_VAT", "3000.00"))))
+        .addEntityTypesItem(lines);
+  }
+
+  private byte[] render(final AssessmentDetail assessment) {
+    return service.generateBillSummary(
+        new ApplicationDetail().caseReferenceNumber("300000123"),
+        "Test Firm",
+        assessment,
+        new StatementOfAccountDisplay(),
+        BigDecimal.ZERO);
+  }
+
+  /** Renders with a new renderer, as every report was before renderers were pooled. */
+  private void renderWithFreshRenderer() throws Exception {
+    final ITextRenderer renderer = new ITextRenderer();
+    renderer.setDocumentFromString("<html><body><p>A small report</p></body></html>");
+    renderer.layout();
+    renderer.createPDF(OutputStream.nullOutputStream());
+  }
+
+  private interface Run {
+    void run(int i) throws Exception;
+  }
+
+  private static long[] time(final Run run) throws Exception {
+    for (int i = 0; i < WARM_UP_RUNS; i++) {
+      run.run(-1 - i);
+    }
+    final long[] nanos = new long[RUNS];
+    for (int i = 0; i < RUNS; i++) {
+      final long start = System.nanoTime();
+      run.run(i);
+      nanos[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(nanos);
+    return nanos;
+  }
+
+  private static double percentileMillis(final long[] sortedNanos, final int percentile) {
+    final int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+    return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+  }
+
+  private static void report(final String label, final long[] sortedNanos) {
+    log.info(
+        "{}: p50 {} ms, p99 {} ms over {} runs",
+        label,
+        "%.2f".formatted(percentileMillis(sortedNanos, 50)),
+        "%.2f".formatted(percentileMillis(sortedNanos, 99)),
+        sortedNanos.length);
+  }
+
+  @Test
+  @DisplayName("Times rendering a 200 line bill, fresh and from the cache")
+  void timesTwoHundredLineBill() throws Exception {
+    // A new assessment id on every run, so none of these is served from the cache.
+    final long[] rendered = time(i -> render(bill(1000L + i)));
+    final long[] freshRendererOverhead = time(i -> renderWithFreshRenderer());
+    final AssessmentDetail cachedBill = bill(1L);
+    render(cachedBill);
+    final long[] cached = time(i -> render(cachedBill));
+
+    report("Rendering a " + BILL_LINES + " line bill", rendered);
+    report("Creating and using a fresh renderer for a one line document", freshRendererOverhead);
+    report("Serving a " + BILL_LINES + " line bill from the cache", cached);
+
+    assertTrue(
+        percentileMillis(cached, 50) < percentileMillis(rendered, 50),
+        "a cached report should be served faster than one is rendered");
+  }
+}
@@ -15,6 +15,9 @@ import static uk.gov.laa.ccms.caab.constants.CommonValueConstants.COMMON_VALUE_P
 import static uk.gov.laa.ccms.caab.constants.assessment.AssessmentName.MEANS;
 import static uk.gov.laa.ccms.caab.constants.assessment.AssessmentName.MERITS;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -25,6 +28,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import uk.gov.laa.ccms.caab.assessment.model.AssessmentAttributeDetail;
@@ -42,6 +49,7 @@ import uk.gov.laa.ccms.caab.model.EvidenceDocumentDetail;
 import uk.gov.laa.ccms.caab.model.EvidenceDocumentDetails;
 import uk.gov.laa.ccms.caab.model.PriorAuthorityDetail;
 import uk.gov.laa.ccms.caab.util.AssessmentModelUtils;
+import uk.gov.laa.ccms.caab.util.Base64JsonFieldReader;
 import uk.gov.laa.ccms.data.model.EvidenceDocumentTypeLookupDetail;
 import uk.gov.laa.ccms.data.model.EvidenceDocumentTypeLookupValueDetail;
 import uk.gov.laa.ccms.soa.gateway.model.ClientTransactionResponse;
@@ -112,6 +120,36 @@ class EvidenceServiceTest {
     verify(caabApiClient).getEvidenceDocument(evidenceDocumentId);
   }
 
+  @Test
+  void openEvidenceDocumentContent_decodesFileData() throws IOException {
+    final Integer evidenceDocumentId = 123;
+    final String json =
+        "{\"id\": 123, \"fileData\": \"%s\"}"
+            .formatted(Base64.getEncoder().encodeToString("the file data".getBytes()));
+    when(caabApiClient.getEvidenceDocumentBody(evidenceDocumentId))
+        .thenReturn(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes())));
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (Base64JsonFieldReader content =
+        evidenceService.openEvidenceDocumentContent(evidenceDocumentId)) {
+      content.transferTo(out);
+    }
+
+    assertEquals("the file data", out.toString());
+  }
+
+  @Test
+  void openEvidenceDocumentContent_noFileData_throwsException() {
+    final Integer evidenceDocumentId = 123;
+    when(caabApiClient.getEvidenceDocumentBody(evidenceDocumentId))
+        .thenReturn(
+            Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("{\"id\": 123}".getBytes())));
+
+    assertThrows(
+        CaabApplicationException.class,
+        () -> evidenceService.openEvidenceDocumentContent(evidenceDocumentId));
+  }
+
   @Test
   void registerDocument_callsApiClient() {
     final String docId = "123";
@@ -151,6 +189,21 @@ class EvidenceServiceTest {
     StepVerifier.create(resultMono).expectNext(docId).verifyComplete();
   }
 
+  @Test
+  void addDocument_withContent_callsApiClient() {
+    final String docId = "123";
+    final EvidenceDocumentDetail evidenceDocumentDetail = new EvidenceDocumentDetail();
+    final InputStreamSource content = new ByteArrayResource("the file data".getBytes());
+
+    when(caabApiClient.createEvidenceDocument(evidenceDocumentDetail, content, userId))
+        .thenReturn(Mono.just(docId));
+
+    final Mono<String> resultMono =
+        evidenceService.addDocument(evidenceDocumentDetail, content, userId);
+
+    StepVerifier.create(resultMono).expectNext(docId).verifyComplete();
+  }
+
   @Test
   void removeDocument_correctApplicationId_removesDocument() {
     final Integer docId = 123;
@@ -2,6 +2,7 @@ package uk.gov.laa.ccms.caab.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.laa.ccms.caab.constants.ClientActionConstants.ACTION_VIEW;
@@ -16,16 +17,19 @@ import static uk.gov.laa.ccms.caab.constants.CommonValueConstants.COMMON_VALUE_M
 import static uk.gov.laa.ccms.caab.constants.CommonValueConstants.COMMON_VALUE_PROCEEDING_ORDER_TYPE;
 import static uk.gov.laa.ccms.caab.constants.CommonValueConstants.COMMON_VALUE_RELATIONSHIP_TO_CLIENT;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ui.Model;
@@ -36,7 +40,10 @@ import uk.gov.laa.ccms.caab.bean.ClientFormDataAddressDetails;
 import uk.gov.laa.ccms.caab.bean.ClientFormDataBasicDetails;
 import uk.gov.laa.ccms.caab.bean.ClientFormDataContactDetails;
 import uk.gov.laa.ccms.caab.bean.ClientFormDataMonitoringDetails;
+import uk.gov.laa.ccms.caab.cache.ReferenceDataCache;
+import uk.gov.laa.ccms.caab.cache.ReferenceDataCacheProperties;
 import uk.gov.laa.ccms.caab.client.EbsApiClient;
+import uk.gov.laa.ccms.caab.client.EbsApiClientException;
 import uk.gov.laa.ccms.caab.mapper.context.submission.OpponentSubmissionSummaryMappingContext;
 import uk.gov.laa.ccms.caab.mapper.context.submission.ProceedingSubmissionSummaryMappingContext;
 import uk.gov.laa.ccms.data.model.AssessmentSummaryEntityLookupDetail;
@@ -67,7 +74,84 @@ import uk.gov.laa.ccms.data.model.TaxRateLookupDetail;
 public class LookupServiceTest {
   @Mock private EbsApiClient ebsApiClient;
 
-  @InjectMocks private LookupService lookupService;
+  private LookupService lookupService;
+
+  @BeforeEach
+  void setUp() {
+    lookupService = new LookupService(ebsApiClient, referenceDataCache(false));
+  }
+
+  private static ReferenceDataCache referenceDataCache(final boolean enabled) {
+    return new ReferenceDataCache(
+        new ReferenceDataCacheProperties(enabled, 100, Duration.ofHours(1), Duration.ofMinutes(30)),
+        new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("Cached lookups only reach the EBS API once per type and parameters")
+  void cachedLookups_reachEbsApiOnce() {
+    lookupService = new LookupService(ebsApiClient, referenceDataCache(true));
+
+    when(ebsApiClient.getCommonValues(COMMON_VALUE_CONTACT_TITLE))
+        .thenReturn(Mono.just(new CommonLookupDetail()));
+    when(ebsApiClient.getCommonValues(COMMON_VALUE_RELATIONSHIP_TO_CLIENT))
+        .thenReturn(Mono.just(new CommonLookupDetail()));
+    when(ebsApiClient.getPersonToCaseRelationships(null, null))
+        .thenReturn(Mono.just(new RelationshipToCaseLookupDetail()));
+    when(ebsApiClient.getOrganisationToCaseRelationshipValues(null, null))
+        .thenReturn(Mono.just(new RelationshipToCaseLookupDetail()));
+
+    // The four lookups made by every application section summary load.
+    for (int i = 0; i < 5; i++) {
+      lookupService.getOrganisationToCaseRelationships().block();
+      lookupService.getPersonToCaseRelationships().block();
+      lookupService.getCommonValues(COMMON_VALUE_RELATIONSHIP_TO_CLIENT).block();
+      lookupService.getCommonValues(COMMON_VALUE_CONTACT_TITLE).block();
+    }
+
+    verify(ebsApiClient, times(1)).getCommonValues(COMMON_VALUE_CONTACT_TITLE);
+    verify(ebsApiClient, times(1)).getCommonValues(COMMON_VALUE_RELATIONSHIP_TO_CLIENT);
+    verify(ebsApiClient, times(1)).getPersonToCaseRelationships(null, null);
+    verify(ebsApiClient, times(1)).getOrganisationToCaseRelationshipValues(null, null);
+  }
+
+  @Test
+  @DisplayName("Cached lookups with different parameters reach the EBS API separately")
+  void cachedLookups_differentParameters_reachEbsApiSeparately() {
+    lookupService = new LookupService(ebsApiClient, referenceDataCache(true));
+
+    when(ebsApiClient.getCommonValues(COMMON_VALUE_GENDER, "M"))
+        .thenReturn(Mono.just(new CommonLookupDetail()));
+    when(ebsApiClient.getCommonValues(COMMON_VALUE_GENDER, "F"))
+        .thenReturn(Mono.just(new CommonLookupDetail()));
+
+    lookupService.getCommonValue(COMMON_VALUE_GENDER, "M").block();
+    lookupService.getCommonValue(COMMON_VALUE_GENDER, "F").block();
+    lookupService.getCommonValue(COMMON_VALUE_GENDER, "M").block();
+    lookupService.getCommonValue(COMMON_VALUE_GENDER, "F").block();
+
+    verify(ebsApiClient, times(1)).getCommonValues(COMMON_VALUE_GENDER, "M");
+    verify(ebsApiClient, times(1)).getCommonValues(COMMON_VALUE_GENDER, "F");
+  }
+
+  @Test
+  @DisplayName("Failed lookups are not cached")
+  void cachedLookups_failedLookupIsRetried() {
+    lookupService = new LookupService(ebsApiClient, referenceDataCache(true));
+
+    final TaxRateLookupDetail taxRates = new TaxRateLookupDetail();
+    when(ebsApiClient.getTaxRates())
+        .thenReturn(Mono.error(new EbsApiClientException("EBS unavailable")))
+        .thenReturn(Mono.just(taxRates));
+
+    StepVerifier.create(lookupService.getTaxRates())
+        .expectError(EbsApiClientException.class)
+        .verify();
+    StepVerifier.create(lookupService.getTaxRates()).expectNext(taxRates).verifyComplete();
+    StepVerifier.create(lookupService.getTaxRates()).expectNext(taxRates).verifyComplete();
+
+    verify(ebsApiClient, times(2)).getTaxRates();
+  }
 
   @Test
   @DisplayName("getMatterTypes returns data successfully")
@@ -160,6 +244,73 @@ public class LookupServiceTest {
     verify(ebsApiClient).getScopeLimitations(searchCriteria);
   }
 
+  @Test
+  @DisplayName("getScopeLimitationDetails looks up each scope limitation of a proceeding once")
+  void getScopeLimitationDetails_batch_looksUpEachScopeLimitationOnce() {
+    final ScopeLimitationDetails firstDetails = new ScopeLimitationDetails().totalElements(1);
+    final ScopeLimitationDetails secondDetails = new ScopeLimitationDetails().totalElements(2);
+
+    when(ebsApiClient.getScopeLimitations(scopeLimitationCriteria(null, "SL1")))
+        .thenReturn(Mono.just(firstDetails));
+    when(ebsApiClient.getScopeLimitations(scopeLimitationCriteria(null, "SL2")))
+        .thenReturn(Mono.just(secondDetails));
+
+    final Map<String, ScopeLimitationDetails> result =
+        lookupService
+            .getScopeLimitationDetails(
+                "CAT", "MAT", "PROC", "LOS", false, List.of("SL1", "SL2", "SL1"))
+            .block();
+
+    assertEquals(Map.of("SL1", firstDetails, "SL2", secondDetails), result);
+    verify(ebsApiClient).getScopeLimitations(scopeLimitationCriteria(null, "SL1"));
+    verify(ebsApiClient).getScopeLimitations(scopeLimitationCriteria(null, "SL2"));
+  }
+
+  @Test
+  @DisplayName("getScopeLimitationDetails caches the details of each scope limitation")
+  void getScopeLimitationDetails_batch_cachedPerScopeLimitationAndEmergency() {
+    lookupService = new LookupService(ebsApiClient, referenceDataCache(true));
+
+    final ScopeLimitationDetails details = new ScopeLimitationDetails().totalElements(1);
+    final ScopeLimitationDetails emergencyDetails = new ScopeLimitationDetails().totalElements(2);
+
+    when(ebsApiClient.getScopeLimitations(scopeLimitationCriteria(null, "SL1")))
+        .thenReturn(Mono.just(details));
+    when(ebsApiClient.getScopeLimitations(scopeLimitationCriteria(Boolean.TRUE, "SL1")))
+        .thenReturn(Mono.just(emergencyDetails));
+    when(ebsApiClient.getScopeLimitations(scopeLimitationCriteria(null, "SL2")))
+        .thenReturn(Mono.empty());
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(
+          Map.of("SL1", details),
+          lookupService
+              .getScopeLimitationDetails("CAT", "MAT", "PROC", "LOS", false, List.of("SL1", "SL2"))
+              .block());
+      assertEquals(
+          Map.of("SL1", emergencyDetails),
+          lookupService
+              .getScopeLimitationDetails("CAT", "MAT", "PROC", "LOS", true, List.of("SL1"))
+              .block());
+    }
+
+    verify(ebsApiClient).getScopeLimitations(scopeLimitationCriteria(null, "SL1"));
+    verify(ebsApiClient).getScopeLimitations(scopeLimitationCriteria(Boolean.TRUE, "SL1"));
+    // Scope limitations that could not be found are not cached.
+    verify(ebsApiClient, times(3)).getScopeLimitations(scopeLimitationCriteria(null, "SL2"));
+  }
+
+  private static ScopeLimitationDetail scopeLimitationCriteria(
+      final Boolean emergency, final String scopeLimitation) {
+    return new ScopeLimitationDetail()
+        .categoryOfLaw("CAT")
+        .matterType("MAT")
+        .proceedingCode("PROC")
+        .levelOfService("LOS")
+        .emergency(emergency)
+        .scopeLimitations(scopeLimitation);
+  }
+
   @Test
   @DisplayName("getCourts with courtCode and description returns data successfully")
   void getCourts_withCourtCodeAndDescription_success() {
@@ -5,7 +5,6 @@ import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -14,7 +13,6 @@ import static org.mockito.Mockito.when;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -136,11 +134,11 @@ class NotificationServiceTest {
   void retrieveNotificationAttachment_checksS3() {
     String documentId = "documentId";
 
-    when(s3ApiClient.getDocumentUrl(eq(documentId))).thenReturn(Optional.of("document-url"));
+    when(s3ApiClient.documentExists(documentId)).thenReturn(true);
 
     notificationService.retrieveNotificationAttachment(documentId, "loginId", "userType");
 
-    verify(s3ApiClient).getDocumentUrl(documentId);
+    verify(s3ApiClient).documentExists(documentId);
     verifyNoInteractions(soaApiClient);
     verify(s3ApiClient, never()).uploadDocument(any(), any(), any());
   }
@@ -150,7 +148,7 @@ class NotificationServiceTest {
     String documentId = "documentId";
     String documentContent = "documentContent";
 
-    when(s3ApiClient.getDocumentUrl(eq(documentId))).thenReturn(Optional.empty());
+    when(s3ApiClient.documentExists(documentId)).thenReturn(false);
 
     Document document = new Document().documentId(documentId).fileData(documentContent);
 
@@ -167,7 +165,7 @@ class NotificationServiceTest {
     String documentId = "documentId";
     String documentContent = "documentContent";
 
-    when(s3ApiClient.getDocumentUrl(eq(documentId))).thenReturn(Optional.empty());
+    when(s3ApiClient.documentExists(documentId)).thenReturn(false);
 
     Document document =
         new Document().documentId(documentId).fileData(documentContent).fileExtension("pdf");
@@ -180,15 +178,28 @@ class NotificationServiceTest {
     verify(s3ApiClient).uploadDocument(documentId, documentContent, "pdf");
   }
 
+  @Test
+  void retrieveDraftNotificationAttachment_checksS3() {
+    String documentId = "123";
+
+    when(s3ApiClient.draftDocumentExists(documentId)).thenReturn(true);
+
+    notificationService.retrieveDraftNotificationAttachment(documentId, "loginId", "userType");
+
+    verify(s3ApiClient).draftDocumentExists(documentId);
+    verifyNoInteractions(caabApiClient);
+    verify(s3ApiClient, never()).uploadDraftDocument(any(), any(), any());
+  }
+
   @Test
   void retrieveCoverSheet_checksS3() {
     String documentId = "documentId";
 
-    when(s3ApiClient.getDocumentUrl(eq(documentId))).thenReturn(Optional.of("document-url"));
+    when(s3ApiClient.documentExists(documentId)).thenReturn(true);
 
     notificationService.retrieveCoverSheet(documentId, "loginId", "userType");
 
-    verify(s3ApiClient).getDocumentUrl(documentId);
+    verify(s3ApiClient).documentExists(documentId);
     verifyNoInteractions(soaApiClient);
     verify(s3ApiClient, never()).uploadDocument(any(), any(), any());
   }
@@ -198,7 +209,7 @@ class NotificationServiceTest {
     String documentId = "documentId";
     String documentContent = "documentContent";
 
-    when(s3ApiClient.getDocumentUrl(eq(documentId))).thenReturn(Optional.empty());
+    when(s3ApiClient.documentExists(documentId)).thenReturn(false);
 
     CoverSheet coverSheet = new CoverSheet().documentId(documentId).fileData(documentContent);
 
@@ -215,7 +226,7 @@ class NotificationServiceTest {
     String documentId = "documentId";
     String documentContent = "documentContent";
 
-    when(s3ApiClient.getDocumentUrl(eq(documentId))).thenReturn(Optional.empty());
+    when(s3ApiClient.documentExists(documentId)).thenReturn(false);
 
     CoverSheet coverSheet = new CoverSheet().documentId(documentId).fileData(documentContent);
 
@@ -330,16 +341,15 @@ class NotificationServiceTest {
             new uk.gov.laa.ccms.data.model.Document().documentId("1"),
             new uk.gov.laa.ccms.data.model.Document().documentId("2"));
 
-    when(s3ApiClient.getDocumentUrl("1")).thenReturn(Optional.of("link 1"));
-    when(s3ApiClient.getDocumentUrl("2")).thenReturn(Optional.of("link 2"));
+    when(s3ApiClient.getDocumentUrls(List.of("1", "2"))).thenReturn(Map.of("1", "link 1"));
 
     Map<String, String> documentLinks = notificationService.getDocumentLinks(documents);
 
-    verify(s3ApiClient).getDocumentUrl("1");
-    verify(s3ApiClient).getDocumentUrl("2");
+    verify(s3ApiClient).getDocumentUrls(List.of("1", "2"));
+    verify(s3ApiClient, never()).getDocumentUrl(any());
 
     assertThat(documentLinks, hasEntry("1", "link 1"));
-    assertThat(documentLinks, hasEntry("2", "link 2"));
+    assertThat(documentLinks, hasEntry("2", null));
   }
 
   @Test
@@ -349,13 +359,13 @@ class NotificationServiceTest {
             new BaseNotificationAttachmentDetail().id(1),
             new BaseNotificationAttachmentDetail().id(2));
 
-    when(s3ApiClient.getDraftDocumentUrl("1")).thenReturn(Optional.of("draft link 1"));
-    when(s3ApiClient.getDraftDocumentUrl("2")).thenReturn(Optional.of("draft link 2"));
+    when(s3ApiClient.getDraftDocumentUrls(List.of("1", "2")))
+        .thenReturn(Map.of("1", "draft link 1", "2", "draft link 2"));
 
     Map<String, String> documentLinks = notificationService.getDraftDocumentLinks(documents);
 
-    verify(s3ApiClient).getDraftDocumentUrl("1");
-    verify(s3ApiClient).getDraftDocumentUrl("2");
+    verify(s3ApiClient).getDraftDocumentUrls(List.of("1", "2"));
+    verify(s3ApiClient, never()).getDraftDocumentUrl(any());
 
     assertThat(documentLinks, hasEntry("1", "draft link 1"));
     assertThat(documentLinks, hasEntry("2", "draft link 2"));
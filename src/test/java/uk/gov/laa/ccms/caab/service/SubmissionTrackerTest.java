@@ -0,0 +1,218 @@
+package uk.gov.laa.ccms.caab.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.laa.ccms.caab.model.SubmissionProgress;
+import uk.gov.laa.ccms.data.model.TransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionTrackerTest {
+
+  @Mock private ApplicationService applicationService;
+
+  @Mock private ClientService clientService;
+
+  @Test
+  @DisplayName("A case submission is confirmed once its transaction has a reference number")
+  void awaitCaseProgress_confirmedAfterPolls() {
+    final FakeTransactionStatus soa = new FakeTransactionStatus(3);
+    when(applicationService.getCaseStatus("tx1")).thenAnswer(invocation -> soa.getStatus("tx1"));
+
+    final SubmissionProgress progress =
+        tracker(Duration.ofSeconds(5)).awaitCaseProgress("tx1").block();
+
+    assertEquals(SubmissionProgress.confirmed("REF-tx1"), progress);
+    assertEquals(3, soa.getPolls());
+  }
+
+  @Test
+  @DisplayName("Requests for the same transaction share one poll and its outcome")
+  void awaitCaseProgress_sharesOnePoll() {
+    final FakeTransactionStatus soa = new FakeTransactionStatus(4);
+    when(applicationService.getCaseStatus("tx1")).thenAnswer(invocation -> soa.getStatus("tx1"));
+    final SubmissionTracker tracker = tracker(Duration.ofSeconds(5));
+
+    assertEquals(SubmissionProgress.pending(), tracker.getCaseProgress("tx1"));
+    final List<SubmissionProgress> progress =
+        Flux.range(0, 5)
+            .flatMap(request -> tracker.awaitCaseProgress("tx1"))
+            .collectList()
+            .block();
+
+    assertEquals(5, progress.size());
+    assertTrue(progress.stream().allMatch(SubmissionProgress.confirmed("REF-tx1")::equals));
+    assertEquals(SubmissionProgress.confirmed("REF-tx1"), tracker.getCaseProgress("tx1"));
+    assertEquals(4, soa.getPolls());
+  }
+
+  @Test
+  @DisplayName("A failed poll is retried")
+  void awaitClientProgress_retriesErrors() {
+    final FakeTransactionStatus soa = new FakeTransactionStatus(2);
+    final AtomicInteger calls = new AtomicInteger();
+    when(clientService.getClientStatus("tx1"))
+        .thenAnswer(
+            invocation ->
+                calls.incrementAndGet() == 1
+                    ? Mono.error(new IllegalStateException("unavailable"))
+                    : soa.getStatus("tx1"));
+
+    final SubmissionProgress progress =
+        tracker(Duration.ofSeconds(5)).awaitClientProgress("tx1").block();
+
+    assertEquals(SubmissionProgress.confirmed("REF-tx1"), progress);
+    assertEquals(3, calls.get());
+  }
+
+  @Test
+  @DisplayName("A submission not confirmed within the timeout fails, and is not polled again")
+  void awaitCaseProgress_failsAfterTimeout() {
+    final FakeTransactionStatus soa = new FakeTransactionStatus(Integer.MAX_VALUE);
+    when(applicationService.getCaseStatus("tx1")).thenAnswer(invocation -> soa.getStatus("tx1"));
+    final SubmissionTracker tracker = tracker(Duration.ofMillis(100));
+
+    assertEquals(SubmissionProgress.failed(), tracker.awaitCaseProgress("tx1").block());
+    final int polls = soa.getPolls();
+
+    assertEquals(SubmissionProgress.failed(), tracker.getCaseProgress("tx1"));
+    assertEquals(polls, soa.getPolls());
+    assertTrue(polls > 1);
+  }
+
+  @Test
+  @DisplayName("Waiting on a submission ends pending once the long poll timeout runs out")
+  void awaitCaseProgress_pendingAfterLongPollTimeout() {
+    final FakeTransactionStatus soa = new FakeTransactionStatus(Integer.MAX_VALUE);
+    when(applicationService.getCaseStatus("tx1")).thenAnswer(invocation -> soa.getStatus("tx1"));
+    final SubmissionTracker tracker =
+        new SubmissionTracker(
+            applicationService,
+            clientService,
+            properties(Duration.ofMillis(500), Duration.ofMillis(50)),
+            new SimpleMeterRegistry());
+
+    assertEquals(SubmissionProgress.pending(), tracker.awaitCaseProgress("tx1").block());
+    assertEquals(SubmissionProgress.pending(), tracker.getCaseProgress("tx1"));
+  }
+
+  @Test
+  @DisplayName("Case and client transactions with the same id are tracked separately")
+  void getProgress_caseAndClientSeparate() {
+    final FakeTransactionStatus caseSoa = new FakeTransactionStatus(1);
+    when(applicationService.getCaseStatus("tx1"))
+        .thenAnswer(invocation -> caseSoa.getStatus("case"));
+    final SubmissionTracker tracker = tracker(Duration.ofSeconds(5));
+
+    assertEquals(
+        SubmissionProgress.confirmed("REF-case"), tracker.awaitCaseProgress("tx1").block());
+
+    final FakeTransactionStatus clientSoa = new FakeTransactionStatus(1);
+    when(clientService.getClientStatus("tx1"))
+        .thenAnswer(invocation -> clientSoa.getStatus("client"));
+
+    assertEquals(
+        SubmissionProgress.confirmed("REF-client"), tracker.awaitClientProgress("tx1").block());
+    assertEquals(1, caseSoa.getPolls());
+  }
+
+  @Test
+  @DisplayName("A submission is only polled once it is asked about")
+  void tracker_pollsNothingUntilAsked() {
+    tracker(Duration.ofSeconds(5));
+
+    verify(applicationService, never()).getCaseStatus(anyString());
+    verify(clientService, never()).getClientStatus(anyString());
+  }
+
+  @Test
+  @DisplayName("The delay between polls doubles up to the maximum, less up to the jitter")
+  void backoff_doublesWithJitter() {
+    final SubmissionTracker tracker =
+        new SubmissionTracker(
+            applicationService,
+            clientService,
+            new SubmissionTrackerProperties(
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(8),
+                0.5,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(20),
+                Duration.ofMinutes(10),
+                100),
+            new SimpleMeterRegistry());
+
+    final long[] expected = {1000, 2000, 4000, 8000, 8000, 8000};
+    for (int attempt = 0; attempt < expected.length; attempt++) {
+      for (int sample = 0; sample < 20; sample++) {
+        final long delay = tracker.backoff(attempt).toMillis();
+        assertTrue(delay <= expected[attempt], "attempt " + attempt + " delay " + delay);
+        assertTrue(delay >= expected[attempt] / 2, "attempt " + attempt + " delay " + delay);
+      }
+    }
+    final long capped = tracker.backoff(Long.MAX_VALUE).toMillis();
+    assertTrue(capped >= 4000 && capped <= 8000, "capped delay " + capped);
+  }
+
+  private SubmissionTracker tracker(final Duration timeout) {
+    return new SubmissionTracker(
+        applicationService,
+        clientService,
+        properties(timeout, Duration.ofSeconds(5)),
+        new SimpleMeterRegistry());
+  }
+
+  private static SubmissionTrackerProperties properties(
+      final Duration timeout, final Duration longPollTimeout) {
+    return new SubmissionTrackerProperties(
+        Duration.ofMillis(1),
+        Duration.ofMillis(10),
+        0.5,
+        timeout,
+        longPollTimeout,
+        Duration.ofMinutes(1),
+        100);
+  }
+
+  /** Stands in for SOA, which gives a transaction a reference number after a number of polls. */
+  private static final class FakeTransactionStatus {
+
+    private final int completeAfterPolls;
+
+    private final AtomicInteger polls = new AtomicInteger();
+
+    private FakeTransactionStatus(final int completeAfterPolls) {
+      this.completeAfterPolls = completeAfterPolls;
+    }
+
+    private Mono<TransactionStatus> getStatus(final String reference) {
+      return Mono.fromSupplier(
+          () -> {
+            final TransactionStatus status = new TransactionStatus();
+            if (polls.incrementAndGet() >= completeAfterPolls) {
+              status.setReferenceNumber("REF-" + reference);
+            }
+            return status;
+          });
+    }
+
+    private int getPolls() {
+      return polls.get();
+    }
+  }
+}
@@ -1,14 +1,21 @@
 package uk.gov.laa.ccms.caab.service;
 
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import uk.gov.laa.ccms.caab.cache.UserDetailCache;
+import uk.gov.laa.ccms.caab.cache.UserDetailCacheProperties;
 import uk.gov.laa.ccms.caab.client.EbsApiClient;
 import uk.gov.laa.ccms.caab.client.SoaApiClient;
 import uk.gov.laa.ccms.data.model.BaseUser;
@@ -23,6 +30,11 @@ public class UserServiceTest {
 
   @Mock private SoaApiClient soaApiClient;
 
+  @Spy
+  private UserDetailCache userDetailCache =
+      new UserDetailCache(
+          new UserDetailCacheProperties(100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+
   @InjectMocks private UserService userService;
 
   @Test
@@ -92,4 +104,69 @@ public class UserServiceTest {
         .expectNextMatches(userUpdated -> userUpdated == userUpdatedResponse)
         .verifyComplete();
   }
+
+  @Test
+  void getUserByLoginId_repeated_fetchesOnce() {
+    String loginId = "foo";
+    UserDetail mockUser = new UserDetail().userId(12345).loginId(loginId);
+
+    when(ebsApiClient.getUserByLoginId(loginId)).thenReturn(Mono.just(mockUser));
+
+    StepVerifier.create(userService.getUserByLoginId(loginId))
+        .expectNext(mockUser)
+        .verifyComplete();
+    StepVerifier.create(userService.getUserByLoginId(loginId))
+        .expectNext(mockUser)
+        .verifyComplete();
+
+    verify(ebsApiClient, times(1)).getUserByLoginId(loginId);
+  }
+
+  @Test
+  void refreshUserByLoginId_fetchesEachTime() {
+    String loginId = "foo";
+    UserDetail mockUser = new UserDetail().userId(12345).loginId(loginId);
+
+    when(ebsApiClient.getUserByLoginId(loginId)).thenReturn(Mono.just(mockUser));
+
+    StepVerifier.create(userService.getUserByLoginId(loginId))
+        .expectNext(mockUser)
+        .verifyComplete();
+    StepVerifier.create(userService.refreshUserByLoginId(loginId))
+        .expectNext(mockUser)
+        .verifyComplete();
+
+    verify(ebsApiClient, times(2)).getUserByLoginId(loginId);
+  }
+
+  @Test
+  void getUserByLoginId_notFound_notCached() {
+    String loginId = "foo";
+
+    when(ebsApiClient.getUserByLoginId(loginId)).thenReturn(Mono.empty());
+
+    StepVerifier.create(userService.getUserByLoginId(loginId)).verifyComplete();
+    StepVerifier.create(userService.getUserByLoginId(loginId)).verifyComplete();
+
+    verify(ebsApiClient, times(2)).getUserByLoginId(loginId);
+  }
+
+  @Test
+  void updateUserOptions_evictsUser() {
+    String loginId = "loginId";
+    String userType = "userType";
+    UserOptions userOptions = new UserOptions().userLoginId(loginId).providerFirmId("12345");
+    UserDetail mockUser = new UserDetail().userId(12345).loginId(loginId);
+
+    when(ebsApiClient.getUserByLoginId(loginId)).thenReturn(Mono.just(mockUser));
+    when(soaApiClient.updateUserOptions(userOptions, loginId, userType))
+        .thenReturn(Mono.just(new ClientTransactionResponse()));
+
+    userService.getUserByLoginId(loginId).block();
+    userService.updateUserOptions(12345, loginId, userType).block();
+    userService.getUserByLoginId(loginId).block();
+
+    verify(userDetailCache).invalidate(loginId);
+    verify(ebsApiClient, times(2)).getUserByLoginId(loginId);
+  }
 }
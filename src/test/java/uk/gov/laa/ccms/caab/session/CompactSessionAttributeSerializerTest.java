@@ -0,0 +1,111 @@
+package uk.gov.laa.ccms.caab.session;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.laa.ccms.caab.util.CaabModelUtils.buildApplicationDetail;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.laa.ccms.caab.bean.CaseSearchCriteria;
+import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
+import uk.gov.laa.ccms.caab.model.ApplicationDetail;
+
+class CompactSessionAttributeSerializerTest {
+
+  private final CompactSessionAttributeSerializer serializer =
+      new CompactSessionAttributeSerializer(1024);
+
+  private final Date date = new Date(1767225600000L);
+
+  @Test
+  @DisplayName("A serializable value reads back as it was written")
+  void serializableValue_roundTrips() {
+    final CaseSearchCriteria criteria = new CaseSearchCriteria();
+    criteria.setCaseReference("300000123");
+    criteria.setFeeEarnerId(12);
+
+    assertEquals(criteria, serializer.deserialize(serializer.serialize(criteria)));
+  }
+
+  @Test
+  @DisplayName("An application reads back as it was written")
+  void application_roundTrips() {
+    final ApplicationDetail application = buildApplicationDetail(1, true, date);
+
+    assertEquals(application, serializer.deserialize(serializer.serialize(application)));
+  }
+
+  @Test
+  @DisplayName("A list of applications reads back with the type of each element")
+  void listOfApplications_roundTrips() {
+    final List<ApplicationDetail> applications =
+        new ArrayList<>(List.of(buildApplicationDetail(1, true, date)));
+
+    final Object result = serializer.deserialize(serializer.serialize(applications));
+
+    assertInstanceOf(List.class, result);
+    assertInstanceOf(ApplicationDetail.class, ((List<?>) result).getFirst());
+    assertEquals(applications, result);
+  }
+
+  @Test
+  @DisplayName("A large value is compressed")
+  void largeValue_compressed() {
+    final List<ApplicationDetail> applications = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      applications.add(buildApplicationDetail(i, true, date));
+    }
+    final CompactSessionAttributeSerializer uncompressed =
+        new CompactSessionAttributeSerializer(Integer.MAX_VALUE);
+
+    final byte[] compressed = serializer.serialize(applications);
+
+    assertTrue(compressed.length * 4 < uncompressed.serialize(applications).length);
+    assertEquals(applications, serializer.deserialize(compressed));
+  }
+
+  @Test
+  @DisplayName("The same value always serializes to the same bytes")
+  void sameValue_sameBytes() {
+    assertArrayEquals(
+        serializer.serialize(buildApplicationDetail(1, true, date)),
+        serializer.serialize(buildApplicationDetail(1, true, date)));
+  }
+
+  @Test
+  @DisplayName("A value that would not read back is refused")
+  void unreadableValue_refused() {
+    final Holder holder = new Holder();
+    holder.setValue(URI.create("https://example.com"));
+
+    assertThrows(CaabApplicationException.class, () -> serializer.serialize(holder));
+    assertThrows(CaabApplicationException.class, () -> serializer.serialize(holder));
+  }
+
+  @Test
+  @DisplayName("Bytes in an unknown format are rejected")
+  void unknownFormat_rejected() {
+    assertThrows(CaabApplicationException.class, () -> serializer.deserialize(new byte[] {9, 1}));
+  }
+
+  /** Holds a value of a type the serializer will not read back. */
+  public static class Holder {
+
+    private Object value;
+
+    public Object getValue() {
+      return value;
+    }
+
+    public void setValue(final Object value) {
+      this.value = value;
+    }
+  }
+}
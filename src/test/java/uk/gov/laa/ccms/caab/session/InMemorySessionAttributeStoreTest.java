@@ -0,0 +1,80 @@
+package uk.gov.laa.ccms.caab.session;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemorySessionAttributeStoreTest {
+
+  private final InMemorySessionAttributeStore store =
+      new InMemorySessionAttributeStore(100, Duration.ofMinutes(60));
+
+  @Test
+  @DisplayName("Changes are merged into the attributes already held")
+  void saveSession_mergesChanges() {
+    store.saveSession(
+        "id",
+        record("id", "first", "second"),
+        Map.of("first", bytes(1), "second", bytes(2)),
+        Set.of());
+
+    store.saveSession(
+        "id", record("id", "first", "third"), Map.of("third", bytes(3)), Set.of("second"));
+
+    assertEquals(Set.of("first", "third"), store.findSession("id").attributeNames());
+    assertArrayEquals(bytes(1), store.findAttribute("id", "first"));
+    assertNull(store.findAttribute("id", "second"));
+    assertArrayEquals(bytes(3), store.findAttribute("id", "third"));
+  }
+
+  @Test
+  @DisplayName("Attribute names saved by overlapping requests are merged")
+  void saveSession_mergesAttributeNames() {
+    store.saveSession("id", record("id"), Map.of(), Set.of());
+
+    store.saveSession("id", record("id", "first"), Map.of("first", bytes(1)), Set.of());
+    store.saveSession("id", record("id", "second", "local"), Map.of("second", bytes(2)), Set.of());
+
+    assertEquals(Set.of("first", "second", "local"), store.findSession("id").attributeNames());
+    assertArrayEquals(bytes(1), store.findAttribute("id", "first"));
+    assertArrayEquals(bytes(2), store.findAttribute("id", "second"));
+  }
+
+  @Test
+  @DisplayName("A session saved under a new id is moved to it")
+  void saveSession_renamesSession() {
+    store.saveSession("old", record("old", "first"), Map.of("first", bytes(1)), Set.of());
+
+    store.saveSession("old", record("new", "first"), Map.of(), Set.of());
+
+    assertNull(store.findSession("old"));
+    assertArrayEquals(bytes(1), store.findAttribute("new", "first"));
+  }
+
+  @Test
+  @DisplayName("A deleted session is no longer found")
+  void deleteSession_removesSession() {
+    store.saveSession("id", record("id", "first"), Map.of("first", bytes(1)), Set.of());
+
+    store.deleteSession("id");
+
+    assertNull(store.findSession("id"));
+    assertNull(store.findAttribute("id", "first"));
+  }
+
+  private static SessionRecord record(final String id, final String... attributeNames) {
+    final Instant now = Instant.parse("2026-01-01T09:00:00Z");
+    return new SessionRecord(id, now, now, Duration.ofMinutes(60), Set.of(attributeNames));
+  }
+
+  private static byte[] bytes(final int value) {
+    return new byte[] {(byte) value};
+  }
+}
@@ -0,0 +1,248 @@
+package uk.gov.laa.ccms.caab.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static uk.gov.laa.ccms.caab.util.CaabModelUtils.buildApplicationDetail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.laa.ccms.caab.bean.CaseSearchCriteria;
+import uk.gov.laa.ccms.caab.model.ApplicationDetail;
+import uk.gov.laa.ccms.caab.session.CompactSessionAttributeSerializerTest.Holder;
+import uk.gov.laa.ccms.caab.session.StoredSessionRepository.StoredSession;
+
+class StoredSessionRepositoryTest {
+
+  private static final Duration TIME_TO_IDLE = Duration.ofMinutes(60);
+
+  private static final long MAXIMUM_SESSIONS = 100;
+
+  private final MutableClock clock = new MutableClock();
+
+  private SessionAttributeStore store;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private StoredSessionRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    store = spy(new InMemorySessionAttributeStore(MAXIMUM_SESSIONS, TIME_TO_IDLE));
+    meterRegistry = new SimpleMeterRegistry();
+    repository = newRepository();
+  }
+
+  @Test
+  @DisplayName("A saved session is found with its attributes")
+  void savedSession_found() {
+    final ApplicationDetail application = buildApplicationDetail(1, true, new Date());
+    final StoredSession session = repository.createSession();
+    session.setAttribute("applicationDetails", application);
+    repository.save(session);
+
+    final StoredSession found = repository.findById(session.getId());
+
+    assertNotNull(found);
+    assertEquals(Set.of("applicationDetails"), found.getAttributeNames());
+    assertEquals(application, found.getAttribute("applicationDetails"));
+  }
+
+  @Test
+  @DisplayName("Only the attributes a request uses are loaded")
+  void attributes_loadedWhenUsed() {
+    final StoredSession session = repository.createSession();
+    session.setAttribute("caseSearchCriteria", new CaseSearchCriteria());
+    session.setAttribute("applicationDetails", buildApplicationDetail(1, true, new Date()));
+    repository.save(session);
+
+    final StoredSession found = repository.findById(session.getId());
+    found.getAttribute("caseSearchCriteria");
+
+    verify(store).findAttribute(session.getId(), "caseSearchCriteria");
+    verify(store, never()).findAttribute(session.getId(), "applicationDetails");
+  }
+
+  @Test
+  @DisplayName("An attribute only read is not written back")
+  void readAttribute_notWritten() {
+    final StoredSession session = repository.createSession();
+    session.setAttribute("caseSearchCriteria", new CaseSearchCriteria());
+    repository.save(session);
+    clearInvocations(store);
+
+    final StoredSession found = repository.findById(session.getId());
+    found.getAttribute("caseSearchCriteria");
+    repository.save(found);
+
+    verify(store).saveSession(eq(session.getId()), any(), eq(Map.of()), eq(Set.of()));
+    assertEquals(1.0, writes("caseSearchCriteria", "unchanged"));
+  }
+
+  @Test
+  @DisplayName("An attribute changed in place is written back")
+  void attributeChangedInPlace_written() {
+    final StoredSession session = repository.createSession();
+    session.setAttribute("caseSearchCriteria", new CaseSearchCriteria());
+    repository.save(session);
+
+    final StoredSession found = repository.findById(session.getId());
+    found.<CaseSearchCriteria>getAttribute("caseSearchCriteria").setCaseReference("300000123");
+    repository.save(found);
+
+    final CaseSearchCriteria criteria =
+        repository.findById(session.getId()).getAttribute("caseSearchCriteria");
+    assertEquals("300000123", criteria.getCaseReference());
+    assertEquals(2.0, writes("caseSearchCriteria", "written"));
+  }
+
+  @Test
+  @DisplayName("An attribute removed is removed from the store")
+  void attributeRemoved_removedFromStore() {
+    final StoredSession session = repository.createSession();
+    session.setAttribute("caseSearchCriteria", new CaseSearchCriteria());
+    repository.save(session);
+
+    final StoredSession found = repository.findById(session.getId());
+    found.removeAttribute("caseSearchCriteria");
+    repository.save(found);
+
+    assertTrue(repository.findById(session.getId()).getAttributeNames().isEmpty());
+    assertNull(store.findAttribute(session.getId(), "caseSearchCriteria"));
+  }
+
+  @Test
+  @DisplayName("An expired session is not found")
+  void expiredSession_notFound() {
+    final StoredSession session = repository.createSession();
+    repository.save(session);
+
+    clock.now = clock.now.plus(TIME_TO_IDLE).plusSeconds(1);
+
+    assertNull(repository.findById(session.getId()));
+  }
+
+  @Test
+  @DisplayName("A session given a new id is found only by that id")
+  void changedSessionId_movesSession() {
+    final StoredSession session = repository.createSession();
+    session.setAttribute("caseSearchCriteria", new CaseSearchCriteria());
+    repository.save(session);
+    final String originalId = session.getId();
+
+    final StoredSession found = repository.findById(originalId);
+    final String newId = found.changeSessionId();
+    repository.save(found);
+
+    assertNotEquals(originalId, newId);
+    assertNull(repository.findById(originalId));
+    assertNotNull(repository.findById(newId).getAttribute("caseSearchCriteria"));
+  }
+
+  @Test
+  @DisplayName("Overlapping requests setting different attributes both keep their attribute")
+  void overlappingRequests_keepBothAttributes() {
+    final StoredSession session = repository.createSession();
+    repository.save(session);
+
+    final StoredSession first = repository.findById(session.getId());
+    final StoredSession second = repository.findById(session.getId());
+    first.setAttribute("caseSearchCriteria", new CaseSearchCriteria());
+    second.setAttribute("applicationDetails", buildApplicationDetail(1, true, new Date()));
+    repository.save(first);
+    repository.save(second);
+
+    final StoredSession found = repository.findById(session.getId());
+    assertEquals(Set.of("caseSearchCriteria", "applicationDetails"), found.getAttributeNames());
+    assertNotNull(found.getAttribute("caseSearchCriteria"));
+    assertNotNull(found.getAttribute("applicationDetails"));
+  }
+
+  @Test
+  @DisplayName("An attribute that cannot be serialized is kept on this node only")
+  void unserializableAttribute_keptLocally() {
+    final Holder holder = new Holder();
+    holder.setValue(URI.create("https://example.com"));
+    final StoredSession session = repository.createSession();
+    session.setAttribute("holder", holder);
+    repository.save(session);
+
+    assertEquals(holder, repository.findById(session.getId()).getAttribute("holder"));
+    assertNull(newRepository().findById(session.getId()).getAttribute("holder"));
+    assertEquals(1.0, writes("holder", "local_only"));
+  }
+
+  @Test
+  @DisplayName("The size of each attribute written is recorded")
+  void attributeSize_recorded() {
+    final StoredSession session = repository.createSession();
+    session.setAttribute("caseSearchCriteria", new CaseSearchCriteria());
+    repository.save(session);
+
+    assertEquals(
+        store.findAttribute(session.getId(), "caseSearchCriteria").length,
+        meterRegistry
+            .get("caab.session.attribute.size")
+            .tag("attribute", "caseSearchCriteria")
+            .summary()
+            .totalAmount());
+  }
+
+  private StoredSessionRepository newRepository() {
+    return new StoredSessionRepository(
+        store,
+        new CompactSessionAttributeSerializer(1024),
+        TIME_TO_IDLE,
+        MAXIMUM_SESSIONS,
+        meterRegistry,
+        clock);
+  }
+
+  private double writes(final String attribute, final String result) {
+    return meterRegistry
+        .get("caab.session.attribute.writes")
+        .tag("attribute", attribute)
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now = Instant.parse("2026-01-01T09:00:00Z");
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package uk.gov.laa.ccms.caab.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class Base64JsonFieldReaderTest {
+
+  private static InputStream json(final String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String encode(final byte[] content) {
+    return Base64.getEncoder().encodeToString(content);
+  }
+
+  private static byte[] read(final Base64JsonFieldReader reader) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (reader) {
+      reader.transferTo(out);
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  @DisplayName("The field is decoded wherever it appears in the object")
+  void open_fieldAfterOtherFields_decodesField() throws IOException {
+    final byte[] content = "the file data".getBytes(StandardCharsets.UTF_8);
+    final String document =
+        """
+        {"id": 1, "fileName": "a.pdf", "tags": ["x", {"fileData": "bm90IG1l"}],
+         "owner": {"fileData": "bm90IG1l"}, "fileData": "%s", "fileExtension": "pdf"}
+        """
+            .formatted(encode(content));
+
+    final Optional<Base64JsonFieldReader> reader =
+        Base64JsonFieldReader.open(json(document), "fileData");
+
+    assertTrue(reader.isPresent());
+    assertArrayEquals(content, read(reader.get()));
+  }
+
+  @Test
+  @DisplayName("Content larger than the parser's buffers is decoded in full")
+  void open_largeContent_decodesField() throws IOException {
+    final byte[] content = new byte[1024 * 1024 + 7];
+    new Random(42).nextBytes(content);
+
+    final String document = "{\"fileData\": \"%s\"}".formatted(encode(content));
+
+    final Base64JsonFieldReader reader =
+        Base64JsonFieldReader.open(json(document), "fileData").orElseThrow();
+
+    assertArrayEquals(content, read(reader));
+  }
+
+  @Test
+  @DisplayName("The number of decoded bytes is returned")
+  void transferTo_returnsDecodedLength() throws IOException {
+    try (Base64JsonFieldReader reader =
+        Base64JsonFieldReader.open(json("{\"fileData\": \"YWJj\"}"), "fileData").orElseThrow()) {
+      assertEquals(3, reader.transferTo(new ByteArrayOutputStream()));
+    }
+  }
+
+  @Test
+  @DisplayName("A missing or null field gives no reader")
+  void open_noField_returnsEmpty() throws IOException {
+    assertTrue(Base64JsonFieldReader.open(json("{\"id\": 1}"), "fileData").isEmpty());
+    assertTrue(Base64JsonFieldReader.open(json("{\"fileData\": null}"), "fileData").isEmpty());
+    assertTrue(Base64JsonFieldReader.open(json("[]"), "fileData").isEmpty());
+  }
+
+  @Test
+  @DisplayName("Content that is not Base64 fails when it is decoded")
+  void transferTo_invalidBase64_throwsException() throws IOException {
+    final Base64JsonFieldReader reader =
+        Base64JsonFieldReader.open(json("{\"fileData\": \"not base64!\"}"), "fileData")
+            .orElseThrow();
+
+    assertThrows(IOException.class, () -> read(reader));
+  }
+}
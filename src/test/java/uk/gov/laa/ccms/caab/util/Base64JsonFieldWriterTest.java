@@ -0,0 +1,152 @@
+package uk.gov.laa.ccms.caab.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class Base64JsonFieldWriterTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final Base64JsonFieldWriter writer =
+      new Base64JsonFieldWriter(ExchangeStrategies.withDefaults().messageWriters());
+
+  record Document(Integer id, String fileName, String fileData, List<String> tags) {}
+
+  record DatedDocument(Integer id, LocalDate dateReceived, String fileData) {}
+
+  private JsonNode write(final Object value, final byte[] content) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.write(value, "fileData", new ByteArrayInputStream(content), out);
+    return objectMapper.readTree(out.toByteArray());
+  }
+
+  @Test
+  @DisplayName("The object's fields are written alongside the encoded content")
+  void write_writesFieldsAndContent() throws IOException {
+    final byte[] content = "the file data".getBytes();
+
+    final JsonNode json = write(new Document(1, "a.pdf", null, List.of("x", "y")), content);
+
+    assertEquals(1, json.get("id").asInt());
+    assertEquals("a.pdf", json.get("fileName").asText());
+    assertEquals("y", json.get("tags").get(1).asText());
+    assertArrayEquals(content, Base64.getDecoder().decode(json.get("fileData").asText()));
+  }
+
+  @Test
+  @DisplayName("The object's fields are serialised as the WebClient's JSON encoder serialises them")
+  void write_fieldsSerialisedByEncoder() throws IOException {
+    final DatedDocument document = new DatedDocument(1, LocalDate.of(2024, 1, 2), null);
+    final String encoded =
+        WebClient.builder()
+            .exchangeFunction(
+                request -> {
+                  final MockClientHttpRequest sent =
+                      new MockClientHttpRequest(request.method(), request.url());
+                  return request
+                      .writeTo(sent, ExchangeStrategies.withDefaults())
+                      .then(sent.getBodyAsString())
+                      .map(body -> ClientResponse.create(HttpStatus.OK).body(body).build());
+                })
+            .build()
+            .post()
+            .uri("http://localhost/evidence")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(document)
+            .retrieve()
+            .bodyToMono(String.class)
+            .block();
+
+    final ObjectNode expected = (ObjectNode) objectMapper.readTree(encoded);
+    expected.remove("fileData");
+    final ObjectNode json = (ObjectNode) write(document, new byte[10]);
+    json.remove("fileData");
+
+    assertEquals("2024-01-02", json.get("dateReceived").asText());
+    assertEquals(expected, json);
+  }
+
+  @Test
+  @DisplayName("Any existing value of the field is replaced by the content")
+  void write_existingFieldValue_replaced() throws IOException {
+    final byte[] content = "the file data".getBytes();
+
+    final JsonNode json = write(new Document(1, "a.pdf", "bm90IG1l", List.of()), content);
+
+    assertArrayEquals(content, Base64.getDecoder().decode(json.get("fileData").asText()));
+  }
+
+  @Test
+  @DisplayName("Content larger than the generator's buffers is encoded in full")
+  void write_largeContent_encodedInFull() throws IOException {
+    final byte[] content = new byte[1024 * 1024 + 7];
+    new Random(42).nextBytes(content);
+
+    final JsonNode json = write(new Document(1, "a.pdf", null, List.of()), content);
+
+    assertArrayEquals(content, Base64.getDecoder().decode(json.get("fileData").asText()));
+  }
+
+  @Test
+  @DisplayName("What is written can be read back with Base64JsonFieldReader")
+  void write_readBackWithReader() throws IOException {
+    final byte[] content = new byte[100_000];
+    new Random(7).nextBytes(content);
+    final ByteArrayOutputStream json = new ByteArrayOutputStream();
+    writer.write(
+        new Document(1, "a.pdf", null, List.of()),
+        "fileData",
+        new ByteArrayInputStream(content),
+        json);
+
+    final ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+    try (Base64JsonFieldReader reader =
+        Base64JsonFieldReader.open(new ByteArrayInputStream(json.toByteArray()), "fileData")
+            .orElseThrow()) {
+      reader.transferTo(decoded);
+    }
+
+    assertArrayEquals(content, decoded.toByteArray());
+  }
+
+  @Test
+  @DisplayName("The output stream is left open")
+  void write_leavesOutputOpen() throws IOException {
+    final boolean[] closed = {false};
+    final ByteArrayOutputStream out =
+        new ByteArrayOutputStream() {
+          @Override
+          public void close() {
+            closed[0] = true;
+          }
+        };
+
+    writer.write(
+        new Document(1, "a.pdf", null, List.of()),
+        "fileData",
+        new ByteArrayInputStream(new byte[10]),
+        out);
+
+    assertFalse(closed[0]);
+  }
+}
@@ -0,0 +1,84 @@
+package uk.gov.laa.ccms.caab.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.laa.ccms.caab.model.AddressResultRowDisplay;
+import uk.gov.laa.ccms.caab.model.ResultsDisplay;
+
+class IndexedAddressesTest {
+
+  private final AddressResultRowDisplay flatA = address("Flat A", "1");
+
+  private final AddressResultRowDisplay flatB = address("flat a", "2");
+
+  private final AddressResultRowDisplay number10 = address("10", "3");
+
+  private final AddressResultRowDisplay duplicateUprn = address("12", "3");
+
+  private final ResultsDisplay<AddressResultRowDisplay> results =
+      new ResultsDisplay<>(new ArrayList<>(List.of(flatA, flatB, number10, duplicateUprn)));
+
+  private final IndexedAddresses indexed = IndexedAddresses.of(results);
+
+  @Test
+  @DisplayName("Addresses are found by house name or number ignoring case, in result order")
+  void getByHouseNameNumber_ignoringCase() {
+    assertEquals(List.of(flatA, flatB), indexed.getByHouseNameNumber("FLAT A"));
+    assertEquals(List.of(number10), indexed.getByHouseNameNumber("10"));
+    assertTrue(indexed.getByHouseNameNumber("11").isEmpty());
+    assertTrue(indexed.getByHouseNameNumber(null).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Addresses are found by UPRN, the first of the same UPRN winning")
+  void getByUprn_firstMatch() {
+    assertSame(flatB, indexed.getByUprn("2"));
+    assertSame(number10, indexed.getByUprn("3"));
+    assertNull(indexed.getByUprn("4"));
+    assertNull(indexed.getByUprn(null));
+  }
+
+  @Test
+  @DisplayName("The results returned share the indexed addresses, which cannot be changed")
+  void getResults_shareUnmodifiableAddresses() {
+    results.setTotalElements(4);
+
+    final ResultsDisplay<AddressResultRowDisplay> first = indexed.getResults();
+    final ResultsDisplay<AddressResultRowDisplay> second = indexed.getResults();
+
+    assertNotSame(first, second);
+    assertEquals(results.getContent(), first.getContent());
+    assertTrue(indexed.isIndexOf(first));
+    assertTrue(indexed.isIndexOf(second));
+    assertFalse(indexed.isIndexOf(results));
+    assertThrows(UnsupportedOperationException.class, () -> first.getContent().clear());
+  }
+
+  @Test
+  @DisplayName("Results with no addresses give an empty index")
+  void of_noContent() {
+    final IndexedAddresses empty = IndexedAddresses.of(new ResultsDisplay<>());
+
+    assertTrue(empty.getResults().getContent().isEmpty());
+    assertTrue(empty.getByHouseNameNumber("10").isEmpty());
+    assertNull(empty.getByUprn("3"));
+  }
+
+  private static AddressResultRowDisplay address(
+      final String houseNameNumber, final String uprn) {
+    final AddressResultRowDisplay address = new AddressResultRowDisplay();
+    address.setHouseNameNumber(houseNameNumber);
+    address.setUprn(uprn);
+    return address;
+  }
+}
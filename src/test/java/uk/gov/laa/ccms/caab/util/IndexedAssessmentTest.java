@@ -0,0 +1,132 @@
+package uk.gov.laa.ccms.caab.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.laa.ccms.caab.constants.assessment.AssessmentAttribute.REQUESTED_SCOPE;
+import static uk.gov.laa.ccms.caab.constants.assessment.AssessmentEntityType.GLOBAL;
+import static uk.gov.laa.ccms.caab.constants.assessment.AssessmentEntityType.PROCEEDING;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentAttributeDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentEntityTypeDetail;
+import uk.gov.laa.ccms.caab.assessment.model.AssessmentRelationshipDetail;
+import uk.gov.laa.ccms.caab.constants.assessment.AssessmentRelationship;
+
+class IndexedAssessmentTest {
+
+  private final AssessmentEntityDetail global =
+      new AssessmentEntityDetail()
+          .name("300000001")
+          .addAttributesItem(attr("bill_type", "FINAL"))
+          .addAttributesItem(attr("BILL_TYPE", "INTERIM"))
+          .addRelationsItem(new AssessmentRelationshipDetail().name("PROCEEDING"));
+
+  private final AssessmentEntityDetail proceeding =
+      new AssessmentEntityDetail()
+          .name("P_1")
+          .addAttributesItem(attr("REQUESTED_SCOPE", "FULL"))
+          .addRelationsItem(new AssessmentRelationshipDetail().name("CHILD_ENTITY"));
+
+  private final AssessmentEntityDetail firstChild = new AssessmentEntityDetail().name("C_1");
+
+  private final AssessmentEntityDetail secondChild = new AssessmentEntityDetail().name("C_2");
+
+  private final AssessmentDetail assessment =
+      new AssessmentDetail()
+          .addEntityTypesItem(
+              new AssessmentEntityTypeDetail().name("GLOBAL").addEntitiesItem(global))
+          .addEntityTypesItem(
+              new AssessmentEntityTypeDetail().name("proceeding").addEntitiesItem(proceeding))
+          .addEntityTypesItem(new AssessmentEntityTypeDetail().name("PROCEEDING"))
+          .addEntityTypesItem(
+              new AssessmentEntityTypeDetail().name("CHILDENTITY").addEntitiesItem(firstChild))
+          .addEntityTypesItem(
+              new AssessmentEntityTypeDetail().name("childentity").addEntitiesItem(secondChild));
+
+  private final IndexedAssessment indexed = IndexedAssessment.of(assessment);
+
+  @Test
+  @DisplayName("Entity types are found ignoring case, the first of the same name winning")
+  void getEntityType_firstMatchIgnoringCase() {
+    assertSame(assessment.getEntityTypes().get(1), indexed.getEntityType(PROCEEDING));
+    assertSame(assessment.getEntityTypes().get(0), indexed.getEntityType("global"));
+    assertEquals(List.of(proceeding), indexed.getEntities(PROCEEDING));
+    assertTrue(indexed.getEntities("UNKNOWN").isEmpty());
+  }
+
+  @Test
+  @DisplayName("Entities are found by type and exact name")
+  void getEntity_exactName() {
+    assertSame(proceeding, indexed.getEntity(PROCEEDING, "P_1"));
+    assertNull(indexed.getEntity(PROCEEDING, "p_1"));
+    assertNull(indexed.getEntity(GLOBAL, "P_1"));
+  }
+
+  @Test
+  @DisplayName("Attributes are found ignoring case, the first of the same name winning")
+  void getAttribute_firstMatchIgnoringCase() {
+    assertEquals("FINAL", indexed.getAttribute(global, "Bill_Type").getValue());
+    assertEquals("FULL", indexed.getAttribute(proceeding, REQUESTED_SCOPE).getValue());
+    assertNull(indexed.getAttribute(proceeding, "BILL_TYPE"));
+  }
+
+  @Test
+  @DisplayName("Attributes of an entity from outside the assessment are still found")
+  void getAttribute_entityOutsideAssessment() {
+    final AssessmentEntityDetail other =
+        new AssessmentEntityDetail().name("other").addAttributesItem(attr("BILL_TYPE", "FINAL"));
+
+    assertEquals("FINAL", indexed.getAttribute(other, "bill_type").getValue());
+  }
+
+  @Test
+  @DisplayName("Related entities are those of every entity type named after the relationship")
+  void getRelatedEntities_allMatchingTypes() {
+    assertEquals(
+        List.of(firstChild, secondChild),
+        indexed.getRelatedEntities(proceeding.getRelations().getFirst()));
+    assertEquals(
+        AssessmentUtil.getRelatedEntities(proceeding.getRelations().getFirst(), assessment),
+        indexed.getRelatedEntities(proceeding.getRelations().getFirst()));
+  }
+
+  @Test
+  @DisplayName("Relationships are found ignoring case")
+  void getRelationship_ignoringCase() {
+    assertSame(
+        global.getRelations().getFirst(),
+        indexed.getRelationship(global, AssessmentRelationship.PROCEEDING));
+    assertNull(indexed.getRelationship(global, AssessmentRelationship.OPPONENT));
+  }
+
+  @Test
+  @DisplayName("A missing assessment gives an empty view")
+  void of_nullAssessment() {
+    final IndexedAssessment empty = IndexedAssessment.of(null);
+
+    assertTrue(empty.getEntityTypes().isEmpty());
+    assertTrue(empty.getEntities(GLOBAL).isEmpty());
+    assertNull(empty.getEntity(PROCEEDING, "P_1"));
+  }
+
+  @Test
+  @DisplayName("The view cannot be changed through what it returns")
+  void entities_unmodifiable() {
+    assertThrows(
+        UnsupportedOperationException.class, () -> indexed.getEntities(GLOBAL).add(proceeding));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> indexed.getRelatedEntities(proceeding.getRelations().getFirst()).clear());
+  }
+
+  private static AssessmentAttributeDetail attr(final String name, final String value) {
+    return new AssessmentAttributeDetail().name(name).value(value);
+  }
+}
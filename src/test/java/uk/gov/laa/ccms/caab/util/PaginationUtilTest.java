@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import uk.gov.laa.ccms.caab.exception.CaabApplicationException;
+import uk.gov.laa.ccms.caab.model.BaseApplicationDetail;
+import uk.gov.laa.ccms.caab.model.StringDisplayValue;
 import uk.gov.laa.ccms.data.model.CaseSummary;
 import uk.gov.laa.ccms.data.model.Notification;
 
@@ -75,6 +78,49 @@ class PaginationUtilTest {
     assertEquals("aaa", caseSummariesPage.getContent().getFirst().getFeeEarnerName());
   }
 
+  @Test
+  void testSortOnNestedProperty() {
+    final List<BaseApplicationDetail> applications = new ArrayList<>();
+    applications.add(
+        new BaseApplicationDetail().status(new StringDisplayValue().displayValue("Submitted")));
+    applications.add(
+        new BaseApplicationDetail().status(new StringDisplayValue().displayValue("Draft")));
+    applications.add(
+        new BaseApplicationDetail().status(new StringDisplayValue().displayValue("Pending")));
+    final Pageable pageable = PageRequest.of(0, 10, Sort.by("status.displayValue").descending());
+    final Page<BaseApplicationDetail> applicationPage =
+        PaginationUtil.paginateList(pageable, applications);
+    assertEquals(
+        List.of("Submitted", "Pending", "Draft"),
+        applicationPage.getContent().stream()
+            .map(application -> application.getStatus().getDisplayValue())
+            .toList());
+  }
+
+  @Test
+  void testSortPlacesNullsFirstWhenAscending() {
+    final List<CaseSummary> summary = new ArrayList<>();
+    summary.add(buildCaseSummary().feeEarnerName("bbb"));
+    summary.add(buildCaseSummary().feeEarnerName(null));
+    summary.add(buildCaseSummary().feeEarnerName("aaa"));
+    final Pageable pageable = PageRequest.of(0, 10, Sort.by("feeEarnerName").ascending());
+    final Page<CaseSummary> caseSummariesPage = PaginationUtil.paginateList(pageable, summary);
+    assertEquals(
+        Arrays.asList(null, "aaa", "bbb"),
+        caseSummariesPage.getContent().stream().map(CaseSummary::getFeeEarnerName).toList());
+  }
+
+  @Test
+  void testInvalidNestedSortThrowsException() {
+    final Pageable pageable = PageRequest.of(0, 10, Sort.by("status.invalidProperty").ascending());
+    final List<BaseApplicationDetail> applications = new ArrayList<>();
+    applications.add(new BaseApplicationDetail().status(new StringDisplayValue().id("1")));
+    applications.add(new BaseApplicationDetail().status(new StringDisplayValue().id("2")));
+    assertThrows(
+        CaabApplicationException.class,
+        () -> PaginationUtil.paginateList(pageable, applications));
+  }
+
   private CaseSummary buildCaseSummary() {
     return new CaseSummary()
         .caseReferenceNumber("1234567890")
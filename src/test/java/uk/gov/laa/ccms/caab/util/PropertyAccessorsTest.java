@@ -0,0 +1,38 @@
+package uk.gov.laa.ccms.caab.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.laa.ccms.data.model.CaseSummary;
+
+class PropertyAccessorsTest {
+
+  @Test
+  void getProperty_ReturnsPropertyValue() throws Exception {
+    final CaseSummary caseSummary = new CaseSummary().caseReferenceNumber("12345");
+
+    assertEquals(
+        "12345",
+        PropertyAccessors.getProperty(CaseSummary.class, "caseReferenceNumber", caseSummary));
+  }
+
+  @Test
+  void getProperty_ReusesGetterForEachObject() throws Exception {
+    final CaseSummary first = new CaseSummary().feeEarnerName("aaa");
+    final CaseSummary second = new CaseSummary();
+
+    assertEquals("aaa", PropertyAccessors.getProperty(CaseSummary.class, "feeEarnerName", first));
+    assertNull(PropertyAccessors.getProperty(CaseSummary.class, "feeEarnerName", second));
+  }
+
+  @Test
+  void getProperty_UnknownProperty_ThrowsException() {
+    final CaseSummary caseSummary = new CaseSummary();
+
+    assertThrows(
+        NoSuchMethodException.class,
+        () -> PropertyAccessors.getProperty(CaseSummary.class, "invalidProperty", caseSummary));
+  }
+}